@@ -0,0 +1,99 @@
+/* 
+ *******************************************************************************
+ * FLECO (Fast, Lightweight, and Efficient Cybersecurity Optimization) (1) 
+ * Adaptive, Constrained, and Multi-objective Genetic Algorithm is a genetic 
+ * algorithm designed to assist the Asset's Cybersecurity Committee (ACC) in 
+ * making decisions during the application of CyberTOMP (2), aimed at managing 
+ * comprehensive cybersecurity at both tactical and operational levels.
+ *
+ * (1) Domínguez-Dorado, M.; Cortés-Polo, D.; Carmona-Murillo, J.; 
+ * Rodríguez-Pérez, F.J.; Galeano-Brajones, J. Fast, Lightweight, and Efficient 
+ * Cybersecurity Optimization for Tactical–Operational Management. Appl. Sci. 
+ * 2023, 13, 6327. https://doi.org/10.3390/app13106327
+ *
+ * (2) Dominguez-Dorado, M., Carmona-Murillo, J., Cortés-Polo, D., and
+ * Rodríguez-Pérez, F. J. (2022). CyberTOMP: A novel systematic framework to
+ * manage asset-focused cybersecurity from tactical and operational levels. IEEE
+ * Access, 10, 122454-122485. https://doi.org/10.1109/ACCESS.2022.3223440
+ *******************************************************************************
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ *******************************************************************************
+ */
+package com.manolodominguez.fleco.algorithm;
+
+import com.manolodominguez.fleco.genetics.Chromosome;
+import com.manolodominguez.fleco.genetics.Genes;
+import com.manolodominguez.fleco.uleo.Categories;
+import java.util.SplittableRandom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements a crossover that is aware of the CyberTOMP hierarchy:
+ * each category having crossable genes is exchanged as a whole between the
+ * offspring with a probability of 0.5. So, the value of every category of an
+ * offspring is the value it has in one of the parents, and the cached values
+ * of the exchanged categories are reused when the offspring are evaluated.
+ *
+ * @author Manuel Domínguez-Dorado
+ */
+public class CategoryBlockCrossover implements ICrossoverOperator {
+
+    private final Logger logger = LoggerFactory.getLogger(CategoryBlockCrossover.class);
+
+    /**
+     * This is the constructor of the class.
+     *
+     * @author Manuel Domínguez-Dorado
+     */
+    public CategoryBlockCrossover() {
+        // Nothing to do.
+    }
+
+    /**
+     * This method exchanges whole categories between both offspring, each one
+     * with a probability of 0.5.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param parentA The first parent.
+     * @param parentB The second parent.
+     * @param offspringA A copy of the first parent, that receives genes from
+     * the second one.
+     * @param offspringB A copy of the second parent, that receives genes from
+     * the first one.
+     * @param crossableGenes The genes that can be exchanged, sorted by
+     * ordinal. It is not empty.
+     * @param random The random number generator of the population.
+     */
+    @Override
+    public void crossover(Chromosome parentA, Chromosome parentB, Chromosome offspringA, Chromosome offspringB, Genes[] crossableGenes, SplittableRandom random) {
+        // One random bit per category decides whether it is exchanged.
+        int exchangedCategories = random.nextInt();
+        int reviewedCategories = 0;
+        for (Genes gene : crossableGenes) {
+            Categories category = gene.getCategory();
+            int categoryBit = 1 << category.ordinal();
+            if ((reviewedCategories & categoryBit) == 0) {
+                reviewedCategories |= categoryBit;
+                if ((exchangedCategories & categoryBit) != 0) {
+                    offspringA.copyCategory(parentB, category);
+                    offspringB.copyCategory(parentA, category);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/* 
+ *******************************************************************************
+ * FLECO (Fast, Lightweight, and Efficient Cybersecurity Optimization) (1) 
+ * Adaptive, Constrained, and Multi-objective Genetic Algorithm is a genetic 
+ * algorithm designed to assist the Asset's Cybersecurity Committee (ACC) in 
+ * making decisions during the application of CyberTOMP (2), aimed at managing 
+ * comprehensive cybersecurity at both tactical and operational levels.
+ *
+ * (1) Domínguez-Dorado, M.; Cortés-Polo, D.; Carmona-Murillo, J.; 
+ * Rodríguez-Pérez, F.J.; Galeano-Brajones, J. Fast, Lightweight, and Efficient 
+ * Cybersecurity Optimization for Tactical–Operational Management. Appl. Sci. 
+ * 2023, 13, 6327. https://doi.org/10.3390/app13106327
+ *
+ * (2) Dominguez-Dorado, M., Carmona-Murillo, J., Cortés-Polo, D., and
+ * Rodríguez-Pérez, F. J. (2022). CyberTOMP: A novel systematic framework to
+ * manage asset-focused cybersecurity from tactical and operational levels. IEEE
+ * Access, 10, 122454-122485. https://doi.org/10.1109/ACCESS.2022.3223440
+ *******************************************************************************
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ *******************************************************************************
+ */
+package com.manolodominguez.fleco.algorithm;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements the status of the evolution of an island, as seen by
+ * termination and stagnation policies. It is updated by the island once per
+ * generation.
+ *
+ * @author Manuel Domínguez-Dorado
+ */
+public class EvolutionStatus {
+
+    private final long startNanos;
+    private int generations;
+    private long evaluations;
+    private float bestFitness;
+    private int generationsWithoutImprovement;
+    private int latestBestFitnessChangeGeneration;
+    private long latestBestFitnessChangeNanos;
+    private StagnationLevels stagnationLevel;
+
+    private final Logger logger = LoggerFactory.getLogger(EvolutionStatus.class);
+
+    /**
+     * This is the constructor of the class. It creates a new status for an
+     * island whose evolution starts now.
+     *
+     * @author Manuel Domínguez-Dorado
+     */
+    EvolutionStatus() {
+        startNanos = System.nanoTime();
+        generations = 0;
+        evaluations = 0;
+        bestFitness = 0.0f;
+        generationsWithoutImprovement = 0;
+        latestBestFitnessChangeGeneration = 0;
+        latestBestFitnessChangeNanos = startNanos;
+        stagnationLevel = StagnationLevels.NONE;
+    }
+
+    /**
+     * This method updates the status once a generation has finished.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param generations The number of generations evolved.
+     * @param evaluations The number of fitness evaluations done.
+     * @param currentBestFitness The fitness of the best chromosome of the
+     * population.
+     */
+    void update(int generations, long evaluations, float currentBestFitness) {
+        if (currentBestFitness > bestFitness) {
+            bestFitness = currentBestFitness;
+            generationsWithoutImprovement = 0;
+        } else {
+            generationsWithoutImprovement += generations - this.generations;
+        }
+        this.generations = generations;
+        this.evaluations = evaluations;
+    }
+
+    /**
+     * This method records that the best fitness of the population has changed
+     * in the current generation, as considered by the island to measure its
+     * stagnation.
+     *
+     * @author Manuel Domínguez-Dorado
+     */
+    void markBestFitnessChange() {
+        latestBestFitnessChangeGeneration = generations;
+        latestBestFitnessChangeNanos = System.nanoTime();
+    }
+
+    /**
+     * This method sets the stagnation level of the island.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param stagnationLevel The stagnation level of the island.
+     */
+    void setStagnationLevel(StagnationLevels stagnationLevel) {
+        this.stagnationLevel = stagnationLevel;
+    }
+
+    /**
+     * This method returns the value of System.nanoTime() when the evolution
+     * started.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the value of System.nanoTime() when the evolution started.
+     */
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    /**
+     * This method returns the number of generations evolved.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the number of generations evolved.
+     */
+    public int getGenerations() {
+        return generations;
+    }
+
+    /**
+     * This method returns the number of fitness evaluations done.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the number of fitness evaluations done.
+     */
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    /**
+     * This method returns the best fitness reached so far.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the best fitness reached so far.
+     */
+    public float getBestFitness() {
+        return bestFitness;
+    }
+
+    /**
+     * This method returns the number of generations since the best fitness
+     * reached so far last improved.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the number of generations without improvement.
+     */
+    public int getGenerationsWithoutImprovement() {
+        return generationsWithoutImprovement;
+    }
+
+    /**
+     * This method returns the generation in which the island measured the
+     * latest change of its best fitness.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the generation of the latest change of the best fitness.
+     */
+    public int getLatestBestFitnessChangeGeneration() {
+        return latestBestFitnessChangeGeneration;
+    }
+
+    /**
+     * This method returns the value of System.nanoTime() when the island
+     * measured the latest change of its best fitness.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the value of System.nanoTime() at the latest change of the best
+     * fitness.
+     */
+    public long getLatestBestFitnessChangeNanos() {
+        return latestBestFitnessChangeNanos;
+    }
+
+    /**
+     * This method returns the stagnation level of the island in the latest
+     * generation.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the stagnation level of the island.
+     */
+    public StagnationLevels getStagnationLevel() {
+        return stagnationLevel;
+    }
+}
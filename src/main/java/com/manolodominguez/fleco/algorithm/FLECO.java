@@ -36,16 +36,38 @@
 package com.manolodominguez.fleco.algorithm;
 
 import com.manolodominguez.experiments.Complete;
+import com.manolodominguez.fleco.events.EventTypes;
+import com.manolodominguez.fleco.events.EvolutionEvent;
+import com.manolodominguez.fleco.events.FLECOEventBus;
+import com.manolodominguez.fleco.events.IFLECOEventListener;
+import com.manolodominguez.fleco.events.InstrumentationEvent;
 import com.manolodominguez.fleco.events.ProgressEvent;
+import com.manolodominguez.fleco.events.ProgressEventDispatcher;
 import com.manolodominguez.fleco.events.RotaryIDGenerator;
+import com.manolodominguez.fleco.solver.HierarchicalSolver;
+import com.manolodominguez.fleco.solver.SolverOutcomes;
+import com.manolodominguez.fleco.solver.SolverResult;
+import com.manolodominguez.fleco.strategicconstraints.FeasibilityReport;
 import com.manolodominguez.fleco.strategicconstraints.StrategicConstraints;
 import com.manolodominguez.fleco.genetics.Chromosome;
-import com.manolodominguez.fleco.genetics.Genes;
+import com.manolodominguez.fleco.jfr.RunEvent;
 import com.manolodominguez.fleco.uleo.ImplementationGroups;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import com.manolodominguez.fleco.events.IFLECOProgressEventListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -77,17 +99,56 @@ public class FLECO {
     private Chromosome initialStatus;
     private float usedTime;
     private int usedGenerations;
-    private IFLECOProgressEventListener progressEventListener;
+    private EvolutionStatus runStatus;
+    private final FLECOEventBus eventBus;
+    private final ConcurrentMap<IFLECOProgressEventListener, IFLECOEventListener> progressEventListenerAdapters;
+    private volatile boolean cancelled;
+    private boolean instrumentationEnabled;
+    private volatile IInstrumentation instrumentation;
+    private long progressEventInterval;
+    private ProgressEventDispatcher progressEventDispatcher;
     private RotaryIDGenerator rotaryIDGenerator;
+    private int numberOfIslands;
+    private int migrationInterval;
+    private int numberOfMigrants;
+    private MigrationTopologies migrationTopology;
+    private ExecutorService evaluationExecutor;
+    private int parallelEvaluationThreshold;
+    private int exactSolverMaxStates;
+    private SolverResult solverResult;
+    private boolean feasibilityAnalysis;
+    private FeasibilityReport feasibilityReport;
+    private int numberOfRepairedChromosomes;
+    private int maxRepairChanges;
+    private int numberOfImprovedChromosomes;
+    private int maxLocalSearchEvaluations;
+    private List<ITerminationPolicy> terminationPolicies;
+    private IStagnationPolicy stagnationPolicy;
+    private ICrossoverOperator crossoverOperator;
+    private SelectionModes selectionMode;
+    private int tournamentSize;
+    private boolean steadyState;
+    private final long seed;
+    private final SplittableRandom random;
 
     private final Logger logger = LoggerFactory.getLogger(FLECO.class);
 
     private static final float STAGNATION_THRESHOLD_PERCENTAGE = 0.025f;
-    private static final float DEEP_STAGNATION_THRESHOLD_FACTOR = 1.25f;
-    private static final int DEFAULT_MUTATION_INCREASING_FACTOR = 1;
-    private static final int HIGHER_MUTATION_INCREASING_FACTOR = 20;
-    private static final float POPULATION_INCREASING_FACTOR = 1.50f;
     private static final int BEST_CHROMOSOME_INDEX = 0;
+    private static final int DEFAULT_NUMBER_OF_ISLANDS = 1;
+    private static final long DEFAULT_PROGRESS_EVENT_INTERVAL = 0L;
+    private static final int DEFAULT_MIGRATION_INTERVAL = 10;
+    private static final int DEFAULT_NUMBER_OF_MIGRANTS = 2;
+    private static final MigrationTopologies DEFAULT_MIGRATION_TOPOLOGY = MigrationTopologies.RING;
+    private static final int DEFAULT_PARALLEL_EVALUATION_THRESHOLD = Integer.MAX_VALUE;
+    private static final int DEFAULT_EXACT_SOLVER_MAX_STATES = 0;
+    private static final int DEFAULT_NUMBER_OF_REPAIRED_CHROMOSOMES = 0;
+    private static final int DEFAULT_MAX_REPAIR_CHANGES = 0;
+    private static final int DEFAULT_NUMBER_OF_IMPROVED_CHROMOSOMES = 0;
+    private static final int DEFAULT_MAX_LOCAL_SEARCH_EVALUATIONS = 0;
+    private static final int DEFAULT_CLOCK_CHECK_INTERVAL = 1;
+    private static final SelectionModes DEFAULT_SELECTION_MODE = SelectionModes.TRUNCATION;
+    private static final int DEFAULT_TOURNAMENT_SIZE = 2;
 
     /**
      * This is the constructor of the class. It creates a new instance of FLECO
@@ -111,127 +172,869 @@ public class FLECO {
      * functions, categories or expected outcomes.
      */
     public FLECO(int initialPopulation, int maxAvailableSeconds, float crossoverProbability, ImplementationGroups implementationGroup, Chromosome initialStatus, StrategicConstraints strategicConstraints) {
+        this(initialPopulation, maxAvailableSeconds, crossoverProbability, implementationGroup, initialStatus, strategicConstraints, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * This is the constructor of the class. It creates a new instance of FLECO
+     * (Fast, Lightweight, and Efficient Cybersecurity Optimization) Adaptive,
+     * Constrained, and Multi-Objectives Genetic Algorithm with the parameters
+     * specified. Every random decision of the algorithm derives from the
+     * specified seed: each island receives its own generator, split from the
+     * one seeded here, so two executions with the same seed and parameters
+     * evolve exactly the same chromosomes, also when islands or evaluations
+     * run in parallel. To be reproducible bit-for-bit the termination and
+     * stagnation policies must not depend on the clock (for instance,
+     * MaxGenerationsPolicy and GenerationsStagnationPolicy).
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param initialPopulation The initial number of chromosomes in the
+     * population.
+     * @param maxAvailableSeconds The max number of seconds before finishing the
+     * population's evolution.
+     * @param crossoverProbability The probability of crossing over a couple of
+     * chromosomes during population's evolution.
+     * @param implementationGroup The applicable implementation group as defined
+     * in CyberTOMP. It can be IG1, IG2 and IG3 depending on whether the asset
+     * criticality is LOW, MEDIUM or HIGH.
+     * @param initialStatus A chromosome representing the initial cybersecurity
+     * status of the asset, as defined in CyberTOMP.
+     * @param strategicConstraints A set of constraints over the asset,
+     * functions, categories or expected outcomes.
+     * @param seed The seed of the random number generators.
+     */
+    public FLECO(int initialPopulation, int maxAvailableSeconds, float crossoverProbability, ImplementationGroups implementationGroup, Chromosome initialStatus, StrategicConstraints strategicConstraints, long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
         this.implementationGroup = implementationGroup;
         this.initialStatus = initialStatus;
         this.strategicConstraints = strategicConstraints;
         this.initialPopulation = initialPopulation;
         this.maxAvailableSeconds = maxAvailableSeconds;
-        this.mutationProbability = 1.0f / (Genes.getGenesFor(this.implementationGroup).size());
+        // Only genes bound by the strategic constraints are mutated.
+        this.mutationProbability = 1.0f / Math.max(strategicConstraints.getBoundGenes().size(), 1);
         this.crossoverProbability = crossoverProbability;
         usedTime = 0.0f;
         usedGenerations = 0;
-        population = new Population(this.initialPopulation, this.implementationGroup, this.initialStatus, this.strategicConstraints);
+        runStatus = null;
+        population = new Population(this.initialPopulation, this.implementationGroup, this.initialStatus, this.strategicConstraints, random.split());
         rotaryIDGenerator = new RotaryIDGenerator();
-        progressEventListener = null;
+        eventBus = new FLECOEventBus();
+        progressEventListenerAdapters = new ConcurrentHashMap<>();
+        cancelled = false;
+        instrumentationEnabled = false;
+        instrumentation = NoOpInstrumentation.INSTANCE;
+        progressEventInterval = DEFAULT_PROGRESS_EVENT_INTERVAL;
+        progressEventDispatcher = null;
+        numberOfIslands = DEFAULT_NUMBER_OF_ISLANDS;
+        migrationInterval = DEFAULT_MIGRATION_INTERVAL;
+        numberOfMigrants = DEFAULT_NUMBER_OF_MIGRANTS;
+        migrationTopology = DEFAULT_MIGRATION_TOPOLOGY;
+        evaluationExecutor = null;
+        parallelEvaluationThreshold = DEFAULT_PARALLEL_EVALUATION_THRESHOLD;
+        exactSolverMaxStates = DEFAULT_EXACT_SOLVER_MAX_STATES;
+        solverResult = null;
+        feasibilityAnalysis = false;
+        feasibilityReport = null;
+        numberOfRepairedChromosomes = DEFAULT_NUMBER_OF_REPAIRED_CHROMOSOMES;
+        maxRepairChanges = DEFAULT_MAX_REPAIR_CHANGES;
+        numberOfImprovedChromosomes = DEFAULT_NUMBER_OF_IMPROVED_CHROMOSOMES;
+        maxLocalSearchEvaluations = DEFAULT_MAX_LOCAL_SEARCH_EVALUATIONS;
+        terminationPolicies = List.of(new WallClockPolicy(this.maxAvailableSeconds, DEFAULT_CLOCK_CHECK_INTERVAL));
+        stagnationPolicy = new WallClockStagnationPolicy(this.maxAvailableSeconds * STAGNATION_THRESHOLD_PERCENTAGE, DEFAULT_CLOCK_CHECK_INTERVAL);
+        crossoverOperator = new SinglePointCrossover();
+        selectionMode = DEFAULT_SELECTION_MODE;
+        tournamentSize = DEFAULT_TOURNAMENT_SIZE;
+        steadyState = false;
+    }
+
+    /**
+     * This method sets the policies that decide when the evolution has to
+     * finish, replacing the default one (finishing when maxAvailableSeconds
+     * have elapsed). The evolution finishes as soon as the population
+     * converges or any of the policies says so. Policies that do not depend on
+     * the clock, as MaxGenerationsPolicy or MaxEvaluationsPolicy, make
+     * executions comparable across machines. In island mode, policies are
+     * checked against the status of the whole run, whose fitness evaluations
+     * are those of all islands added up.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param terminationPolicies The termination policies. At least one is
+     * required.
+     */
+    public void setTerminationPolicies(ITerminationPolicy... terminationPolicies) {
+        if ((terminationPolicies == null) || (terminationPolicies.length == 0)) {
+            logger.error("At least one termination policy is required");
+            throw new IllegalArgumentException("At least one termination policy is required");
+        }
+        for (ITerminationPolicy terminationPolicy : terminationPolicies) {
+            if (terminationPolicy == null) {
+                logger.error("terminationPolicies cannot contain null values");
+                throw new IllegalArgumentException("terminationPolicies cannot contain null values");
+            }
+        }
+        this.terminationPolicies = List.of(terminationPolicies);
+    }
+
+    /**
+     * This method sets the policy that decides whether an island is stagnated,
+     * replacing the default one (based on the seconds elapsed since the
+     * latest change of the best fitness).
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param stagnationPolicy The stagnation policy.
+     */
+    public void setStagnationPolicy(IStagnationPolicy stagnationPolicy) {
+        if (stagnationPolicy == null) {
+            logger.error("stagnationPolicy cannot be null");
+            throw new IllegalArgumentException("stagnationPolicy cannot be null");
+        }
+        this.stagnationPolicy = stagnationPolicy;
     }
 
     /**
-     * This method sets the progress event listener for FLECO.
+     * This method configures FLECO to improve, every generation, a copy of the
+     * best chromosomes of the population by means of a steepest-ascent local
+     * search with a tabu list. Every single-gene allele change is evaluated
+     * and the best one is applied, until a local optimum is reached or the
+     * evaluation budget of the generation is exhausted.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param numberOfImprovedChromosomes The number of best chromosomes to be
+     * improved every generation. If it is 0, no local search is done.
+     * @param maxLocalSearchEvaluations The maximum number of evaluations of
+     * the local search in each generation.
+     */
+    public void setLocalSearch(int numberOfImprovedChromosomes, int maxLocalSearchEvaluations) {
+        if (numberOfImprovedChromosomes < 0) {
+            logger.error("numberOfImprovedChromosomes cannot be negative");
+            throw new IllegalArgumentException("numberOfImprovedChromosomes cannot be negative");
+        }
+        if (maxLocalSearchEvaluations < 1) {
+            logger.error("maxLocalSearchEvaluations must be greater than 0");
+            throw new IllegalArgumentException("maxLocalSearchEvaluations must be greater than 0");
+        }
+        this.numberOfImprovedChromosomes = numberOfImprovedChromosomes;
+        this.maxLocalSearchEvaluations = maxLocalSearchEvaluations;
+    }
+
+    /**
+     * This method configures FLECO to repair, every generation, a copy of the
+     * best chromosomes of the population. The repair moves the alleles of the
+     * genes that most influence the violated strategic constraints towards
+     * their satisfaction, as long as the fitness increases. It is
+     * deterministic, and usually shortens the last part of the evolution,
+     * when the best chromosomes are close to satisfy all constraints.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param numberOfRepairedChromosomes The number of best chromosomes to be
+     * repaired every generation. If it is 0, no chromosome is repaired.
+     * @param maxRepairChanges The maximum number of allele changes in each
+     * repaired chromosome.
+     */
+    public void setRepair(int numberOfRepairedChromosomes, int maxRepairChanges) {
+        if (numberOfRepairedChromosomes < 0) {
+            logger.error("numberOfRepairedChromosomes cannot be negative");
+            throw new IllegalArgumentException("numberOfRepairedChromosomes cannot be negative");
+        }
+        if (maxRepairChanges < 1) {
+            logger.error("maxRepairChanges must be greater than 0");
+            throw new IllegalArgumentException("maxRepairChanges must be greater than 0");
+        }
+        this.numberOfRepairedChromosomes = numberOfRepairedChromosomes;
+        this.maxRepairChanges = maxRepairChanges;
+    }
+
+    /**
+     * This method configures FLECO to analyze whether the strategic
+     * constraints can be satisfied before evolving the population. If they are
+     * proven to be infeasible, the population is not evolved and the
+     * conflicting constraints can be obtained from the feasibility report.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param feasibilityAnalysis true, if the strategic constraints have to be
+     * analyzed before evolving the population. Otherwise, false.
+     */
+    public void setFeasibilityAnalysis(boolean feasibilityAnalysis) {
+        this.feasibilityAnalysis = feasibilityAnalysis;
+    }
+
+    /**
+     * This method configures FLECO to run the exact hierarchical solver before
+     * evolving the population. If the solver finds a chromosome satisfying all
+     * strategic constraints, it is added to the population and FLECO
+     * converges without evolving it. If the solver proves that the strategic
+     * constraints cannot be satisfied, the population is not evolved either.
+     * Otherwise, the population is evolved as usual.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param exactSolverMaxStates The maximum number of states the solver can
+     * explore before giving up. If it is 0, the solver is not run.
+     */
+    public void setExactSolver(int exactSolverMaxStates) {
+        if (exactSolverMaxStates < 0) {
+            logger.error("exactSolverMaxStates cannot be negative");
+            throw new IllegalArgumentException("exactSolverMaxStates cannot be negative");
+        }
+        this.exactSolverMaxStates = exactSolverMaxStates;
+    }
+
+    /**
+     * This method sets the operator used to cross over couples of chromosomes,
+     * replacing the default one (a single-point crossover). UniformCrossover,
+     * TwoPointCrossover and CategoryBlockCrossover are also available; the
+     * latter exchanges whole categories, so that the offspring are evaluated
+     * reusing the values already computed for their parents.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param crossoverOperator The crossover operator.
+     */
+    public void setCrossoverOperator(ICrossoverOperator crossoverOperator) {
+        if (crossoverOperator == null) {
+            logger.error("crossoverOperator cannot be null");
+            throw new IllegalArgumentException("crossoverOperator cannot be null");
+        }
+        this.crossoverOperator = crossoverOperator;
+        population.setCrossoverOperator(crossoverOperator);
+    }
+
+    /**
+     * This method sets how the chromosomes that reproduce in each generation
+     * are selected, replacing the default mode (truncation). For
+     * SelectionModes.TOURNAMENT, binary tournaments are used.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param selectionMode The selection mode.
+     */
+    public void setSelection(SelectionModes selectionMode) {
+        setSelection(selectionMode, DEFAULT_TOURNAMENT_SIZE);
+    }
+
+    /**
+     * This method sets how the chromosomes that reproduce in each generation
+     * are selected, replacing the default mode (truncation). TOURNAMENT and
+     * LINEAR_RANK sample each parent in constant time, without ordering the
+     * population, and keep more diversity than truncation.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param selectionMode The selection mode.
+     * @param tournamentSize The number of chromosomes that compete in each
+     * tournament. It is only used by SelectionModes.TOURNAMENT.
+     */
+    public void setSelection(SelectionModes selectionMode, int tournamentSize) {
+        if (selectionMode == null) {
+            logger.error("selectionMode cannot be null");
+            throw new IllegalArgumentException("selectionMode cannot be null");
+        }
+        if (tournamentSize < 1) {
+            logger.error("tournamentSize must be greater than 0");
+            throw new IllegalArgumentException("tournamentSize must be greater than 0");
+        }
+        this.selectionMode = selectionMode;
+        this.tournamentSize = tournamentSize;
+        population.setSelection(selectionMode, tournamentSize);
+    }
+
+    /**
+     * This method configures FLECO to evolve the population in steady-state
+     * mode instead of in generational mode, the default one. In steady-state
+     * mode, each step creates two offspring from parents chosen according to
+     * the selection mode and inserts them, if they are better, in place of the
+     * worst chromosomes of the population, that keeps a constant size during
+     * a generation. A generation lasts until as many offspring as the initial
+     * number of chromosomes have been created. As in generational mode, a
+     * stagnated population receives random chromosomes and, if deeply
+     * stagnated, is soft reset; this is done between generations. When a
+     * single island is evolved, a progress event is spread as soon as an
+     * offspring becomes the best chromosome.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param steadyState true, to evolve the population in steady-state mode.
+     * false, to evolve it in generational mode.
+     */
+    public void setSteadyState(boolean steadyState) {
+        this.steadyState = steadyState;
+    }
+
+    /**
+     * This method configures FLECO to compute the fitness of the chromosomes
+     * in parallel, using the common fork/join pool, whenever a population has,
+     * at least, the specified number of chromosomes. The result of the
+     * evaluation is the same than when it is done sequentially.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param parallelEvaluationThreshold The minimum number of chromosomes
+     * for a population to be evaluated in parallel.
+     */
+    public void setParallelEvaluation(int parallelEvaluationThreshold) {
+        setParallelEvaluation(ForkJoinPool.commonPool(), parallelEvaluationThreshold);
+    }
+
+    /**
+     * This method configures FLECO to compute the fitness of the chromosomes
+     * in parallel, using the specified executor, whenever a population has,
+     * at least, the specified number of chromosomes. The result of the
+     * evaluation is the same than when it is done sequentially. The executor
+     * is not shut down by FLECO.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param evaluationExecutor The executor that will run the evaluation
+     * tasks.
+     * @param parallelEvaluationThreshold The minimum number of chromosomes
+     * for a population to be evaluated in parallel.
+     */
+    public void setParallelEvaluation(ExecutorService evaluationExecutor, int parallelEvaluationThreshold) {
+        if (evaluationExecutor == null) {
+            logger.error("evaluationExecutor cannot be null");
+            throw new IllegalArgumentException("evaluationExecutor cannot be null");
+        }
+        if (parallelEvaluationThreshold < 1) {
+            logger.error("parallelEvaluationThreshold must be greater than 0");
+            throw new IllegalArgumentException("parallelEvaluationThreshold must be greater than 0");
+        }
+        this.evaluationExecutor = evaluationExecutor;
+        this.parallelEvaluationThreshold = parallelEvaluationThreshold;
+        population.setParallelEvaluation(evaluationExecutor, parallelEvaluationThreshold);
+    }
+
+    /**
+     * This method configures FLECO to run in island mode. Several islands,
+     * each one with its own population, are evolved in parallel using as many
+     * threads as available processors. Every migrationInterval generations,
+     * the islands stop, and the best chromosomes of each island are sent to
+     * other islands according to the migration topology. The evolution of all
+     * islands finishes as soon as one of them converges or the maximum number
+     * of seconds is reached. Islands evolve generation by generation in
+     * lockstep, so all of them finish at the same generation and a run can
+     * be repeated from its seed.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param numberOfIslands The number of islands. If it is 1, FLECO runs in
+     * the usual, single-threaded mode.
+     * @param migrationInterval The number of generations between two
+     * migrations.
+     * @param numberOfMigrants The number of best chromosomes each island sends
+     * to each destination island.
+     * @param migrationTopology The topology that defines which islands receive
+     * the best chromosomes of each island.
+     */
+    public void setIslandModel(int numberOfIslands, int migrationInterval, int numberOfMigrants, MigrationTopologies migrationTopology) {
+        if (numberOfIslands < 1) {
+            logger.error("numberOfIslands must be greater than 0");
+            throw new IllegalArgumentException("numberOfIslands must be greater than 0");
+        }
+        if (migrationInterval < 1) {
+            logger.error("migrationInterval must be greater than 0");
+            throw new IllegalArgumentException("migrationInterval must be greater than 0");
+        }
+        if ((numberOfMigrants < 0) || (numberOfMigrants > initialPopulation)) {
+            logger.error("numberOfMigrants must be between 0 and the initial population");
+            throw new IllegalArgumentException("numberOfMigrants must be between 0 and the initial population");
+        }
+        if (migrationTopology == null) {
+            logger.error("migrationTopology cannot be null");
+            throw new IllegalArgumentException("migrationTopology cannot be null");
+        }
+        this.numberOfIslands = numberOfIslands;
+        this.migrationInterval = migrationInterval;
+        this.numberOfMigrants = numberOfMigrants;
+        this.migrationTopology = migrationTopology;
+    }
+
+    /**
+     * This method adds a progress event listener to FLECO. Several of them can
+     * be added. Adding again a listener that has already been added has no
+     * effect.
      *
      * @author Manuel Domínguez-Dorado
      * @param progressEventListener the progress event listener.
      */
     public void setProgressEventListener(IFLECOProgressEventListener progressEventListener) {
-        if (this.progressEventListener != null) {
-            logger.error("FLECO already has a progress event listener. Only one is allowed.");
-            throw new IllegalArgumentException("FLECO already has a progress event listener. Only one is allowed.");
+        if (progressEventListener == null) {
+            logger.error("progressEventListener cannot be null");
+            throw new IllegalArgumentException("progressEventListener cannot be null");
+        }
+        IFLECOEventListener adapter = progressEventListenerAdapters.computeIfAbsent(progressEventListener, listener -> event -> listener.onProgressEventReceived((ProgressEvent) event));
+        eventBus.subscribe(adapter, EnumSet.of(EventTypes.PROGRESS));
+    }
+
+    /**
+     * This method removes a progress event listener previously added to FLECO.
+     * Removing a listener that has not been added has no effect.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param progressEventListener the progress event listener.
+     */
+    public void removeProgressEventListener(IFLECOProgressEventListener progressEventListener) {
+        if (progressEventListener == null) {
+            logger.error("progressEventListener cannot be null");
+            throw new IllegalArgumentException("progressEventListener cannot be null");
+        }
+        IFLECOEventListener adapter = progressEventListenerAdapters.remove(progressEventListener);
+        if (adapter != null) {
+            eventBus.unsubscribe(adapter);
+        }
+    }
+
+    /**
+     * This method subscribes a listener to the specified types of events.
+     * Progress events are received from a dedicated thread, as explained in
+     * setProgressEventInterval(). The rest of events are received, one at a
+     * time, from the thread that called evolve(): events of a generation are
+     * spread once it has been evolved by every island, island after island.
+     * The evolution waits for the listener, so listeners should return
+     * quickly.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param listener the listener.
+     * @param eventTypes the types of events the listener wants to receive.
+     */
+    public void subscribe(IFLECOEventListener listener, EnumSet<EventTypes> eventTypes) {
+        eventBus.subscribe(listener, eventTypes);
+    }
+
+    /**
+     * This method unsubscribes a listener from all the types of events it was
+     * subscribed to.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param listener the listener.
+     */
+    public void unsubscribe(IFLECOEventListener listener) {
+        eventBus.unsubscribe(listener);
+    }
+
+    /**
+     * This method enables or disables the instrumentation of FLECO, that
+     * measures the time spent in each phase of the evolution and counts the
+     * main operations. Measures start again every time evolve() is called and
+     * can be read at any moment with getInstrumentationSnapshot(). When an
+     * evolution finishes, they are also spread as an INSTRUMENTATION event. It
+     * is disabled by default.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param instrumentationEnabled true, to enable the instrumentation.
+     * false, to disable it.
+     */
+    public void setInstrumentation(boolean instrumentationEnabled) {
+        this.instrumentationEnabled = instrumentationEnabled;
+    }
+
+    /**
+     * This method returns the values measured by the instrumentation during
+     * the current or latest evolution. It can be called from any thread.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the values measured by the instrumentation. If it is disabled,
+     * every value is zero.
+     */
+    public InstrumentationSnapshot getInstrumentationSnapshot() {
+        return instrumentation.getSnapshot();
+    }
+
+    /**
+     * This method asks FLECO to stop evolving as soon as the current
+     * generation finishes. It can be called from any thread. The best
+     * chromosome found so far remains available and a CANCELLED event is
+     * spread.
+     *
+     * @author Manuel Domínguez-Dorado
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * This method returns whether the latest evolution was cancelled.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return true, if the latest evolution was cancelled. Otherwise, false.
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * This method sets the minimum time between two consecutive progress
+     * events. Events are delivered to the listener from a dedicated thread,
+     * so the evolution never waits for it; if the listener is slower than the
+     * evolution, it only receives the latest event of each island. Setting an
+     * interval also avoids building events that nobody would see. By default,
+     * it is zero, so an event is built every generation.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param progressEventInterval the minimum time between two consecutive
+     * progress events, in milliseconds.
+     */
+    public void setProgressEventInterval(long progressEventInterval) {
+        if (progressEventInterval < DEFAULT_PROGRESS_EVENT_INTERVAL) {
+            logger.error("progressEventInterval cannot be negative");
+            throw new IllegalArgumentException("progressEventInterval cannot be negative");
         }
-        this.progressEventListener = progressEventListener;
+        this.progressEventInterval = progressEventInterval;
     }
 
     /**
      * The population is developed according to FLECO principles using this
      * approach, until either the algorithm reaches convergence or the maximum
-     * number of generations is attained.
+     * number of generations is attained. If FLECO has been configured to run
+     * in island mode, several populations are developed in parallel.
      *
      * @author Manuel Domínguez-Dorado
      */
     public void evolve() {
-        int currentGeneration = 0;
-        float currentBestFitness = 0.0f;
-        int mutationIncreasingFactor = 1;
-        float stagnationThreshold = maxAvailableSeconds * STAGNATION_THRESHOLD_PERCENTAGE;
-        boolean seemsALocalMinimum = false;
-        boolean isDeeplyStagnated = false;
+        RunEvent runEvent = new RunEvent();
+        runEvent.begin();
         Temporal begin = Instant.now();
         Temporal end;
-        Temporal latestBestFitnessChange = Instant.now();
         Duration duration;
+        Island bestIsland;
         usedTime = 0.0f;
-        while (!hasToFinish(begin, isDeeplyStagnated)) {
-            // The probability of being in a local minimum is raised each time 
-            // the best fitness remains constant. Otherwise, the probability is 
-            // reset to its default value.
-            if (currentBestFitness > population.get(BEST_CHROMOSOME_INDEX).getFitness()) {
-                currentBestFitness = population.get(BEST_CHROMOSOME_INDEX).getFitness();
-                latestBestFitnessChange = Instant.now();
+        bestIsland = null;
+        runStatus = null;
+        cancelled = false;
+        if (instrumentationEnabled) {
+            instrumentation = new NanoTimeInstrumentation();
+        } else {
+            instrumentation = NoOpInstrumentation.INSTANCE;
+        }
+        population.setInstrumentation(instrumentation);
+        solverResult = null;
+        feasibilityReport = null;
+        if (eventBus.hasSubscribers(EventTypes.PROGRESS)) {
+            progressEventDispatcher = new ProgressEventDispatcher(eventBus::publish, numberOfIslands, progressEventInterval);
+            progressEventDispatcher.start();
+        }
+        try {
+            if (feasibilityAnalysis) {
+                feasibilityReport = strategicConstraints.analyzeFeasibility();
             }
-            // Once the cumulative probability of being in a local minimum 
-            // surpasses the predetermined threshold, the algorithm is 
-            // considered to be in a local minimum, requiring an escape plan.
-            // When this period reach the double, it is considered to be too
-            // much time.
-            Duration stagnationTime = Duration.between(latestBestFitnessChange, Instant.now());
-            seemsALocalMinimum = false;
-            isDeeplyStagnated = false;
-            if (stagnationTime.get(ChronoUnit.SECONDS) > stagnationThreshold) {
-                seemsALocalMinimum = true;
-                if (stagnationTime.get(ChronoUnit.SECONDS) > (stagnationThreshold * DEEP_STAGNATION_THRESHOLD_FACTOR)) {
-                    isDeeplyStagnated = true;
-                }
+            if ((exactSolverMaxStates > DEFAULT_EXACT_SOLVER_MAX_STATES) && !isProvenInfeasible()) {
+                HierarchicalSolver solver = new HierarchicalSolver(implementationGroup, initialStatus, strategicConstraints);
+                solver.setMaxStates(exactSolverMaxStates);
+                solverResult = solver.solve();
             }
-            // If the algorithm is in a local minimum, it amplifies the mutation
-            // rate to the predefined higher value; otherwise, it resets the 
-            // rate to the default value.
-            if (seemsALocalMinimum) {
-                mutationIncreasingFactor = HIGHER_MUTATION_INCREASING_FACTOR;
+            if (isProvenInfeasible()) {
+                logger.info("The strategic constraints cannot be satisfied (" + feasibilityReport.getConflictingConstraintsAsString() + "). The population will not be evolved.");
+            } else if ((solverResult != null) && (solverResult.getOutcome() == SolverOutcomes.FEASIBLE)) {
+                population.immigrate(List.of(solverResult.getSolution()));
+                population.publishSnapshot();
+            } else if ((solverResult != null) && (solverResult.getOutcome() == SolverOutcomes.INFEASIBLE)) {
+                logger.info("The strategic constraints cannot be satisfied. The population will not be evolved.");
+            } else if (numberOfIslands == DEFAULT_NUMBER_OF_ISLANDS) {
+                bestIsland = new Island(0, population, initialPopulation, mutationProbability, crossoverProbability, stagnationPolicy);
+                bestIsland.setRepair(numberOfRepairedChromosomes, maxRepairChanges);
+                bestIsland.setLocalSearch(numberOfImprovedChromosomes, maxLocalSearchEvaluations);
+                bestIsland.setSteadyState(steadyState);
+                runStatus = bestIsland.getStatus();
+                Island island = bestIsland;
+                while (!hasToFinish(bestIsland)) {
+                    bestIsland.select();
+                    // Spread progress event.
+                    if (progressEventDispatcher != null) {
+                        spreadProgressEvent(begin, bestIsland.getGenerations(), population.get(BEST_CHROMOSOME_INDEX), false);
+                        bestIsland.reproduce(bestChromosome -> spreadProgressEvent(begin, island.getGenerations(), bestChromosome, false));
+                    } else {
+                        bestIsland.reproduce();
+                    }
+                    spreadEvolutionEvents(bestIsland);
+                }
+                if (progressEventDispatcher != null) {
+                    spreadProgressEvent(begin, bestIsland.getGenerations(), getBestChromosome(), true);
+                }
             } else {
-                mutationIncreasingFactor = DEFAULT_MUTATION_INCREASING_FACTOR;
+                bestIsland = evolveIslands(begin);
             }
-            // Calculate the fitness and arrange the population accordingly. 
-            // Reduce the population removing the worst individuals.
-            population.selectBestAdapted();
-            // Spread progress event.
-            if (progressEventListener != null) {
-                long totalTime = (long) maxAvailableSeconds * 1000;
-                long currentTime = Instant.now().toEpochMilli() - Instant.from(begin).toEpochMilli();
-                ProgressEvent event = new ProgressEvent(this, rotaryIDGenerator.getNextIdentifier(), totalTime, currentTime, currentGeneration, population.get(BEST_CHROMOSOME_INDEX), population.hasConverged());
-                progressEventListener.onProgressEventReceived(event);
+            if (cancelled && (bestIsland != null) && eventBus.hasSubscribers(EventTypes.CANCELLED)) {
+                eventBus.publish(new EvolutionEvent(this, rotaryIDGenerator.getNextIdentifier(), EventTypes.CANCELLED, bestIsland.getIslandIndex(), bestIsland.getGenerations(), getBestChromosome()));
             }
-            // If the algorithm forecast it could be trapped in a local minimum,
-            // injects a predefined quantity of random chromosomes into the 
-            // population to increase diversity. Moreover, if it has been 
-            // stagnated too much time without complying with the strategic
-            // requiremens, it performs a soft reset removing the best 50% 
-            // individuals.
-            if (seemsALocalMinimum) {
-                if (isDeeplyStagnated) {
-                    if (!population.hasConverged()) {
-                        population.softReset();
-                        currentBestFitness = population.get(BEST_CHROMOSOME_INDEX).getFitness();
-                        latestBestFitnessChange = Instant.now();
-                    }
-                }
-                population.populateRandomly((int) (initialPopulation * POPULATION_INCREASING_FACTOR));
+            if (instrumentationEnabled && eventBus.hasSubscribers(EventTypes.INSTRUMENTATION)) {
+                eventBus.publish(new InstrumentationEvent(this, rotaryIDGenerator.getNextIdentifier(), instrumentation.getSnapshot()));
+            }
+        } finally {
+            // Pending events are delivered before evolve() returns.
+            if (progressEventDispatcher != null) {
+                progressEventDispatcher.stop();
+                progressEventDispatcher = null;
             }
-            // Apply a mutation to the population with a predefined probability,
-            // which can be raised if the algorithm is in a local minimum.
-            population.mutate(mutationProbability * mutationIncreasingFactor);
-            // Perform a crossover on the population.
-            population.crossover(crossoverProbability);
-            // To maintain stable the number of individuals in the population,
-            // complete the population adding some random individuals if needed.
-            population.populateRandomly();
-            // To prevent uncontrolled growth, reduce the population to the 
-            // default number of chromosomes in case it is higher.
-            population.reduceTo(initialPopulation);
-            // Increases the generation number
-            currentGeneration++;
         }
         end = Instant.now();
         duration = Duration.between(begin, end);
         usedTime = (duration.get(ChronoUnit.SECONDS) + (duration.get(ChronoUnit.NANOS) / 1000000000.0f));
-        usedGenerations = currentGeneration;
+        if (bestIsland != null) {
+            usedGenerations = bestIsland.getGenerations();
+        } else {
+            usedGenerations = 0;
+        }
+        if (runEvent.shouldCommit()) {
+            runEvent.implementationGroup = implementationGroup.name();
+            runEvent.numberOfConstraints = strategicConstraints.numberOfConstraints();
+            runEvent.initialPopulation = initialPopulation;
+            runEvent.numberOfIslands = numberOfIslands;
+            runEvent.steadyState = steadyState;
+            runEvent.generations = usedGenerations;
+            // In island mode, the run status adds up the evaluations of all
+            // islands, not only those of the best one.
+            if (runStatus != null) {
+                runEvent.evaluations = runStatus.getEvaluations();
+            } else {
+                runEvent.evaluations = population.getEvaluations();
+            }
+            runEvent.bestFitness = getBestChromosome().getFitness();
+            if (isProvenInfeasible() || ((solverResult != null) && (solverResult.getOutcome() == SolverOutcomes.INFEASIBLE))) {
+                runEvent.outcome = "INFEASIBLE";
+            } else if (hasConverged()) {
+                runEvent.outcome = "CONVERGED";
+            } else if (cancelled) {
+                runEvent.outcome = "CANCELLED";
+            } else {
+                runEvent.outcome = "NOT_CONVERGED";
+            }
+            runEvent.commit();
+        }
+    }
+
+    /**
+     * This method spreads a progress event to the progress event listener,
+     * unless the latest one was spread too recently.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param begin the time when the algorithm started to evolve the
+     * population.
+     * @param generations the number of generations evolved so far.
+     * @param bestChromosome the best chromosome found so far.
+     * @param force true, to spread the event regardless of the time elapsed
+     * since the latest one.
+     */
+    private void spreadProgressEvent(Temporal begin, int generations, Chromosome bestChromosome, boolean force) {
+        if (!force && !progressEventDispatcher.isDue()) {
+            return;
+        }
+        long totalTime = (long) maxAvailableSeconds * 1000;
+        long currentTime = Instant.now().toEpochMilli() - Instant.from(begin).toEpochMilli();
+        ProgressEvent event = new ProgressEvent(this, rotaryIDGenerator.getNextIdentifier(), totalTime, currentTime, generations, bestChromosome, bestChromosome.getFitnessConstraintsCoverage() >= 1.0f);
+        progressEventDispatcher.publish(event);
+    }
+
+    /**
+     * This method spreads the events that describe what happened to an island
+     * in its latest generation. Each event is only created if some listener is
+     * subscribed to its type.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param island the island that has just evolved a generation.
+     */
+    private void spreadEvolutionEvents(Island island) {
+        if (island.hasDetectedStagnation()) {
+            spreadEvolutionEvent(EventTypes.STAGNATION_DETECTED, island);
+        }
+        if (island.hasSoftReset()) {
+            spreadEvolutionEvent(EventTypes.SOFT_RESET, island);
+        }
+        if (island.getStatus().getGenerationsWithoutImprovement() == 0) {
+            spreadEvolutionEvent(EventTypes.NEW_BEST_FOUND, island);
+        }
+        spreadEvolutionEvent(EventTypes.GENERATION_COMPLETED, island);
+        if (island.getPopulation().hasConverged()) {
+            spreadEvolutionEvent(EventTypes.CONVERGED, island);
+        }
+    }
+
+    /**
+     * This method spreads an event of the specified type related to an
+     * island, if some listener is subscribed to that type.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param eventType the type of the event.
+     * @param island the island the event is related to.
+     */
+    private void spreadEvolutionEvent(EventTypes eventType, Island island) {
+        if (eventBus.hasSubscribers(eventType)) {
+            eventBus.publish(new EvolutionEvent(this, rotaryIDGenerator.getNextIdentifier(), eventType, island.getIslandIndex(), island.getGenerations(), island.getPopulation().get(BEST_CHROMOSOME_INDEX)));
+        }
+    }
+
+    /**
+     * This method evolves several islands in parallel, one generation at a
+     * time, so that all of them stop at the same generation. Every
+     * migrationInterval generations, progress events are spread and the best
+     * chromosomes of each island migrate to other islands. Once finished, the
+     * population of the island having the best chromosome becomes FLECO's
+     * population.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param begin the time when the algorithm started to evolve the
+     * population.
+     * @return the island having the best chromosome.
+     */
+    private Island evolveIslands(Temporal begin) {
+        // The fitness model of the strategic constraints has been compiled
+        // when the first population was created, so islands only read it.
+        // Every island has its own copy of the initial status, as evaluating
+        // a chromosome modifies it.
+        Island[] islands = new Island[numberOfIslands];
+        islands[0] = new Island(0, population, initialPopulation, mutationProbability, crossoverProbability, stagnationPolicy);
+        for (int i = 1; i < numberOfIslands; i++) {
+            Population islandPopulation = new Population(initialPopulation, implementationGroup, new Chromosome(initialStatus), strategicConstraints, random.split());
+            if (evaluationExecutor != null) {
+                islandPopulation.setParallelEvaluation(evaluationExecutor, parallelEvaluationThreshold);
+            }
+            islandPopulation.setCrossoverOperator(crossoverOperator);
+            islandPopulation.setInstrumentation(instrumentation);
+            islandPopulation.setSelection(selectionMode, tournamentSize);
+            islands[i] = new Island(i, islandPopulation, initialPopulation, mutationProbability, crossoverProbability, stagnationPolicy);
+        }
+        for (Island island : islands) {
+            island.setRepair(numberOfRepairedChromosomes, maxRepairChanges);
+            island.setLocalSearch(numberOfImprovedChromosomes, maxLocalSearchEvaluations);
+            island.setSteadyState(steadyState);
+        }
+        List<Callable<Void>> generations = new ArrayList<>(numberOfIslands);
+        for (Island island : islands) {
+            generations.add(() -> {
+                island.select();
+                island.reproduce();
+                return null;
+            });
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(numberOfIslands, Runtime.getRuntime().availableProcessors()));
+        // Termination policies are checked against the status of the whole
+        // run, so that limits such as the number of evaluations mean the same
+        // amount of work whatever the number of islands.
+        runStatus = new EvolutionStatus();
+        updateRunStatus(islands);
+        try {
+            boolean finished = hasToFinish(islands);
+            while (!finished) {
+                for (Future<Void> generation : executor.invokeAll(generations)) {
+                    generation.get();
+                }
+                // Islands evolve in lockstep. Events are spread and the
+                // conditions to finish are checked once all of them have
+                // evolved the same generation, so that the run stops at the
+                // same generation whatever the scheduling of the threads.
+                for (Island island : islands) {
+                    spreadEvolutionEvents(island);
+                }
+                updateRunStatus(islands);
+                finished = hasToFinish(islands);
+                boolean epochFinished = (islands[0].getGenerations() % migrationInterval) == 0;
+                // Spread progress events. The ones of the latest epoch are
+                // always spread. The event of the best island is published
+                // the last one, so that the latest event delivered reports
+                // the state of the whole run.
+                if ((progressEventDispatcher != null) && (finished || (epochFinished && progressEventDispatcher.isDue()))) {
+                    Island bestIsland = getBestIsland(islands);
+                    Chromosome globalBestChromosome = bestIsland.getPopulation().get(BEST_CHROMOSOME_INDEX);
+                    long totalTime = (long) maxAvailableSeconds * 1000;
+                    long currentTime = Instant.now().toEpochMilli() - Instant.from(begin).toEpochMilli();
+                    for (Island island : islands) {
+                        if (island != bestIsland) {
+                            publishIslandProgressEvent(island, totalTime, currentTime, globalBestChromosome);
+                        }
+                    }
+                    publishIslandProgressEvent(bestIsland, totalTime, currentTime, globalBestChromosome);
+                }
+                if (!finished && epochFinished) {
+                    migrate(islands);
+                }
+            }
+        } catch (InterruptedException ex) {
+            logger.error("FLECO has been interrupted while evolving the islands", ex);
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ex) {
+            logger.error("An island has failed while evolving", ex.getCause());
+            throw new IllegalStateException("An island has failed while evolving", ex.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        Island bestIsland = getBestIsland(islands);
+        population = bestIsland.getPopulation();
+        // Immigrants received in the latest migration are not in the
+        // snapshot yet.
+        population.publishSnapshot();
+        return bestIsland;
+    }
+
+    /**
+     * This method publishes a progress event reporting the current state of
+     * an island.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param island The island whose state is reported.
+     * @param totalTime The time available for the whole run, in milliseconds.
+     * @param currentTime The time elapsed since the run began, in
+     * milliseconds.
+     * @param globalBestChromosome The best chromosome among all islands.
+     */
+    private void publishIslandProgressEvent(Island island, long totalTime, long currentTime, Chromosome globalBestChromosome) {
+        ProgressEvent event = new ProgressEvent(this, rotaryIDGenerator.getNextIdentifier(), totalTime, currentTime, island.getGenerations(), island.getPopulation().get(BEST_CHROMOSOME_INDEX), island.getPopulation().hasConverged(), island.getIslandIndex(), globalBestChromosome);
+        progressEventDispatcher.publish(event);
+    }
+
+    /**
+     * This method sends a copy of the best chromosomes of each island to other
+     * islands, according to the migration topology. Best chromosomes are taken
+     * from all islands before any of them receives new ones.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param islands The islands being evolved.
+     */
+    private void migrate(Island[] islands) {
+        List<List<Chromosome>> emigrants = new ArrayList<>(islands.length);
+        for (Island island : islands) {
+            emigrants.add(island.getPopulation().getBestChromosomes(numberOfMigrants));
+        }
+        for (int i = 0; i < islands.length; i++) {
+            switch (migrationTopology) {
+                case RING:
+                    islands[(i + 1) % islands.length].getPopulation().immigrate(emigrants.get(i));
+                    break;
+                case FULLY_CONNECTED:
+                    for (int j = 0; j < islands.length; j++) {
+                        if (j != i) {
+                            List<Chromosome> immigrants = new ArrayList<>(emigrants.get(i).size());
+                            for (Chromosome emigrant : emigrants.get(i)) {
+                                immigrants.add(new Chromosome(emigrant));
+                            }
+                            islands[j].getPopulation().immigrate(immigrants);
+                        }
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * This method returns the island whose population contains the chromosome
+     * with the best fitness. Ties are broken in favour of the island with the
+     * lowest index.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param islands The islands being evolved.
+     * @return the island having the best chromosome.
+     */
+    private Island getBestIsland(Island[] islands) {
+        Island bestIsland = islands[0];
+        for (Island island : islands) {
+            if (island.getPopulation().get(BEST_CHROMOSOME_INDEX).getFitness() > bestIsland.getPopulation().get(BEST_CHROMOSOME_INDEX).getFitness()) {
+                bestIsland = island;
+            }
+        }
+        return bestIsland;
+    }
+
+    /**
+     * This method returns the seed of the random number generators used by
+     * FLECO, so that an execution can be repeated.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the seed of the random number generators used by FLECO.
+     */
+    public long getSeed() {
+        return seed;
     }
 
     /**
@@ -256,23 +1059,114 @@ public class FLECO {
         return usedGenerations;
     }
 
+    /**
+     * This method returns the result of the exact hierarchical solver in the
+     * latest execution of FLECO.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the result of the exact hierarchical solver, or null if it has
+     * not been run.
+     */
+    public SolverResult getSolverResult() {
+        return solverResult;
+    }
+
+    /**
+     * This method returns the result of the feasibility analysis of the
+     * strategic constraints in the latest execution of FLECO.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the result of the feasibility analysis, or null if it has not
+     * been done.
+     */
+    public FeasibilityReport getFeasibilityReport() {
+        return feasibilityReport;
+    }
+
+    /**
+     * This method returns whether the feasibility analysis of the latest
+     * execution of FLECO proved the strategic constraints to be infeasible.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return true, if the strategic constraints were proven to be
+     * infeasible. Otherwise, false.
+     */
+    private boolean isProvenInfeasible() {
+        return (feasibilityReport != null) && feasibilityReport.isProvenInfeasible();
+    }
+
     /**
      * This method check whether the conditions to finish FLECO algorithm exist
-     * or not.
+     * or not: the population of the island has converged or any of the
+     * termination policies says so.
      *
-     * @param begin the time when the algorithm started to evolve the
-     * population.
+     * @param island the island being evolved.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return true, if the conditions to finish FLECO execution exist.
+     * Otherwise return false.
+     */
+    private boolean hasToFinish(Island island) {
+        if (cancelled) {
+            return true;
+        }
+        if (island.getPopulation().hasConverged()) {
+            return true;
+        }
+        for (ITerminationPolicy terminationPolicy : terminationPolicies) {
+            if (terminationPolicy.hasToFinish(island.getStatus())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * This method check whether the conditions to finish FLECO algorithm exist
+     * or not when running in island mode: the population of any island has
+     * converged or any of the termination policies says so, according to the
+     * status of the whole run.
+     *
+     * @param islands the islands being evolved.
      *
      * @author Manuel Domínguez-Dorado
      * @return true, if the conditions to finish FLECO execution exist.
      * Otherwise return false.
      */
-    private boolean hasToFinish(Temporal begin, boolean isDeeplyStagnated) {
-        Duration duration = Duration.between(begin, Instant.now());
-        if (population.hasConverged() || (duration.get(ChronoUnit.SECONDS) > maxAvailableSeconds)) {
+    private boolean hasToFinish(Island[] islands) {
+        if (cancelled) {
             return true;
         }
-        return isDeeplyStagnated && population.hasConverged();
+        for (Island island : islands) {
+            if (island.getPopulation().hasConverged()) {
+                return true;
+            }
+        }
+        for (ITerminationPolicy terminationPolicy : terminationPolicies) {
+            if (terminationPolicy.hasToFinish(runStatus)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * This method updates the status of the whole run from the status of the
+     * islands being evolved: the fitness evaluations of all of them are added
+     * up and the best fitness is the best one among them. All islands have
+     * evolved the same number of generations.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param islands the islands being evolved.
+     */
+    private void updateRunStatus(Island[] islands) {
+        long evaluations = 0;
+        float bestFitness = 0.0f;
+        for (Island island : islands) {
+            evaluations += island.getPopulation().getEvaluations();
+            bestFitness = Math.max(bestFitness, island.getPopulation().get(BEST_CHROMOSOME_INDEX).getFitness());
+        }
+        runStatus.update(islands[0].getGenerations(), evaluations, bestFitness);
     }
 
     /**
@@ -289,13 +1183,14 @@ public class FLECO {
 
     /**
      * This method returns the chromosome with the best fitness in the
-     * population.
+     * population. It is taken from the latest published generation, so it can
+     * be called from any thread.
      *
      * @author Manuel Domínguez-Dorado
      *
      * @return The chromosome with the best fitness in the population.
      */
     public Chromosome getBestChromosome() {
-        return population.get(BEST_CHROMOSOME_INDEX);
+        return population.getSnapshot().get(BEST_CHROMOSOME_INDEX);
     }
 }
@@ -0,0 +1,92 @@
+/* 
+ *******************************************************************************
+ * FLECO (Fast, Lightweight, and Efficient Cybersecurity Optimization) (1) 
+ * Adaptive, Constrained, and Multi-objective Genetic Algorithm is a genetic 
+ * algorithm designed to assist the Asset's Cybersecurity Committee (ACC) in 
+ * making decisions during the application of CyberTOMP (2), aimed at managing 
+ * comprehensive cybersecurity at both tactical and operational levels.
+ *
+ * (1) Domínguez-Dorado, M.; Cortés-Polo, D.; Carmona-Murillo, J.; 
+ * Rodríguez-Pérez, F.J.; Galeano-Brajones, J. Fast, Lightweight, and Efficient 
+ * Cybersecurity Optimization for Tactical–Operational Management. Appl. Sci. 
+ * 2023, 13, 6327. https://doi.org/10.3390/app13106327
+ *
+ * (2) Dominguez-Dorado, M., Carmona-Murillo, J., Cortés-Polo, D., and
+ * Rodríguez-Pérez, F. J. (2022). CyberTOMP: A novel systematic framework to
+ * manage asset-focused cybersecurity from tactical and operational levels. IEEE
+ * Access, 10, 122454-122485. https://doi.org/10.1109/ACCESS.2022.3223440
+ *******************************************************************************
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ *******************************************************************************
+ */
+package com.manolodominguez.fleco.algorithm;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements a stagnation policy based on the number of
+ * generations evolved since the latest change of the best fitness. The island
+ * seems to be in a local minimum once a threshold is surpassed, and is deeply
+ * stagnated once the threshold is surpassed by 25%. Unlike the wall-clock
+ * policy, it does not depend on the speed of the machine.
+ *
+ * @author Manuel Domínguez-Dorado
+ */
+public class GenerationsStagnationPolicy implements IStagnationPolicy {
+
+    private static final float DEEP_STAGNATION_THRESHOLD_FACTOR = 1.25f;
+
+    private final int stagnationThreshold;
+
+    private final Logger logger = LoggerFactory.getLogger(GenerationsStagnationPolicy.class);
+
+    /**
+     * This is the constructor of the class.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param stagnationThreshold The number of generations without changes
+     * after which the island seems to be in a local minimum.
+     */
+    public GenerationsStagnationPolicy(int stagnationThreshold) {
+        if (stagnationThreshold < 0) {
+            logger.error("stagnationThreshold cannot be negative");
+            throw new IllegalArgumentException("stagnationThreshold cannot be negative");
+        }
+        this.stagnationThreshold = stagnationThreshold;
+    }
+
+    /**
+     * This method returns the stagnation level of the island, depending on
+     * the generations evolved since the latest change of its best fitness.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param status The status of the evolution of the island.
+     * @return the stagnation level of the island.
+     */
+    @Override
+    public StagnationLevels getStagnationLevel(EvolutionStatus status) {
+        int stagnationGenerations = status.getGenerations() - status.getLatestBestFitnessChangeGeneration();
+        if (stagnationGenerations > (stagnationThreshold * DEEP_STAGNATION_THRESHOLD_FACTOR)) {
+            return StagnationLevels.DEEP_STAGNATION;
+        }
+        if (stagnationGenerations > stagnationThreshold) {
+            return StagnationLevels.LOCAL_MINIMUM;
+        }
+        return StagnationLevels.NONE;
+    }
+}
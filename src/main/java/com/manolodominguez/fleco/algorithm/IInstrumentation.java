@@ -0,0 +1,87 @@
+/* 
+ *******************************************************************************
+ * FLECO (Fast, Lightweight, and Efficient Cybersecurity Optimization) (1) 
+ * Adaptive, Constrained, and Multi-objective Genetic Algorithm is a genetic 
+ * algorithm designed to assist the Asset's Cybersecurity Committee (ACC) in 
+ * making decisions during the application of CyberTOMP (2), aimed at managing 
+ * comprehensive cybersecurity at both tactical and operational levels.
+ *
+ * (1) Domínguez-Dorado, M.; Cortés-Polo, D.; Carmona-Murillo, J.; 
+ * Rodríguez-Pérez, F.J.; Galeano-Brajones, J. Fast, Lightweight, and Efficient 
+ * Cybersecurity Optimization for Tactical–Operational Management. Appl. Sci. 
+ * 2023, 13, 6327. https://doi.org/10.3390/app13106327
+ *
+ * (2) Dominguez-Dorado, M., Carmona-Murillo, J., Cortés-Polo, D., and
+ * Rodríguez-Pérez, F. J. (2022). CyberTOMP: A novel systematic framework to
+ * manage asset-focused cybersecurity from tactical and operational levels. IEEE
+ * Access, 10, 122454-122485. https://doi.org/10.1109/ACCESS.2022.3223440
+ *******************************************************************************
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ *******************************************************************************
+ */
+package com.manolodominguez.fleco.algorithm;
+
+/**
+ * This interface has to be implemented by classes that measure where the time
+ * goes while FLECO evolves a population. Phases are measured as follows:
+ * <pre>
+ * long startNanos = instrumentation.startPhase();
+ * ...
+ * instrumentation.endPhase(Phases.MUTATION, startNanos);
+ * </pre>
+ *
+ * @author Manuel Domínguez-Dorado
+ */
+interface IInstrumentation {
+
+    /**
+     * This method, when implemented, will return the moment a phase starts.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the moment the phase starts, as returned by System.nanoTime().
+     */
+    public long startPhase();
+
+    /**
+     * This method, when implemented, will add the time elapsed since the
+     * specified moment to the duration of the specified phase.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param phase The phase that has finished.
+     * @param startNanos The moment the phase started, as returned by
+     * startPhase().
+     */
+    public void endPhase(Phases phase, long startNanos);
+
+    /**
+     * This method, when implemented, will add the specified amount to a
+     * counter.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param counter The counter.
+     * @param amount The amount to be added.
+     */
+    public void count(Counters counter, long amount);
+
+    /**
+     * This method, when implemented, will return the values measured so far.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the values measured so far.
+     */
+    public InstrumentationSnapshot getSnapshot();
+}
@@ -0,0 +1,155 @@
+/* 
+ *******************************************************************************
+ * FLECO (Fast, Lightweight, and Efficient Cybersecurity Optimization) (1) 
+ * Adaptive, Constrained, and Multi-objective Genetic Algorithm is a genetic 
+ * algorithm designed to assist the Asset's Cybersecurity Committee (ACC) in 
+ * making decisions during the application of CyberTOMP (2), aimed at managing 
+ * comprehensive cybersecurity at both tactical and operational levels.
+ *
+ * (1) Domínguez-Dorado, M.; Cortés-Polo, D.; Carmona-Murillo, J.; 
+ * Rodríguez-Pérez, F.J.; Galeano-Brajones, J. Fast, Lightweight, and Efficient 
+ * Cybersecurity Optimization for Tactical–Operational Management. Appl. Sci. 
+ * 2023, 13, 6327. https://doi.org/10.3390/app13106327
+ *
+ * (2) Dominguez-Dorado, M., Carmona-Murillo, J., Cortés-Polo, D., and
+ * Rodríguez-Pérez, F. J. (2022). CyberTOMP: A novel systematic framework to
+ * manage asset-focused cybersecurity from tactical and operational levels. IEEE
+ * Access, 10, 122454-122485. https://doi.org/10.1109/ACCESS.2022.3223440
+ *******************************************************************************
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ *******************************************************************************
+ */
+package com.manolodominguez.fleco.algorithm;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class holds, at a given moment, the values measured by the
+ * instrumentation of FLECO: the time spent in each phase of the evolution and
+ * the number of times each counted operation has been done. It is immutable.
+ *
+ * @author Manuel Domínguez-Dorado
+ */
+public final class InstrumentationSnapshot {
+
+    private final boolean enabled;
+    private final long elapsedNanos;
+    private final long[] phaseNanos;
+    private final long[] counts;
+
+    private final Logger logger = LoggerFactory.getLogger(InstrumentationSnapshot.class);
+
+    private static final Phases[] PHASES = Phases.values();
+    private static final Counters[] COUNTERS = Counters.values();
+
+    /**
+     * This is the constructor of the class. It creates a new snapshot from
+     * the specified values.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param enabled Whether instrumentation was enabled. If not, every value
+     * is zero.
+     * @param elapsedNanos The time elapsed since the instrumentation started
+     * to measure, in nanoseconds.
+     * @param phaseNanos The time spent in each phase, indexed by ordinal, in
+     * nanoseconds.
+     * @param counts The value of each counter, indexed by ordinal.
+     */
+    InstrumentationSnapshot(boolean enabled, long elapsedNanos, long[] phaseNanos, long[] counts) {
+        this.enabled = enabled;
+        this.elapsedNanos = elapsedNanos;
+        this.phaseNanos = Arrays.copyOf(phaseNanos, PHASES.length);
+        this.counts = Arrays.copyOf(counts, COUNTERS.length);
+    }
+
+    /**
+     * This method returns whether instrumentation was enabled.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return true, if instrumentation was enabled. Otherwise, false.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * This method returns the time elapsed since the instrumentation started
+     * to measure.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the time elapsed since the instrumentation started to measure,
+     * in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * This method returns the time spent in the specified phase.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param phase The phase.
+     * @return the time spent in the phase, in nanoseconds.
+     */
+    public long getNanos(Phases phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    /**
+     * This method returns the value of the specified counter.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param counter The counter.
+     * @return the value of the counter.
+     */
+    public long getCount(Counters counter) {
+        return counts[counter.ordinal()];
+    }
+
+    /**
+     * This method returns the number of fitness evaluations per second since
+     * the instrumentation started to measure.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the number of fitness evaluations per second.
+     */
+    public double getEvaluationsPerSecond() {
+        if (elapsedNanos <= 0) {
+            return 0.0;
+        }
+        return counts[Counters.EVALUATIONS.ordinal()] * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    /**
+     * This method prints the values of the snapshot.
+     *
+     * @author Manuel Domínguez-Dorado
+     */
+    public void print() {
+        logger.info("Instrumentation (" + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + " ms elapsed):");
+        for (Phases phase : PHASES) {
+            logger.info("\t" + phase.name() + ": " + TimeUnit.NANOSECONDS.toMillis(phaseNanos[phase.ordinal()]) + " ms");
+        }
+        for (Counters counter : COUNTERS) {
+            logger.info("\t" + counter.name() + ": " + counts[counter.ordinal()]);
+        }
+        logger.info("\tEvaluations per second: " + getEvaluationsPerSecond());
+    }
+}
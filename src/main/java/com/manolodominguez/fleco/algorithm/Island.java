@@ -0,0 +1,503 @@
+/* 
+ *******************************************************************************
+ * FLECO (Fast, Lightweight, and Efficient Cybersecurity Optimization) (1) 
+ * Adaptive, Constrained, and Multi-objective Genetic Algorithm is a genetic 
+ * algorithm designed to assist the Asset's Cybersecurity Committee (ACC) in 
+ * making decisions during the application of CyberTOMP (2), aimed at managing 
+ * comprehensive cybersecurity at both tactical and operational levels.
+ *
+ * (1) Domínguez-Dorado, M.; Cortés-Polo, D.; Carmona-Murillo, J.; 
+ * Rodríguez-Pérez, F.J.; Galeano-Brajones, J. Fast, Lightweight, and Efficient 
+ * Cybersecurity Optimization for Tactical–Operational Management. Appl. Sci. 
+ * 2023, 13, 6327. https://doi.org/10.3390/app13106327
+ *
+ * (2) Dominguez-Dorado, M., Carmona-Murillo, J., Cortés-Polo, D., and
+ * Rodríguez-Pérez, F. J. (2022). CyberTOMP: A novel systematic framework to
+ * manage asset-focused cybersecurity from tactical and operational levels. IEEE
+ * Access, 10, 122454-122485. https://doi.org/10.1109/ACCESS.2022.3223440
+ *******************************************************************************
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ *******************************************************************************
+ */
+package com.manolodominguez.fleco.algorithm;
+
+import com.manolodominguez.fleco.genetics.Chromosome;
+import com.manolodominguez.fleco.jfr.GenerationEvent;
+import com.manolodominguez.fleco.jfr.SoftResetEvent;
+import com.manolodominguez.fleco.jfr.StagnationEvent;
+import java.util.function.Consumer;
+import jdk.jfr.EventType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements an island: a population together with the state FLECO
+ * needs to adapt its evolution (the time it has been stagnated, the current
+ * mutation rate, etc.). FLECO evolves a single island by default or several of
+ * them in parallel when running in island mode. An island is evolved by only
+ * one thread at a time. Each generation is evolved either by replacing the
+ * whole population (generational mode, the default one) or, in steady-state
+ * mode, by inserting offspring one by one until as many offspring as the
+ * initial number of chromosomes have been created.
+ *
+ * @author Manuel Domínguez-Dorado
+ */
+class Island {
+
+    private static final int DEFAULT_MUTATION_INCREASING_FACTOR = 1;
+    private static final int HIGHER_MUTATION_INCREASING_FACTOR = 20;
+    private static final float POPULATION_INCREASING_FACTOR = 1.50f;
+    private static final int BEST_CHROMOSOME_INDEX = 0;
+    private static final EventType GENERATION_EVENT_TYPE = EventType.getEventType(GenerationEvent.class);
+
+    private final int islandIndex;
+    private final Population population;
+    private final int initialPopulation;
+    private final float mutationProbability;
+    private final float crossoverProbability;
+    private final IStagnationPolicy stagnationPolicy;
+    private final EvolutionStatus status;
+    private float currentBestFitness;
+    private int mutationIncreasingFactor;
+    private boolean seemsALocalMinimum;
+    private boolean isDeeplyStagnated;
+    private boolean stagnationDetected;
+    private boolean softResetDone;
+    private int generations;
+    private int numberOfRepairedChromosomes;
+    private int maxRepairChanges;
+    private int numberOfImprovedChromosomes;
+    private int maxLocalSearchEvaluations;
+    private SteadyStateEngine steadyStateEngine;
+    private GenerationEvent generationEvent;
+    private long generationStartNanos;
+    private long selectionDuration;
+
+    private final Logger logger = LoggerFactory.getLogger(Island.class);
+
+    /**
+     * This is the constructor of the class. It creates a new island that will
+     * evolve the specified population.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param islandIndex The index of the island.
+     * @param population The population of the island.
+     * @param initialPopulation The initial number of chromosomes in the
+     * population.
+     * @param mutationProbability The default probability of mutating a gene.
+     * @param crossoverProbability The probability of crossing over a couple of
+     * chromosomes.
+     * @param stagnationPolicy The policy that decides whether the island is
+     * stagnated.
+     */
+    Island(int islandIndex, Population population, int initialPopulation, float mutationProbability, float crossoverProbability, IStagnationPolicy stagnationPolicy) {
+        this.islandIndex = islandIndex;
+        this.population = population;
+        this.initialPopulation = initialPopulation;
+        this.mutationProbability = mutationProbability;
+        this.crossoverProbability = crossoverProbability;
+        this.stagnationPolicy = stagnationPolicy;
+        status = new EvolutionStatus();
+        currentBestFitness = 0.0f;
+        mutationIncreasingFactor = DEFAULT_MUTATION_INCREASING_FACTOR;
+        seemsALocalMinimum = false;
+        isDeeplyStagnated = false;
+        stagnationDetected = false;
+        softResetDone = false;
+        generations = 0;
+        status.update(generations, population.getEvaluations(), population.get(BEST_CHROMOSOME_INDEX).getFitness());
+        numberOfRepairedChromosomes = 0;
+        maxRepairChanges = 0;
+        numberOfImprovedChromosomes = 0;
+        maxLocalSearchEvaluations = 0;
+        steadyStateEngine = null;
+        generationEvent = null;
+        generationStartNanos = 0L;
+        selectionDuration = 0L;
+    }
+
+    /**
+     * This method configures the island to repair, every generation, a copy
+     * of its best chromosomes.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param numberOfRepairedChromosomes The number of best chromosomes to be
+     * repaired every generation. If it is 0, no chromosome is repaired.
+     * @param maxRepairChanges The maximum number of allele changes in each
+     * repaired chromosome.
+     */
+    void setRepair(int numberOfRepairedChromosomes, int maxRepairChanges) {
+        this.numberOfRepairedChromosomes = numberOfRepairedChromosomes;
+        this.maxRepairChanges = maxRepairChanges;
+    }
+
+    /**
+     * This method configures the island to improve, every generation, a copy
+     * of its best chromosomes by means of a local search.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param numberOfImprovedChromosomes The number of best chromosomes to be
+     * improved every generation. If it is 0, no local search is done.
+     * @param maxLocalSearchEvaluations The maximum number of evaluations of
+     * the local search in each generation.
+     */
+    void setLocalSearch(int numberOfImprovedChromosomes, int maxLocalSearchEvaluations) {
+        this.numberOfImprovedChromosomes = numberOfImprovedChromosomes;
+        this.maxLocalSearchEvaluations = maxLocalSearchEvaluations;
+    }
+
+    /**
+     * This method configures the island to be evolved in steady-state mode or
+     * in generational mode.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param steadyState true, to evolve the island in steady-state mode.
+     * false, to evolve it in generational mode.
+     */
+    void setSteadyState(boolean steadyState) {
+        if (steadyState) {
+            steadyStateEngine = new SteadyStateEngine(population, crossoverProbability);
+        } else {
+            steadyStateEngine = null;
+        }
+    }
+
+    /**
+     * This method performs the first part of a generation: it updates the
+     * stagnation status of the island and selects the best adapted chromosomes
+     * of the population.
+     *
+     * @author Manuel Domínguez-Dorado
+     */
+    void select() {
+        softResetDone = false;
+        // The flight recorder event of the generation spans both select()
+        // and reproduce(). Nothing is measured nor allocated while it is
+        // disabled.
+        if (GENERATION_EVENT_TYPE.isEnabled()) {
+            generationEvent = new GenerationEvent();
+            generationEvent.begin();
+            generationStartNanos = System.nanoTime();
+        }
+        // The stagnation of the island is measured from the latest
+        // improvement of its best fitness (or from the latest soft reset).
+        if (population.get(BEST_CHROMOSOME_INDEX).getFitness() > currentBestFitness) {
+            currentBestFitness = population.get(BEST_CHROMOSOME_INDEX).getFitness();
+            status.markBestFitnessChange();
+        }
+        // Once the stagnation policy considers that the island has been
+        // stagnated for too long, it is considered to be in a local minimum,
+        // requiring an escape plan. When this period is much longer, it is
+        // considered to be deeply stagnated.
+        StagnationLevels stagnationLevel = stagnationPolicy.getStagnationLevel(status);
+        stagnationDetected = (status.getStagnationLevel() == StagnationLevels.NONE) && (stagnationLevel != StagnationLevels.NONE);
+        if (stagnationDetected) {
+            StagnationEvent stagnationEvent = new StagnationEvent();
+            if (stagnationEvent.shouldCommit()) {
+                stagnationEvent.islandIndex = islandIndex;
+                stagnationEvent.generation = generations;
+                stagnationEvent.stagnationLevel = stagnationLevel.name();
+                stagnationEvent.bestFitness = population.get(BEST_CHROMOSOME_INDEX).getFitness();
+                stagnationEvent.commit();
+            }
+        }
+        status.setStagnationLevel(stagnationLevel);
+        seemsALocalMinimum = (stagnationLevel != StagnationLevels.NONE);
+        isDeeplyStagnated = (stagnationLevel == StagnationLevels.DEEP_STAGNATION);
+        // If the algorithm is in a local minimum, it amplifies the mutation
+        // rate to the predefined higher value; otherwise, it resets the 
+        // rate to the default value.
+        if (seemsALocalMinimum) {
+            mutationIncreasingFactor = HIGHER_MUTATION_INCREASING_FACTOR;
+        } else {
+            mutationIncreasingFactor = DEFAULT_MUTATION_INCREASING_FACTOR;
+        }
+        if (steadyStateEngine != null) {
+            // Chromosomes are not selected in steady-state mode; the best
+            // ones are repaired or improved, if configured, and the population
+            // is handed over to the steady-state engine. Random chromosomes
+            // injected to escape from a local minimum are added after
+            // reducing the population, so that they take part in the whole
+            // generation.
+            if (numberOfRepairedChromosomes > 0) {
+                population.repairBest(numberOfRepairedChromosomes, maxRepairChanges);
+            }
+            if (numberOfImprovedChromosomes > 0) {
+                population.improveBest(numberOfImprovedChromosomes, maxLocalSearchEvaluations);
+            }
+            IInstrumentation instrumentation = population.getInstrumentation();
+            long startNanos = instrumentation.startPhase();
+            population.reduceTo(initialPopulation);
+            instrumentation.endPhase(Phases.REDUCTION, startNanos);
+            escapeFromLocalMinimum();
+            startNanos = instrumentation.startPhase();
+            steadyStateEngine.load();
+            instrumentation.endPhase(Phases.SELECTION, startNanos);
+            return;
+        }
+        // Calculate the fitness and arrange the population accordingly. 
+        // Reduce the population removing the worst individuals.
+        IInstrumentation instrumentation = population.getInstrumentation();
+        long startNanos = instrumentation.startPhase();
+        population.selectBestAdapted();
+        instrumentation.endPhase(Phases.SELECTION, startNanos);
+    }
+
+    /**
+     * This method performs the second part of a generation: it generates new
+     * chromosomes from the selected ones and reduces the population again to
+     * its initial size.
+     *
+     * @author Manuel Domínguez-Dorado
+     */
+    void reproduce() {
+        reproduce(null);
+    }
+
+    /**
+     * This method performs the second part of a generation: it generates new
+     * chromosomes from the selected ones and reduces the population again to
+     * its initial size. In steady-state mode, the specified listener is
+     * notified every time an offspring becomes the best chromosome of the
+     * island, without waiting for the generation to finish.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param bestChromosomeListener The listener notified when the best
+     * chromosome changes in steady-state mode. It can be null.
+     */
+    void reproduce(Consumer<Chromosome> bestChromosomeListener) {
+        if (generationEvent != null) {
+            long now = System.nanoTime();
+            selectionDuration = now - generationStartNanos;
+            generationStartNanos = now;
+        }
+        if (steadyStateEngine != null) {
+            reproduceSteadily(bestChromosomeListener);
+            return;
+        }
+        IInstrumentation instrumentation = population.getInstrumentation();
+        long startNanos;
+        escapeFromLocalMinimum();
+        // Repair a copy of the best chromosomes, if configured, so that they
+        // approach the strategic constraints they still violate.
+        if (numberOfRepairedChromosomes > 0) {
+            population.repairBest(numberOfRepairedChromosomes, maxRepairChanges);
+        }
+        // Improve a copy of the best chromosomes by means of a local search,
+        // if configured.
+        if (numberOfImprovedChromosomes > 0) {
+            population.improveBest(numberOfImprovedChromosomes, maxLocalSearchEvaluations);
+        }
+        // Apply a mutation to the population with a predefined probability,
+        // which can be raised if the algorithm is in a local minimum.
+        startNanos = instrumentation.startPhase();
+        population.mutate(mutationProbability * mutationIncreasingFactor);
+        instrumentation.endPhase(Phases.MUTATION, startNanos);
+        // Perform a crossover on the population.
+        startNanos = instrumentation.startPhase();
+        population.crossover(crossoverProbability);
+        instrumentation.endPhase(Phases.CROSSOVER, startNanos);
+        // To maintain stable the number of individuals in the population,
+        // complete the population adding some random individuals if needed.
+        startNanos = instrumentation.startPhase();
+        population.populateRandomly();
+        // To prevent uncontrolled growth, reduce the population to the 
+        // default number of chromosomes in case it is higher.
+        population.reduceTo(initialPopulation);
+        instrumentation.endPhase(Phases.REDUCTION, startNanos);
+        // Make the resulting generation visible to other threads.
+        population.publishSnapshot();
+        // Increases the generation number
+        generations++;
+        status.update(generations, population.getEvaluations(), population.get(BEST_CHROMOSOME_INDEX).getFitness());
+        commitGenerationEvent();
+    }
+
+    /**
+     * This method applies the escape plan of the island when it seems to be
+     * trapped in a local minimum: random chromosomes are injected into the
+     * population to increase diversity and, if it is deeply stagnated, a soft
+     * reset is done first.
+     *
+     * @author Manuel Domínguez-Dorado
+     */
+    private void escapeFromLocalMinimum() {
+        // If the algorithm forecast it could be trapped in a local minimum,
+        // injects a predefined quantity of random chromosomes into the 
+        // population to increase diversity. Moreover, if it has been 
+        // stagnated too much time without complying with the strategic
+        // requiremens, it performs a soft reset removing the best 50% 
+        // individuals.
+        if (seemsALocalMinimum) {
+            IInstrumentation instrumentation = population.getInstrumentation();
+            long startNanos = instrumentation.startPhase();
+            if (isDeeplyStagnated) {
+                if (!population.hasConverged()) {
+                    SoftResetEvent softResetEvent = new SoftResetEvent();
+                    softResetEvent.begin();
+                    softResetEvent.bestFitnessBefore = population.get(BEST_CHROMOSOME_INDEX).getFitness();
+                    population.softReset();
+                    softResetDone = true;
+                    if (softResetEvent.shouldCommit()) {
+                        softResetEvent.islandIndex = islandIndex;
+                        softResetEvent.generation = generations;
+                        softResetEvent.bestFitnessAfter = population.get(BEST_CHROMOSOME_INDEX).getFitness();
+                        softResetEvent.commit();
+                    }
+                    currentBestFitness = population.get(BEST_CHROMOSOME_INDEX).getFitness();
+                    status.markBestFitnessChange();
+                }
+            }
+            population.populateRandomly((int) (initialPopulation * POPULATION_INCREASING_FACTOR));
+            instrumentation.endPhase(Phases.RANDOM_INJECTION, startNanos);
+        }
+    }
+
+    /**
+     * This method evolves a generation in steady-state mode: offspring are
+     * created and inserted in the population until as many of them as the
+     * initial number of chromosomes have been created or the best chromosome
+     * is fully compliant with the strategic constraints.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param bestChromosomeListener The listener notified when the best
+     * chromosome changes. It can be null.
+     */
+    private void reproduceSteadily(Consumer<Chromosome> bestChromosomeListener) {
+        float currentMutationProbability = mutationProbability * mutationIncreasingFactor;
+        boolean converged = false;
+        while ((steadyStateEngine.getNumberOfOffspring() < initialPopulation) && !converged) {
+            if (steadyStateEngine.step(currentMutationProbability)) {
+                Chromosome bestChromosome = steadyStateEngine.getBestChromosome();
+                converged = bestChromosome.getFitnessConstraintsCoverage() >= 1.0f;
+                if (bestChromosomeListener != null) {
+                    bestChromosomeListener.accept(bestChromosome);
+                }
+            }
+        }
+        steadyStateEngine.store();
+        // Make the resulting generation visible to other threads.
+        population.publishSnapshot();
+        // Increases the generation number
+        generations++;
+        status.update(generations, population.getEvaluations(), population.get(BEST_CHROMOSOME_INDEX).getFitness());
+        commitGenerationEvent();
+    }
+
+    /**
+     * This method ends the flight recorder event of the generation that has
+     * just been evolved and commits it, if it was begun when the generation
+     * started. Its selection and reproduction durations split the time it
+     * spans.
+     *
+     * @author Manuel Domínguez-Dorado
+     */
+    private void commitGenerationEvent() {
+        if (generationEvent == null) {
+            return;
+        }
+        long reproductionDuration = System.nanoTime() - generationStartNanos;
+        generationEvent.end();
+        if (generationEvent.shouldCommit()) {
+            generationEvent.islandIndex = islandIndex;
+            generationEvent.generation = generations;
+            generationEvent.bestFitness = population.get(BEST_CHROMOSOME_INDEX).getFitness();
+            generationEvent.averageFitness = population.getFitnessAverage();
+            generationEvent.populationSize = population.size();
+            generationEvent.evaluations = population.getEvaluations();
+            generationEvent.selectionDuration = selectionDuration;
+            generationEvent.reproductionDuration = reproductionDuration;
+            generationEvent.commit();
+        }
+        generationEvent = null;
+    }
+
+    /**
+     * This method returns the status of the evolution of the island.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the status of the evolution of the island.
+     */
+    EvolutionStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * This method returns the index of the island.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the index of the island.
+     */
+    int getIslandIndex() {
+        return islandIndex;
+    }
+
+    /**
+     * This method returns the population of the island.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the population of the island.
+     */
+    Population getPopulation() {
+        return population;
+    }
+
+    /**
+     * This method returns whether the island has been stagnated too much time.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return true, if the island has been stagnated too much time. Otherwise,
+     * false.
+     */
+    boolean isDeeplyStagnated() {
+        return isDeeplyStagnated;
+    }
+
+    /**
+     * This method returns whether the island started to be stagnated in the
+     * latest generation.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return true, if the island was not stagnated before the latest
+     * generation and it is now. Otherwise, false.
+     */
+    boolean hasDetectedStagnation() {
+        return stagnationDetected;
+    }
+
+    /**
+     * This method returns whether the population of the island was soft reset
+     * in the latest generation.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return true, if the population was soft reset in the latest generation.
+     * Otherwise, false.
+     */
+    boolean hasSoftReset() {
+        return softResetDone;
+    }
+
+    /**
+     * This method returns the number of generations the island has evolved.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the number of generations the island has evolved.
+     */
+    int getGenerations() {
+        return generations;
+    }
+}
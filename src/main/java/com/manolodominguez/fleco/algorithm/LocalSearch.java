@@ -0,0 +1,138 @@
+/* 
+ *******************************************************************************
+ * FLECO (Fast, Lightweight, and Efficient Cybersecurity Optimization) (1) 
+ * Adaptive, Constrained, and Multi-objective Genetic Algorithm is a genetic 
+ * algorithm designed to assist the Asset's Cybersecurity Committee (ACC) in 
+ * making decisions during the application of CyberTOMP (2), aimed at managing 
+ * comprehensive cybersecurity at both tactical and operational levels.
+ *
+ * (1) Domínguez-Dorado, M.; Cortés-Polo, D.; Carmona-Murillo, J.; 
+ * Rodríguez-Pérez, F.J.; Galeano-Brajones, J. Fast, Lightweight, and Efficient 
+ * Cybersecurity Optimization for Tactical–Operational Management. Appl. Sci. 
+ * 2023, 13, 6327. https://doi.org/10.3390/app13106327
+ *
+ * (2) Dominguez-Dorado, M., Carmona-Murillo, J., Cortés-Polo, D., and
+ * Rodríguez-Pérez, F. J. (2022). CyberTOMP: A novel systematic framework to
+ * manage asset-focused cybersecurity from tactical and operational levels. IEEE
+ * Access, 10, 122454-122485. https://doi.org/10.1109/ACCESS.2022.3223440
+ *******************************************************************************
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ *******************************************************************************
+ */
+package com.manolodominguez.fleco.algorithm;
+
+import com.manolodominguez.fleco.genetics.Alleles;
+import com.manolodominguez.fleco.genetics.Chromosome;
+import com.manolodominguez.fleco.genetics.Genes;
+import com.manolodominguez.fleco.strategicconstraints.StrategicConstraints;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements a steepest-ascent local search with a short tabu list.
+ * Starting from a chromosome, every single-gene allele change is evaluated
+ * (incrementally, as only one category changes each time) and the best one is
+ * applied, as long as it does not decrease the fitness. Genes that have just
+ * been changed cannot be changed again for some iterations, unless doing so
+ * improves the fitness, which avoids cycling when moving across chromosomes
+ * with the same fitness. The search finishes when the chromosome is fully
+ * compliant, when it reaches a local optimum or when the evaluation budget is
+ * exhausted.
+ *
+ * @author Manuel Domínguez-Dorado
+ */
+class LocalSearch {
+
+    private static final int TABU_TENURE = 7;
+    private static final Alleles[] ALLELES = Alleles.values();
+
+    private final Genes[] genes;
+    private final Chromosome initialStatus;
+    private final StrategicConstraints strategicConstraints;
+
+    private final Logger logger = LoggerFactory.getLogger(LocalSearch.class);
+
+    /**
+     * This is the constructor of the class. It creates a new local search
+     * that only changes the specified genes.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param genes The genes that can be changed.
+     * @param initialStatus A chromosome representing the initial
+     * cybersecurity status of the asset.
+     * @param strategicConstraints A set of strategic cybersecurity
+     * constraints.
+     */
+    LocalSearch(List<Genes> genes, Chromosome initialStatus, StrategicConstraints strategicConstraints) {
+        this.genes = genes.toArray(new Genes[0]);
+        this.initialStatus = initialStatus;
+        this.strategicConstraints = strategicConstraints;
+    }
+
+    /**
+     * This method improves the specified chromosome in place.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param chromosome The chromosome to be improved.
+     * @param maxEvaluations The maximum number of evaluations.
+     * @return the number of evaluations done.
+     */
+    int improve(Chromosome chromosome, int maxEvaluations) {
+        int[] tabuUntil = new int[Genes.values().length];
+        int evaluations = 0;
+        int iteration = 0;
+        chromosome.computeFitness(initialStatus, strategicConstraints);
+        float currentFitness = chromosome.getFitness();
+        while ((evaluations < maxEvaluations) && (currentFitness < 1.0f)) {
+            Genes bestGene = null;
+            Alleles bestAllele = null;
+            float bestFitness = -1.0f;
+            for (int g = 0; (g < genes.length) && (evaluations < maxEvaluations); g++) {
+                Genes gene = genes[g];
+                Alleles currentAllele = chromosome.getAllele(gene);
+                boolean isTabu = tabuUntil[gene.ordinal()] > iteration;
+                for (int a = 0; (a < ALLELES.length) && (evaluations < maxEvaluations); a++) {
+                    if (ALLELES[a] != currentAllele) {
+                        chromosome.updateAllele(gene, ALLELES[a]);
+                        chromosome.computeFitness(initialStatus, strategicConstraints);
+                        float fitness = chromosome.getFitness();
+                        evaluations++;
+                        chromosome.updateAllele(gene, currentAllele);
+                        // Tabu changes are only allowed if they improve the
+                        // fitness.
+                        if ((!isTabu || (fitness > currentFitness)) && (fitness > bestFitness)) {
+                            bestGene = gene;
+                            bestAllele = ALLELES[a];
+                            bestFitness = fitness;
+                        }
+                    }
+                }
+            }
+            if ((bestGene == null) || (bestFitness < currentFitness)) {
+                // Local optimum.
+                break;
+            }
+            chromosome.updateAllele(bestGene, bestAllele);
+            currentFitness = bestFitness;
+            tabuUntil[bestGene.ordinal()] = iteration + TABU_TENURE;
+            iteration++;
+        }
+        chromosome.computeFitness(initialStatus, strategicConstraints);
+        return evaluations;
+    }
+}
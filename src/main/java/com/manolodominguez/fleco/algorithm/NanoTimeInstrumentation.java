@@ -0,0 +1,136 @@
+/* 
+ *******************************************************************************
+ * FLECO (Fast, Lightweight, and Efficient Cybersecurity Optimization) (1) 
+ * Adaptive, Constrained, and Multi-objective Genetic Algorithm is a genetic 
+ * algorithm designed to assist the Asset's Cybersecurity Committee (ACC) in 
+ * making decisions during the application of CyberTOMP (2), aimed at managing 
+ * comprehensive cybersecurity at both tactical and operational levels.
+ *
+ * (1) Domínguez-Dorado, M.; Cortés-Polo, D.; Carmona-Murillo, J.; 
+ * Rodríguez-Pérez, F.J.; Galeano-Brajones, J. Fast, Lightweight, and Efficient 
+ * Cybersecurity Optimization for Tactical–Operational Management. Appl. Sci. 
+ * 2023, 13, 6327. https://doi.org/10.3390/app13106327
+ *
+ * (2) Dominguez-Dorado, M., Carmona-Murillo, J., Cortés-Polo, D., and
+ * Rodríguez-Pérez, F. J. (2022). CyberTOMP: A novel systematic framework to
+ * manage asset-focused cybersecurity from tactical and operational levels. IEEE
+ * Access, 10, 122454-122485. https://doi.org/10.1109/ACCESS.2022.3223440
+ *******************************************************************************
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ *******************************************************************************
+ */
+package com.manolodominguez.fleco.algorithm;
+
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements the instrumentation used when it is enabled. Phases
+ * are measured with System.nanoTime(). Values are accumulated in adders, so
+ * that several islands, and the tasks evaluating a population in parallel,
+ * can share an instance without contending for it.
+ *
+ * @author Manuel Domínguez-Dorado
+ */
+final class NanoTimeInstrumentation implements IInstrumentation {
+
+    private final long creationNanos;
+    private final LongAdder[] phaseNanos;
+    private final LongAdder[] counts;
+
+    private final Logger logger = LoggerFactory.getLogger(NanoTimeInstrumentation.class);
+
+    private static final Phases[] PHASES = Phases.values();
+    private static final Counters[] COUNTERS = Counters.values();
+
+    /**
+     * This is the constructor of the class. It creates a new instance whose
+     * values are all zero.
+     *
+     * @author Manuel Domínguez-Dorado
+     */
+    NanoTimeInstrumentation() {
+        creationNanos = System.nanoTime();
+        phaseNanos = new LongAdder[PHASES.length];
+        for (int i = 0; i < phaseNanos.length; i++) {
+            phaseNanos[i] = new LongAdder();
+        }
+        counts = new LongAdder[COUNTERS.length];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * This method returns the current value of System.nanoTime().
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the current value of System.nanoTime().
+     */
+    @Override
+    public long startPhase() {
+        return System.nanoTime();
+    }
+
+    /**
+     * This method adds the time elapsed since the specified moment to the
+     * duration of the specified phase.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param phase The phase that has finished.
+     * @param startNanos The moment the phase started, as returned by
+     * startPhase().
+     */
+    @Override
+    public void endPhase(Phases phase, long startNanos) {
+        phaseNanos[phase.ordinal()].add(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * This method adds the specified amount to a counter.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param counter The counter.
+     * @param amount The amount to be added.
+     */
+    @Override
+    public void count(Counters counter, long amount) {
+        counts[counter.ordinal()].add(amount);
+    }
+
+    /**
+     * This method returns the values measured since this instance was
+     * created. It can be called while they are being updated; in such case,
+     * each value is read at a slightly different moment.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the values measured so far.
+     */
+    @Override
+    public InstrumentationSnapshot getSnapshot() {
+        long[] phaseValues = new long[PHASES.length];
+        for (int i = 0; i < phaseValues.length; i++) {
+            phaseValues[i] = phaseNanos[i].sum();
+        }
+        long[] countValues = new long[COUNTERS.length];
+        for (int i = 0; i < countValues.length; i++) {
+            countValues[i] = counts[i].sum();
+        }
+        return new InstrumentationSnapshot(true, System.nanoTime() - creationNanos, phaseValues, countValues);
+    }
+}
@@ -0,0 +1,107 @@
+/* 
+ *******************************************************************************
+ * FLECO (Fast, Lightweight, and Efficient Cybersecurity Optimization) (1) 
+ * Adaptive, Constrained, and Multi-objective Genetic Algorithm is a genetic 
+ * algorithm designed to assist the Asset's Cybersecurity Committee (ACC) in 
+ * making decisions during the application of CyberTOMP (2), aimed at managing 
+ * comprehensive cybersecurity at both tactical and operational levels.
+ *
+ * (1) Domínguez-Dorado, M.; Cortés-Polo, D.; Carmona-Murillo, J.; 
+ * Rodríguez-Pérez, F.J.; Galeano-Brajones, J. Fast, Lightweight, and Efficient 
+ * Cybersecurity Optimization for Tactical–Operational Management. Appl. Sci. 
+ * 2023, 13, 6327. https://doi.org/10.3390/app13106327
+ *
+ * (2) Dominguez-Dorado, M., Carmona-Murillo, J., Cortés-Polo, D., and
+ * Rodríguez-Pérez, F. J. (2022). CyberTOMP: A novel systematic framework to
+ * manage asset-focused cybersecurity from tactical and operational levels. IEEE
+ * Access, 10, 122454-122485. https://doi.org/10.1109/ACCESS.2022.3223440
+ *******************************************************************************
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ *******************************************************************************
+ */
+package com.manolodominguez.fleco.algorithm;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements the instrumentation used when it is disabled. Its
+ * methods do nothing and it is the only implementation loaded in that case,
+ * so the JIT compiler removes their calls.
+ *
+ * @author Manuel Domínguez-Dorado
+ */
+final class NoOpInstrumentation implements IInstrumentation {
+
+    static final NoOpInstrumentation INSTANCE = new NoOpInstrumentation();
+
+    private static final InstrumentationSnapshot EMPTY_SNAPSHOT = new InstrumentationSnapshot(false, 0L, new long[0], new long[0]);
+
+    private final Logger logger = LoggerFactory.getLogger(NoOpInstrumentation.class);
+
+    /**
+     * This is the constructor of the class. Use INSTANCE instead.
+     *
+     * @author Manuel Domínguez-Dorado
+     */
+    private NoOpInstrumentation() {
+    }
+
+    /**
+     * This method does not read the clock.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return always 0.
+     */
+    @Override
+    public long startPhase() {
+        return 0L;
+    }
+
+    /**
+     * This method does nothing.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param phase The phase that has finished.
+     * @param startNanos The moment the phase started.
+     */
+    @Override
+    public void endPhase(Phases phase, long startNanos) {
+    }
+
+    /**
+     * This method does nothing.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param counter The counter.
+     * @param amount The amount to be added.
+     */
+    @Override
+    public void count(Counters counter, long amount) {
+    }
+
+    /**
+     * This method returns a snapshot whose values are all zero.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return a snapshot whose values are all zero.
+     */
+    @Override
+    public InstrumentationSnapshot getSnapshot() {
+        return EMPTY_SNAPSHOT;
+    }
+}
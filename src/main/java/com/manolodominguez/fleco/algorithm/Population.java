@@ -41,28 +41,65 @@ import com.manolodominguez.fleco.genetics.Alleles;
 import com.manolodominguez.fleco.genetics.Chromosome;
 import com.manolodominguez.fleco.genetics.Genes;
 import com.manolodominguez.fleco.uleo.ImplementationGroups;
-import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * This class implements a population. A set of chromosomes and the
- * corresponding methods to make the required operations.
+ * corresponding methods to make the required operations. Chromosomes are
+ * stored in an array that is only modified by the thread evolving the
+ * population: survivors are written to a second buffer that then becomes the
+ * current one, and offspring are appended after the chromosomes they come
+ * from. Other threads can read an immutable snapshot of the population, that
+ * is published once per generation.
  *
  * @author Manuel Domínguez-Dorado
  */
-public class Population extends CopyOnWriteArrayList<Chromosome> {
+public class Population {
 
-    private static final long serialVersionUID = 1L;
     private static final int BEST_CHROMOSOME_INDEX = 0;
+    private static final int EVALUATION_TASKS_PER_PROCESSOR = 4;
+    private static final Alleles[] ALLELES = Alleles.values();
+    private static final int DEFAULT_TOURNAMENT_SIZE = 2;
+    // Linear ranking with a selection pressure of 1.5 is equivalent to a
+    // binary tournament whose winner is the best fitted chromosome with a
+    // probability of 1.5 / 2.
+    private static final double LINEAR_RANK_BEST_WINS_PROBABILITY = 0.75;
 
     private final int initialNumberOfChromosomes;
-    private final transient ImplementationGroups implementationGroup;
+    private final ImplementationGroups implementationGroup;
+    private Chromosome[] chromosomes;
+    private Chromosome[] nextChromosomes;
+    private float[] fitnesses;
+    private int size;
+    private volatile List<Chromosome> snapshot;
     private float fitnessAverage;
     private Chromosome initialStatus;
     private StrategicConstraints strategicConstraints;
     private boolean converged;
+    private ExecutorService evaluationExecutor;
+    private int parallelEvaluationThreshold;
+    private final EnumSet<Genes> boundGenes;
+    private final List<Genes> boundGenesList;
+    private final Genes[] crossableGenes;
+    private ICrossoverOperator crossoverOperator;
+    private SelectionModes selectionMode;
+    private int tournamentSize;
+    private final LocalSearch localSearch;
+    private long evaluations;
+    private final SplittableRandom random;
+    private IInstrumentation instrumentation;
 
     private final Logger logger = LoggerFactory.getLogger(Population.class);
 
@@ -82,11 +119,56 @@ public class Population extends CopyOnWriteArrayList<Chromosome> {
      * @param strategicConstraints A set of strategic cybersecurity constraints.
      */
     public Population(int initialNumberOfChromosomes, ImplementationGroups implementationGroup, Chromosome initialStatus, StrategicConstraints strategicConstraints) {
-        super();
+        this(initialNumberOfChromosomes, implementationGroup, initialStatus, strategicConstraints, new SplittableRandom());
+    }
+
+    /**
+     * This is the constructor of the class, which initializes the population
+     * parameters and generates some initial chromosomes, including specialized
+     * ones derived from the initial cybersecurity status and the defined
+     * strategic objectives. Every random decision of the population is taken
+     * using the specified random number generator, so that its evolution can
+     * be reproduced.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param initialNumberOfChromosomes The initial number of chromosomes in
+     * the population.
+     * @param implementationGroup The implementation group that applies to the
+     * business asset being considered.
+     * @param initialStatus A Chromosome indicating the initial cybersecurity
+     * status of the asset.
+     * @param strategicConstraints A set of strategic cybersecurity constraints.
+     * @param random The random number generator of the population. It must
+     * not be shared with other populations.
+     */
+    public Population(int initialNumberOfChromosomes, ImplementationGroups implementationGroup, Chromosome initialStatus, StrategicConstraints strategicConstraints, SplittableRandom random) {
+        if (random == null) {
+            logger.error("random cannot be null");
+            throw new IllegalArgumentException("random cannot be null");
+        }
+        this.random = random;
         this.initialNumberOfChromosomes = initialNumberOfChromosomes;
         this.implementationGroup = implementationGroup;
         this.initialStatus = initialStatus;
         this.strategicConstraints = strategicConstraints;
+        chromosomes = new Chromosome[Math.max(initialNumberOfChromosomes, 1)];
+        nextChromosomes = new Chromosome[chromosomes.length];
+        fitnesses = new float[chromosomes.length];
+        size = 0;
+        evaluationExecutor = null;
+        parallelEvaluationThreshold = Integer.MAX_VALUE;
+        // Only genes bound by the strategic constraints can change the
+        // fitness. The rest of genes keep the allele of the initial status and
+        // are never changed by the genetic operators.
+        boundGenes = strategicConstraints.getBoundGenes();
+        boundGenesList = new ArrayList<>(boundGenes);
+        crossableGenes = boundGenes.stream().filter(gene -> gene.appliesToIG(implementationGroup)).toArray(Genes[]::new);
+        crossoverOperator = new SinglePointCrossover();
+        selectionMode = SelectionModes.TRUNCATION;
+        tournamentSize = DEFAULT_TOURNAMENT_SIZE;
+        localSearch = new LocalSearch(boundGenesList, initialStatus, strategicConstraints);
+        evaluations = 0;
+        instrumentation = NoOpInstrumentation.INSTANCE;
         // Add the initial cybersecurity status as a chromosome in the 
         // population
         add(initialStatus);
@@ -94,7 +176,7 @@ public class Population extends CopyOnWriteArrayList<Chromosome> {
         // chromosomes can be inferred that enhances the quality of the 
         // population.
         addAll(strategicConstraints.generatePrecandidatesBasedOn(initialStatus));
-        computeFitnessAndSort();
+        computeFitnessAndFindBest();
         fitnessAverage = 0.0f;
         converged = false;
         // Complete the population with random chromosomes until the initial 
@@ -103,6 +185,291 @@ public class Population extends CopyOnWriteArrayList<Chromosome> {
         // Reduce the population, if neccesary, to have exactly the initial 
         // number of chromosomes.
         reduceTo(this.initialNumberOfChromosomes);
+        publishSnapshot();
+    }
+
+    /**
+     * This method enables the parallel evaluation of the population. When the
+     * population has, at least, the specified number of chromosomes, their
+     * fitness is computed by several tasks run on the specified executor.
+     * Otherwise, it is computed sequentially. The result is the same in both
+     * cases.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param evaluationExecutor The executor that will run the evaluation
+     * tasks. If null, the population is always evaluated sequentially.
+     * @param parallelEvaluationThreshold The minimum number of chromosomes
+     * for the population to be evaluated in parallel.
+     */
+    public void setParallelEvaluation(ExecutorService evaluationExecutor, int parallelEvaluationThreshold) {
+        if (parallelEvaluationThreshold < 1) {
+            logger.error("parallelEvaluationThreshold must be greater than 0");
+            throw new IllegalArgumentException("parallelEvaluationThreshold must be greater than 0");
+        }
+        this.evaluationExecutor = evaluationExecutor;
+        this.parallelEvaluationThreshold = parallelEvaluationThreshold;
+    }
+
+    /**
+     * This method sets the operator used to cross over couples of chromosomes.
+     * By default, a single-point crossover is used.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param crossoverOperator The crossover operator.
+     */
+    public void setCrossoverOperator(ICrossoverOperator crossoverOperator) {
+        if (crossoverOperator == null) {
+            logger.error("crossoverOperator cannot be null");
+            throw new IllegalArgumentException("crossoverOperator cannot be null");
+        }
+        this.crossoverOperator = crossoverOperator;
+    }
+
+    /**
+     * This method sets how the chromosomes that reproduce in the next
+     * generation are selected. By default, they are selected by truncation.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param selectionMode The selection mode.
+     * @param tournamentSize The number of chromosomes that compete in each
+     * tournament. It is only used by SelectionModes.TOURNAMENT.
+     */
+    public void setSelection(SelectionModes selectionMode, int tournamentSize) {
+        if (selectionMode == null) {
+            logger.error("selectionMode cannot be null");
+            throw new IllegalArgumentException("selectionMode cannot be null");
+        }
+        if (tournamentSize < 1) {
+            logger.error("tournamentSize must be greater than 0");
+            throw new IllegalArgumentException("tournamentSize must be greater than 0");
+        }
+        this.selectionMode = selectionMode;
+        this.tournamentSize = tournamentSize;
+    }
+
+    /**
+     * This method returns the chromosome at the specified position of the
+     * population. After every operation that evaluates the chromosomes, the
+     * best one is at position 0.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param index The position of the chromosome.
+     * @return the chromosome at the specified position.
+     */
+    public Chromosome get(int index) {
+        if ((index < 0) || (index >= size)) {
+            logger.error("index must be between 0 and the population size - 1");
+            throw new IndexOutOfBoundsException("index must be between 0 and the population size - 1");
+        }
+        return chromosomes[index];
+    }
+
+    /**
+     * This method returns the current number of chromosomes in the
+     * population.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the current number of chromosomes in the population.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * This method returns whether the population has no chromosomes.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return true, if the population has no chromosomes. Otherwise, false.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * This method publishes an immutable copy of the current population, to be
+     * read by other threads using getSnapshot().
+     *
+     * @author Manuel Domínguez-Dorado
+     */
+    public void publishSnapshot() {
+        snapshot = Collections.unmodifiableList(Arrays.asList(Arrays.copyOf(chromosomes, size)));
+    }
+
+    /**
+     * This method returns the latest published snapshot of the population. It
+     * can be safely read from any thread.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return an immutable copy of the population, as it was the latest time
+     * it was published.
+     */
+    public List<Chromosome> getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * This method appends a chromosome at the end of the population, growing
+     * the underlying arrays if needed.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param chromosome The chromosome to be appended.
+     */
+    private void add(Chromosome chromosome) {
+        ensureCapacity(size + 1);
+        chromosomes[size] = chromosome;
+        size++;
+    }
+
+    /**
+     * This method appends several chromosomes at the end of the population at
+     * once.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param newChromosomes The chromosomes to be appended.
+     */
+    private void addAll(List<Chromosome> newChromosomes) {
+        ensureCapacity(size + newChromosomes.size());
+        for (Chromosome chromosome : newChromosomes) {
+            chromosomes[size] = chromosome;
+            size++;
+        }
+    }
+
+    /**
+     * This method makes sure the underlying arrays can hold, at least, the
+     * specified number of chromosomes.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param capacity The required number of chromosomes.
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity > chromosomes.length) {
+            int newCapacity = Math.max(capacity, chromosomes.length * 2);
+            chromosomes = Arrays.copyOf(chromosomes, newCapacity);
+            nextChromosomes = new Chromosome[newCapacity];
+            fitnesses = new float[newCapacity];
+        }
+    }
+
+    /**
+     * This method reduces the population to its first chromosomes, releasing
+     * the references to the rest.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param newSize The number of chromosomes that are kept.
+     */
+    private void truncate(int newSize) {
+        Arrays.fill(chromosomes, newSize, size, null);
+        size = newSize;
+    }
+
+    /**
+     * This method makes the first chromosomes of the next buffer the current
+     * population, reusing the previous one as the next buffer.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param newSize The number of chromosomes in the next buffer.
+     */
+    private void swapBuffers(int newSize) {
+        Chromosome[] auxChromosomes = chromosomes;
+        chromosomes = nextChromosomes;
+        nextChromosomes = auxChromosomes;
+        Arrays.fill(nextChromosomes, 0, size, null);
+        size = newSize;
+    }
+
+    /**
+     * This method partially orders the population so that the specified
+     * number of best fitted chromosomes are placed at the beginning, the best
+     * one first, in linear average time. It uses a three-way quickselect over
+     * the fitness values computed by the latest evaluation, so that it is not
+     * degraded by the many chromosomes with the same fitness a population
+     * usually has.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param k The number of best fitted chromosomes to be placed at the
+     * beginning.
+     */
+    private void selectBest(int k) {
+        if ((k <= 0) || (size == 0)) {
+            return;
+        }
+        int from = 0;
+        int to = size - 1;
+        int target = Math.min(k, size) - 1;
+        while (from < to) {
+            float pivot = medianOfThree(fitnesses[from], fitnesses[(from + to) >>> 1], fitnesses[to]);
+            int greater = from;
+            int i = from;
+            int lesser = to;
+            // [from, greater) > pivot, [greater, i) == pivot, (lesser, to] <
+            // pivot.
+            while (i <= lesser) {
+                if (fitnesses[i] > pivot) {
+                    swap(greater, i);
+                    greater++;
+                    i++;
+                } else if (fitnesses[i] < pivot) {
+                    swap(i, lesser);
+                    lesser--;
+                } else {
+                    i++;
+                }
+            }
+            if (target < greater) {
+                to = greater - 1;
+            } else if (target > lesser) {
+                from = lesser + 1;
+            } else {
+                break;
+            }
+        }
+        int best = BEST_CHROMOSOME_INDEX;
+        for (int i = BEST_CHROMOSOME_INDEX + 1; i <= target; i++) {
+            if (fitnesses[i] > fitnesses[best]) {
+                best = i;
+            }
+        }
+        swap(BEST_CHROMOSOME_INDEX, best);
+    }
+
+    /**
+     * This method returns the median of three fitness values.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param a The first fitness value.
+     * @param b The second fitness value.
+     * @param c The third fitness value.
+     * @return the median of the three fitness values.
+     */
+    private static float medianOfThree(float a, float b, float c) {
+        if (a > b) {
+            if (b > c) {
+                return b;
+            }
+            return (a > c) ? c : a;
+        }
+        if (a > c) {
+            return a;
+        }
+        return (b > c) ? c : b;
+    }
+
+    /**
+     * This method swaps two chromosomes of the population, together with their
+     * fitness values.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param i The position of the first chromosome.
+     * @param j The position of the second chromosome.
+     */
+    private void swap(int i, int j) {
+        Chromosome auxChromosome = chromosomes[i];
+        chromosomes[i] = chromosomes[j];
+        chromosomes[j] = auxChromosome;
+        float auxFitness = fitnesses[i];
+        fitnesses[i] = fitnesses[j];
+        fitnesses[j] = auxFitness;
     }
 
     /**
@@ -112,12 +479,13 @@ public class Population extends CopyOnWriteArrayList<Chromosome> {
      * @author Manuel Domínguez-Dorado
      */
     public final void populateRandomly() {
+        ensureCapacity(initialNumberOfChromosomes);
         while (size() < initialNumberOfChromosomes) {
             Chromosome chromosome = new Chromosome(implementationGroup);
-            chromosome.randomizeGenes();
+            chromosome.randomizeGenes(boundGenes, initialStatus, random);
             add(chromosome);
         }
-        computeFitnessAndSort();
+        computeFitnessAndFindBest();
     }
 
     /**
@@ -132,190 +500,508 @@ public class Population extends CopyOnWriteArrayList<Chromosome> {
      * the population.
      */
     public void populateRandomly(int additionalChromosomes) {
+        instrumentation.count(Counters.RANDOM_INJECTIONS, additionalChromosomes);
         int targetSize = size() + additionalChromosomes;
+        ensureCapacity(targetSize);
         while (size() < targetSize) {
             Chromosome chromosome = new Chromosome(implementationGroup);
-            chromosome.randomizeGenes();
+            chromosome.randomizeGenes(boundGenes, initialStatus, random);
             add(chromosome);
         }
-        computeFitnessAndSort();
+        computeFitnessAndFindBest();
     }
 
     /**
-     * This method select the established percentage of the population's best
+     * This method select the established percentage of the population's
      * individuals as parents for the next generation, removing the twins if
-     * they exist. It discards the rest.
+     * they exist. Depending on the selection mode, the best individuals are
+     * selected or they are sampled giving more chances to the best ones. It
+     * discards the rest.
      *
      * @author Manuel Domínguez-Dorado
      */
     public void selectBestAdapted() {
-        // First it compute fitness and sort the population based on it.
-        computeFitnessAndSort();
-        // Remove twins
-        CopyOnWriteArrayList<Chromosome> twinsFree = new CopyOnWriteArrayList<>();
-        twinsFree.addAll(this);
-        for (Chromosome chromosome : toArray(new Chromosome[0])) {
-            boolean isTwin = true;
-            int instances = 0;
-            for (Chromosome otherChromosome : twinsFree.toArray(new Chromosome[0])) {
-                isTwin = true;
-                for (Genes gene : chromosome.getGenes().keySet()) {
-                    if (chromosome.getAllele(gene) != otherChromosome.getAllele(gene)) {
-                        isTwin = false;
-                        break;
-                    }
-                }
-                if (isTwin) {
-                    instances++;
-                    if (instances > 1) {
-                        twinsFree.remove(otherChromosome);
+        // First it compute fitness of the population.
+        computeFitnessAndFindBest();
+        // Remove twins. Chromosomes are classified by their genes hash, so
+        // that only those having the same hash have to be compared. Only the
+        // first (best fitted) instance of each chromosome is kept.
+        int twinsFreeSize = 0;
+        HashMap<Long, Chromosome> chromosomesByHash = new HashMap<>(size() * 2);
+        for (int i = 0; i < size(); i++) {
+            Chromosome chromosome = chromosomes[i];
+            Chromosome sameHashChromosome = chromosomesByHash.putIfAbsent(chromosome.getGenesHash(), chromosome);
+            boolean isTwin = false;
+            if (sameHashChromosome != null) {
+                isTwin = sameHashChromosome.isTwinOf(chromosome);
+                if (!isTwin) {
+                    // Different chromosomes with the same hash. Unlikely, but
+                    // possible.
+                    for (int j = 0; j < twinsFreeSize; j++) {
+                        if (nextChromosomes[j].isTwinOf(chromosome)) {
+                            isTwin = true;
+                            break;
+                        }
                     }
                 }
             }
+            if (!isTwin) {
+                nextChromosomes[twinsFreeSize] = chromosome;
+                fitnesses[twinsFreeSize] = chromosome.getFitness();
+                twinsFreeSize++;
+            }
         }
-        if (!twinsFree.isEmpty()) {
-            clear();
-            addAll(twinsFree);
+        if (twinsFreeSize > 0) {
+            instrumentation.count(Counters.TWINS_REMOVED, size() - twinsFreeSize);
+            swapBuffers(twinsFreeSize);
         }
-        sort(new ChromosomeComparator());
         // 1/5 of the current population is selected for reproduction in the 
         // next generation (4/5 are discarded).
-        int thresshold = size() * 1 / 5;
-        CopyOnWriteArrayList<Chromosome> bestAdapted = new CopyOnWriteArrayList<>();
-        for (int i = 0; i <= thresshold; i++) {
-            bestAdapted.add(get(i));
+        int truncationSize = getTruncationSize(size());
+        if (selectionMode == SelectionModes.TRUNCATION) {
+            selectBest(truncationSize);
+            truncate(Math.min(truncationSize, size()));
+        } else {
+            selectParents(Math.min(truncationSize, size()));
+        }
+    }
+
+    /**
+     * This method replaces the population by the specified number of
+     * chromosomes, sampled from it according to the selection mode. The best
+     * chromosome, that is at the beginning of the population after evaluating
+     * it, is always kept in the first position. Each of the rest is sampled in
+     * constant time from the fitness values of the latest evaluation, without
+     * ordering the population, and it can be selected several times. As
+     * sampled chromosomes are placed randomly, consecutive ones make random
+     * couples for the crossover.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param numberOfParents The number of chromosomes to be selected.
+     */
+    private void selectParents(int numberOfParents) {
+        if (numberOfParents <= 0) {
+            return;
+        }
+        nextChromosomes[BEST_CHROMOSOME_INDEX] = chromosomes[BEST_CHROMOSOME_INDEX];
+        for (int i = BEST_CHROMOSOME_INDEX + 1; i < numberOfParents; i++) {
+            nextChromosomes[i] = chromosomes[selectParent()];
         }
-        if (!bestAdapted.isEmpty()) {
-            clear();
-            addAll(bestAdapted);
+        swapBuffers(numberOfParents);
+        for (int i = 0; i < numberOfParents; i++) {
+            fitnesses[i] = chromosomes[i].getFitness();
         }
-        sort(new ChromosomeComparator());
+    }
+
+    /**
+     * This method samples the position of a chromosome of the population
+     * according to the selection mode, using the fitness values computed by
+     * the latest evaluation.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the position of the selected chromosome.
+     */
+    private int selectParent() {
+        // Truncation is done by partitioning the population, so the cut-off
+        // fitness is not used here.
+        return selectParent(fitnesses, size, 0.0f);
+    }
+
+    /**
+     * This method samples the position of a chromosome according to the
+     * selection mode, using the specified fitness values instead of those of
+     * the population, so that the selection mode can also be applied to
+     * chromosomes arranged in a different way, as in steady-state mode.
+     * TOURNAMENT and LINEAR_RANK sample it in constant time. TRUNCATION draws
+     * it uniformly among the chromosomes whose fitness is not lower than the
+     * specified cut-off, discarding the rest of draws. When the cut-off is the
+     * fitness of the worst of the best getTruncationSize() chromosomes, about
+     * five draws are needed on average.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param candidateFitnesses The fitness values of the chromosomes.
+     * @param numberOfCandidates The number of chromosomes, that are the first
+     * ones of candidateFitnesses.
+     * @param truncationFitness The lowest fitness of a chromosome selected in
+     * truncation mode. At least one chromosome must reach it.
+     * @return the position of the selected chromosome.
+     */
+    int selectParent(float[] candidateFitnesses, int numberOfCandidates, float truncationFitness) {
+        int selected = random.nextInt(numberOfCandidates);
+        if (selectionMode == SelectionModes.TRUNCATION) {
+            while (candidateFitnesses[selected] < truncationFitness) {
+                selected = random.nextInt(numberOfCandidates);
+            }
+        } else if (selectionMode == SelectionModes.TOURNAMENT) {
+            for (int i = 1; i < tournamentSize; i++) {
+                int competitor = random.nextInt(numberOfCandidates);
+                if (candidateFitnesses[competitor] > candidateFitnesses[selected]) {
+                    selected = competitor;
+                }
+            }
+        } else {
+            int competitor = random.nextInt(numberOfCandidates);
+            boolean bestWins = random.nextDouble() < LINEAR_RANK_BEST_WINS_PROBABILITY;
+            if ((candidateFitnesses[competitor] > candidateFitnesses[selected]) == bestWins) {
+                selected = competitor;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * This method returns how many chromosomes of a population of the
+     * specified size are selected in truncation mode: 1/5 of them, plus the
+     * best one.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param numberOfChromosomes The number of chromosomes of the population.
+     * @return the number of chromosomes selected by truncation.
+     */
+    static int getTruncationSize(int numberOfChromosomes) {
+        return (numberOfChromosomes * 1 / 5) + 1;
     }
 
     /**
      * This method generate mutated chromosomes from the current population. It
      * goes across all genes of each chromosome applying a mutation when
-     * applicable due to the defiend mutation rate.
+     * applicable due to the defiend mutation rate. Instead of drawing a random
+     * number for every gene, the number of genes skipped until the next
+     * mutated one is drawn from a geometric distribution, so the random
+     * numbers drawn are proportional to the number of mutations and not to the
+     * number of genes.
      *
      * @author Manuel Domínguez-Dorado
      * @param mutationProbablity the probability that a chromosome is mutated.
      */
     public void mutate(float mutationProbablity) {
-        Alleles[] allelesArray = Alleles.values();
-        CopyOnWriteArrayList<Chromosome> mutatedChromosomes = new CopyOnWriteArrayList<>();
-        for (Chromosome chromosome : toArray(new Chromosome[0])) {
-            // A new chromosome is created as a copy the current one.
-            Chromosome mutatedChromosome = new Chromosome(implementationGroup);
-            mutatedChromosome.setGenes(chromosome.getGenes());
-            int randomAllele = 0;
-            boolean mutated = false;
-            // All genes of such chromosome are reviewed
-            for (Genes gene : mutatedChromosome.getGenes().keySet()) {
-                if (gene.appliesToIG(implementationGroup)) {
-                    // If the mutation probability recommends to mutate the 
-                    // chromosome
-                    if (Math.random() < mutationProbablity) {
-                        // Tag the chromosome as mutated. Non mutated 
-                        // chromosomes are discarded ath the end because they ç
-                        // are twins.
-                        mutated = true;
-                        // Repeat until mutation is effectively done.
-                        while (chromosome.getAllele(gene) == mutatedChromosome.getAllele(gene)) {
-                            // Select the allele
-                            randomAllele = ThreadLocalRandom.current().nextInt(0, allelesArray.length);
-                            // Update the allele for the mutated gene
-                            mutatedChromosome.updateAllele(gene, allelesArray[randomAllele]);
-                        }
-                    }
-                }
-            }
-            if (mutated) {
-                mutatedChromosomes.add(mutatedChromosome);
+        if ((mutationProbablity <= 0.0f) || boundGenesList.isEmpty()) {
+            return;
+        }
+        // ln(1-p), used to transform a uniform random number into the number
+        // of genes skipped before the next mutation.
+        double logOfNonMutationProbability = Math.log1p(-Math.min(mutationProbablity, 1.0f));
+        int numberOfGenes = boundGenesList.size();
+        // Mutated chromosomes are appended after the current ones, so only the
+        // chromosomes that existed before are mutated.
+        int parentsEnd = size();
+        for (int i = 0; i < parentsEnd; i++) {
+            Chromosome chromosome = chromosomes[i];
+            int geneIndex = nextMutationGap(logOfNonMutationProbability);
+            // A new chromosome is created as a copy the current one only if
+            // one of its genes is mutated. Non mutated chromosomes are not
+            // added because they are twins.
+            if (geneIndex < numberOfGenes) {
+                Chromosome mutatedChromosome = new Chromosome(chromosome);
+                mutateGenes(chromosome, mutatedChromosome, geneIndex, logOfNonMutationProbability);
+                add(mutatedChromosome);
             }
         }
-        if (!mutatedChromosomes.isEmpty()) {
-            addAll(mutatedChromosomes);
+    }
+
+    /**
+     * This method mutates the specified chromosome itself, instead of a copy,
+     * applying a mutation to each bound gene with the specified probability.
+     * It is used to mutate offspring that are not part of the population yet.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param chromosome The chromosome to be mutated.
+     * @param mutationProbablity the probability that a gene is mutated.
+     */
+    void mutateInPlace(Chromosome chromosome, float mutationProbablity) {
+        if ((mutationProbablity <= 0.0f) || boundGenesList.isEmpty()) {
+            return;
+        }
+        double logOfNonMutationProbability = Math.log1p(-Math.min(mutationProbablity, 1.0f));
+        int geneIndex = nextMutationGap(logOfNonMutationProbability);
+        if (geneIndex < boundGenesList.size()) {
+            mutateGenes(chromosome, chromosome, geneIndex, logOfNonMutationProbability);
+        }
+    }
+
+    /**
+     * This method mutates the bound genes of a chromosome starting from the
+     * specified one, skipping each time a number of genes drawn from a
+     * geometric distribution.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param chromosome The chromosome whose alleles are mutated.
+     * @param mutatedChromosome The chromosome that receives the mutated
+     * alleles. It can be the same chromosome.
+     * @param firstGeneIndex The position, in the list of bound genes, of the
+     * first gene to be mutated.
+     * @param logOfNonMutationProbability the natural logarithm of the
+     * probability that a gene is not mutated.
+     */
+    private void mutateGenes(Chromosome chromosome, Chromosome mutatedChromosome, int firstGeneIndex, double logOfNonMutationProbability) {
+        int numberOfGenes = boundGenesList.size();
+        int geneIndex = firstGeneIndex;
+        int mutations = 0;
+        while (geneIndex < numberOfGenes) {
+            Genes gene = boundGenesList.get(geneIndex);
+            // Any of the other alleles, all of them equally probable.
+            int currentAllele = chromosome.getAllele(gene).ordinal();
+            int randomAllele = (currentAllele + 1 + random.nextInt(ALLELES.length - 1)) % ALLELES.length;
+            mutatedChromosome.updateAllele(gene, ALLELES[randomAllele]);
+            mutations++;
+            geneIndex += nextMutationGap(logOfNonMutationProbability) + 1;
+        }
+        instrumentation.count(Counters.MUTATIONS, mutations);
+    }
+
+    /**
+     * This method draws the number of genes that are not mutated before the
+     * next mutated one, that follows a geometric distribution.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param logOfNonMutationProbability the natural logarithm of the
+     * probability that a gene is not mutated.
+     * @return the number of genes that are not mutated before the next mutated
+     * one, capped to Integer.MAX_VALUE / 2 so that it can be safely added to a
+     * gene index.
+     */
+    private int nextMutationGap(double logOfNonMutationProbability) {
+        if (logOfNonMutationProbability == Double.NEGATIVE_INFINITY) {
+            // Every gene is mutated.
+            return 0;
         }
+        // 1 - nextDouble() is in (0, 1], so its logarithm is finite.
+        double gap = Math.floor(Math.log(1.0 - random.nextDouble()) / logOfNonMutationProbability);
+        return (int) Math.min(gap, Integer.MAX_VALUE / 2);
     }
 
     /**
      * This method generate chromosomes by applying a crossover int the current
      * population. For each time a crossover applies, a new couple of cromosome
-     * are created whose genes are exchanged from a random point to the end of
-     * the chromosomes or from the beginning of the chromosome to the crossing
-     * point, randomly.
+     * are created as copies of two chromosomes of the current population, and
+     * then they exchange genes as decided by the crossover operator.
      *
      * @author Manuel Domínguez-Dorado
-     * @param crossoverProbability
+     * @param crossoverProbability The probability of crossing over a couple of
+     * chromosomes.
      */
     public void crossover(float crossoverProbability) {
-        Chromosome chromosomeA = new Chromosome(implementationGroup);
-        Chromosome chromosomeB = new Chromosome(implementationGroup);
-        CopyOnWriteArrayList<Chromosome> crossedChromosomes = new CopyOnWriteArrayList<>();
-        for (int i = 0; i < (size() - 1); i += 2) {
+        // Free genes have the same allele in every chromosome, so only bound
+        // genes are exchanged.
+        if (crossableGenes.length == 0) {
+            return;
+        }
+        // Crossed chromosomes are appended after the current ones, so only the
+        // chromosomes that existed before are crossed over.
+        int parentsEnd = size();
+        for (int i = 0; i < (parentsEnd - 1); i += 2) {
             // For each chromosome in the population, if the possibility of 
             // being applied a crossover is met, a couple of chromosomes are 
             // cloned from two chromosomes of the current population.
-            if (Math.random() < crossoverProbability) {
-                CopyOnWriteArrayList<Genes> genesForTheNewChromosome = new CopyOnWriteArrayList<>();
-                chromosomeA.setGenes(get(i).getGenes());
-                chromosomeB.setGenes(get(i + 1).getGenes());
-                for (Genes gene : chromosomeA.getGenes().keySet()) {
-                    if (gene.appliesToIG(implementationGroup)) {
-                        genesForTheNewChromosome.add(gene);
-                    }
+            if (random.nextDouble() < crossoverProbability) {
+                Chromosome parentA = get(i);
+                Chromosome parentB = get(i + 1);
+                Chromosome offspringA = new Chromosome(parentA);
+                Chromosome offspringB = new Chromosome(parentB);
+                crossoverOperator.crossover(parentA, parentB, offspringA, offspringB, crossableGenes, random);
+                instrumentation.count(Counters.CROSSOVERS, 1);
+                add(offspringA);
+                add(offspringB);
+            }
+        }
+    }
+
+    /**
+     * This method repairs a copy of each one of the specified number of best
+     * fitted chromosomes, moving them towards the satisfaction of the
+     * strategic constraints they violate. Repaired copies are appended to the
+     * population; those that cannot be improved are discarded.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param numberOfChromosomes The number of best fitted chromosomes to be
+     * repaired.
+     * @param maxChanges The maximum number of allele changes in each
+     * chromosome.
+     */
+    public void repairBest(int numberOfChromosomes, int maxChanges) {
+        computeFitnessAndFindBest();
+        selectBest(numberOfChromosomes);
+        int count = Math.min(numberOfChromosomes, size());
+        for (int i = 0; i < count; i++) {
+            if (chromosomes[i].getFitnessConstraintsCoverage() < 1.0f) {
+                Chromosome repairedChromosome = new Chromosome(chromosomes[i]);
+                if (repairedChromosome.repair(initialStatus, strategicConstraints, maxChanges) > 0) {
+                    add(repairedChromosome);
                 }
-                // Randomly select one crossing point in the chromosome.
-                int crossoverPoint = ThreadLocalRandom.current().nextInt(0, genesForTheNewChromosome.size());
-                // Ramdomly select whether the crossover will be from the 
-                // beginning of the chromosome to the crossing point or from the 
-                // crossing point to the end of the chromosome.
-                boolean beginningIsTheAnchorPoint = (ThreadLocalRandom.current().nextInt(0, 1) == 0);
-                if (beginningIsTheAnchorPoint) {
-                    // Genes from chromosome A and B are exchanged from the 
-                    // beginning of the chromosome to the crossing point.
-                    for (int j = crossoverPoint; j < genesForTheNewChromosome.size(); j++) {
-                        chromosomeA.updateAllele(genesForTheNewChromosome.get(j), get(i + 1).getAllele(genesForTheNewChromosome.get(j)));
-                        chromosomeB.updateAllele(genesForTheNewChromosome.get(j), get(i).getAllele(genesForTheNewChromosome.get(j)));
-                    }
-                    crossedChromosomes.add(chromosomeA);
-                    crossedChromosomes.add(chromosomeB);
-                } else {
-                    // Genes from chromosome A and B are exchanged from the 
-                    // crossing point to the end of the chromosome.
-                    for (int j = 0; j < crossoverPoint; j++) {
-                        chromosomeA.updateAllele(genesForTheNewChromosome.get(j), get(i + 1).getAllele(genesForTheNewChromosome.get(j)));
-                        chromosomeB.updateAllele(genesForTheNewChromosome.get(j), get(i).getAllele(genesForTheNewChromosome.get(j)));
-                    }
-                    crossedChromosomes.add(chromosomeA);
-                    crossedChromosomes.add(chromosomeB);
+            }
+        }
+    }
+
+    /**
+     * This method improves, by means of a local search, a copy of each one of
+     * the specified number of best fitted chromosomes. The evaluation budget is
+     * shared by all of them, the best one first. Improved copies are appended
+     * to the population; the rest are discarded.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param numberOfChromosomes The number of best fitted chromosomes to be
+     * improved.
+     * @param maxEvaluations The maximum number of evaluations for all of them.
+     */
+    public void improveBest(int numberOfChromosomes, int maxEvaluations) {
+        computeFitnessAndFindBest();
+        selectBest(numberOfChromosomes);
+        int count = Math.min(numberOfChromosomes, size());
+        int pendingEvaluations = maxEvaluations;
+        for (int i = 0; (i < count) && (pendingEvaluations > 0); i++) {
+            if (chromosomes[i].getFitnessConstraintsCoverage() < 1.0f) {
+                Chromosome improvedChromosome = new Chromosome(chromosomes[i]);
+                int localSearchEvaluations = localSearch.improve(improvedChromosome, pendingEvaluations);
+                pendingEvaluations -= localSearchEvaluations;
+                evaluations += localSearchEvaluations;
+                instrumentation.count(Counters.EVALUATIONS, localSearchEvaluations);
+                if (improvedChromosome.getFitness() > chromosomes[i].getFitness()) {
+                    add(improvedChromosome);
                 }
             }
         }
-        if (!crossedChromosomes.isEmpty()) {
-            addAll(crossedChromosomes);
+    }
+
+    /**
+     * This method returns a copy of the specified number of best fitted
+     * chromosomes of the population, the best one first. It is used to send
+     * them to other islands when FLECO runs in island mode.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param numberOfChromosomes The number of chromosomes to be returned.
+     * @return a copy of the best fitted chromosomes of the population.
+     */
+    public List<Chromosome> getBestChromosomes(int numberOfChromosomes) {
+        computeFitnessAndFindBest();
+        selectBest(numberOfChromosomes);
+        int count = Math.min(numberOfChromosomes, size());
+        List<Chromosome> bestChromosomes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            bestChromosomes.add(new Chromosome(chromosomes[i]));
         }
+        return bestChromosomes;
+    }
+
+    /**
+     * This method appends to the population the chromosomes coming from other
+     * islands when FLECO runs in island mode. They will compete with the rest
+     * of chromosomes in the next selection.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param immigrants The chromosomes to be appended.
+     */
+    public void immigrate(List<Chromosome> immigrants) {
+        addAll(immigrants);
+        computeFitnessAndFindBest();
     }
 
     /**
      * This method computes the fitness for every chromosome in the population
-     * and also the average fitness of all them.
+     * and also the average fitness of all them. Chromosomes whose genes have
+     * not changed since their latest evaluation are not computed again. The
+     * best chromosome is placed at the beginning of the population.
+     *
+     * @author Manuel Domínguez-Dorado
+     */
+    private void computeFitnessAndFindBest() {
+        long startNanos = instrumentation.startPhase();
+        int evaluatedChromosomes;
+        if ((evaluationExecutor != null) && (size() >= parallelEvaluationThreshold)) {
+            evaluatedChromosomes = computeFitnessInParallel();
+        } else {
+            evaluatedChromosomes = computeFitness(0, size());
+        }
+        instrumentation.endPhase(Phases.EVALUATION, startNanos);
+        instrumentation.count(Counters.EVALUATIONS, evaluatedChromosomes);
+        evaluations += evaluatedChromosomes;
+        findBest();
+    }
+
+    /**
+     * This method computes the average fitness of the population, already
+     * evaluated, and places the best chromosome at the beginning.
      *
      * @author Manuel Domínguez-Dorado
      */
-    private void computeFitnessAndSort() {
+    private void findBest() {
+        // The average and the best chromosome are always computed
+        // sequentially, in the same order, so that the result does not depend
+        // on how the evaluation was done.
         fitnessAverage = 0.0f;
-        for (Chromosome chromosome : toArray(new Chromosome[0])) {
-            chromosome.computeFitness(initialStatus, strategicConstraints);
-            fitnessAverage += chromosome.getFitness();
+        int best = BEST_CHROMOSOME_INDEX;
+        for (int i = 0; i < size(); i++) {
+            fitnesses[i] = chromosomes[i].getFitness();
+            fitnessAverage += fitnesses[i];
+            if (fitnesses[i] > fitnesses[best]) {
+                best = i;
+            }
         }
         fitnessAverage /= size();
-        sort(new ChromosomeComparator());
+        if (!isEmpty()) {
+            swap(BEST_CHROMOSOME_INDEX, best);
+        }
         if (!isEmpty()) {
             converged = get(BEST_CHROMOSOME_INDEX).getFitnessConstraintsCoverage() >= 1.0f;
         }
     }
 
+    /**
+     * This method computes the fitness of the chromosomes in the specified
+     * range of the population.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param from The position of the first chromosome (included).
+     * @param to The position of the last chromosome (excluded).
+     * @return the number of chromosomes actually evaluated, that is, those
+     * whose genes had changed since their latest evaluation.
+     */
+    private int computeFitness(int from, int to) {
+        int evaluatedChromosomes = 0;
+        for (int i = from; i < to; i++) {
+            if (chromosomes[i].computeFitness(initialStatus, strategicConstraints)) {
+                evaluatedChromosomes++;
+            }
+        }
+        return evaluatedChromosomes;
+    }
+
+    /**
+     * This method computes the fitness of all chromosomes in the population
+     * splitting them in ranges that are evaluated by several tasks on the
+     * evaluation executor. It waits until all of them have finished.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the number of chromosomes actually evaluated, that is, those
+     * whose genes had changed since their latest evaluation.
+     */
+    private int computeFitnessInParallel() {
+        // The fitness model is compiled before, so that tasks only read it.
+        strategicConstraints.getFitnessModel(implementationGroup);
+        int numberOfTasks = Math.min(size(), Runtime.getRuntime().availableProcessors() * EVALUATION_TASKS_PER_PROCESSOR);
+        List<Callable<Integer>> tasks = new ArrayList<>(numberOfTasks);
+        for (int task = 0; task < numberOfTasks; task++) {
+            int from = (int) (((long) size() * task) / numberOfTasks);
+            int to = (int) (((long) size() * (task + 1)) / numberOfTasks);
+            tasks.add(() -> computeFitness(from, to));
+        }
+        int evaluatedChromosomes = 0;
+        try {
+            for (Future<Integer> result : evaluationExecutor.invokeAll(tasks)) {
+                evaluatedChromosomes += result.get();
+            }
+        } catch (InterruptedException ex) {
+            logger.error("The parallel evaluation has been interrupted. Evaluating sequentially", ex);
+            Thread.currentThread().interrupt();
+            // Already evaluated chromosomes are up to date and are not counted
+            // again.
+            evaluatedChromosomes += computeFitness(0, size());
+        } catch (ExecutionException ex) {
+            logger.error("The parallel evaluation has failed", ex.getCause());
+            throw new IllegalStateException("The parallel evaluation has failed", ex.getCause());
+        }
+        return evaluatedChromosomes;
+    }
+
     /**
      * This method perform a soft reset of the algorithm by replacing the best
      * fitted individual with random ones and recomputing the fitness
@@ -324,17 +1010,117 @@ public class Population extends CopyOnWriteArrayList<Chromosome> {
      * @author Manuel Domínguez-Dorado
      */
     public void softReset() {
+        instrumentation.count(Counters.SOFT_RESETS, 1);
         fitnessAverage = 0.0f;
         converged = false;
         int oneThird = size() / 2;
-        for (int i = 0; i < oneThird; i++) {
-            if (!isEmpty()) {
-                remove(BEST_CHROMOSOME_INDEX);
-            }
-        }
+        computeFitnessAndFindBest();
+        selectBest(oneThird);
+        System.arraycopy(chromosomes, oneThird, chromosomes, 0, size() - oneThird);
+        truncate(size() - oneThird);
         populateRandomly();
         reduceTo(this.initialNumberOfChromosomes);
-        computeFitnessAndSort();
+        computeFitnessAndFindBest();
+    }
+
+    /**
+     * This method returns the number of fitness evaluations done on the
+     * chromosomes of this population. Chromosomes whose fitness is up to date
+     * are not evaluated again and, therefore, are not counted.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the number of fitness evaluations done.
+     */
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    /**
+     * This method computes the fitness of a chromosome that is not part of
+     * the population yet, counting it as an evaluation of the population if
+     * its fitness was not up to date.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param chromosome The chromosome to be evaluated.
+     */
+    void evaluate(Chromosome chromosome) {
+        long startNanos = instrumentation.startPhase();
+        boolean evaluated = chromosome.computeFitness(initialStatus, strategicConstraints);
+        instrumentation.endPhase(Phases.EVALUATION, startNanos);
+        if (evaluated) {
+            instrumentation.count(Counters.EVALUATIONS, 1);
+            evaluations++;
+        }
+    }
+
+    /**
+     * This method replaces the chromosomes of the population by the specified
+     * ones, that have to be already evaluated. The best one is placed at the
+     * beginning of the population.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param newChromosomes The evaluated chromosomes.
+     * @param newSize The number of chromosomes to be taken from newChromosomes.
+     */
+    void setChromosomes(Chromosome[] newChromosomes, int newSize) {
+        ensureCapacity(newSize);
+        Arrays.fill(chromosomes, 0, size, null);
+        System.arraycopy(newChromosomes, 0, chromosomes, 0, newSize);
+        size = newSize;
+        findBest();
+    }
+
+    /**
+     * This method sets the instrumentation that measures the operations done
+     * on the population.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param instrumentation The instrumentation.
+     */
+    void setInstrumentation(IInstrumentation instrumentation) {
+        this.instrumentation = instrumentation;
+    }
+
+    /**
+     * This method returns the instrumentation that measures the operations
+     * done on the population.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the instrumentation.
+     */
+    IInstrumentation getInstrumentation() {
+        return instrumentation;
+    }
+
+    /**
+     * This method returns the random number generator of the population.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the random number generator of the population.
+     */
+    SplittableRandom getRandom() {
+        return random;
+    }
+
+    /**
+     * This method returns the genes that the crossover can exchange.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the genes that the crossover can exchange, sorted by ordinal.
+     */
+    Genes[] getCrossableGenes() {
+        return crossableGenes;
+    }
+
+    /**
+     * This method returns the operator used to cross over couples of
+     * chromosomes.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the crossover operator.
+     */
+    ICrossoverOperator getCrossoverOperator() {
+        return crossoverOperator;
     }
 
     /**
@@ -369,14 +1155,10 @@ public class Population extends CopyOnWriteArrayList<Chromosome> {
      * the pupulation reduction.
      */
     public final void reduceTo(int finalNumber) {
-        computeFitnessAndSort();
-        CopyOnWriteArrayList<Chromosome> auxPopulation = new CopyOnWriteArrayList<>();
+        computeFitnessAndFindBest();
         if (size() >= finalNumber) {
-            for (int i = 0; i < finalNumber; i++) {
-                auxPopulation.add(get(i));
-            }
-            clear();
-            addAll(auxPopulation);
+            selectBest(finalNumber);
+            truncate(finalNumber);
         }
     }
 
@@ -389,8 +1171,8 @@ public class Population extends CopyOnWriteArrayList<Chromosome> {
     public void print() {
         int i = 0;
         logger.info("Final population:");
-        for (Chromosome chromosome : toArray(new Chromosome[0])) {
-            logger.info("\t" + i + "#" + chromosome.getFitness() + "#" + chromosome.getFitnessConstraintsCoverage());
+        for (int j = 0; j < size(); j++) {
+            logger.info("\t" + i + "#" + chromosomes[j].getFitness() + "#" + chromosomes[j].getFitnessConstraintsCoverage());
             i++;
         }
     }
@@ -0,0 +1,102 @@
+/* 
+ *******************************************************************************
+ * FLECO (Fast, Lightweight, and Efficient Cybersecurity Optimization) (1) 
+ * Adaptive, Constrained, and Multi-objective Genetic Algorithm is a genetic 
+ * algorithm designed to assist the Asset's Cybersecurity Committee (ACC) in 
+ * making decisions during the application of CyberTOMP (2), aimed at managing 
+ * comprehensive cybersecurity at both tactical and operational levels.
+ *
+ * (1) Domínguez-Dorado, M.; Cortés-Polo, D.; Carmona-Murillo, J.; 
+ * Rodríguez-Pérez, F.J.; Galeano-Brajones, J. Fast, Lightweight, and Efficient 
+ * Cybersecurity Optimization for Tactical–Operational Management. Appl. Sci. 
+ * 2023, 13, 6327. https://doi.org/10.3390/app13106327
+ *
+ * (2) Dominguez-Dorado, M., Carmona-Murillo, J., Cortés-Polo, D., and
+ * Rodríguez-Pérez, F. J. (2022). CyberTOMP: A novel systematic framework to
+ * manage asset-focused cybersecurity from tactical and operational levels. IEEE
+ * Access, 10, 122454-122485. https://doi.org/10.1109/ACCESS.2022.3223440
+ *******************************************************************************
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ *******************************************************************************
+ */
+package com.manolodominguez.fleco.algorithm;
+
+import com.manolodominguez.fleco.genetics.Chromosome;
+import com.manolodominguez.fleco.genetics.Genes;
+import java.util.SplittableRandom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements a single-point crossover: a crossing point is chosen
+ * randomly and the offspring exchange their genes from the beginning of the
+ * chromosome to the crossing point or from the crossing point to the end of
+ * the chromosome, randomly. This is the crossover used by default.
+ *
+ * @author Manuel Domínguez-Dorado
+ */
+public class SinglePointCrossover implements ICrossoverOperator {
+
+    private final Logger logger = LoggerFactory.getLogger(SinglePointCrossover.class);
+
+    /**
+     * This is the constructor of the class.
+     *
+     * @author Manuel Domínguez-Dorado
+     */
+    public SinglePointCrossover() {
+        // Nothing to do.
+    }
+
+    /**
+     * This method exchanges the genes of both offspring at one side of a
+     * random crossing point.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param parentA The first parent.
+     * @param parentB The second parent.
+     * @param offspringA A copy of the first parent, that receives genes from
+     * the second one.
+     * @param offspringB A copy of the second parent, that receives genes from
+     * the first one.
+     * @param crossableGenes The genes that can be exchanged, sorted by
+     * ordinal. It is not empty.
+     * @param random The random number generator of the population.
+     */
+    @Override
+    public void crossover(Chromosome parentA, Chromosome parentB, Chromosome offspringA, Chromosome offspringB, Genes[] crossableGenes, SplittableRandom random) {
+        // Randomly select one crossing point in the chromosome.
+        int crossoverPoint = random.nextInt(crossableGenes.length);
+        Genes firstGene;
+        Genes lastGene;
+        // Ramdomly select whether the crossover will be from the crossing
+        // point to the end of the chromosome or from the beginning of the
+        // chromosome to the crossing point.
+        if (random.nextBoolean()) {
+            firstGene = crossableGenes[crossoverPoint];
+            lastGene = crossableGenes[crossableGenes.length - 1];
+        } else {
+            if (crossoverPoint == 0) {
+                return;
+            }
+            firstGene = crossableGenes[0];
+            lastGene = crossableGenes[crossoverPoint - 1];
+        }
+        offspringA.copyAlleles(parentB, firstGene, lastGene);
+        offspringB.copyAlleles(parentA, firstGene, lastGene);
+    }
+}
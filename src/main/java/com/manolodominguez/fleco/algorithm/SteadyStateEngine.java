@@ -0,0 +1,354 @@
+/* 
+ *******************************************************************************
+ * FLECO (Fast, Lightweight, and Efficient Cybersecurity Optimization) (1) 
+ * Adaptive, Constrained, and Multi-objective Genetic Algorithm is a genetic 
+ * algorithm designed to assist the Asset's Cybersecurity Committee (ACC) in 
+ * making decisions during the application of CyberTOMP (2), aimed at managing 
+ * comprehensive cybersecurity at both tactical and operational levels.
+ *
+ * (1) Domínguez-Dorado, M.; Cortés-Polo, D.; Carmona-Murillo, J.; 
+ * Rodríguez-Pérez, F.J.; Galeano-Brajones, J. Fast, Lightweight, and Efficient 
+ * Cybersecurity Optimization for Tactical–Operational Management. Appl. Sci. 
+ * 2023, 13, 6327. https://doi.org/10.3390/app13106327
+ *
+ * (2) Dominguez-Dorado, M., Carmona-Murillo, J., Cortés-Polo, D., and
+ * Rodríguez-Pérez, F. J. (2022). CyberTOMP: A novel systematic framework to
+ * manage asset-focused cybersecurity from tactical and operational levels. IEEE
+ * Access, 10, 122454-122485. https://doi.org/10.1109/ACCESS.2022.3223440
+ *******************************************************************************
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ *******************************************************************************
+ */
+package com.manolodominguez.fleco.algorithm;
+
+import com.manolodominguez.fleco.genetics.Chromosome;
+import java.util.HashMap;
+import java.util.SplittableRandom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements a steady-state evolution of a population. Instead of
+ * building a whole new generation, each step creates two offspring from two
+ * parents chosen according to the selection mode of the population, evaluates
+ * them incrementally and inserts each one in place of the worst chromosome of
+ * the population, as long as it is better and it is not a twin of a
+ * chromosome already there.
+ * Chromosomes are kept in a binary min-heap ordered by fitness, so the worst
+ * one is always at the root and no step orders or copies the population,
+ * whose size remains constant. The fitness values of the best chromosomes
+ * that truncation selects are kept in a second, smaller min-heap, so that the
+ * cut-off fitness of truncation is always at hand.
+ *
+ * @author Manuel Domínguez-Dorado
+ */
+class SteadyStateEngine {
+
+    private static final int ROOT = 0;
+
+    private final Population population;
+    private final float crossoverProbability;
+    private Chromosome[] heap;
+    private float[] heapFitnesses;
+    private int size;
+    private float[] truncationFitnesses;
+    private int truncationSize;
+    private final HashMap<Long, Chromosome> chromosomesByHash;
+    private Chromosome bestChromosome;
+    private int numberOfOffspring;
+
+    private final Logger logger = LoggerFactory.getLogger(SteadyStateEngine.class);
+
+    /**
+     * This is the constructor of the class. It creates a new steady-state
+     * engine for the specified population.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param population The population to be evolved.
+     * @param crossoverProbability The probability of crossing over the
+     * parents of each step.
+     */
+    SteadyStateEngine(Population population, float crossoverProbability) {
+        this.population = population;
+        this.crossoverProbability = crossoverProbability;
+        heap = new Chromosome[0];
+        heapFitnesses = new float[0];
+        size = 0;
+        truncationFitnesses = new float[0];
+        truncationSize = 0;
+        chromosomesByHash = new HashMap<>();
+        bestChromosome = null;
+        numberOfOffspring = 0;
+    }
+
+    /**
+     * This method takes the chromosomes of the population, that have to be
+     * already evaluated, and arranges them as a heap. Twins are discarded.
+     *
+     * @author Manuel Domínguez-Dorado
+     */
+    void load() {
+        if (heap.length < population.size()) {
+            heap = new Chromosome[population.size()];
+            heapFitnesses = new float[population.size()];
+        }
+        chromosomesByHash.clear();
+        size = 0;
+        for (int i = 0; i < population.size(); i++) {
+            Chromosome chromosome = population.get(i);
+            if (!isTwin(chromosome)) {
+                chromosomesByHash.putIfAbsent(chromosome.getGenesHash(), chromosome);
+                heap[size] = chromosome;
+                heapFitnesses[size] = chromosome.getFitness();
+                size++;
+            }
+        }
+        population.getInstrumentation().count(Counters.TWINS_REMOVED, population.size() - size);
+        for (int i = (size / 2) - 1; i >= ROOT; i--) {
+            siftDown(i);
+        }
+        loadTruncationFitnesses();
+        // After being evaluated, the best chromosome is the first one of the
+        // population.
+        bestChromosome = population.isEmpty() ? null : population.get(0);
+        numberOfOffspring = 0;
+    }
+
+    /**
+     * This method gives the chromosomes of the heap back to the population.
+     *
+     * @author Manuel Domínguez-Dorado
+     */
+    void store() {
+        population.setChromosomes(heap, size);
+    }
+
+    /**
+     * This method performs one step of the steady-state evolution: it creates
+     * two offspring, mutates and evaluates them, and tries to insert them in
+     * the population.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param mutationProbability The probability of mutating each gene of the
+     * offspring.
+     * @return true, if the best chromosome has changed. Otherwise, false.
+     */
+    boolean step(float mutationProbability) {
+        if (size == 0) {
+            return false;
+        }
+        SplittableRandom random = population.getRandom();
+        IInstrumentation instrumentation = population.getInstrumentation();
+        Chromosome parentA = heap[selectParent()];
+        Chromosome parentB = heap[selectParent()];
+        Chromosome offspringA = new Chromosome(parentA);
+        Chromosome offspringB = new Chromosome(parentB);
+        if ((random.nextDouble() < crossoverProbability) && (population.getCrossableGenes().length > 0)) {
+            long startNanos = instrumentation.startPhase();
+            population.getCrossoverOperator().crossover(parentA, parentB, offspringA, offspringB, population.getCrossableGenes(), random);
+            instrumentation.endPhase(Phases.CROSSOVER, startNanos);
+            instrumentation.count(Counters.CROSSOVERS, 1);
+        }
+        long startNanos = instrumentation.startPhase();
+        population.mutateInPlace(offspringA, mutationProbability);
+        population.mutateInPlace(offspringB, mutationProbability);
+        instrumentation.endPhase(Phases.MUTATION, startNanos);
+        population.evaluate(offspringA);
+        population.evaluate(offspringB);
+        numberOfOffspring += 2;
+        boolean bestChanged = insert(offspringA);
+        bestChanged |= insert(offspringB);
+        return bestChanged;
+    }
+
+    /**
+     * This method returns the position in the heap of a parent, selected
+     * according to the selection mode of the population.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the position of the selected chromosome.
+     */
+    private int selectParent() {
+        return population.selectParent(heapFitnesses, size, truncationFitnesses[ROOT]);
+    }
+
+    /**
+     * This method replaces the worst chromosome of the heap by the specified
+     * one, if it is better and it is not a twin of a chromosome of the heap.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param chromosome The evaluated chromosome to be inserted.
+     * @return true, if the chromosome has become the best one. Otherwise,
+     * false.
+     */
+    private boolean insert(Chromosome chromosome) {
+        if (chromosome.getFitness() <= heapFitnesses[ROOT]) {
+            return false;
+        }
+        if (isTwin(chromosome)) {
+            population.getInstrumentation().count(Counters.TWINS_REMOVED, 1);
+            return false;
+        }
+        Chromosome worstChromosome = heap[ROOT];
+        // Only the first chromosome having a hash is indexed by it.
+        if (chromosomesByHash.get(worstChromosome.getGenesHash()) == worstChromosome) {
+            chromosomesByHash.remove(worstChromosome.getGenesHash());
+        }
+        chromosomesByHash.putIfAbsent(chromosome.getGenesHash(), chromosome);
+        heap[ROOT] = chromosome;
+        heapFitnesses[ROOT] = chromosome.getFitness();
+        siftDown(ROOT);
+        // The replaced chromosome was the worst one, so the best ones only
+        // change if the new one is better than the worst of them.
+        if (chromosome.getFitness() > truncationFitnesses[ROOT]) {
+            truncationFitnesses[ROOT] = chromosome.getFitness();
+            siftDownTruncationFitness(ROOT);
+        }
+        if ((bestChromosome == null) || (bestChromosome == worstChromosome) || (chromosome.getFitness() > bestChromosome.getFitness())) {
+            bestChromosome = chromosome;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * This method returns whether the heap has a twin of the specified
+     * chromosome.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param chromosome The chromosome to be checked.
+     * @return true, if the heap has a twin of the chromosome. Otherwise,
+     * false.
+     */
+    private boolean isTwin(Chromosome chromosome) {
+        Chromosome sameHashChromosome = chromosomesByHash.get(chromosome.getGenesHash());
+        if (sameHashChromosome == null) {
+            return false;
+        }
+        if (sameHashChromosome.isTwinOf(chromosome)) {
+            return true;
+        }
+        // Different chromosomes with the same hash. Unlikely, but possible.
+        for (int i = 0; i < size; i++) {
+            if (heap[i].isTwinOf(chromosome)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * This method moves down the chromosome at the specified position of the
+     * heap until none of its children is worse than it.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param position The position of the chromosome.
+     */
+    private void siftDown(int position) {
+        Chromosome chromosome = heap[position];
+        float fitness = heapFitnesses[position];
+        int i = position;
+        while (true) {
+            int child = (2 * i) + 1;
+            if (child >= size) {
+                break;
+            }
+            if (((child + 1) < size) && (heapFitnesses[child + 1] < heapFitnesses[child])) {
+                child++;
+            }
+            if (heapFitnesses[child] >= fitness) {
+                break;
+            }
+            heap[i] = heap[child];
+            heapFitnesses[i] = heapFitnesses[child];
+            i = child;
+        }
+        heap[i] = chromosome;
+        heapFitnesses[i] = fitness;
+    }
+
+    /**
+     * This method arranges, as a min-heap, the fitness values of the best
+     * chromosomes of the heap, as many as truncation selects.
+     *
+     * @author Manuel Domínguez-Dorado
+     */
+    private void loadTruncationFitnesses() {
+        truncationSize = Math.min(Population.getTruncationSize(size), size);
+        if (truncationFitnesses.length < truncationSize) {
+            truncationFitnesses = new float[truncationSize];
+        }
+        System.arraycopy(heapFitnesses, 0, truncationFitnesses, 0, truncationSize);
+        for (int i = (truncationSize / 2) - 1; i >= ROOT; i--) {
+            siftDownTruncationFitness(i);
+        }
+        for (int i = truncationSize; i < size; i++) {
+            if (heapFitnesses[i] > truncationFitnesses[ROOT]) {
+                truncationFitnesses[ROOT] = heapFitnesses[i];
+                siftDownTruncationFitness(ROOT);
+            }
+        }
+    }
+
+    /**
+     * This method moves down the fitness value at the specified position of
+     * the truncation min-heap until none of its children is lower than it.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param position The position of the fitness value.
+     */
+    private void siftDownTruncationFitness(int position) {
+        float fitness = truncationFitnesses[position];
+        int i = position;
+        while (true) {
+            int child = (2 * i) + 1;
+            if (child >= truncationSize) {
+                break;
+            }
+            if (((child + 1) < truncationSize) && (truncationFitnesses[child + 1] < truncationFitnesses[child])) {
+                child++;
+            }
+            if (truncationFitnesses[child] >= fitness) {
+                break;
+            }
+            truncationFitnesses[i] = truncationFitnesses[child];
+            i = child;
+        }
+        truncationFitnesses[i] = fitness;
+    }
+
+    /**
+     * This method returns the best chromosome of the heap.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the best chromosome of the heap.
+     */
+    Chromosome getBestChromosome() {
+        return bestChromosome;
+    }
+
+    /**
+     * This method returns the number of offspring created since the
+     * chromosomes were loaded from the population.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the number of offspring created since the latest load.
+     */
+    int getNumberOfOffspring() {
+        return numberOfOffspring;
+    }
+}
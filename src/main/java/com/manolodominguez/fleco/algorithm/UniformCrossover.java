@@ -0,0 +1,93 @@
+/* 
+ *******************************************************************************
+ * FLECO (Fast, Lightweight, and Efficient Cybersecurity Optimization) (1) 
+ * Adaptive, Constrained, and Multi-objective Genetic Algorithm is a genetic 
+ * algorithm designed to assist the Asset's Cybersecurity Committee (ACC) in 
+ * making decisions during the application of CyberTOMP (2), aimed at managing 
+ * comprehensive cybersecurity at both tactical and operational levels.
+ *
+ * (1) Domínguez-Dorado, M.; Cortés-Polo, D.; Carmona-Murillo, J.; 
+ * Rodríguez-Pérez, F.J.; Galeano-Brajones, J. Fast, Lightweight, and Efficient 
+ * Cybersecurity Optimization for Tactical–Operational Management. Appl. Sci. 
+ * 2023, 13, 6327. https://doi.org/10.3390/app13106327
+ *
+ * (2) Dominguez-Dorado, M., Carmona-Murillo, J., Cortés-Polo, D., and
+ * Rodríguez-Pérez, F. J. (2022). CyberTOMP: A novel systematic framework to
+ * manage asset-focused cybersecurity from tactical and operational levels. IEEE
+ * Access, 10, 122454-122485. https://doi.org/10.1109/ACCESS.2022.3223440
+ *******************************************************************************
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ *******************************************************************************
+ */
+package com.manolodominguez.fleco.algorithm;
+
+import com.manolodominguez.fleco.genetics.Chromosome;
+import com.manolodominguez.fleco.genetics.Genes;
+import java.util.SplittableRandom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements a uniform crossover: each gene is exchanged between
+ * the offspring with a probability of 0.5, independently of the rest.
+ *
+ * @author Manuel Domínguez-Dorado
+ */
+public class UniformCrossover implements ICrossoverOperator {
+
+    private final Logger logger = LoggerFactory.getLogger(UniformCrossover.class);
+
+    /**
+     * This is the constructor of the class.
+     *
+     * @author Manuel Domínguez-Dorado
+     */
+    public UniformCrossover() {
+        // Nothing to do.
+    }
+
+    /**
+     * This method exchanges each gene of both offspring with a probability of
+     * 0.5. A random bit is used for every gene, so a random number is only
+     * drawn every 64 genes.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param parentA The first parent.
+     * @param parentB The second parent.
+     * @param offspringA A copy of the first parent, that receives genes from
+     * the second one.
+     * @param offspringB A copy of the second parent, that receives genes from
+     * the first one.
+     * @param crossableGenes The genes that can be exchanged, sorted by
+     * ordinal. It is not empty.
+     * @param random The random number generator of the population.
+     */
+    @Override
+    public void crossover(Chromosome parentA, Chromosome parentB, Chromosome offspringA, Chromosome offspringB, Genes[] crossableGenes, SplittableRandom random) {
+        long randomBits = 0L;
+        for (int i = 0; i < crossableGenes.length; i++) {
+            if ((i % Long.SIZE) == 0) {
+                randomBits = random.nextLong();
+            }
+            if ((randomBits & 1L) != 0L) {
+                offspringA.updateAllele(crossableGenes[i], parentB.getAllele(crossableGenes[i]));
+                offspringB.updateAllele(crossableGenes[i], parentA.getAllele(crossableGenes[i]));
+            }
+            randomBits >>>= 1;
+        }
+    }
+}
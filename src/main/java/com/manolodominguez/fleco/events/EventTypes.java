@@ -44,7 +44,14 @@ import org.slf4j.LoggerFactory;
  * @author Manuel Domínguez-Dorado
  */
 public enum EventTypes {
-    PROGRESS;
+    PROGRESS,
+    GENERATION_COMPLETED,
+    NEW_BEST_FOUND,
+    STAGNATION_DETECTED,
+    SOFT_RESET,
+    CONVERGED,
+    CANCELLED,
+    INSTRUMENTATION;
     
     private final Logger logger = LoggerFactory.getLogger(EventTypes.class);
     
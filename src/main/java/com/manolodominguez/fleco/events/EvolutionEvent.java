@@ -0,0 +1,143 @@
+/* 
+ *******************************************************************************
+ * FLECO (Fast, Lightweight, and Efficient Cybersecurity Optimization) (1) 
+ * Adaptive, Constrained, and Multi-objective Genetic Algorithm is a genetic 
+ * algorithm designed to assist the Asset's Cybersecurity Committee (ACC) in 
+ * making decisions during the application of CyberTOMP (2), aimed at managing 
+ * comprehensive cybersecurity at both tactical and operational levels.
+ *
+ * (1) Domínguez-Dorado, M.; Cortés-Polo, D.; Carmona-Murillo, J.; 
+ * Rodríguez-Pérez, F.J.; Galeano-Brajones, J. Fast, Lightweight, and Efficient 
+ * Cybersecurity Optimization for Tactical–Operational Management. Appl. Sci. 
+ * 2023, 13, 6327. https://doi.org/10.3390/app13106327
+ *
+ * (2) Dominguez-Dorado, M., Carmona-Murillo, J., Cortés-Polo, D., and
+ * Rodríguez-Pérez, F. J. (2022). CyberTOMP: A novel systematic framework to
+ * manage asset-focused cybersecurity from tactical and operational levels. IEEE
+ * Access, 10, 122454-122485. https://doi.org/10.1109/ACCESS.2022.3223440
+ *******************************************************************************
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ *******************************************************************************
+ */
+package com.manolodominguez.fleco.events;
+
+import com.manolodominguez.fleco.algorithm.FLECO;
+import com.manolodominguez.fleco.genetics.Chromosome;
+import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements an event that tells something has happened to one of
+ * the islands FLECO evolves: a generation has been completed, a new best
+ * chromosome has been found, the island has stagnated or has been soft reset,
+ * or the evolution has converged or has been cancelled.
+ *
+ * @author Manuel Domínguez-Dorado
+ */
+@SuppressWarnings("serial")
+public class EvolutionEvent extends FLECOEvent {
+
+    private final EventTypes type;
+    private final int islandIndex;
+    private final long currentGeneration;
+    private final Chromosome currentBestChromosome;
+
+    private final Logger logger = LoggerFactory.getLogger(EvolutionEvent.class);
+
+    private static final int ZERO = 0;
+
+    /**
+     * This method is the constrctor of the class. It creates a new instance of
+     * EvolutionEvent.
+     *
+     * @author Manuel Domínguez Dorado
+     * @param eventGenerator The object that generates the event.
+     * @param eventID The unique event identifier.
+     * @param type The type of the event. Any of the ones defined in
+     * EventTypes but PROGRESS and INSTRUMENTATION.
+     * @param islandIndex the index of the island the event is related to.
+     * @param currentGeneration the current generation of the island's
+     * population.
+     * @param currentBestChromosome the current best individual in the island's
+     * population.
+     */
+    public EvolutionEvent(FLECO eventGenerator, long eventID, EventTypes type, int islandIndex, long currentGeneration, Chromosome currentBestChromosome) {
+        super(eventGenerator, eventID, Instant.now());
+        if ((type == null) || (type == EventTypes.PROGRESS) || (type == EventTypes.INSTRUMENTATION)) {
+            logger.error("type cannot be null, PROGRESS nor INSTRUMENTATION");
+            throw new IllegalArgumentException("type cannot be null, PROGRESS nor INSTRUMENTATION");
+        }
+        if (islandIndex < ZERO) {
+            logger.error("islandIndex cannot be negative");
+            throw new IllegalArgumentException("islandIndex cannot be negative");
+        }
+        if (currentBestChromosome == null) {
+            logger.error("currentBestChromosome cannot be null");
+            throw new IllegalArgumentException("currentBestChromosome cannot be null");
+        }
+        this.type = type;
+        this.islandIndex = islandIndex;
+        this.currentGeneration = currentGeneration;
+        this.currentBestChromosome = currentBestChromosome;
+    }
+
+    /**
+     * This method returns the index of the island this event is related to.
+     * It is always 0 unless FLECO runs in island mode.
+     *
+     * @author Manuel Domínguez Dorado
+     * @return the index of the island this event is related to.
+     */
+    public int getIslandIndex() {
+        return this.islandIndex;
+    }
+
+    /**
+     * This method returns the current generation of the island's population.
+     *
+     * @author Manuel Domínguez Dorado
+     * @return the current generation of the island's population.
+     */
+    public long getCurrentGeneration() {
+        return this.currentGeneration;
+    }
+
+    /**
+     * This method returns the current best chromosome of the island's
+     * population.
+     *
+     * @author Manuel Domínguez Dorado
+     * @return the current best chromosome of the island's population.
+     */
+    public Chromosome getCurrentBestChromosome() {
+        return this.currentBestChromosome;
+    }
+
+    /**
+     * This method return the type of this event. It is one of the enums defined
+     * in EventTypes.
+     *
+     * @author Manuel Domínguez Dorado
+     * @return The type of this event. It is one of the enums defined in
+     * EventTypes.
+     */
+    @Override
+    public EventTypes getType() {
+        return this.type;
+    }
+}
@@ -0,0 +1,153 @@
+/* 
+ *******************************************************************************
+ * FLECO (Fast, Lightweight, and Efficient Cybersecurity Optimization) (1) 
+ * Adaptive, Constrained, and Multi-objective Genetic Algorithm is a genetic 
+ * algorithm designed to assist the Asset's Cybersecurity Committee (ACC) in 
+ * making decisions during the application of CyberTOMP (2), aimed at managing 
+ * comprehensive cybersecurity at both tactical and operational levels.
+ *
+ * (1) Domínguez-Dorado, M.; Cortés-Polo, D.; Carmona-Murillo, J.; 
+ * Rodríguez-Pérez, F.J.; Galeano-Brajones, J. Fast, Lightweight, and Efficient 
+ * Cybersecurity Optimization for Tactical–Operational Management. Appl. Sci. 
+ * 2023, 13, 6327. https://doi.org/10.3390/app13106327
+ *
+ * (2) Dominguez-Dorado, M., Carmona-Murillo, J., Cortés-Polo, D., and
+ * Rodríguez-Pérez, F. J. (2022). CyberTOMP: A novel systematic framework to
+ * manage asset-focused cybersecurity from tactical and operational levels. IEEE
+ * Access, 10, 122454-122485. https://doi.org/10.1109/ACCESS.2022.3223440
+ *******************************************************************************
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ *******************************************************************************
+ */
+package com.manolodominguez.fleco.events;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements an event bus that delivers FLECO events to any number
+ * of subscribers, each of them interested in some event types. Subscribing and
+ * unsubscribing rebuild the table of subscribers, so publishing an event only
+ * reads the current table and takes no lock.
+ *
+ * @author Manuel Domínguez-Dorado
+ */
+public class FLECOEventBus {
+
+    private volatile IFLECOEventListener[][] subscribers;
+
+    private final Logger logger = LoggerFactory.getLogger(FLECOEventBus.class);
+
+    private static final EventTypes[] EVENT_TYPES = EventTypes.values();
+    private static final IFLECOEventListener[] NO_SUBSCRIBERS = new IFLECOEventListener[0];
+
+    /**
+     * This is the constructor of the class. It creates a new event bus without
+     * subscribers.
+     *
+     * @author Manuel Domínguez-Dorado
+     */
+    public FLECOEventBus() {
+        IFLECOEventListener[][] emptySubscribers = new IFLECOEventListener[EVENT_TYPES.length][];
+        Arrays.fill(emptySubscribers, NO_SUBSCRIBERS);
+        subscribers = emptySubscribers;
+    }
+
+    /**
+     * This method subscribes a listener to the specified event types. A
+     * listener subscribed several times to a type receives the events of that
+     * type only once.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param listener the listener to be subscribed.
+     * @param eventTypes the event types the listener is interested in.
+     */
+    public synchronized void subscribe(IFLECOEventListener listener, EnumSet<EventTypes> eventTypes) {
+        if (listener == null) {
+            logger.error("listener cannot be null");
+            throw new IllegalArgumentException("listener cannot be null");
+        }
+        if ((eventTypes == null) || eventTypes.isEmpty()) {
+            logger.error("eventTypes cannot be null nor empty");
+            throw new IllegalArgumentException("eventTypes cannot be null nor empty");
+        }
+        IFLECOEventListener[][] newSubscribers = subscribers.clone();
+        for (EventTypes eventType : eventTypes) {
+            IFLECOEventListener[] current = newSubscribers[eventType.ordinal()];
+            if (!Arrays.asList(current).contains(listener)) {
+                IFLECOEventListener[] extended = Arrays.copyOf(current, current.length + 1);
+                extended[current.length] = listener;
+                newSubscribers[eventType.ordinal()] = extended;
+            }
+        }
+        subscribers = newSubscribers;
+    }
+
+    /**
+     * This method unsubscribes a listener from all the event types it was
+     * subscribed to.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param listener the listener to be unsubscribed.
+     */
+    public synchronized void unsubscribe(IFLECOEventListener listener) {
+        IFLECOEventListener[][] newSubscribers = subscribers.clone();
+        for (int i = 0; i < newSubscribers.length; i++) {
+            if (Arrays.asList(newSubscribers[i]).contains(listener)) {
+                newSubscribers[i] = Arrays.stream(newSubscribers[i]).filter(subscriber -> subscriber != listener).toArray(IFLECOEventListener[]::new);
+            }
+        }
+        subscribers = newSubscribers;
+    }
+
+    /**
+     * This method tells whether any listener is subscribed to the specified
+     * event type, so that events nobody will receive are not even created.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param eventType the event type.
+     * @return true, if at least a listener is subscribed to the event type.
+     * Otherwise, false.
+     */
+    public boolean hasSubscribers(EventTypes eventType) {
+        return subscribers[eventType.ordinal()].length > 0;
+    }
+
+    /**
+     * This method delivers an event to every listener subscribed to its type,
+     * in the thread of the caller. A failing listener does not prevent the
+     * rest of them from receiving the event.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param event the event to be delivered.
+     */
+    public void publish(FLECOEvent event) {
+        if (event == null) {
+            logger.error("event cannot be null");
+            throw new IllegalArgumentException("event cannot be null");
+        }
+        for (IFLECOEventListener listener : subscribers[event.getType().ordinal()]) {
+            try {
+                listener.onEventReceived(event);
+            } catch (RuntimeException ex) {
+                logger.error("An event listener has failed", ex);
+            }
+        }
+    }
+}
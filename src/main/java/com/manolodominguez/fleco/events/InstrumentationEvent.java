@@ -0,0 +1,98 @@
+/* 
+ *******************************************************************************
+ * FLECO (Fast, Lightweight, and Efficient Cybersecurity Optimization) (1) 
+ * Adaptive, Constrained, and Multi-objective Genetic Algorithm is a genetic 
+ * algorithm designed to assist the Asset's Cybersecurity Committee (ACC) in 
+ * making decisions during the application of CyberTOMP (2), aimed at managing 
+ * comprehensive cybersecurity at both tactical and operational levels.
+ *
+ * (1) Domínguez-Dorado, M.; Cortés-Polo, D.; Carmona-Murillo, J.; 
+ * Rodríguez-Pérez, F.J.; Galeano-Brajones, J. Fast, Lightweight, and Efficient 
+ * Cybersecurity Optimization for Tactical–Operational Management. Appl. Sci. 
+ * 2023, 13, 6327. https://doi.org/10.3390/app13106327
+ *
+ * (2) Dominguez-Dorado, M., Carmona-Murillo, J., Cortés-Polo, D., and
+ * Rodríguez-Pérez, F. J. (2022). CyberTOMP: A novel systematic framework to
+ * manage asset-focused cybersecurity from tactical and operational levels. IEEE
+ * Access, 10, 122454-122485. https://doi.org/10.1109/ACCESS.2022.3223440
+ *******************************************************************************
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ *******************************************************************************
+ */
+package com.manolodominguez.fleco.events;
+
+import com.manolodominguez.fleco.algorithm.FLECO;
+import com.manolodominguez.fleco.algorithm.InstrumentationSnapshot;
+import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements an event that carries the values measured by the
+ * instrumentation of FLECO when an evolution finishes.
+ *
+ * @author Manuel Domínguez-Dorado
+ */
+@SuppressWarnings("serial")
+public class InstrumentationEvent extends FLECOEvent {
+
+    private final InstrumentationSnapshot instrumentationSnapshot;
+
+    private final Logger logger = LoggerFactory.getLogger(InstrumentationEvent.class);
+
+    /**
+     * This method is the constrctor of the class. It creates a new instance of
+     * InstrumentationEvent.
+     *
+     * @author Manuel Domínguez Dorado
+     * @param eventGenerator The object that generates the event.
+     * @param eventID The unique event identifier.
+     * @param instrumentationSnapshot the values measured by the
+     * instrumentation.
+     */
+    public InstrumentationEvent(FLECO eventGenerator, long eventID, InstrumentationSnapshot instrumentationSnapshot) {
+        super(eventGenerator, eventID, Instant.now());
+        if (instrumentationSnapshot == null) {
+            logger.error("instrumentationSnapshot cannot be null");
+            throw new IllegalArgumentException("instrumentationSnapshot cannot be null");
+        }
+        this.instrumentationSnapshot = instrumentationSnapshot;
+    }
+
+    /**
+     * This method returns the values measured by the instrumentation.
+     *
+     * @author Manuel Domínguez Dorado
+     * @return the values measured by the instrumentation.
+     */
+    public InstrumentationSnapshot getInstrumentationSnapshot() {
+        return this.instrumentationSnapshot;
+    }
+
+    /**
+     * This method return the type of this event. It is one of the enums defined
+     * in EventTypes.
+     *
+     * @author Manuel Domínguez Dorado
+     * @return The type of this event. It is one of the enums defined in
+     * EventTypes.
+     */
+    @Override
+    public EventTypes getType() {
+        return EventTypes.INSTRUMENTATION;
+    }
+}
@@ -55,6 +55,8 @@ public class ProgressEvent extends FLECOEvent {
     private final long currentGeneration;
     private Chromosome currentBestChromosome;
     private boolean converged;
+    private final int islandIndex;
+    private Chromosome globalBestChromosome;
 
     private final Logger logger = LoggerFactory.getLogger(ProgressEvent.class);
 
@@ -78,16 +80,51 @@ public class ProgressEvent extends FLECOEvent {
      * @param converged Whether the FLECO has converged (true) or not (false).
      */
     public ProgressEvent(FLECO eventGenerator, long eventID, long totalTime, long currentTime, long currentGeneration, Chromosome currentBestChromosome, boolean converged) {
+        this(eventGenerator, eventID, totalTime, currentTime, currentGeneration, currentBestChromosome, converged, ZERO, currentBestChromosome);
+    }
+
+    /**
+     * This method is the constrctor of the class. It creates a new instance of
+     * ProgressEvent related to one of the islands FLECO evolves when running
+     * in island mode.
+     *
+     * @author Manuel Domínguez Dorado
+     * @param eventID The unique event identifier.
+     * @param eventGenerator The object that generates the event.
+     * @param totalTime the total amount of time allowed before finishing the
+     * FLECO execution, as milliseconds.
+     * @param currentTime the time that has elapsed from the begining of FLECO
+     * execution, as milliseconds.
+     * @param currentGeneration the current generation of the island's
+     * pupolation.
+     * @param currentBestChromosome the current best individual in the island's
+     * population.
+     * @param converged Whether the island has converged (true) or not (false).
+     * @param islandIndex the index of the island.
+     * @param globalBestChromosome the current best individual among all
+     * islands.
+     */
+    public ProgressEvent(FLECO eventGenerator, long eventID, long totalTime, long currentTime, long currentGeneration, Chromosome currentBestChromosome, boolean converged, int islandIndex, Chromosome globalBestChromosome) {
         super(eventGenerator, eventID, Instant.now());
         this.totalTime = totalTime;
         this.currentTime = currentTime;
         this.currentGeneration = currentGeneration;
         this.currentBestChromosome = currentBestChromosome;
         this.converged = converged;
+        this.islandIndex = islandIndex;
+        this.globalBestChromosome = globalBestChromosome;
         if (currentBestChromosome == null) {
             logger.error("currentBestChromosome cannot be null");
             throw new IllegalArgumentException("currentBestChromosome cannot be null");
         }
+        if (globalBestChromosome == null) {
+            logger.error("globalBestChromosome cannot be null");
+            throw new IllegalArgumentException("globalBestChromosome cannot be null");
+        }
+        if (islandIndex < ZERO) {
+            logger.error("islandIndex cannot be negative");
+            throw new IllegalArgumentException("islandIndex cannot be negative");
+        }
     }
 
     /**
@@ -124,6 +161,29 @@ public class ProgressEvent extends FLECOEvent {
         return this.currentBestChromosome;
     }
 
+    /**
+     * This method returns the index of the island this event is related to.
+     * It is always 0 unless FLECO runs in island mode.
+     *
+     * @author Manuel Domínguez Dorado
+     * @return the index of the island this event is related to.
+     */
+    public int getIslandIndex() {
+        return this.islandIndex;
+    }
+
+    /**
+     * This method returns the current best chromosome among all the islands
+     * FLECO is evolving. Unless FLECO runs in island mode, it is the same than
+     * the current best chromosome.
+     *
+     * @author Manuel Domínguez Dorado
+     * @return the current best chromosome among all the islands.
+     */
+    public Chromosome getGlobalBestChromosome() {
+        return this.globalBestChromosome;
+    }
+
     /**
      * This method returns whether the FLECO's population has converged or not.
      *
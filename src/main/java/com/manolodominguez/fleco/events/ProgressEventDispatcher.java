@@ -0,0 +1,235 @@
+/* 
+ *******************************************************************************
+ * FLECO (Fast, Lightweight, and Efficient Cybersecurity Optimization) (1) 
+ * Adaptive, Constrained, and Multi-objective Genetic Algorithm is a genetic 
+ * algorithm designed to assist the Asset's Cybersecurity Committee (ACC) in 
+ * making decisions during the application of CyberTOMP (2), aimed at managing 
+ * comprehensive cybersecurity at both tactical and operational levels.
+ *
+ * (1) Domínguez-Dorado, M.; Cortés-Polo, D.; Carmona-Murillo, J.; 
+ * Rodríguez-Pérez, F.J.; Galeano-Brajones, J. Fast, Lightweight, and Efficient 
+ * Cybersecurity Optimization for Tactical–Operational Management. Appl. Sci. 
+ * 2023, 13, 6327. https://doi.org/10.3390/app13106327
+ *
+ * (2) Dominguez-Dorado, M., Carmona-Murillo, J., Cortés-Polo, D., and
+ * Rodríguez-Pérez, F. J. (2022). CyberTOMP: A novel systematic framework to
+ * manage asset-focused cybersecurity from tactical and operational levels. IEEE
+ * Access, 10, 122454-122485. https://doi.org/10.1109/ACCESS.2022.3223440
+ *******************************************************************************
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ *******************************************************************************
+ */
+package com.manolodominguez.fleco.events;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class decouples FLECO from its progress event listener. Events are
+ * left in a mailbox that has a single slot per island, so a newer event
+ * replaces the one that has not been delivered yet, and a dedicated thread
+ * delivers them to the listener. This way, the evolution never waits for a
+ * slow listener, that will only receive the latest state of each island.
+ * Events found in the mailbox at once are delivered in the order they were
+ * published, so the latest event published is the latest one delivered.
+ *
+ * @author Manuel Domínguez-Dorado
+ */
+public class ProgressEventDispatcher {
+
+    private final IFLECOProgressEventListener progressEventListener;
+    private final AtomicReferenceArray<Publication> mailbox;
+    private final long minimumIntervalNanos;
+    private long lastPublicationNanos;
+    private long publications;
+    private volatile boolean running;
+    private Thread deliveryThread;
+
+    private final Logger logger = LoggerFactory.getLogger(ProgressEventDispatcher.class);
+
+    private static final int ZERO = 0;
+
+    /**
+     * This is the constructor of the class. It creates a new instance of
+     * ProgressEventDispatcher that is not delivering events yet.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param progressEventListener the listener events are delivered to.
+     * @param numberOfIslands the number of islands FLECO evolves, that is, the
+     * number of slots of the mailbox.
+     * @param minimumIntervalMilliseconds the minimum time between two
+     * consecutive events reported as due by isDue(). Zero means that every
+     * event is due.
+     */
+    public ProgressEventDispatcher(IFLECOProgressEventListener progressEventListener, int numberOfIslands, long minimumIntervalMilliseconds) {
+        if (progressEventListener == null) {
+            logger.error("progressEventListener cannot be null");
+            throw new IllegalArgumentException("progressEventListener cannot be null");
+        }
+        if (numberOfIslands <= ZERO) {
+            logger.error("numberOfIslands has to be greater than zero");
+            throw new IllegalArgumentException("numberOfIslands has to be greater than zero");
+        }
+        if (minimumIntervalMilliseconds < ZERO) {
+            logger.error("minimumIntervalMilliseconds cannot be negative");
+            throw new IllegalArgumentException("minimumIntervalMilliseconds cannot be negative");
+        }
+        this.progressEventListener = progressEventListener;
+        this.mailbox = new AtomicReferenceArray<>(numberOfIslands);
+        this.minimumIntervalNanos = TimeUnit.MILLISECONDS.toNanos(minimumIntervalMilliseconds);
+        this.publications = ZERO;
+        this.running = false;
+        this.deliveryThread = null;
+    }
+
+    /**
+     * This method starts the thread that delivers events to the listener.
+     *
+     * @author Manuel Domínguez-Dorado
+     */
+    public void start() {
+        if (deliveryThread != null) {
+            logger.error("The dispatcher has already been started");
+            throw new IllegalStateException("The dispatcher has already been started");
+        }
+        running = true;
+        lastPublicationNanos = System.nanoTime() - minimumIntervalNanos;
+        deliveryThread = new Thread(this::deliver, "FLECO progress events");
+        deliveryThread.setDaemon(true);
+        deliveryThread.start();
+    }
+
+    /**
+     * This method tells whether enough time has elapsed since the latest
+     * published event for a new one to be worth building. It is meant to be
+     * called from the thread that publishes events, before creating them.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return true, if a new event should be published. Otherwise, false.
+     */
+    public boolean isDue() {
+        return (System.nanoTime() - lastPublicationNanos) >= minimumIntervalNanos;
+    }
+
+    /**
+     * This method leaves an event in the slot of its island, replacing the
+     * previous one if it has not been delivered yet, and returns immediately.
+     * It is meant to be called always from the same thread.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param progressEvent the event to be delivered.
+     */
+    public void publish(ProgressEvent progressEvent) {
+        if (progressEvent == null) {
+            logger.error("progressEvent cannot be null");
+            throw new IllegalArgumentException("progressEvent cannot be null");
+        }
+        lastPublicationNanos = System.nanoTime();
+        publications++;
+        mailbox.set(progressEvent.getIslandIndex() % mailbox.length(), new Publication(progressEvent, publications));
+        LockSupport.unpark(deliveryThread);
+    }
+
+    /**
+     * This method stops the dispatcher. Events already published are
+     * delivered before it returns.
+     *
+     * @author Manuel Domínguez-Dorado
+     */
+    public void stop() {
+        if (deliveryThread == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(deliveryThread);
+        try {
+            deliveryThread.join();
+        } catch (InterruptedException ex) {
+            logger.error("Interrupted while waiting for pending progress events to be delivered", ex);
+            Thread.currentThread().interrupt();
+        }
+        deliveryThread = null;
+    }
+
+    /**
+     * This method is the body of the delivery thread. It empties the mailbox,
+     * delivering every event found in the order they were published, and
+     * sleeps until a new event is published or the dispatcher is stopped.
+     *
+     * @author Manuel Domínguez-Dorado
+     */
+    private void deliver() {
+        while (true) {
+            // Read before emptying the mailbox, so that events published
+            // right before stop() are not left behind.
+            boolean stopping = !running;
+            Publication[] pending = new Publication[mailbox.length()];
+            int numberOfPending = ZERO;
+            for (int i = 0; i < mailbox.length(); i++) {
+                Publication publication = mailbox.getAndSet(i, null);
+                if (publication != null) {
+                    pending[numberOfPending] = publication;
+                    numberOfPending++;
+                }
+            }
+            Arrays.sort(pending, ZERO, numberOfPending, Comparator.comparingLong(publication -> publication.sequence));
+            for (int i = 0; i < numberOfPending; i++) {
+                try {
+                    progressEventListener.onProgressEventReceived(pending[i].progressEvent);
+                } catch (RuntimeException ex) {
+                    logger.error("The progress event listener has failed", ex);
+                }
+            }
+            if (numberOfPending == ZERO) {
+                if (stopping) {
+                    return;
+                }
+                LockSupport.park(this);
+            }
+        }
+    }
+
+    /**
+     * This class implements an event left in the mailbox, together with its
+     * position in the sequence of published events.
+     *
+     * @author Manuel Domínguez-Dorado
+     */
+    private static final class Publication {
+
+        private final ProgressEvent progressEvent;
+        private final long sequence;
+
+        /**
+         * This is the constructor of the class.
+         *
+         * @author Manuel Domínguez-Dorado
+         * @param progressEvent The event to be delivered.
+         * @param sequence The position of the event in the sequence of
+         * published events.
+         */
+        private Publication(ProgressEvent progressEvent, long sequence) {
+            this.progressEvent = progressEvent;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -35,27 +35,46 @@
  */
 package com.manolodominguez.fleco.genetics;
 
-import com.manolodominguez.fleco.strategicconstraints.Constraint;
 import com.manolodominguez.fleco.strategicconstraints.StrategicConstraints;
 import com.manolodominguez.fleco.uleo.Categories;
 import com.manolodominguez.fleco.uleo.Functions;
 import com.manolodominguez.fleco.uleo.ImplementationGroups;
+import com.manolodominguez.fleco.uleo.Topology;
+import java.util.Arrays;
 import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.SplittableRandom;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ThreadLocalRandom;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * This class implements a chromosome, an individual within FLECO's population.
+ * As there are only four alleles, genes are packed using two bits per gene in
+ * an array of longs, so that copying and comparing chromosomes can be done a
+ * whole word at a time. A Zobrist hash of the alleles is kept up to date as
+ * genes change, so that twins can be found using hash-based collections.
  *
  * @author Manuel Domínguez-Dorado
  */
 public class Chromosome {
 
-    private EnumMap<Genes, Alleles> genes;
+    private static final Genes[] GENES = Genes.values();
+    private static final Alleles[] ALLELES = Alleles.values();
+    private static final int BITS_PER_GENE = 2;
+    private static final int GENES_PER_WORD = Long.SIZE / BITS_PER_GENE;
+    private static final int NUMBER_OF_WORDS = (GENES.length + GENES_PER_WORD - 1) / GENES_PER_WORD;
+    private static final long ALLELE_MASK = (1L << BITS_PER_GENE) - 1L;
+    private static final long[][] APPLICABLE_GENES_MASKS = computeApplicableGenesMasks();
+    private static final long[][] CATEGORY_GENES_MASKS = computeCategoryGenesMasks();
+    private static final long ZOBRIST_SEED = 0x464C45434FL;
+    private static final long[] ZOBRIST_KEYS = computeZobristKeys();
+
+    private final long[] genes;
+    private long genesHash;
     private float fitness;
     private final ImplementationGroups implementationGroup;
+    private final FitnessCache fitnessCache;
 
     private static final Logger logger = LoggerFactory.getLogger(Chromosome.class);
 
@@ -71,18 +90,111 @@ public class Chromosome {
      * chromosome varies.
      */
     public Chromosome(ImplementationGroups implementationGroup) {
-        genes = new EnumMap<>(Genes.class);
-        for (Genes gene : Genes.values()) {
-            genes.put(gene, Alleles.DLI_0);
-        }
+        // Alleles.DLI_0 is encoded as 0, so all genes are set to it by default.
+        genes = new long[NUMBER_OF_WORDS];
+        genesHash = 0L;
         fitness = 0.0f;
         this.implementationGroup = implementationGroup;
+        fitnessCache = new FitnessCache();
+    }
+
+    /**
+     * This is the copy constructor of the class. It creates a new chromosome
+     * with the same implementation group, alleles and fitness than the
+     * specified one. The intermediate values computed when evaluating the
+     * fitness of the original chromosome are also copied, so that the fitness
+     * of the new one can be evaluated incrementally after it is modified.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param chromosome The chromosome to be copied.
+     */
+    public Chromosome(Chromosome chromosome) {
+        if (chromosome == null) {
+            logger.error("chromosome cannot be null");
+            throw new IllegalArgumentException("chromosome cannot be null");
+        }
+        genes = chromosome.genes.clone();
+        genesHash = chromosome.genesHash;
+        fitness = chromosome.fitness;
+        implementationGroup = chromosome.implementationGroup;
+        fitnessCache = new FitnessCache(chromosome.fitnessCache);
     }
 
     public ImplementationGroups getImplementationGroup() {
         return this.implementationGroup;
     }
 
+    /**
+     * This method computes, for every implementation group, a mask having the
+     * bits of the genes that apply to it set to 1.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return a mask of applicable genes for every implementation group,
+     * indexed by the implementation group index.
+     */
+    private static long[][] computeApplicableGenesMasks() {
+        long[][] masks = new long[ImplementationGroups.values().length][NUMBER_OF_WORDS];
+        for (ImplementationGroups ig : ImplementationGroups.values()) {
+            for (Genes gene : GENES) {
+                if (gene.appliesToIG(ig)) {
+                    masks[ig.getImplementationGroupIndex()][gene.ordinal() / GENES_PER_WORD] |= ALLELE_MASK << ((gene.ordinal() % GENES_PER_WORD) * BITS_PER_GENE);
+                }
+            }
+        }
+        return masks;
+    }
+
+    /**
+     * This method computes, for every category, a mask having the bits of its
+     * genes set to 1.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return a mask of the genes of every category, indexed by the category
+     * ordinal.
+     */
+    private static long[][] computeCategoryGenesMasks() {
+        long[][] masks = new long[Categories.values().length][NUMBER_OF_WORDS];
+        for (Genes gene : GENES) {
+            masks[gene.getCategory().ordinal()][gene.ordinal() / GENES_PER_WORD] |= ALLELE_MASK << ((gene.ordinal() % GENES_PER_WORD) * BITS_PER_GENE);
+        }
+        return masks;
+    }
+
+    /**
+     * This method computes the Zobrist keys used to hash the alleles of a
+     * chromosome, one for each combination of gene and allele. A fixed seed is
+     * used so that hashes are the same in every execution. Keys for
+     * Alleles.DLI_0 are 0, so that the hash of a new chromosome is also 0.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the Zobrist keys, indexed by gene ordinal and allele ordinal.
+     */
+    private static long[] computeZobristKeys() {
+        SplittableRandom random = new SplittableRandom(ZOBRIST_SEED);
+        long[] keys = new long[GENES.length * ALLELES.length];
+        for (int gene = 0; gene < GENES.length; gene++) {
+            for (int allele = 1; allele < ALLELES.length; allele++) {
+                keys[(gene * ALLELES.length) + allele] = random.nextLong();
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * This method computes from scratch the Zobrist hash of the alleles of this
+     * chromosome.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the Zobrist hash of the alleles of this chromosome.
+     */
+    private long computeGenesHash() {
+        long hash = 0L;
+        for (int gene = 0; gene < GENES.length; gene++) {
+            hash ^= ZOBRIST_KEYS[(gene * ALLELES.length) + getAlleleOrdinal(gene)];
+        }
+        return hash;
+    }
+
     /**
      * This method returns the allele of the specified gene.
      *
@@ -91,7 +203,20 @@ public class Chromosome {
      * @return The allele of the specified gene.
      */
     public Alleles getAllele(Genes gene) {
-        return this.genes.get(gene);
+        return ALLELES[getAlleleOrdinal(gene.ordinal())];
+    }
+
+    /**
+     * This method returns the ordinal of the allele of the gene whose ordinal
+     * is specified, directly from the packed representation.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param geneOrdinal the ordinal of the gene whose allele is being
+     * requested.
+     * @return The ordinal of the allele of the specified gene.
+     */
+    int getAlleleOrdinal(int geneOrdinal) {
+        return (int) ((genes[geneOrdinal / GENES_PER_WORD] >>> ((geneOrdinal % GENES_PER_WORD) * BITS_PER_GENE)) & ALLELE_MASK);
     }
 
     /**
@@ -102,18 +227,43 @@ public class Chromosome {
      * @param genes The genes and alleles to configure the chromosome.
      */
     public void setGenes(EnumMap<Genes, Alleles> genes) {
-        this.genes.clear();
-        this.genes.putAll(genes);
+        Arrays.fill(this.genes, 0L);
+        for (Genes gene : genes.keySet()) {
+            int word = gene.ordinal() / GENES_PER_WORD;
+            this.genes[word] |= ((long) genes.get(gene).ordinal()) << ((gene.ordinal() % GENES_PER_WORD) * BITS_PER_GENE);
+        }
+        genesHash = computeGenesHash();
+        fitnessCache.invalidateAll();
     }
 
     /**
-     * This method returns the genes and alleles of this chromosome.
+     * This method set the genes and alleles of this chromosome to those of the
+     * chromosome specified as a parameter.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param chromosome The chromosome whose genes and alleles are copied.
+     */
+    public void setGenes(Chromosome chromosome) {
+        for (int word = 0; word < NUMBER_OF_WORDS; word++) {
+            invalidateChangedGenes(word, genes[word] ^ chromosome.genes[word]);
+            genes[word] = chromosome.genes[word];
+        }
+        genesHash = chromosome.genesHash;
+    }
+
+    /**
+     * This method returns the genes and alleles of this chromosome. The
+     * returned map is a copy; changing it does not modify the chromosome.
      *
      * @author Manuel Domínguez-Dorado
      * @return The genes and alleles of this chromosome.
      */
     public EnumMap<Genes, Alleles> getGenes() {
-        return genes;
+        EnumMap<Genes, Alleles> genesMap = new EnumMap<>(Genes.class);
+        for (Genes gene : GENES) {
+            genesMap.put(gene, getAllele(gene));
+        }
+        return genesMap;
     }
 
     /**
@@ -125,24 +275,198 @@ public class Chromosome {
      * @param allele The allele for the specified gene.
      */
     public void updateAllele(Genes gene, Alleles allele) {
-        this.genes.put(gene, allele);
+        int word = gene.ordinal() / GENES_PER_WORD;
+        int shift = (gene.ordinal() % GENES_PER_WORD) * BITS_PER_GENE;
+        long updatedWord = (genes[word] & ~(ALLELE_MASK << shift)) | (((long) allele.ordinal()) << shift);
+        if (updatedWord != genes[word]) {
+            genesHash ^= ZOBRIST_KEYS[(gene.ordinal() * ALLELES.length) + getAlleleOrdinal(gene.ordinal())];
+            genesHash ^= ZOBRIST_KEYS[(gene.ordinal() * ALLELES.length) + allele.ordinal()];
+            genes[word] = updatedWord;
+            fitnessCache.invalidate(gene.getCategory());
+        }
+    }
+
+    /**
+     * This method replaces the alleles of the genes between the two specified
+     * ones (both included) with those of the chromosome specified as a
+     * parameter. Only genes that apply to the implementation group of this
+     * chromosome are replaced.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param chromosome The chromosome whose alleles are copied.
+     * @param firstGene The first gene of the range.
+     * @param lastGene The last gene of the range.
+     */
+    public void copyAlleles(Chromosome chromosome, Genes firstGene, Genes lastGene) {
+        int firstBit = firstGene.ordinal() * BITS_PER_GENE;
+        int lastBit = (lastGene.ordinal() * BITS_PER_GENE) + BITS_PER_GENE - 1;
+        long[] applicableGenesMask = APPLICABLE_GENES_MASKS[implementationGroup.getImplementationGroupIndex()];
+        for (int word = firstBit / Long.SIZE; word <= lastBit / Long.SIZE; word++) {
+            long mask = applicableGenesMask[word];
+            if (word == (firstBit / Long.SIZE)) {
+                mask &= -1L << (firstBit % Long.SIZE);
+            }
+            if (word == (lastBit / Long.SIZE)) {
+                mask &= -1L >>> (Long.SIZE - 1 - (lastBit % Long.SIZE));
+            }
+            long updatedWord = (genes[word] & ~mask) | (chromosome.genes[word] & mask);
+            long changedBits = genes[word] ^ updatedWord;
+            invalidateChangedGenes(word, changedBits);
+            genesHash ^= computeWordHash(word, genes[word], changedBits) ^ computeWordHash(word, updatedWord, changedBits);
+            genes[word] = updatedWord;
+        }
+    }
+
+    /**
+     * This method replaces the alleles of all genes of the specified category
+     * with those of the chromosome specified as a parameter. Only genes that
+     * apply to the implementation group of this chromosome are replaced. When
+     * both chromosomes have been evaluated using the same fitness model, the
+     * cached value of the category is copied too, so that it does not have to
+     * be computed again during the next evaluation.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param chromosome The chromosome whose alleles are copied.
+     * @param category The category whose genes are replaced.
+     */
+    public void copyCategory(Chromosome chromosome, Categories category) {
+        long[] applicableGenesMask = APPLICABLE_GENES_MASKS[implementationGroup.getImplementationGroupIndex()];
+        long[] categoryGenesMask = CATEGORY_GENES_MASKS[category.ordinal()];
+        boolean changed = false;
+        for (int word = 0; word < NUMBER_OF_WORDS; word++) {
+            long mask = applicableGenesMask[word] & categoryGenesMask[word];
+            long updatedWord = (genes[word] & ~mask) | (chromosome.genes[word] & mask);
+            long changedBits = genes[word] ^ updatedWord;
+            if (changedBits != 0L) {
+                genesHash ^= computeWordHash(word, genes[word], changedBits) ^ computeWordHash(word, updatedWord, changedBits);
+                genes[word] = updatedWord;
+                changed = true;
+            }
+        }
+        if (changed) {
+            FitnessModel model = fitnessCache.model;
+            if ((model == null) || !model.copyCategory(fitnessCache, chromosome.fitnessCache, category)) {
+                fitnessCache.invalidate(category);
+            }
+        }
+    }
+
+    /**
+     * This method returns whether this chromosome has exactly the same alleles
+     * than the one specified as a parameter.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param chromosome The chromosome to be compared.
+     * @return true, if both chromosomes have the same alleles. Otherwise,
+     * false.
+     */
+    public boolean isTwinOf(Chromosome chromosome) {
+        return (genesHash == chromosome.genesHash) && Arrays.equals(genes, chromosome.genes);
+    }
+
+    /**
+     * This method returns the Zobrist hash of the alleles of this chromosome.
+     * Twins always have the same hash, so it can be used to find them without
+     * comparing every pair of chromosomes. As different chromosomes can have
+     * the same hash, isTwinOf must be used to confirm it.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the Zobrist hash of the alleles of this chromosome.
+     */
+    public long getGenesHash() {
+        return genesHash;
+    }
+
+    /**
+     * This method computes the contribution to the Zobrist hash of the genes
+     * of a word whose bits are set in the specified mask.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param word The index of the word.
+     * @param wordValue The value of the word.
+     * @param changedBits The bits of the genes to be taken into account.
+     * @return the contribution to the hash of the specified genes.
+     */
+    private long computeWordHash(int word, long wordValue, long changedBits) {
+        long hash = 0L;
+        long pendingBits = changedBits;
+        while (pendingBits != 0L) {
+            int gene = Long.numberOfTrailingZeros(pendingBits) / BITS_PER_GENE;
+            int allele = (int) ((wordValue >>> (gene * BITS_PER_GENE)) & ALLELE_MASK);
+            hash ^= ZOBRIST_KEYS[(((word * GENES_PER_WORD) + gene) * ALLELES.length) + allele];
+            pendingBits &= ~(ALLELE_MASK << (gene * BITS_PER_GENE));
+        }
+        return hash;
+    }
+
+    /**
+     * This method tags as changed the categories of the genes whose bits are
+     * set in the specified mask.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param word The index of the word the mask refers to.
+     * @param changedBits The bits that have changed in such word.
+     */
+    private void invalidateChangedGenes(int word, long changedBits) {
+        long pendingBits = changedBits;
+        while (pendingBits != 0L) {
+            int gene = Long.numberOfTrailingZeros(pendingBits) / BITS_PER_GENE;
+            fitnessCache.invalidate(GENES[(word * GENES_PER_WORD) + gene].getCategory());
+            pendingBits &= ~(ALLELE_MASK << (gene * BITS_PER_GENE));
+        }
     }
 
     /**
      * This method assigns a random allele to every gene in the chromosome.
+     * Random bits are generated a whole word at a time; as the four alleles
+     * are encoded using two bits, all of them are equally probable.
      *
      * @author Manuel Domínguez-Dorado
      */
     public void randomizeGenes() {
-        for (Genes gene : Genes.values()) {
-            if (gene.appliesToIG(implementationGroup)) {
-                Alleles[] allelesArray = Alleles.values();
-                int randomAllele = ThreadLocalRandom.current().nextInt(0, allelesArray.length);
-                genes.put(gene, allelesArray[randomAllele]);
-            } else {
-                genes.put(gene, Alleles.DLI_0);
-            }
+        randomizeGenes(new SplittableRandom());
+    }
+
+    /**
+     * This method assigns a random allele to every gene in the chromosome,
+     * using the specified random number generator, so that the result can be
+     * reproduced.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param random The random number generator.
+     */
+    public void randomizeGenes(SplittableRandom random) {
+        long[] applicableGenesMask = APPLICABLE_GENES_MASKS[implementationGroup.getImplementationGroupIndex()];
+        for (int word = 0; word < NUMBER_OF_WORDS; word++) {
+            genes[word] = random.nextLong() & applicableGenesMask[word];
         }
+        genesHash = computeGenesHash();
+        fitnessCache.invalidateAll();
+    }
+
+    /**
+     * This method assigns a random allele to every specified gene in the
+     * chromosome. The rest of genes take the allele they have in the
+     * chromosome specified as a parameter.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param randomizedGenes The genes that take a random allele.
+     * @param chromosome The chromosome whose alleles are copied for the rest
+     * of genes.
+     * @param random The random number generator.
+     */
+    public void randomizeGenes(EnumSet<Genes> randomizedGenes, Chromosome chromosome, SplittableRandom random) {
+        long[] applicableGenesMask = APPLICABLE_GENES_MASKS[implementationGroup.getImplementationGroupIndex()];
+        long[] randomizedGenesMask = new long[NUMBER_OF_WORDS];
+        for (Genes gene : randomizedGenes) {
+            randomizedGenesMask[gene.ordinal() / GENES_PER_WORD] |= ALLELE_MASK << ((gene.ordinal() % GENES_PER_WORD) * BITS_PER_GENE);
+        }
+        for (int word = 0; word < NUMBER_OF_WORDS; word++) {
+            long mask = randomizedGenesMask[word] & applicableGenesMask[word];
+            genes[word] = ((chromosome.genes[word] & ~mask) | (random.nextLong() & mask)) & applicableGenesMask[word];
+        }
+        genesHash = computeGenesHash();
+        fitnessCache.invalidateAll();
     }
 
     /**
@@ -163,9 +487,9 @@ public class Chromosome {
             if (f.appliesToIG(implementationGroup)) {
                 auxFunctionFitness = 0.0f;
 
-                for (Categories c : f.getCategories(implementationGroup)) {
+                for (Categories c : Topology.getTopology(implementationGroup).getCategories(f)) {
                     auxCategoryFitness = 0.0f;
-                    for (Genes g : c.getGenes(implementationGroup)) {
+                    for (Genes g : Topology.getTopology(implementationGroup).getGenes(c)) {
                         // Gene raw value
                         genesValues.put(g, getAllele(g).getDLI());
                         // To compute category fitness
@@ -192,11 +516,11 @@ public class Chromosome {
             }
         }
         logger.info("\tAsset: " + assetValue);
-        for (Functions function : Functions.getFunctionsFor(implementationGroup)) {
+        for (Functions function : Topology.getTopology(implementationGroup).getFunctions()) {
             logger.info("\t\t" + function.name() + ": " + functionsValues.get(function));
-            for (Categories category : function.getCategories(implementationGroup)) {
+            for (Categories category : Topology.getTopology(implementationGroup).getCategories(function)) {
                 logger.info("\t\t\t" + category.name() + ": " + categoriesValues.get(category));
-                for (Genes gene : category.getGenes(implementationGroup)) {
+                for (Genes gene : Topology.getTopology(implementationGroup).getGenes(category)) {
                     logger.info("\t\t\t\t" + gene.name().substring(6) + ": " + getAllele(gene).getDLI());
                 }
             }
@@ -213,10 +537,10 @@ public class Chromosome {
     public String getGenesAsJSONString() {
         String JSONString = "";
         int genesNum = 0;
-        for (Genes gene : genes.keySet()) {
+        for (Genes gene : GENES) {
             if (gene.appliesToIG(implementationGroup)) {
                 JSONString += "\t\t{\"gene\":\"" + gene.name() + "\",\"allele\":\"" + getAllele(gene).name() + "\"}";
-                if (genesNum < (Genes.getGenesFor(implementationGroup).size() - 1)) {
+                if (genesNum < (Topology.getTopology(implementationGroup).getNumberOfGenes() - 1)) {
                     JSONString += ",\n";
                 } else {
                     JSONString += "\n";
@@ -246,9 +570,9 @@ public class Chromosome {
             if (f.appliesToIG(implementationGroup)) {
                 auxFunctionFitness = 0.0f;
 
-                for (Categories c : f.getCategories(implementationGroup)) {
+                for (Categories c : Topology.getTopology(implementationGroup).getCategories(f)) {
                     auxCategoryFitness = 0.0f;
-                    for (Genes g : c.getGenes(implementationGroup)) {
+                    for (Genes g : Topology.getTopology(implementationGroup).getGenes(c)) {
                         // Gene raw value
                         genesValues.put(g, getAllele(g).getDLI());
                         // To compute category fitness
@@ -280,9 +604,9 @@ public class Chromosome {
                 assetValue += auxFunctionFitness;
             }
         }
-        for (Functions function : Functions.getFunctionsFor(implementationGroup)) {
-            for (Categories category : function.getCategories(implementationGroup)) {
-                for (Genes gene : category.getGenes(implementationGroup)) {
+        for (Functions function : Topology.getTopology(implementationGroup).getFunctions()) {
+            for (Categories category : Topology.getTopology(implementationGroup).getCategories(function)) {
+                for (Genes gene : Topology.getTopology(implementationGroup).getGenes(category)) {
                     logger.info(gene.name() + "#" + getAllele(gene).getDLI());
                 }
             }
@@ -311,9 +635,9 @@ public class Chromosome {
             if (f.appliesToIG(implementationGroup)) {
                 auxFunctionFitness = 0.0f;
 
-                for (Categories c : f.getCategories(implementationGroup)) {
+                for (Categories c : Topology.getTopology(implementationGroup).getCategories(f)) {
                     auxCategoryFitness = 0.0f;
-                    for (Genes g : c.getGenes(implementationGroup)) {
+                    for (Genes g : Topology.getTopology(implementationGroup).getGenes(c)) {
                         // Gene raw value
                         genesValues.put(g, getAllele(g).getDLI());
                         // To compute category fitness
@@ -346,11 +670,11 @@ public class Chromosome {
             }
         }
         logger.info("\tAsset: " + assetValue);
-        for (Functions function : Functions.getFunctionsFor(implementationGroup)) {
+        for (Functions function : Topology.getTopology(implementationGroup).getFunctions()) {
             logger.info("\t\t" + function.name() + ": " + functionsValues.get(function));
-            for (Categories category : function.getCategories(implementationGroup)) {
+            for (Categories category : Topology.getTopology(implementationGroup).getCategories(function)) {
                 logger.info("\t\t\t" + category.name() + ": " + categoriesValues.get(category));
-                for (Genes gene : category.getGenes(implementationGroup)) {
+                for (Genes gene : Topology.getTopology(implementationGroup).getGenes(category)) {
                     logger.info("\t\t\t\t" + gene.name().substring(6) + ": " + getAllele(gene).getDLI() + getSimilarityText(initialStatus.getAllele(gene), getAllele(gene)));
                 }
             }
@@ -374,6 +698,17 @@ public class Chromosome {
         return " (PREVIOUSLY " + initialAllele.getDLI() + ")";
     }
 
+    /**
+     * This method returns the intermediate values computed the latest time the
+     * fitness of this chromosome was evaluated.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the fitness cache of this chromosome.
+     */
+    FitnessCache getFitnessCache() {
+        return fitnessCache;
+    }
+
     /**
      * This method returns the fitness value.
      *
@@ -385,16 +720,43 @@ public class Chromosome {
     }
 
     /**
-     * This method computes the chromosome's fitness.
+     * This method computes the chromosome's fitness. It is synchronized
+     * because a population being evaluated in parallel can contain the same
+     * chromosome more than once.
      *
      * @author Manuel Domínguez-Dorado
      * @param initialStatus A chromosome representing an initial cybersecurity
      * status.
      * @param strategicConstraints A ser of strategic constraints to be takein
      * into consideration when optimizing the three optimization objectives.
+     * @return true, if the fitness has actually been computed. false, if the
+     * genes had not changed since the latest evaluation, so the cached
+     * fitness has been taken.
      */
-    public void computeFitness(Chromosome initialStatus, StrategicConstraints strategicConstraints) {
+    public synchronized boolean computeFitness(Chromosome initialStatus, StrategicConstraints strategicConstraints) {
+        FitnessModel fitnessModel = strategicConstraints.getFitnessModel(implementationGroup);
+        boolean evaluated = fitnessModel.computeFitnessConstraintsCoverageIfNeeded(this);
+        fitness = fitnessModel.computeFitnessConstraintsCoverage(this);
+        return evaluated;
+    }
+
+    /**
+     * This method repairs the chromosome, changing the alleles of the genes
+     * that most influence the strategic constraints it violates, as long as
+     * each change increases its fitness. The fitness is updated accordingly.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param initialStatus A chromosome representing an initial cybersecurity
+     * status.
+     * @param strategicConstraints A set of strategic constraints to be taken
+     * into consideration when repairing the chromosome.
+     * @param maxChanges The maximum number of allele changes.
+     * @return the number of allele changes done.
+     */
+    public synchronized int repair(Chromosome initialStatus, StrategicConstraints strategicConstraints, int maxChanges) {
+        int changes = strategicConstraints.getFitnessModel(implementationGroup).repair(this, maxChanges);
         fitness = computeFitnessConstraintsCoverage(strategicConstraints);
+        return changes;
     }
 
     /**
@@ -418,268 +780,15 @@ public class Chromosome {
      * asigned depending on the degree of compliance regarding the constraint.
      * Finally a value representing the number of constraints satisfied by this
      * chromosome in relation to the total number of constraints is returned as
-     * a normalized value between 0.0 and 1.0.
+     * a normalized value between 0.0 and 1.0. The computation is delegated to
+     * the compiled fitness model of the strategic constraints.
      *
      * @author Manuel Domínguez-Dorado
      * @return the fitness related to the optimization objective 1 (compliance
      * with the defined strategic constraints).
      */
     private float computeFitnessConstraintsCoverage(StrategicConstraints strategicConstraints) {
-        float numberOfConstraints = strategicConstraints.numberOfConstraints();
-        float satisfiedConstraints = 0.0f;
-        EnumMap<Genes, Float> genesValues = new EnumMap<>(Genes.class);
-        EnumMap<Categories, Float> categoriesValues = new EnumMap<>(Categories.class);
-        EnumMap<Functions, Float> functionsValues = new EnumMap<>(Functions.class);
-        Float assetValue = 0.0f;
-
-        float auxFunctionFitness = 0.0f;
-        float auxCategoryFitness = 0.0f;
-        int counter = 0;
-        for (Functions function : Functions.values()) {
-            if (function.appliesToIG(implementationGroup)) {
-                auxFunctionFitness = 0.0f;
-
-                for (Categories category : function.getCategories(implementationGroup)) {
-                    auxCategoryFitness = 0.0f;
-                    for (Genes gene : category.getGenes(implementationGroup)) {
-                        // Gene raw value
-                        genesValues.put(gene, getAllele(gene).getDLI());
-                        // To compute category fitness
-                        counter++;
-                        auxCategoryFitness += getAllele(gene).getDLI() * gene.getWeight(implementationGroup);
-                    }
-                    // Category raw value
-                    categoriesValues.put(category, auxCategoryFitness);
-                    // To compute Function fitness
-                    auxCategoryFitness *= category.getWeight(implementationGroup);
-                    if (auxCategoryFitness > category.getWeight(implementationGroup)) {
-                        auxCategoryFitness = category.getWeight(implementationGroup);
-                    }
-                    auxFunctionFitness += auxCategoryFitness;
-                }
-                // Function raw value
-                functionsValues.put(function, auxFunctionFitness);
-                // To compute asset fitness
-                auxFunctionFitness *= function.getWeight(implementationGroup);
-                if (auxFunctionFitness > function.getWeight(implementationGroup)) {
-                    auxFunctionFitness = function.getWeight(implementationGroup);
-                }
-                assetValue += auxFunctionFitness;
-            }
-        }
-
-        for (Genes gene : genesValues.keySet()) {
-            if (strategicConstraints.hasDefinedConstraint(gene)) {
-                Constraint constraint = strategicConstraints.getConstraint(gene);
-                switch (constraint.getComparisonOperator()) {
-
-                    case LESS:
-                        if (genesValues.get(gene) < constraint.getThreshold()) {
-                            satisfiedConstraints++;
-                        } else if ((genesValues.get(gene) == 1.0f) && (constraint.getThreshold() == 1.0f)) {
-                            satisfiedConstraints += 0.99f;
-                        } else {
-                            satisfiedConstraints += (-0.99f / (1.0f - constraint.getThreshold())) * genesValues.get(gene) + (0.99f - (-0.99f / (1.0f - constraint.getThreshold())) * constraint.getThreshold());
-                        }
-                        break;
-
-                    case LESS_OR_EQUAL:
-                        if (genesValues.get(gene) <= constraint.getThreshold()) {
-                            satisfiedConstraints++;
-                        } else {
-                            satisfiedConstraints += (-1.0f / (1.0f - constraint.getThreshold())) * genesValues.get(gene) + (1.0f - (-1.0f / (1.0f - constraint.getThreshold())) * constraint.getThreshold());
-                        }
-                        break;
-
-                    case EQUAL:
-                        if (genesValues.get(gene) == constraint.getThreshold()) {
-                            satisfiedConstraints++;
-                        } else if (genesValues.get(gene) > constraint.getThreshold()) {
-                            satisfiedConstraints += (-1.0f / (1.0f - constraint.getThreshold())) * genesValues.get(gene) + (1.0f - (-1.0f / (1.0f - constraint.getThreshold())) * constraint.getThreshold());
-                        } else {
-                            satisfiedConstraints += ((genesValues.get(gene) / constraint.getThreshold()));
-                        }
-                        break;
-
-                    case GREATER:
-                        if (genesValues.get(gene) > constraint.getThreshold()) {
-                            satisfiedConstraints++;
-                        } else if ((genesValues.get(gene) == 0.0f) && (constraint.getThreshold() == 0.0f)) {
-                            satisfiedConstraints += 0.99f;
-                        } else {
-                            satisfiedConstraints += ((0.99f * genesValues.get(gene)) / constraint.getThreshold());
-                        }
-                        break;
-
-                    case GREATER_OR_EQUAL:
-                        if (genesValues.get(gene) >= constraint.getThreshold()) {
-                            satisfiedConstraints++;
-                        } else {
-                            satisfiedConstraints += ((genesValues.get(gene) / constraint.getThreshold()));
-                        }
-                        break;
-
-                    default:
-                        break;
-                }
-            }
-        }
-
-        for (Categories category : categoriesValues.keySet()) {
-            if (strategicConstraints.hasDefinedConstraint(category)) {
-                Constraint constraint = strategicConstraints.getConstraint(category);
-                switch (constraint.getComparisonOperator()) {
-                    case LESS:
-                        if (categoriesValues.get(category) < constraint.getThreshold()) {
-                            satisfiedConstraints++;
-                        } else if ((categoriesValues.get(category) == 1.0f) && (constraint.getThreshold() == 1.0f)) {
-                            satisfiedConstraints += 0.99f;
-                        } else {
-                            satisfiedConstraints += (-0.99f / (1.0f - constraint.getThreshold())) * categoriesValues.get(category) + (0.99f - (-0.99f / (1.0f - constraint.getThreshold())) * constraint.getThreshold());
-                        }
-                        break;
-                    case LESS_OR_EQUAL:
-                        if (categoriesValues.get(category) <= constraint.getThreshold()) {
-                            satisfiedConstraints++;
-                        } else {
-                            satisfiedConstraints += (-1.0f / (1.0f - constraint.getThreshold())) * categoriesValues.get(category) + (1.0f - (-1.0f / (1.0f - constraint.getThreshold())) * constraint.getThreshold());
-                        }
-                        break;
-                    case EQUAL:
-                        if (categoriesValues.get(category) == constraint.getThreshold()) {
-                            satisfiedConstraints++;
-                        } else if (categoriesValues.get(category) > constraint.getThreshold()) {
-                            satisfiedConstraints += (-1.0f / (1.0f - constraint.getThreshold())) * categoriesValues.get(category) + (1.0f - (-1.0f / (1.0f - constraint.getThreshold())) * constraint.getThreshold());
-                        } else {
-                            satisfiedConstraints += ((categoriesValues.get(category) / constraint.getThreshold()));
-                        }
-                        break;
-                    case GREATER:
-                        if (categoriesValues.get(category) > constraint.getThreshold()) {
-                            satisfiedConstraints++;
-                        } else if ((categoriesValues.get(category) == 0.0f) && (constraint.getThreshold() == 0.0f)) {
-                            satisfiedConstraints += 0.99f;
-                        } else {
-                            satisfiedConstraints += ((0.99f * categoriesValues.get(category)) / constraint.getThreshold());
-                        }
-                        break;
-                    case GREATER_OR_EQUAL:
-                        if (categoriesValues.get(category) >= constraint.getThreshold()) {
-                            satisfiedConstraints++;
-                        } else {
-                            satisfiedConstraints += ((categoriesValues.get(category) / constraint.getThreshold()));
-                        }
-                        break;
-                    default:
-                        break;
-                }
-            }
-        }
-
-        for (Functions function : functionsValues.keySet()) {
-            if (strategicConstraints.hasDefinedConstraint(function)) {
-                Constraint constraint = strategicConstraints.getConstraint(function);
-                switch (constraint.getComparisonOperator()) {
-                    case LESS:
-                        if (functionsValues.get(function) < constraint.getThreshold()) {
-                            satisfiedConstraints++;
-                        } else if ((functionsValues.get(function) == 1.0f) && (constraint.getThreshold() == 1.0f)) {
-                            satisfiedConstraints += 0.99f;
-                        } else {
-                            satisfiedConstraints += (-0.99f / (1.0f - constraint.getThreshold())) * functionsValues.get(function) + (0.99f - (-0.99f / (1.0f - constraint.getThreshold())) * constraint.getThreshold());
-                        }
-                        break;
-                    case LESS_OR_EQUAL:
-                        if (functionsValues.get(function) <= constraint.getThreshold()) {
-                            satisfiedConstraints++;
-                        } else {
-                            satisfiedConstraints += (-1.0f / (1.0f - constraint.getThreshold())) * functionsValues.get(function) + (1.0f - (-1.0f / (1.0f - constraint.getThreshold())) * constraint.getThreshold());
-                        }
-                        break;
-                    case EQUAL:
-                        if (functionsValues.get(function) == constraint.getThreshold()) {
-                            satisfiedConstraints++;
-                        } else if (functionsValues.get(function) > constraint.getThreshold()) {
-                            satisfiedConstraints += (-1.0f / (1.0f - constraint.getThreshold())) * functionsValues.get(function) + (1.0f - (-1.0f / (1.0f - constraint.getThreshold())) * constraint.getThreshold());
-                        } else {
-                            satisfiedConstraints += ((functionsValues.get(function) / constraint.getThreshold()));
-                        }
-                        break;
-                    case GREATER:
-                        if (functionsValues.get(function) > constraint.getThreshold()) {
-                            satisfiedConstraints++;
-                        } else if ((functionsValues.get(function) == 0.0f) && (constraint.getThreshold() == 0.0f)) {
-                            satisfiedConstraints += 0.99f;
-                        } else {
-                            satisfiedConstraints += ((0.99f * functionsValues.get(function)) / constraint.getThreshold());
-                        }
-                        break;
-                    case GREATER_OR_EQUAL:
-                        if (functionsValues.get(function) >= constraint.getThreshold()) {
-                            satisfiedConstraints++;
-                        } else {
-                            satisfiedConstraints += ((functionsValues.get(function) / constraint.getThreshold()));
-                        }
-                        break;
-                    default:
-                        break;
-                }
-            }
-        }
-
-        if (strategicConstraints.hasDefinedConstraint()) {
-            Constraint condition = strategicConstraints.getConstraint();
-            switch (condition.getComparisonOperator()) {
-                case LESS:
-                    if (assetValue < condition.getThreshold()) {
-                        satisfiedConstraints++;
-                    } else if ((assetValue == 1.0f) && (condition.getThreshold() == 1.0f)) {
-                        satisfiedConstraints += 0.99f;
-                    } else {
-                        satisfiedConstraints += (-0.99f / (1.0f - condition.getThreshold())) * assetValue + (0.99f - (-0.99f / (1.0f - condition.getThreshold())) * condition.getThreshold());
-                    }
-                    break;
-                case LESS_OR_EQUAL:
-                    if (assetValue <= condition.getThreshold()) {
-                        satisfiedConstraints++;
-                    } else {
-                        satisfiedConstraints += (-1.0f / (1.0f - condition.getThreshold())) * assetValue + (1.0f - (-1.0f / (1.0f - condition.getThreshold())) * condition.getThreshold());
-                    }
-                    break;
-                case EQUAL:
-                    if (assetValue == condition.getThreshold()) {
-                        satisfiedConstraints++;
-                    } else if (assetValue > condition.getThreshold()) {
-                        satisfiedConstraints += (-1.0f / (1.0f - condition.getThreshold())) * assetValue + (1.0f - (-1.0f / (1.0f - condition.getThreshold())) * condition.getThreshold());
-                    } else {
-                        satisfiedConstraints += ((assetValue / condition.getThreshold()));
-                    }
-                    break;
-                case GREATER:
-                    if (assetValue > condition.getThreshold()) {
-                        satisfiedConstraints++;
-                    } else if ((assetValue == 0.0f) && (condition.getThreshold() == 0.0f)) {
-                        satisfiedConstraints += 0.99f;
-                    } else {
-                        satisfiedConstraints += ((0.99f * assetValue) / condition.getThreshold());
-                    }
-                    break;
-                case GREATER_OR_EQUAL:
-                    if (assetValue >= condition.getThreshold()) {
-                        satisfiedConstraints++;
-                    } else {
-                        satisfiedConstraints += ((assetValue / condition.getThreshold()));
-                    }
-                    break;
-                default:
-                    break;
-            }
-        }
-        if (numberOfConstraints == 0.0f) {
-            return 1.0f;
-        } else {
-            return (satisfiedConstraints / numberOfConstraints);
-        }
+        return strategicConstraints.getFitnessModel(implementationGroup).computeFitnessConstraintsCoverage(this);
     }
 
 }
@@ -0,0 +1,114 @@
+/* 
+ *******************************************************************************
+ * FLECO (Fast, Lightweight, and Efficient Cybersecurity Optimization) (1) 
+ * Adaptive, Constrained, and Multi-objective Genetic Algorithm is a genetic 
+ * algorithm designed to assist the Asset's Cybersecurity Committee (ACC) in 
+ * making decisions during the application of CyberTOMP (2), aimed at managing 
+ * comprehensive cybersecurity at both tactical and operational levels.
+ *
+ * (1) Domínguez-Dorado, M.; Cortés-Polo, D.; Carmona-Murillo, J.; 
+ * Rodríguez-Pérez, F.J.; Galeano-Brajones, J. Fast, Lightweight, and Efficient 
+ * Cybersecurity Optimization for Tactical–Operational Management. Appl. Sci. 
+ * 2023, 13, 6327. https://doi.org/10.3390/app13106327
+ *
+ * (2) Dominguez-Dorado, M., Carmona-Murillo, J., Cortés-Polo, D., and
+ * Rodríguez-Pérez, F. J. (2022). CyberTOMP: A novel systematic framework to
+ * manage asset-focused cybersecurity from tactical and operational levels. IEEE
+ * Access, 10, 122454-122485. https://doi.org/10.1109/ACCESS.2022.3223440
+ *******************************************************************************
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ *******************************************************************************
+ */
+package com.manolodominguez.fleco.genetics;
+
+import com.manolodominguez.fleco.uleo.Categories;
+
+/**
+ * This class implements the cached result of the latest evaluation of a
+ * chromosome: the values of every category, function and the asset, and the
+ * degree of compliance of every strategic constraint. It also keeps track of
+ * the categories whose genes have changed since then, and of the functions
+ * whose categories have been copied from another chromosome, so that the
+ * fitness model only has to recompute the affected part of the hierarchy.
+ *
+ * @author Manuel Domínguez-Dorado
+ */
+final class FitnessCache {
+
+    static final int ALL_CATEGORIES = (1 << Categories.values().length) - 1;
+
+    FitnessModel model;
+    float[] categoryValues;
+    float[] functionValues;
+    float assetValue;
+    float[] constraintCoverages;
+    float fitnessConstraintsCoverage;
+    int dirtyCategories;
+    int dirtyFunctions;
+
+    /**
+     * This is the constructor of the class. It creates a new, empty cache that
+     * will require a complete evaluation.
+     *
+     * @author Manuel Domínguez-Dorado
+     */
+    FitnessCache() {
+        model = null;
+        dirtyCategories = ALL_CATEGORIES;
+        dirtyFunctions = 0;
+    }
+
+    /**
+     * This is the constructor of the class. It creates a new cache as a copy of
+     * the one specified as a parameter.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param fitnessCache the cache to be copied.
+     */
+    FitnessCache(FitnessCache fitnessCache) {
+        model = fitnessCache.model;
+        if (model != null) {
+            categoryValues = fitnessCache.categoryValues.clone();
+            functionValues = fitnessCache.functionValues.clone();
+            constraintCoverages = fitnessCache.constraintCoverages.clone();
+        }
+        assetValue = fitnessCache.assetValue;
+        fitnessConstraintsCoverage = fitnessCache.fitnessConstraintsCoverage;
+        dirtyCategories = fitnessCache.dirtyCategories;
+        dirtyFunctions = fitnessCache.dirtyFunctions;
+    }
+
+    /**
+     * This method tags the specified category as changed since the latest
+     * evaluation.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param category the category whose genes have changed.
+     */
+    void invalidate(Categories category) {
+        dirtyCategories |= 1 << category.ordinal();
+    }
+
+    /**
+     * This method tags every category as changed since the latest evaluation.
+     *
+     * @author Manuel Domínguez-Dorado
+     */
+    void invalidateAll() {
+        dirtyCategories = ALL_CATEGORIES;
+    }
+}
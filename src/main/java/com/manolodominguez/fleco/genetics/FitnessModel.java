@@ -0,0 +1,713 @@
+/* 
+ *******************************************************************************
+ * FLECO (Fast, Lightweight, and Efficient Cybersecurity Optimization) (1) 
+ * Adaptive, Constrained, and Multi-objective Genetic Algorithm is a genetic 
+ * algorithm designed to assist the Asset's Cybersecurity Committee (ACC) in 
+ * making decisions during the application of CyberTOMP (2), aimed at managing 
+ * comprehensive cybersecurity at both tactical and operational levels.
+ *
+ * (1) Domínguez-Dorado, M.; Cortés-Polo, D.; Carmona-Murillo, J.; 
+ * Rodríguez-Pérez, F.J.; Galeano-Brajones, J. Fast, Lightweight, and Efficient 
+ * Cybersecurity Optimization for Tactical–Operational Management. Appl. Sci. 
+ * 2023, 13, 6327. https://doi.org/10.3390/app13106327
+ *
+ * (2) Dominguez-Dorado, M., Carmona-Murillo, J., Cortés-Polo, D., and
+ * Rodríguez-Pérez, F. J. (2022). CyberTOMP: A novel systematic framework to
+ * manage asset-focused cybersecurity from tactical and operational levels. IEEE
+ * Access, 10, 122454-122485. https://doi.org/10.1109/ACCESS.2022.3223440
+ *******************************************************************************
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ *******************************************************************************
+ */
+package com.manolodominguez.fleco.genetics;
+
+import com.manolodominguez.fleco.strategicconstraints.ComparisonOperators;
+import com.manolodominguez.fleco.strategicconstraints.Constraint;
+import com.manolodominguez.fleco.strategicconstraints.StrategicConstraints;
+import com.manolodominguez.fleco.uleo.Categories;
+import com.manolodominguez.fleco.uleo.Functions;
+import com.manolodominguez.fleco.uleo.ImplementationGroups;
+import com.manolodominguez.fleco.uleo.Topology;
+import java.util.Arrays;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements a compiled fitness model. It combines the flattened
+ * cybersecurity hierarchy (functions, categories and genes) that applies to a
+ * given implementation group, as provided by Topology, with a snapshot of a
+ * set of strategic constraints. It allows computing the fitness of a chromosome in
+ * a single pass over primitive arrays and, once computed, updating it
+ * incrementally when only some genes change, returning exactly the same value
+ * than the original map-based computation.
+ *
+ * @author Manuel Domínguez-Dorado
+ */
+public final class FitnessModel {
+
+    private static final int GENE_LEVEL = 0;
+    private static final int CATEGORY_LEVEL = 1;
+    private static final int FUNCTION_LEVEL = 2;
+    private static final int ASSET_LEVEL = 3;
+
+    private static final Genes[] GENES = Genes.values();
+    private static final Alleles[] ALLELES = Alleles.values();
+    private static final float[] DLIS = computeDLIs();
+    private static final ComparisonOperators[] OPERATORS = ComparisonOperators.values();
+
+    private final ImplementationGroups implementationGroup;
+    private final Topology topology;
+    private final float numberOfConstraints;
+    private final int[] constraintLevels;
+    private final int[] constraintPositions;
+    private final int[] constraintOperators;
+    private final float[] constraintThresholds;
+    private final float[] constraintSlopes;
+    private final float[] constraintIntercepts;
+    private final int[] categoryConstraintsStart;
+    private final int[] categoryConstraints;
+    private final int[] functionConstraint;
+    private final int assetConstraint;
+    private volatile int[][] repairCandidates;
+
+    private static final Logger logger = LoggerFactory.getLogger(FitnessModel.class);
+
+    /**
+     * This is the constructor of the class. It compiles the specified strategic
+     * constraints against the precomputed hierarchy of the specified
+     * implementation group.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param strategicConstraints The set of strategic constraints to be
+     * compiled. Later changes on them are not reflected in this model.
+     * @param implementationGroup The implementation group of the chromosomes
+     * that will be evaluated using this model.
+     */
+    public FitnessModel(StrategicConstraints strategicConstraints, ImplementationGroups implementationGroup) {
+        if (strategicConstraints == null) {
+            logger.error("strategicConstraints cannot be null");
+            throw new IllegalArgumentException("strategicConstraints cannot be null");
+        }
+        if (implementationGroup == null) {
+            logger.error("implementationGroup cannot be null");
+            throw new IllegalArgumentException("implementationGroup cannot be null");
+        }
+        this.implementationGroup = implementationGroup;
+        this.topology = Topology.getTopology(implementationGroup);
+        this.numberOfConstraints = strategicConstraints.numberOfConstraints();
+        // Constraints are stored in the very same order they are checked by
+        // the original computation: genes, categories, functions and asset,
+        // each level sorted by ordinal. Only those that are reachable in the
+        // hierarchy of the implementation group are taken into account.
+        int maxConstraints = topology.getNumberOfGenes() + topology.getNumberOfCategories() + topology.getNumberOfFunctions() + 1;
+        int[] levels = new int[maxConstraints];
+        int[] positions = new int[maxConstraints];
+        Constraint[] constraints = new Constraint[maxConstraints];
+        int count = 0;
+        for (Genes gene : GENES) {
+            int position = topology.getGenePosition(gene.ordinal());
+            if ((position >= 0) && strategicConstraints.hasDefinedConstraint(gene)) {
+                levels[count] = GENE_LEVEL;
+                positions[count] = gene.ordinal();
+                constraints[count] = strategicConstraints.getConstraint(gene);
+                count++;
+            }
+        }
+        for (Categories category : Categories.values()) {
+            int position = topology.getCategoryPosition(category.ordinal());
+            if ((position >= 0) && strategicConstraints.hasDefinedConstraint(category)) {
+                levels[count] = CATEGORY_LEVEL;
+                positions[count] = position;
+                constraints[count] = strategicConstraints.getConstraint(category);
+                count++;
+            }
+        }
+        for (Functions function : Functions.values()) {
+            int position = topology.getFunctionPosition(function.ordinal());
+            if ((position >= 0) && strategicConstraints.hasDefinedConstraint(function)) {
+                levels[count] = FUNCTION_LEVEL;
+                positions[count] = position;
+                constraints[count] = strategicConstraints.getConstraint(function);
+                count++;
+            }
+        }
+        if (strategicConstraints.hasDefinedConstraint()) {
+            levels[count] = ASSET_LEVEL;
+            positions[count] = 0;
+            constraints[count] = strategicConstraints.getConstraint();
+            count++;
+        }
+        constraintLevels = new int[count];
+        constraintPositions = new int[count];
+        constraintOperators = new int[count];
+        constraintThresholds = new float[count];
+        constraintSlopes = new float[count];
+        constraintIntercepts = new float[count];
+        for (int i = 0; i < count; i++) {
+            float threshold = constraints[i].getThreshold();
+            constraintLevels[i] = levels[i];
+            constraintPositions[i] = positions[i];
+            constraintOperators[i] = constraints[i].getComparisonOperator().ordinal();
+            constraintThresholds[i] = threshold;
+            // Linear penalties are precomputed exactly as the original 
+            // computation does, so that the results are bit-identical.
+            switch (constraints[i].getComparisonOperator()) {
+                case LESS:
+                    constraintSlopes[i] = -0.99f / (1.0f - threshold);
+                    constraintIntercepts[i] = 0.99f - constraintSlopes[i] * threshold;
+                    break;
+                case LESS_OR_EQUAL:
+                case EQUAL:
+                    constraintSlopes[i] = -1.0f / (1.0f - threshold);
+                    constraintIntercepts[i] = 1.0f - constraintSlopes[i] * threshold;
+                    break;
+                default:
+                    break;
+            }
+        }
+        // Constraints are also indexed by the node of the hierarchy they
+        // depend on, so that only those affected by a change are checked again
+        // during an incremental evaluation. Gene and category constraints 
+        // depend on a category; function constraints on a function.
+        categoryConstraintsStart = new int[topology.getNumberOfCategories() + 1];
+        categoryConstraints = new int[count];
+        functionConstraint = new int[topology.getNumberOfFunctions()];
+        Arrays.fill(functionConstraint, -1);
+        int assetConstraintIndex = -1;
+        int k = 0;
+        for (int c = 0; c < topology.getNumberOfCategories(); c++) {
+            categoryConstraintsStart[c] = k;
+            for (int i = 0; i < count; i++) {
+                if (((constraintLevels[i] == GENE_LEVEL) && (topology.getGeneCategory(topology.getGenePosition(constraintPositions[i])) == c)) || ((constraintLevels[i] == CATEGORY_LEVEL) && (constraintPositions[i] == c))) {
+                    categoryConstraints[k] = i;
+                    k++;
+                }
+            }
+        }
+        categoryConstraintsStart[topology.getNumberOfCategories()] = k;
+        for (int i = 0; i < count; i++) {
+            if (constraintLevels[i] == FUNCTION_LEVEL) {
+                functionConstraint[constraintPositions[i]] = i;
+            } else if (constraintLevels[i] == ASSET_LEVEL) {
+                assetConstraintIndex = i;
+            }
+        }
+        assetConstraint = assetConstraintIndex;
+        repairCandidates = null;
+    }
+
+    /**
+     * This method returns the value of every allele, indexed by the allele
+     * ordinal.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the value of every allele.
+     */
+    private static float[] computeDLIs() {
+        float[] dlis = new float[Alleles.values().length];
+        for (Alleles allele : Alleles.values()) {
+            dlis[allele.ordinal()] = allele.getDLI();
+        }
+        return dlis;
+    }
+
+    /**
+     * This method returns the implementation group this model has been
+     * compiled for.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the implementation group this model has been compiled for.
+     */
+    public ImplementationGroups getImplementationGroup() {
+        return implementationGroup;
+    }
+
+    /**
+     * This method returns the fitness related to the optimization objective 1
+     * (compliance with the defined strategic constraints) of the specified
+     * chromosome. The first time a chromosome is evaluated using this model,
+     * the precomputed hierarchy is traversed once to compute the value of
+     * every category, function and the asset, and the compiled constraints are
+     * checked in the same order the original computation does. Afterwards,
+     * only the categories whose genes have changed, their functions, the asset
+     * and the constraints that depend on them are computed again.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param chromosome The chromosome to be evaluated.
+     * @return the fitness related to the optimization objective 1 (compliance
+     * with the defined strategic constraints), as a normalized value between
+     * 0.0 and 1.0.
+     */
+    public float computeFitnessConstraintsCoverage(Chromosome chromosome) {
+        computeFitnessConstraintsCoverageIfNeeded(chromosome);
+        return chromosome.getFitnessCache().fitnessConstraintsCoverage;
+    }
+
+    /**
+     * This method brings the cached values of the specified chromosome up to
+     * date, as computeFitnessConstraintsCoverage() does, and tells whether
+     * anything had to be computed.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param chromosome The chromosome to be evaluated.
+     * @return true, if the chromosome has been evaluated, completely or
+     * incrementally. false, if its cached values were already up to date.
+     */
+    public boolean computeFitnessConstraintsCoverageIfNeeded(Chromosome chromosome) {
+        FitnessCache cache = chromosome.getFitnessCache();
+        if (cache.model != this) {
+            evaluateCompletely(chromosome, cache);
+        } else if ((cache.dirtyCategories != 0) || (cache.dirtyFunctions != 0)) {
+            evaluateIncrementally(chromosome, cache);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * This method computes from scratch all the cached values of the specified
+     * chromosome.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param chromosome The chromosome to be evaluated.
+     * @param cache The fitness cache of the chromosome.
+     */
+    private void evaluateCompletely(Chromosome chromosome, FitnessCache cache) {
+        final Topology t = topology;
+        if ((cache.categoryValues == null) || (cache.categoryValues.length != t.getNumberOfCategories())) {
+            cache.categoryValues = new float[t.getNumberOfCategories()];
+        }
+        if ((cache.functionValues == null) || (cache.functionValues.length != t.getNumberOfFunctions())) {
+            cache.functionValues = new float[t.getNumberOfFunctions()];
+        }
+        if ((cache.constraintCoverages == null) || (cache.constraintCoverages.length != constraintLevels.length)) {
+            cache.constraintCoverages = new float[constraintLevels.length];
+        }
+        for (int c = 0; c < t.getNumberOfCategories(); c++) {
+            cache.categoryValues[c] = computeCategoryValue(chromosome, c);
+        }
+        for (int f = 0; f < t.getNumberOfFunctions(); f++) {
+            cache.functionValues[f] = computeFunctionValue(cache, f);
+        }
+        cache.assetValue = computeAssetValue(cache);
+        for (int i = 0; i < constraintLevels.length; i++) {
+            cache.constraintCoverages[i] = computeConstraintCoverage(chromosome, cache, i);
+        }
+        cache.fitnessConstraintsCoverage = computeFitness(cache);
+        cache.model = this;
+        cache.dirtyCategories = 0;
+        cache.dirtyFunctions = 0;
+    }
+
+    /**
+     * This method updates the cached values of the specified chromosome that
+     * depend on the categories whose genes have changed since the latest
+     * evaluation. As values are computed again in the same order, the result
+     * is exactly the same than the one of a complete evaluation.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param chromosome The chromosome to be evaluated.
+     * @param cache The fitness cache of the chromosome.
+     */
+    private void evaluateIncrementally(Chromosome chromosome, FitnessCache cache) {
+        final Topology t = topology;
+        int dirtyCategories = cache.dirtyCategories;
+        int dirtyFunctions = cache.dirtyFunctions;
+        while (dirtyCategories != 0) {
+            int c = t.getCategoryPosition(Integer.numberOfTrailingZeros(dirtyCategories));
+            dirtyCategories &= dirtyCategories - 1;
+            if (c >= 0) {
+                cache.categoryValues[c] = computeCategoryValue(chromosome, c);
+                dirtyFunctions |= 1 << t.getCategoryFunction(c);
+                for (int k = categoryConstraintsStart[c]; k < categoryConstraintsStart[c + 1]; k++) {
+                    cache.constraintCoverages[categoryConstraints[k]] = computeConstraintCoverage(chromosome, cache, categoryConstraints[k]);
+                }
+            }
+        }
+        if (dirtyFunctions != 0) {
+            while (dirtyFunctions != 0) {
+                int f = Integer.numberOfTrailingZeros(dirtyFunctions);
+                dirtyFunctions &= dirtyFunctions - 1;
+                cache.functionValues[f] = computeFunctionValue(cache, f);
+                if (functionConstraint[f] >= 0) {
+                    cache.constraintCoverages[functionConstraint[f]] = computeConstraintCoverage(chromosome, cache, functionConstraint[f]);
+                }
+            }
+            cache.assetValue = computeAssetValue(cache);
+            if (assetConstraint >= 0) {
+                cache.constraintCoverages[assetConstraint] = computeConstraintCoverage(chromosome, cache, assetConstraint);
+            }
+        }
+        cache.fitnessConstraintsCoverage = computeFitness(cache);
+        cache.dirtyCategories = 0;
+        cache.dirtyFunctions = 0;
+    }
+
+    /**
+     * This method copies the cached value of a category, and the degree of
+     * compliance of the constraints that depend on it, from the cache of a
+     * chromosome to the cache of another one whose genes of such category have
+     * just been copied from the first one. So, the category does not have to
+     * be computed again; only its function and the asset do.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param cache The fitness cache of the chromosome whose genes have been
+     * copied.
+     * @param sourceCache The fitness cache of the chromosome the genes have
+     * been copied from.
+     * @param category The category whose genes have been copied.
+     * @return true, if the cached values have been copied. false, if any of
+     * both caches is not up to date for this model; in that case, nothing is
+     * copied and the category has to be tagged as changed.
+     */
+    boolean copyCategory(FitnessCache cache, FitnessCache sourceCache, Categories category) {
+        int categoryBit = 1 << category.ordinal();
+        if ((cache.model != this) || (sourceCache.model != this) || ((sourceCache.dirtyCategories & categoryBit) != 0)) {
+            return false;
+        }
+        int c = topology.getCategoryPosition(category.ordinal());
+        if (c >= 0) {
+            cache.categoryValues[c] = sourceCache.categoryValues[c];
+            for (int k = categoryConstraintsStart[c]; k < categoryConstraintsStart[c + 1]; k++) {
+                cache.constraintCoverages[categoryConstraints[k]] = sourceCache.constraintCoverages[categoryConstraints[k]];
+            }
+            cache.dirtyFunctions |= 1 << topology.getCategoryFunction(c);
+        }
+        cache.dirtyCategories &= ~categoryBit;
+        return true;
+    }
+
+    /**
+     * This method computes the raw value of a category, as the weighted sum of
+     * the values of its genes.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param chromosome The chromosome being evaluated.
+     * @param c The position of the category in the precomputed hierarchy.
+     * @return the raw value of the category.
+     */
+    private float computeCategoryValue(Chromosome chromosome, int c) {
+        final Topology t = topology;
+        float auxCategoryFitness = 0.0f;
+        for (int g = t.getCategoryGenesStart(c); g < t.getCategoryGenesStart(c + 1); g++) {
+            auxCategoryFitness += DLIS[chromosome.getAlleleOrdinal(t.getGeneOrdinal(g))] * t.getGeneWeight(g);
+        }
+        return auxCategoryFitness;
+    }
+
+    /**
+     * This method computes the raw value of a function, as the sum of the
+     * weighted and capped values of its categories.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param cache The fitness cache of the chromosome being evaluated.
+     * @param f The position of the function in the precomputed hierarchy.
+     * @return the raw value of the function.
+     */
+    private float computeFunctionValue(FitnessCache cache, int f) {
+        final Topology t = topology;
+        float auxFunctionFitness = 0.0f;
+        for (int c = t.getFunctionCategoriesStart(f); c < t.getFunctionCategoriesStart(f + 1); c++) {
+            float auxCategoryFitness = cache.categoryValues[c] * t.getCategoryWeight(c);
+            if (auxCategoryFitness > t.getCategoryWeight(c)) {
+                auxCategoryFitness = t.getCategoryWeight(c);
+            }
+            auxFunctionFitness += auxCategoryFitness;
+        }
+        return auxFunctionFitness;
+    }
+
+    /**
+     * This method computes the value of the asset, as the sum of the weighted
+     * and capped values of its functions.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param cache The fitness cache of the chromosome being evaluated.
+     * @return the value of the asset.
+     */
+    private float computeAssetValue(FitnessCache cache) {
+        final Topology t = topology;
+        float assetValue = 0.0f;
+        for (int f = 0; f < t.getNumberOfFunctions(); f++) {
+            float auxFunctionFitness = cache.functionValues[f] * t.getFunctionWeight(f);
+            if (auxFunctionFitness > t.getFunctionWeight(f)) {
+                auxFunctionFitness = t.getFunctionWeight(f);
+            }
+            assetValue += auxFunctionFitness;
+        }
+        return assetValue;
+    }
+
+    /**
+     * This method computes the fitness as the sum of the degree of compliance
+     * of every constraint in relation to the total number of constraints.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param cache The fitness cache of the chromosome being evaluated.
+     * @return the fitness, as a normalized value between 0.0 and 1.0.
+     */
+    private float computeFitness(FitnessCache cache) {
+        float satisfiedConstraints = 0.0f;
+        for (int i = 0; i < constraintLevels.length; i++) {
+            satisfiedConstraints += cache.constraintCoverages[i];
+        }
+        if (numberOfConstraints == 0.0f) {
+            return 1.0f;
+        } else {
+            return (satisfiedConstraints / numberOfConstraints);
+        }
+    }
+
+    /**
+     * This method computes the degree of compliance of one of the compiled
+     * constraints, taking the current value of the gene, category, function or
+     * asset it is defined for.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param chromosome The chromosome being evaluated.
+     * @param cache The fitness cache of the chromosome being evaluated.
+     * @param constraintIndex The index of the compiled constraint.
+     * @return the degree of compliance regarding the constraint.
+     */
+    private float computeConstraintCoverage(Chromosome chromosome, FitnessCache cache, int constraintIndex) {
+        switch (constraintLevels[constraintIndex]) {
+            case GENE_LEVEL:
+                return computeConstraintCoverage(constraintIndex, DLIS[chromosome.getAlleleOrdinal(constraintPositions[constraintIndex])]);
+            case CATEGORY_LEVEL:
+                return computeConstraintCoverage(constraintIndex, cache.categoryValues[constraintPositions[constraintIndex]]);
+            case FUNCTION_LEVEL:
+                return computeConstraintCoverage(constraintIndex, cache.functionValues[constraintPositions[constraintIndex]]);
+            default:
+                return computeConstraintCoverage(constraintIndex, cache.assetValue);
+        }
+    }
+
+    /**
+     * This method returns the degree of compliance of a value regarding one of
+     * the compiled constraints. It is 1.0 if the constraint is satisfied and a
+     * linear value between 0.0 and 1.0 otherwise.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param constraintIndex The index of the compiled constraint.
+     * @param value The value of the gene, category, function or asset the
+     * constraint is defined for.
+     * @return the degree of compliance of the value regarding the constraint.
+     */
+    private float computeConstraintCoverage(int constraintIndex, float value) {
+        float threshold = constraintThresholds[constraintIndex];
+        switch (OPERATORS[constraintOperators[constraintIndex]]) {
+            case LESS:
+                if (value < threshold) {
+                    return 1.0f;
+                } else if ((value == 1.0f) && (threshold == 1.0f)) {
+                    return 0.99f;
+                }
+                return constraintSlopes[constraintIndex] * value + constraintIntercepts[constraintIndex];
+            case LESS_OR_EQUAL:
+                if (value <= threshold) {
+                    return 1.0f;
+                }
+                return constraintSlopes[constraintIndex] * value + constraintIntercepts[constraintIndex];
+            case EQUAL:
+                if (value == threshold) {
+                    return 1.0f;
+                } else if (value > threshold) {
+                    return constraintSlopes[constraintIndex] * value + constraintIntercepts[constraintIndex];
+                }
+                return value / threshold;
+            case GREATER:
+                if (value > threshold) {
+                    return 1.0f;
+                } else if ((value == 0.0f) && (threshold == 0.0f)) {
+                    return 0.99f;
+                }
+                return (0.99f * value) / threshold;
+            case GREATER_OR_EQUAL:
+                if (value >= threshold) {
+                    return 1.0f;
+                }
+                return value / threshold;
+            default:
+                return 0.0f;
+        }
+    }
+
+    /**
+     * This method repairs the specified chromosome, trying to satisfy the
+     * constraints it violates. For each violated constraint, the genes the
+     * constrained gene, category, function or asset depends on are tried in
+     * decreasing order of influence (the product of the weights along the
+     * path to the constrained node), moving their allele one level towards
+     * the satisfaction of the constraint. The first change that increases the
+     * fitness is kept and the process starts again, until the chromosome is
+     * fully compliant, no change increases the fitness or the maximum number
+     * of changes is reached. It is deterministic.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param chromosome The chromosome to be repaired.
+     * @param maxChanges The maximum number of allele changes.
+     * @return the number of allele changes kept.
+     */
+    public int repair(Chromosome chromosome, int maxChanges) {
+        final Topology t = topology;
+        int[][] candidates = getRepairCandidates();
+        FitnessCache cache = chromosome.getFitnessCache();
+        float fitness = computeFitnessConstraintsCoverage(chromosome);
+        int changes = 0;
+        boolean improved = true;
+        while (improved && (changes < maxChanges) && (fitness < 1.0f)) {
+            improved = false;
+            for (int i = 0; (i < constraintLevels.length) && !improved; i++) {
+                if (cache.constraintCoverages[i] < 1.0f) {
+                    int direction = getRepairDirection(chromosome, cache, i);
+                    for (int g : candidates[i]) {
+                        Genes gene = GENES[t.getGeneOrdinal(g)];
+                        int allele = chromosome.getAlleleOrdinal(t.getGeneOrdinal(g));
+                        int repairedAllele = allele + direction;
+                        if ((repairedAllele >= 0) && (repairedAllele < ALLELES.length)) {
+                            chromosome.updateAllele(gene, ALLELES[repairedAllele]);
+                            float repairedFitness = computeFitnessConstraintsCoverage(chromosome);
+                            if (repairedFitness > fitness) {
+                                fitness = repairedFitness;
+                                changes++;
+                                improved = true;
+                                break;
+                            }
+                            chromosome.updateAllele(gene, ALLELES[allele]);
+                        }
+                    }
+                    if (!improved) {
+                        // Undone changes have left the cached values dirty.
+                        computeFitnessConstraintsCoverage(chromosome);
+                    }
+                }
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * This method returns whether the value constrained by a violated
+     * constraint has to increase or decrease to satisfy it.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param chromosome The chromosome being repaired.
+     * @param cache The fitness cache of the chromosome being repaired.
+     * @param constraintIndex The index of the compiled constraint.
+     * @return 1, if the value has to increase, or -1 if it has to decrease.
+     */
+    private int getRepairDirection(Chromosome chromosome, FitnessCache cache, int constraintIndex) {
+        switch (OPERATORS[constraintOperators[constraintIndex]]) {
+            case LESS:
+            case LESS_OR_EQUAL:
+                return -1;
+            case EQUAL:
+                float value;
+                switch (constraintLevels[constraintIndex]) {
+                    case GENE_LEVEL:
+                        value = DLIS[chromosome.getAlleleOrdinal(constraintPositions[constraintIndex])];
+                        break;
+                    case CATEGORY_LEVEL:
+                        value = cache.categoryValues[constraintPositions[constraintIndex]];
+                        break;
+                    case FUNCTION_LEVEL:
+                        value = cache.functionValues[constraintPositions[constraintIndex]];
+                        break;
+                    default:
+                        value = cache.assetValue;
+                        break;
+                }
+                if (value > constraintThresholds[constraintIndex]) {
+                    return -1;
+                }
+                return 1;
+            default:
+                return 1;
+        }
+    }
+
+    /**
+     * This method returns, for every compiled constraint, the positions of the
+     * genes the constrained node depends on, sorted by decreasing influence.
+     * They are computed the first time they are needed.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the repair candidates of every compiled constraint.
+     */
+    private int[][] getRepairCandidates() {
+        int[][] candidates = repairCandidates;
+        if (candidates == null) {
+            final Topology t = topology;
+            // Influence of each gene on its category, function and the asset.
+            float[] categoryInfluence = new float[t.getNumberOfGenes()];
+            float[] functionInfluence = new float[t.getNumberOfGenes()];
+            float[] assetInfluence = new float[t.getNumberOfGenes()];
+            for (int g = 0; g < t.getNumberOfGenes(); g++) {
+                int c = t.getGeneCategory(g);
+                int f = t.getCategoryFunction(c);
+                categoryInfluence[g] = t.getGeneWeight(g);
+                functionInfluence[g] = categoryInfluence[g] * t.getCategoryWeight(c);
+                assetInfluence[g] = functionInfluence[g] * t.getFunctionWeight(f);
+            }
+            candidates = new int[constraintLevels.length][];
+            for (int i = 0; i < constraintLevels.length; i++) {
+                switch (constraintLevels[i]) {
+                    case GENE_LEVEL:
+                        candidates[i] = new int[]{t.getGenePosition(constraintPositions[i])};
+                        break;
+                    case CATEGORY_LEVEL:
+                        candidates[i] = sortByInfluence(t.getCategoryGenesStart(constraintPositions[i]), t.getCategoryGenesStart(constraintPositions[i] + 1), categoryInfluence);
+                        break;
+                    case FUNCTION_LEVEL:
+                        int f = constraintPositions[i];
+                        candidates[i] = sortByInfluence(t.getCategoryGenesStart(t.getFunctionCategoriesStart(f)), t.getCategoryGenesStart(t.getFunctionCategoriesStart(f + 1)), functionInfluence);
+                        break;
+                    default:
+                        candidates[i] = sortByInfluence(0, t.getNumberOfGenes(), assetInfluence);
+                        break;
+                }
+            }
+            repairCandidates = candidates;
+        }
+        return candidates;
+    }
+
+    /**
+     * This method returns the positions of the genes within the specified
+     * range, sorted by decreasing influence. Genes with the same influence
+     * keep their order in the hierarchy.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param from The position of the first gene (included).
+     * @param to The position of the last gene (excluded).
+     * @param influence The influence of every gene.
+     * @return the positions of the genes sorted by decreasing influence.
+     */
+    private static int[] sortByInfluence(int from, int to, float[] influence) {
+        Integer[] positions = new Integer[to - from];
+        for (int g = from; g < to; g++) {
+            positions[g - from] = g;
+        }
+        Arrays.sort(positions, (a, b) -> Float.compare(influence[b], influence[a]));
+        int[] sortedPositions = new int[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            sortedPositions[i] = positions[i];
+        }
+        return sortedPositions;
+    }
+}
@@ -38,6 +38,7 @@ package com.manolodominguez.fleco.genetics;
 import com.manolodominguez.fleco.uleo.Categories;
 import com.manolodominguez.fleco.uleo.FunctionalAreas;
 import com.manolodominguez.fleco.uleo.ImplementationGroups;
+import com.manolodominguez.fleco.uleo.Topology;
 import java.util.concurrent.CopyOnWriteArrayList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -46,186 +47,184 @@ import org.slf4j.LoggerFactory;
  * This enum defines all cybersecurity expected outcomes, in the form of genes,
  * and also its weights as defined in CyberTOMP proposal, depending on whether
  * implementation groups 1, 2, or 3 applies. Additional descriptions and
- * auxiliar data is provided for each.
+ * auxiliar data is provided for each; the longer texts are kept in the
+ * Genes.properties resource and read only when first requested.
  *
  * @author manuel Domínguez-Dorado
  */
 public enum Genes {
-    ID_AM_CSC_1_1((float) 1 / 8, (float) 1 / 11, (float) 1 / 11, ImplementationGroups.IG1, Categories.ID_AM, "CSC-1.1", "Establish and maintain detailed enterprise asset inventory", "Establish and maintain an accurate, detailed, and up-to-date inventory of all enterprise assets with the potential to store or process data, to include: end-user devices (including portable and mobile), network devices, non-computing/IoT devices, and servers. Ensure the inventory records the network address (if static), hardware address, machine name, enterprise asset owner, department for each asset, and whether the asset has been approved to connect to the network. For mobile end-user devices, MDM type tools can support this process, where appropriate. This inventory includes assets connected to the infrastructure physically, virtually, remotely, and those within cloud environments. Additionally, it includes assets that are regularly connected to the enterprise’s network infrastructure, even if they are not under control of the enterprise. Review and update the inventory of all enterprise assets bi-annually, or more frequently.", "CIS Critical Security Controls v8", FunctionalAreas.FA7),
-    ID_AM_CSC_12_4((float) 0.0f, (float) 1 / 11, (float) 1 / 11, ImplementationGroups.IG2, Categories.ID_AM, "CSC-12.4", "Establish and maintain architecture diagrams", "Establish and maintain architecture diagram(s) and/or other network system documentation. Review and update documentation annually, or when significant enterprise changes occur that could impact this Safeguard.", "CIS Critical Security Controls v8", FunctionalAreas.FA10),
-    ID_AM_CSC_14_1((float) 1 / 8, (float) 1 / 11, (float) 1 / 11, ImplementationGroups.IG1, Categories.ID_AM, "CSC-14.1", "Establish and maintain a security awareness program", "Establish and maintain a security awareness program. The purpose of a security awareness program is to educate the enterprise’s workforce on how to interact with enterprise assets and data in a secure manner. Conduct training at hire and, at a minimum, annually. Review and update content annually, or when significant enterprise changes occur that could impact this Safeguard.", "CIS Critical Security Controls v8", FunctionalAreas.FA3),
-    ID_AM_CSC_2_2((float) 1 / 8, (float) 1 / 11, (float) 1 / 11, ImplementationGroups.IG1, Categories.ID_AM, "CSC-2.2", "Ensure authorized software is currently supported ", "Ensure that only currently supported software is designated as authorized in the software inventory for enterprise assets. If software is unsupported, yet necessary for the fulfillment of the enterprise’s mission, document an exception detailing mitigating controls and residual risk acceptance. For any unsupported software without an exception documentation, designate as unauthorized. Review the software list to verify software support at least monthly, or more frequently.", "CIS Critical Security Controls v8", FunctionalAreas.FA8),
-    ID_AM_CSC_3_1((float) 1 / 8, (float) 1 / 11, (float) 1 / 11, ImplementationGroups.IG1, Categories.ID_AM, "CSC-3.1", "Establish and maintain a data management process", "Establish and maintain a data management process. In the process, address data sensitivity, data owner, handling of data, data retention limits, and disposal requirements, based on sensitivity and retention standards for the enterprise. Review and update documentation annually, or when significant enterprise changes occur that could impact this Safeguard.", "CIS Critical Security Controls v8", FunctionalAreas.FA5),
-    ID_AM_CSC_3_2((float) 1 / 8, (float) 1 / 11, (float) 1 / 11, ImplementationGroups.IG1, Categories.ID_AM, "CSC-3.2", "Establish and maintain a data inventory", "Establish and maintain a data inventory, based on the enterprise’s data management process. Inventory sensitive data, at a minimum. Review and update inventory annually, at a minimum, with a priority on sensitive data.", "CIS Critical Security Controls v8", FunctionalAreas.FA10),
-    ID_AM_CSC_3_6((float) 1 / 8, (float) 1 / 11, (float) 1 / 11, ImplementationGroups.IG1, Categories.ID_AM, "CSC-3.6", "Encrypt data on end-user devices", "Encrypt data on end-user devices containing sensitive data. Example implementations can include: Windows BitLocker, Apple FileVault, Linux dm-crypt.", "CIS Critical Security Controls v8", FunctionalAreas.FA10),
-    ID_AM_CSC_3_7((float) 0.0f, (float) 1 / 11, (float) 1 / 11, ImplementationGroups.IG2, Categories.ID_AM, "CSC-3.7", "Establish and maintain a data classification scheme", "Establish and maintain an overall data classification scheme for the enterprise. Enterprises may use labels, such as Sensitive, Confidential, and Public, and classify their data according to those labels. Review and update the classification scheme annually, or when significant enterprise changes occur that could impact this Safeguard.", "CIS Critical Security Controls v8", FunctionalAreas.FA9),
-    ID_AM_ID_AM_1((float) 1 / 8, (float) 1 / 11, (float) 1 / 11, ImplementationGroups.IG1, Categories.ID_AM, "ID.AM-1", "Physical devices and systems within the organization are inventoried", "This is achieved by classifying data and objects based on type, sensitivity, and organizational importance; categorizing assets by business criticality and maintaining a comprehensive inventory with assigned ownership; and keeping a record of mobile devices used for company data, including tracking changes in device status and assignment. Overall, these standards underline the significance of structured data classification, effective asset management, and thorough mobile device tracking for organizational security and functionality.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA7),
-    ID_AM_ID_AM_2((float) 1 / 8, (float) 1 / 11, (float) 1 / 11, ImplementationGroups.IG1, Categories.ID_AM, "ID.AM-2", "Software platforms and applications within the organization are inventoried", "Create a comprehensive inventory of system components, ensuring accuracy and inclusiveness while avoiding duplications or components assigned elsewhere. The inventory should be detailed enough for effective tracking and reporting and must include specific information for achieving system component accountability, covering attributes such as component identifiers, version details, locations, and assigned personnel responsibilities.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA8),
-    ID_AM_ID_AM_3((float) 0.0f, (float) 1 / 11, (float) 1 / 11, ImplementationGroups.IG2, Categories.ID_AM, "ID.AM-3", "Organizational communication and data flows are mapped", "Ensure proper information flow control by enforcing approved authorizations within the system and between connected systems based on organization-defined information flow control policies. Approve and manage information exchange with other systems using various agreement types, documenting interface characteristics and security details. Authorize internal connections of specified system components, documenting their interface, security requirements, and communicated information; periodically review the necessity of each connection. Develop comprehensive security and privacy architectures for the system, detailing approaches for safeguarding organizational information and minimizing privacy risks. Mandate developers to create design specifications and security/privacy architectures consistent with the organization's enterprise architecture, accurately describing required functionality and control allocation.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA8),
-    ID_BE_9D_1((float) 0.0f, (float) 1 / 1, (float) 1 / 6, ImplementationGroups.IG2, Categories.ID_BE, "9D-1", "Deter attacks", "Establish and maintain an incident response process that addresses roles and responsibilities, compliance requirements, and a communication plan. Review annually, or when significant enterprise changes occur that could impact this Safeguard.", "https://ieeexplore.ieee.org/document/6737236", FunctionalAreas.FA7),
-    ID_BE_ID_BE_1((float) 0.0f, (float) 0.0f, (float) 1 / 6, ImplementationGroups.IG3, Categories.ID_BE, "ID.BE-1", "The organization’s role in the supply chain is identified and communicated", "Develop, document, and communicate a supply chain risk management policy to designated personnel or roles, outlining purpose, scope, responsibilities, and compliance considerations, in alignment with relevant laws and regulations. Establish procedures to facilitate the implementation of the policy. Create a process or processes to identify and rectify weaknesses or deficiencies within the supply chain elements and processes of specified systems or components, in coordination with defined supply chain personnel. Utilize specific controls to safeguard against supply chain risks and minimize potential threats to the system, its components, or services.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA6),
-    ID_BE_ID_BE_2((float) 0.0f, (float) 0.0f, (float) 1 / 6, ImplementationGroups.IG3, Categories.ID_BE, "ID.BE-2", "The organization’s place in critical infrastructure and its industry sector is identified and communicated", "Incorporate information security and privacy considerations into the creation, documentation, and regular updates of a critical infrastructure and key resources protection plan.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA6),
-    ID_BE_ID_BE_3((float) 0.0f, (float) 0.0f, (float) 1 / 6, ImplementationGroups.IG3, Categories.ID_BE, "ID.BE-3", "Priorities for organizational mission, objectives, and activities are established and communicated", "Define organizational mission and business processes, ensuring integration of information security and privacy measures while assessing risks to operations, assets, individuals, other organizations, and the nation. Identify information protection requirements and personally identifiable information (PII) processing needs stemming from these processes. Regularly review and update the mission and business processes while maintaining alignment with security and privacy considerations.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA5),
-    ID_BE_ID_BE_4((float) 0.0f, (float) 0.0f, (float) 1 / 6, ImplementationGroups.IG3, Categories.ID_BE, "ID.BE-4", "Dependencies and critical functions for delivery of critical services are established", "Develop a comprehensive contingency plan for the system, identifying essential mission and business functions with associated recovery objectives, priorities, and roles. Include mechanisms for maintaining these functions during disruptions and ensuring eventual full system restoration. Establish alternate telecommunications services, including agreements, for resuming system operations within a defined period when primary capabilities are unavailable. Safeguard power equipment and cabling to prevent damage, and provide an uninterruptible power supply for orderly shutdown or transition during power loss. Address information security and privacy aspects within a critical infrastructure plan's development and updates. Perform criticality analysis to identify key system components and functions at decision points in the development life cycle. Reimplement or custom develop critical system components as specified. Create a supply chain risk management plan for specified systems or components, and regularly review and update it.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA5),
-    ID_BE_ID_BE_5((float) 0.0f, (float) 0.0f, (float) 1 / 6, ImplementationGroups.IG3, Categories.ID_BE, "ID.BE-5", "Resilience requirements to support delivery of critical services are established for all operating states", "Create a comprehensive contingency plan for the system encompassing identification of essential mission and business functions with associated contingency requirements, outlining recovery objectives, restoration priorities, and metrics. Specify contingency roles, responsibilities, and individuals with contact details. Ensure strategies for maintaining crucial functions during disruptions and system compromises, and incorporate provisions for eventual full system restoration without degradation. Establish the capability to utilize organization-defined alternative communications protocols to support continuity of operations. Perform a criticality analysis for organization-defined systems, components, or services at specified decision points in the system development life cycle. Apply organization-defined systems security and privacy engineering principles throughout the specification, design, development, implementation, and modification of the system and its components. Additionally, reimplement or custom develop organization-defined critical system components as needed.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA5),
-    ID_GV_CSC_17_4((float) 0.0f, (float) 1 / 3, (float) 1 / 5, ImplementationGroups.IG2, Categories.ID_GV, "CSC-17.4", "Establish and maintain an incident response process", "Establish and maintain an incident response process that addresses roles and responsibilities, compliance requirements, and a communication plan. Review annually, or when significant enterprise changes occur that could impact this Safeguard.", "CIS Critical Security Controls v8", FunctionalAreas.FA5),
-    ID_GV_ID_GV_1((float) 1 / 1, (float) 1 / 3, (float) 1 / 5, ImplementationGroups.IG1, Categories.ID_GV, "ID.GV-1", "Organizational cybersecurity policy is established and communicated", "Develop, document, and communicate to designated personnel or roles a series of policies and procedures for various security and compliance aspects (access control, awarenes and training, audit and accountability, assesment, authorization and monitoring, configuration management, contingency planning, identification and authentication, incident response, media protection, physical and environmental protecion, planning, cybersecurity operational plan, personnel security, personally identifiable information processing and transparency, risk assessment, system and services acquisition, system and communications, system and information integrity, supply chain risk management) that align with organization-defined levels (organization-level, mission/business process-level, system-level). Address purpose, scope, roles, responsibilities, management commitment, and coordination among organizational entities, ensuring consistency with relevant laws, regulations, and standards. Additionally, establish procedures to facilitate the implementation of each policy.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA5),
-    ID_GV_ID_GV_2((float) 0.0f, (float) 1 / 3, (float) 1 / 5, ImplementationGroups.IG2, Categories.ID_GV, "ID.GV-2", "Cybersecurity roles and responsibilities are coordinated and aligned with internal roles and external partners", "Appoint a senior agency information security officer to lead the organization's information security program, ensuring coordination, development, implementation, and maintenance. For risk management leadership roles, designate a Senior Accountable Official for Risk Management to align information security and privacy management with strategic planning, and establish a Risk Executive to oversee organization-wide risk analysis and consistency. Establish personnel security requirements for external providers, including security roles and compliance with policies; document these requirements and ensure notification of personnel changes. Lastly, integrate security and privacy roles and responsibilities into organizational position descriptions.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA9),
-    ID_GV_ID_GV_3((float) 0.0f, (float) 0.0f, (float) 1 / 5, ImplementationGroups.IG3, Categories.ID_GV, "ID.GV-3", "Legal and regulatory requirements regarding cybersecurity, including privacy and civil liberties obligations, are understood and managed", "Identify relevant legal regulations, and create, document, and communicate a comprehensive set of policies and procedures to designated personnel or roles, focusing on promoting understanding and compliance. Specify purpose, scope, roles, responsibilities, management commitment, and coordination among organizational entities, ensuring alignment with pertinent laws, regulations, and standards. Additionally, establish procedures to streamline the implementation and practicality of the policy.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA5),
-    ID_GV_ID_GV_4((float) 0.0f, (float) 0.0f, (float) 1 / 5, ImplementationGroups.IG3, Categories.ID_GV, "ID.GV-4", "Governance and risk management processes address cybersecurity risks", "Incorporate essential steps into your organizational processes as follows: ensure the inclusion of necessary resources for implementing information security and privacy programs within capital planning and investment requests, alongside documenting any exceptions; create and maintain an enterprise architecture that considers information security, privacy, and associated risks; formulate a comprehensive strategy for managing security and privacy risks consistently across the organization; integrate authorization processes into the broader organizational risk management program, designating specific roles and responsibilities; define mission and business processes with attention to information security, privacy, and risk; identify and document risk framing considerations, share them with relevant personnel, and review and update them as necessary; develop, document, and disseminate risk assessment policies and procedures, aligned with applicable laws and standards, and establish implementation procedures; categorize system security and information, documenting results and obtaining approval; conduct thorough risk assessments, identifying threats, vulnerabilities, and potential harm; define high-level information security and privacy requirements for systems, allocate necessary resources, and establish a dedicated line item for information security.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA5),
-    ID_RA_9D_1((float) 0.0f, (float) 1 / 4, (float) 1 / 9, ImplementationGroups.IG2, Categories.ID_RA, "9D-1", "Deter attacks", "An attacker needs three things for a successful attack: (a) The will to attempt an attack, (b) the ability to succeed with the attack and (c) access to the system. Deterrence measures are those that work to reduce an attacker's will to attempt an attack, such as threats of legal action or other punitive measures. Unfortunately, deterrence is prone to failure. Protections that work against ability are technical protection measures (TPMs). Curtailing system access can often be accomplished through policies.", "https://ieeexplore.ieee.org/document/6737236", FunctionalAreas.FA7),
-    ID_RA_CSC_18_2((float) 0.0f, (float) 1 / 4, (float) 1 / 9, ImplementationGroups.IG2, Categories.ID_RA, "CSC-18.2", "Perform periodic external penetration tests", "Perform periodic external penetration tests based on program requirements, no less than annually. External penetration testing must include enterprise and environmental reconnaissance to detect exploitable information. Penetration testing requires specialized skills and experience and must be conducted through a qualified party. The testing may be clear box or opaque box.", "CIS Critical Security Controls v8", FunctionalAreas.FA7),
-    ID_RA_CSC_18_5((float) 0.0f, (float) 0.0f, (float) 1 / 9, ImplementationGroups.IG3, Categories.ID_RA, "CSC-18.5", "Perform periodic internal penetration tests", "Perform periodic internal penetration tests based on program requirements, no less than annually. The testing may be clear box or opaque box.", "CIS Critical Security Controls v8", FunctionalAreas.FA7),
-    ID_RA_CSC_3_7((float) 0.0f, (float) 1 / 4, (float) 1 / 9, ImplementationGroups.IG2, Categories.ID_RA, "CSC-3.7", "Establish and maintain a data classification scheme", "Establish and maintain an overall data classification scheme for the enterprise. Enterprises may use labels, such as Sensitive, Confidential, and Public, and classify their data according to those labels. Review and update the classification scheme annually, or when significant enterprise changes occur that could impact this Safeguard.", "CIS Critical Security Controls v8", FunctionalAreas.FA9),
-    ID_RA_ID_RA_1((float) 1 / 1, (float) 1 / 4, (float) 1 / 9, ImplementationGroups.IG1, Categories.ID_RA, "ID.RA-1", "Asset vulnerabilities are identified and documented", "Implement the following actions to ensure effective information security and privacy practices: choose assessors or teams for specific assessments, create assessment plans defining scope, controls, procedures, and roles; develop a plan of action and milestones (POA&M) to address control weaknesses and vulnerabilities, updating it regularly; establish a system-level continuous monitoring strategy, set metrics, frequencies, and assessment procedures; conduct penetration testing at defined intervals on designated systems; establish a process for developing and maintaining POA&Ms for security, privacy, and supply chain risk management programs; establish connections with security and privacy groups for education, training, and information sharing; conduct comprehensive risk assessments, identifying threats, vulnerabilities, and potential impacts; perform regular vulnerability monitoring and scanning, utilizing interoperable tools; obtain or develop administrator and user documentation detailing secure system configuration, operation, maintenance, and known vulnerabilities; mandate ongoing security assessments and testing by developers at various system development stages; identify, report, and remedy system flaws, testing updates before installation; monitor systems strategically and ad hoc, detecting attacks and unauthorized activities; actively receive, generate, and disseminate security alerts, advisories, and directives from/to various sources.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA7),
-    ID_RA_ID_RA_2((float) 0.0f, (float) 0.0f, (float) 1 / 9, ImplementationGroups.IG3, Categories.ID_RA, "ID.RA-2", "Cyber threat intelligence is received from information sharing forums and sources", "Implement the following actions for enhanced security and privacy management: establish connections with security and privacy groups to facilitate education, training, and information sharing; create a threat awareness program with cross-organizational threat intelligence sharing capability; develop and maintain a cyber threat hunting capability to search for indicators of compromise, detect and disrupt threats; establish processes to receive, generate, and disseminate system security alerts, advisories, and directives from/to internal and external sources, ensuring comprehensive communication within the organization and beyond.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA4),
-    ID_RA_ID_RA_3((float) 0.0f, (float) 0.0f, (float) 1 / 9, ImplementationGroups.IG3, Categories.ID_RA, "ID.RA-3", "Threats, both internal and external, are identified and documented", "Implement the following measures for effective security and risk management: establish an insider threat program with a multidisciplinary insider threat incident handling team; develop a threat awareness program incorporating cross-organizational sharing of threat intelligence; conduct a comprehensive risk assessment including identification of threats, vulnerabilities, likelihood, and impact of unauthorized access, use, disclosure, disruption, and adverse effects; create and maintain a cyber threat hunting capability to search for indicators of compromise, detect, track, and disrupt threats periodically; establish procedures to continuously receive, generate, and communicate system security alerts, advisories, and directives from/to internal and external sources, ensuring widespread dissemination within and outside the organization.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA4),
-    ID_RA_ID_RA_4((float) 0.0f, (float) 0.0f, (float) 1 / 9, ImplementationGroups.IG3, Categories.ID_RA, "ID.RA-4", "Potential business impacts and likelihoods are identified", "Develop the following plans and strategies to enhance security and risk management: create a comprehensive contingency plan for the system that identifies essential functions, outlines recovery objectives, addresses roles and responsibilities, and ensures maintenance of critical functions during disruptions; formulate a comprehensive strategy to manage security and privacy risks associated with system operation and use, applying it consistently across the organization and undergoing regular reviews; define organizational mission and business processes considering information security and privacy risks, and review and update these processes accordingly; categorize the system and its processed information, document results in the security plan, and ensure approval by the designated authority; conduct a thorough risk assessment encompassing threat identification, vulnerability analysis, likelihood determination, potential harm evaluation, and impact assessment; identify critical system components and functions by conducting a criticality analysis for specified systems, components, or services at defined decision points in the system development life cycle.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA6),
-    ID_RA_ID_RA_6((float) 0.0f, (float) 0.0f, (float) 1 / 9, ImplementationGroups.IG3, Categories.ID_RA, "ID.RA-6", "Risk responses are identified and prioritized", "Create a comprehensive plan of action and milestones (POA&M) for the system to outline the organization's intended corrective actions for addressing weaknesses, deficiencies, and vulnerabilities identified during control assessments; Periodically update the existing POA&M based on organization-defined frequency intervals. Establish and execute a process that ensures the development, maintenance, and documentation of POA&Ms for information security, privacy, and supply chain risk management programs, addressing risks to operations, assets, individuals, and other organizations. Develop a comprehensive risk management strategy that covers security and privacy risks related to organizational systems and assets, implement the strategy consistently, and regularly review and update it. Identify, document, and share assumptions, constraints, priorities, trade-offs, and risk tolerance considerations related to risk management through risk framing activities and ensure distribution to organization-defined personnel. Lastly, respond to security and privacy assessment findings, monitoring results, and audits based on the organization's risk tolerance.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA6),
-    ID_RM_9D_8((float) 0.0f, (float) 1 / 1, (float) 1 / 4, ImplementationGroups.IG2, Categories.ID_RM, "9D-8", "Divert attackers to other targets", "Another effective strategy is to divert attention to a more attractive target elsewhere. The well-known adage about not needing to outrun a bear, if you can outrun one other person, can also apply to cybersecurity. You could win merely by persuading an attacker to target someone else.", "https://ieeexplore.ieee.org/document/6737236", FunctionalAreas.FA2),
-    ID_RM_ID_RM_1((float) 0.0f, (float) 0.0f, (float) 1 / 4, ImplementationGroups.IG3, Categories.ID_RM, "ID.RM-1", "Risk management processes are established, managed, and agreed to by organizational stakeholders", "Develop a comprehensive risk management strategy that covers both security and privacy risks related to organizational operations, assets, individuals, other organizations, and the Nation, taking into account the use of organizational systems and the processing of personally identifiable information. Ensure consistent implementation of this risk management strategy throughout the organization and conduct periodic reviews and updates. For risk framing, identify and record assumptions, constraints, priorities, trade-offs, and organizational risk tolerance affecting risk assessments, responses, and monitoring. Share the outcomes of risk framing with organization-defined personnel, and regularly revise and enhance the risk framing considerations as directed by the organization.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA6),
-    ID_RM_ID_RM_2((float) 0.0f, (float) 0.0f, (float) 1 / 4, ImplementationGroups.IG3, Categories.ID_RM, "ID.RM-2", "Organizational risk tolerance is determined and clearly expressed", "Create a comprehensive risk management strategy that addresses security risks to organizational operations, assets, individuals, other organizations, and the Nation arising from the use of organizational systems, as well as privacy risks stemming from authorized processing of personally identifiable information. Ensure consistent implementation of this strategy throughout the organization and regularly review and update it as necessary.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA6),
-    ID_RM_ID_RM_3((float) 0.0f, (float) 0.0f, (float) 1 / 4, ImplementationGroups.IG3, Categories.ID_RM, "ID.RM-3", "The organization’s determination of risk tolerance is informed by its role in critical infrastructure and sector specific risk analysis", "Incorporate information security and privacy aspects into the creation, documentation, and updating of a critical infrastructure and key resources protection plan. Develop and implement a comprehensive risk management strategy that effectively addresses security risks to organizational operations, assets, individuals, other organizations, and the Nation, as well as privacy risks from authorized processing of personally identifiable information. Ensure consistent application of the risk management strategy across the organization and conduct regular reviews and updates. Define organizational mission and business processes with consideration for information security and privacy to mitigate risk to operations, assets, individuals, other organizations, and the Nation. Conduct a criticality analysis to identify crucial system components and functions, assessing organization-defined systems, system components, or system services.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA6),
-    ID_SC_ID_SC_1((float) 0.0f, (float) 1 / 4, (float) 1 / 5, ImplementationGroups.IG2, Categories.ID_SC, "ID.SC-1", "Cyber supply chain risk management processes are identified, established, assessed, managed, and agreed to by organizational stakeholders", "Create an organization-wide strategy for supply chain risk management encompassing the full lifecycle of systems, components, and services, ensuring consistent implementation throughout the organization. Develop and disseminate a supply chain risk management policy addressing roles, responsibilities, compliance, and coordination, while aligning with relevant regulations and guidelines. Formulate a supply chain risk management plan focusing on various stages including research, development, manufacturing, acquisition, integration, operations, and disposal of specific systems, components, or services. Establish processes and controls to identify and rectify weaknesses in supply chain elements, working collaboratively with supply chain personnel. Employ appropriate acquisition strategies, contract tools, and procurement methods to mitigate supply chain risks as defined by the organization. Regularly review and update these strategies and plans to maintain their effectiveness and relevance.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA5),
-    ID_SC_ID_SC_2((float) 1 / 2, (float) 1 / 4, (float) 1 / 5, ImplementationGroups.IG1, Categories.ID_SC, "ID.SC-2", "Suppliers and partners of information systems, components, and services are identified, prioritized, and assessed using a cyber supply chain risk assessment process ", "Develop a comprehensive risk management strategy to address security and privacy risks consistently across the organization, covering operational, individual, and national aspects. Conduct a detailed risk assessment for the system, considering potential threats, vulnerabilities, and harm to information, individuals, and operations. Ensure developers follow a documented process that includes security and privacy requirements and maintains tool integrity. Create a supply chain risk management plan for system development, acquisition, and maintenance, and establish processes to identify and mitigate weaknesses in supply chain elements. Implement defined acquisition strategies, tools, and methods to counter and mitigate supply chain risks. Assess and review supply chain-related risks associated with suppliers or contractors at organization-defined intervals.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA5),
-    ID_SC_ID_SC_3((float) 0.0f, (float) 1 / 4, (float) 1 / 5, ImplementationGroups.IG2, Categories.ID_SC, "ID.SC-3", "Contracts with third-parties implement appropriate measures to meet the objectives of an organization’s cybersecurity program and Cyber Supply Chain Risk Management Plan.", "Include security and privacy requirements in acquisition contracts. Ensure external service providers follow organizational security rules and monitor compliance. Develop and update a supply chain risk plan for specified systems/components. Identify and rectify supply chain weaknesses using controls. Employ defined methods and tools to manage supply chain risks in acquisitions.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA9),
-    ID_SC_ID_SC_4((float) 0.0f, (float) 0.0f, (float) 1 / 5, ImplementationGroups.IG3, Categories.ID_SC, "ID.SC-4", "Suppliers and partners are routinely assessed using audits, test results, or other forms of evaluations to confirm they are meeting their contractual obligations.", "Review system audit records regularly for unusual activity, report findings, and adjust review levels as needed. Select appropriate assessors, develop assessment plans, and ensure control effectiveness assessment in line with roles and responsibilities. Establish a continuous monitoring strategy, monitor system metrics, and conduct ongoing control assessments. Define personnel security roles for external providers, ensure compliance, and manage personnel transfers. Enforce security and privacy compliance by external service providers, monitor control adherence, and define oversight roles. Mandate ongoing security assessments, various testing stages, and evidence documentation for developers in the system lifecycle.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA6),
-    ID_SC_ID_SC_5((float) 1 / 2, (float) 1 / 4, (float) 1 / 5, ImplementationGroups.IG1, Categories.ID_SC, "ID.SC-5", "Response and recovery planning and testing are conducted with suppliers and providers", "Develop a contingency plan to ensure essential functions during disruptions, test it periodically, assess incident response effectiveness, implement incident handling aligned with lessons learned, create an incident response plan addressing structure and uniqueness, and respond to information spills with assigned roles, alerts, isolation, eradication, and documentation.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA9),
-    PR_AC_CSC_12_5((float) 0.0f, (float) 1 / 11, (float) 1 / 14, ImplementationGroups.IG2, Categories.PR_AC, "CSC-12.5", "Centralize network authentication, authorization, and auditing", "Centralize network AAA by consolidating and managing the processes of verifying user identities, granting or denying access to resources, and tracking and recording user activities across a network in a centralized manner. This typically involves implementing a unified system or service that handles authentication (confirming user identities), authorization (granting or denying access based on user permissions), and auditing (tracking and recording user actions) for various resources and services within the network.", "CIS Critical Security Controls v8", FunctionalAreas.FA10),
-    PR_AC_CSC_12_6((float) 0.0f, (float) 1 / 11, (float) 1 / 14, ImplementationGroups.IG2, Categories.PR_AC, "CSC-12.6", "Use of secure network management and communication protocols ", "Use secure network management and communication protocols", "CIS Critical Security Controls v8", FunctionalAreas.FA10),
-    PR_AC_CSC_13_4((float) 0.0f, (float) 1 / 11, (float) 1 / 14, ImplementationGroups.IG2, Categories.PR_AC, "CSC-13.4", "Perform traffic filtering between network segments", "Perform traffic filtering between network segments, where appropriate", "CIS Critical Security Controls v8", FunctionalAreas.FA10),
-    PR_AC_CSC_4_7((float) 1 / 7, (float) 1 / 11, (float) 1 / 14, ImplementationGroups.IG1, Categories.PR_AC, "CSC-4.7", "Manage default accounts on enterprise assets and software", "Manage default accounts on enterprise assets and software, such as root, administrator, and other pre-configured vendor accounts. Example implementations can include: disabling default accounts or making them unusable.", "CIS Critical Security Controls v8", FunctionalAreas.FA10),
-    PR_AC_CSC_5_2((float) 1 / 7, (float) 1 / 11, (float) 1 / 14, ImplementationGroups.IG1, Categories.PR_AC, "CSC-5.2", "Use unique passwords", "Use unique passwords for all enterprise assets. Best practice implementation includes, at a minimum, an 8-character password for accounts using MFA and a 14-character password for accounts not using MFA. ", "CIS Critical Security Controls v8", FunctionalAreas.FA10),
-    PR_AC_CSC_5_6((float) 0.0f, (float) 1 / 11, (float) 1 / 14, ImplementationGroups.IG2, Categories.PR_AC, "CSC-5.6", "Centralize account management", "Centralize account management through a directory or identity service.", "CIS Critical Security Controls v8", FunctionalAreas.FA10),
-    PR_AC_CSC_6_8((float) 0.0f, (float) 0.0f, (float) 1 / 14, ImplementationGroups.IG3, Categories.PR_AC, "CSC-6.8", "Define and maintain role-based access control", "Define and maintain role-based access control, through determining and documenting the access rights necessary for each role within the enterprise to successfully carry out its assigned duties. Perform access control reviews of enterprise assets to validate that all privileges are authorized, on a recurring schedule at a minimum annually, or more frequently.", "CIS Critical Security Controls v8", FunctionalAreas.FA10),
-    PR_AC_PR_AC_1((float) 1 / 7, (float) 1 / 11, (float) 1 / 14, ImplementationGroups.IG1, Categories.PR_AC, "PR.AC-1", "Identities and credentials are issued, managed, verified, revoked, and audited for authorized devices, users and processes", "Develop, document, and communicate identification and authentication policies at different levels, ensuring compliance and consistency; Uniquely identify and authenticate organizational users, devices, and non-organizational users before establishing connections; Manage system identifiers and authenticators with proper authorization, strength, and distribution; Implement authentication mechanisms for cryptographic modules; Identify and authenticate system services and applications before communications; Employ adaptive authentication and re-authentication based on defined circumstances; Perform identity proofing for logical access accounts, ensuring uniqueness and validation of user identities.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA10),
-    PR_AC_PR_AC_2((float) 0.0f, (float) 0.0f, (float) 1 / 14, ImplementationGroups.IG3, Categories.PR_AC, "PR.AC-2", "Physical access to assets is managed and protected", "Develop, document, and communicate physical and environmental protection policies at various levels, ensuring compliance with laws and standards; Maintain a list of authorized facility access individuals, issue access credentials, review access regularly, and remove unnecessary access; Enforce physical access controls at entry and exit points by verifying authorizations and using defined security systems; Control access to system distribution and transmission lines and prevent unauthorized output device access; Monitor and review physical access through logs and incident response coordination; Maintain visitor access records for a defined period, review them periodically, and report anomalies; Safeguard power equipment and cabling for the system to prevent damage or destruction.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA7),
-    PR_AC_PR_AC_3((float) 1 / 7, (float) 1 / 11, (float) 1 / 14, ImplementationGroups.IG1, Categories.PR_AC, "PR.AC-3", "Remote access is managed", "Develop and communicate access control policies for various levels, aligning with laws and standards; Set up and authorize remote access types with usage limits and configuration requirements; Define configuration, connection rules, and authorization for organization-controlled mobile devices both on and off-site; Establish terms and controls for using external systems while maintaining trust relationships; Allow remote activation of collaborative devices selectively, indicating usage to present users.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA10),
-    PR_AC_PR_AC_4((float) 1 / 7, (float) 1 / 11, (float) 1 / 14, ImplementationGroups.IG1, Categories.PR_AC, "PR.AC-4", "Access permissions and authorizations are managed, incorporating the principles of least privilege and separation of duties", "Create, document, and share access control policies at different levels, ensuring alignment with laws; Define allowed and prohibited account types, setting criteria and roles; Enforce approved logical access permissions according to policies; Separate duties and assign access accordingly; Follow least privilege principle for user permissions; Identify actions exempt from authentication as needed; Associate security attributes with data; Implement procedures for access decisions prior to enforcement.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA10),
-    PR_AC_PR_AC_5((float) 1 / 7, (float) 1 / 11, (float) 1 / 14, ImplementationGroups.IG1, Categories.PR_AC, "PR.AC-5", "Network integrity is protected", "Enforce information flow control policies for system and connected systems; Set limits on concurrent sessions per account or type; Monitor and manage communications at system interfaces; Physically or logically separate publicly accessible components; Disconnect network after session or inactivity; Provide authenticated name/address resolution data and security status indicators.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA10),
-    PR_AC_PR_AC_6((float) 0.0f, (float) 0.0f, (float) 1 / 14, ImplementationGroups.IG3, Categories.PR_AC, "PR.AC-6", "Identities are proofed and bound to credentials and asserted in interactions", "Associate organization-defined security and privacy attributes with corresponding values for stored, processed, or transmitted information; Apply identification and authentication policies for organizational users and processes; Manage identifiers, select, assign, and prevent reuse; Manage system authenticators, verify identity, establish content, and implement procedures; Uniquely identify and authenticate non-organizational users or processes; Implement identity proofing based on assurance level requirements; Approve and maintain authorized access to facility, issue credentials, review and remove access; Screen individuals before granting system access and perform rescreening as specified.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA10),
-    PR_AC_PR_AC_7((float) 1 / 7, (float) 1 / 11, (float) 1 / 14, ImplementationGroups.IG1, Categories.PR_AC, "PR.AC-7", "Users, devices, and other assets are authenticated commensurate with the risk of the transaction", "Identify permitted user actions without authentication, explain in security plan; Develop authentication policies, roles, responsibilities; Authenticate organizational users and processes; Verify device identity before network connection; Manage authenticators for identity, strength, and procedures; Authenticate non-organizational users/processes; Authenticate system services before communications; Use adaptive authentication as specified; Re-authenticate in defined situations.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA10),
-    PR_AT_CSC_14_9((float) 0.0f, (float) 1 / 4, (float) 1 / 4, ImplementationGroups.IG2, Categories.PR_AT, "CSC-14.9", "Conduct role-specific security awareness and skills training", "Conduct role-specific security awareness and skills training. Example implementations include secure system administration courses for IT professionals, OWASP Top 10 vulnerability awareness and prevention training for web application developers, and advanced social engineering awareness training for high-profile roles.", "CIS Critical Security Controls v8", FunctionalAreas.FA3),
-    PR_AT_CSC_15_4((float) 0.0f, (float) 1 / 4, (float) 1 / 4, ImplementationGroups.IG2, Categories.PR_AT, "CSC-15.4", "Ensure service provider contracts include security requirements", "Ensure service provider contracts include security requirements. Example requirements may include minimum security program requirements, security incident and/or data breach notification and response, data encryption requirements, and data disposal commitments. These security requirements must be consistent with the enterprise’s service provider management policy. Review service provider contracts annually to ensure contracts are not missing security requirements.", "CIS Critical Security Controls v8", FunctionalAreas.FA5),
-    PR_AT_PR_AT_1((float) 1 / 1, (float) 1 / 4, (float) 1 / 4, ImplementationGroups.IG1, Categories.PR_AT, "PR.AT-1", "All users are informed and trained ", "Provide security and privacy literacy training to users including managers, executives, and contractors during initial and ongoing training, and as needed due to system changes or defined events; Set up a security and privacy workforce development program; Establish a process to develop, maintain, and execute plans for security and privacy testing, training, and monitoring activities for organizational systems, ensuring alignment with risk management strategy and priorities.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA3),
-    PR_AT_PR_AT_2((float) 0.0f, (float) 1 / 4, (float) 1 / 4, ImplementationGroups.IG2, Categories.PR_AT, "PR.AT-2", "Privileged users understand their roles and responsibilities ", "Deliver role-based security and privacy training to personnel with defined roles and responsibilities before authorizing access or performing duties, and periodically as needed including after system changes, with updated content and incorporation into the security and privacy workforce development program; Set up a security and privacy workforce development and improvement program.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA3),
-    PR_DS_9D_6((float) 0.0f, (float) 0.0f, (float) 1 / 10, ImplementationGroups.IG3, Categories.PR_DS, "9D-6", "Diffuse protection throughout the payload", "Protections should be integrated throughout a payload's core functional logic to drive up difficulty for code lifting attacks. The goal of this should be to force the attacker into a choice: either bring along functioning protections or else forfeit the payload value.", "https://ieeexplore.ieee.org/document/6737236", FunctionalAreas.FA8),
-    PR_DS_CSC_3_4((float) 1 / 2, (float) 1 / 6, (float) 1 / 10, ImplementationGroups.IG1, Categories.PR_DS, "CSC-3.4", "Enforce data retention", "Retain data according to the enterprise’s data management process. Data retention must include both minimum and maximum timelines.", "CIS Critical Security Controls v8", FunctionalAreas.FA10),
-    PR_DS_PR_DS_1((float) 0.0f, (float) 1 / 6, (float) 1 / 10, ImplementationGroups.IG2, Categories.PR_DS, "PR.DS-1", "Data-at-rest is protected", "Control access to different types of digital and non-digital media by specific personnel or roles; Label system media with distribution and security details, excluding some types within controlled areas; Securely store and account for media in controlled areas, sanitize before disposal, and document transportation with authorized personnel; Regulate the use of certain media on specific systems, disallow portable storage without ownership; Implement a process for downgrading media according to security levels and access rights; Ensure confidentiality and integrity of specified information at rest.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA10),
-    PR_DS_PR_DS_2((float) 0.0f, (float) 1 / 6, (float) 1 / 10, ImplementationGroups.IG2, Categories.PR_DS, "PR.DS-2", "Data-in-transit is protected", "Ensure the confidentiality and integrity of transmitted information; Establish a segregated and secure trusted communication path for users to interact with trusted system components, allowing invocation for specified security functions like authentication.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA10),
-    PR_DS_PR_DS_3((float) 1 / 2, (float) 1 / 6, (float) 1 / 10, ImplementationGroups.IG1, Categories.PR_DS, "PR.DS-3", "Assets are formally managed throughout removal, transfers, and disposition", "Develop a comprehensive inventory of system components that accurately represents the system, encompasses all components, avoids duplication or inclusion in other systems, and provides necessary information for accountability. Sanitize system media prior to disposal, release, or reuse using appropriate techniques with strength aligned to security classification. Authorize, control, and record the entry and exit of designated system components to/from the facility. Utilize specified asset location technologies to track and monitor the movement of designated assets within controlled areas.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA10),
-    PR_DS_PR_DS_4((float) 0.0f, (float) 0.0f, (float) 1 / 10, ImplementationGroups.IG3, Categories.PR_DS, "PR.DS-4", "Adequate capacity to ensure availability is maintained", "Ensure adequate storage capacity is allocated for audit logs to meet retention needs. Develop a comprehensive contingency plan for the system, covering essential functions, recovery objectives, roles, and full system restoration. Install uninterruptible power supply for orderly system shutdown or transition during primary power loss. Safeguard against and mitigate effects of specified denial-of-service events using designated controls.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA10),
-    PR_DS_PR_DS_5((float) 0.0f, (float) 0.0f, (float) 1 / 10, ImplementationGroups.IG3, Categories.PR_DS, "PR.DS-5", "Protections against data leaks are implemented", "Enforce authorized information flow within and between systems based on policies. Implement separation of duties and least privilege, monitor open-source information for unauthorized disclosures, and prevent electromagnetic information leakage. Develop, review, and update access agreements for system access. Monitor and control communications at interfaces, using subnetworks and boundary protection. Strategically and ad hoc monitor system activity for attacks and unauthorized access.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA10),
-    PR_DS_PR_DS_6((float) 0.0f, (float) 1 / 6, (float) 1 / 10, ImplementationGroups.IG2, Categories.PR_DS, "PR.DS-6", "Integrity checking mechanisms are used to verify software, firmware, and information integrity", "Use integrity verification tools to identify unauthorized changes in designated software, firmware, and information. If unauthorized changes are identified, execute organization-defined actions. Validate the accuracy of specified information inputs by checking their validity.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA10),
-    PR_DS_PR_DS_7((float) 0.0f, (float) 1 / 6, (float) 1 / 10, ImplementationGroups.IG2, Categories.PR_DS, "PR.DS-7", "The development and testing environment(s) are separate from the production environment", "Create, document, and manage a current system baseline configuration, maintaining it under strict configuration control. Periodically review and update the baseline configuration of the system at organization-defined intervals, in response to specified circumstances, and whenever system components undergo installation or upgrades.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA10),
-    PR_DS_PR_DS_8((float) 0.0f, (float) 0.0f, (float) 1 / 10, ImplementationGroups.IG3, Categories.PR_DS, "PR.DS-8", "Integrity checking mechanisms are used to verify hardware integrity", "Require the developer to perform configuration management for system components throughout their lifecycle stages, documenting and controlling changes to designated configuration items, and enforcing only approved changes to the system, component, or service.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA10),
-    PR_IP_9D_3((float) 0.0f, (float) 1 / 18, (float) 1 / 24, ImplementationGroups.IG2, Categories.PR_IP, "9D-3", "Drive up difficulty", "This is achieved through technical protection measures (TPMs) to make attacks more expensive and challenging. The skill of attackers is often categorized into five levels: Script Kiddy, Novice, Expert, Funded Organizations, and Nation States. These levels represent varying abilities to create and execute attacks. There are also three factors for analyzing difficulty: inherent system weakness, attacker access to weaknesses, and attacker capability to exploit weaknesses. Attacker capability increases over time due to the development of new attack tools. To increase difficulty, one can reduce system weaknesses and restrict attacker access. Additionally, attackers can be classified as rational (weighing cost/benefit) or irrational (proceeding regardless of cost/benefit). Protection systems aim to render the attackers' perceived cost/benefit ratio unfavorable to deter them, especially in the case of rational attackers. Highly-skilled attackers are more likely to be rational.", "https://ieeexplore.ieee.org/document/6737236", FunctionalAreas.FA2),
-    PR_IP_9D_5((float) 0.0f, (float) 1 / 18, (float) 1 / 24, ImplementationGroups.IG2, Categories.PR_IP, "9D-5", "Dig beneath the threat", "An attack at a layer that is lower than a particular protection may be able to defeat that protection, even if that protection is perfectly implemented. It follows then, that a protection at a lower layer than an expected attack may be able to defeat the attack, even if that attack is expertly conducted.", "https://ieeexplore.ieee.org/document/6737236", FunctionalAreas.FA2),
-    PR_IP_9D_8((float) 0.0f, (float) 1 / 18, (float) 1 / 24, ImplementationGroups.IG2, Categories.PR_IP, "9D-8", "Divert attackers to other targets", "Another effective strategy is to divert attention to a more attractive target elsewhere. The well-known adage about not needing to outrun a bear, if you can outrun one other person, can also apply to cybersecurity. You could win merely by persuading an attacker to target someone else.", "https://ieeexplore.ieee.org/document/6737236", FunctionalAreas.FA2),
-    PR_IP_9D_9((float) 1 / 8, (float) 1 / 18, (float) 1 / 24, ImplementationGroups.IG1, Categories.PR_IP, "9D-9", "Depth of defense", "The defense in depth strategy involves layered protection against advanced attackers. An example is a secure launcher for an encrypted binary program. It decrypts the binary in a safe environment, countering both static and dynamic attacks. Obfuscation protection surfaces after encryption is breached, and self-healing defenses activate once obfuscation is compromised. This prevents attackers from preemptively disabling protections.", "https://ieeexplore.ieee.org/document/6737236", FunctionalAreas.FA2),
-    PR_IP_CSC_11_1((float) 1 / 8, (float) 1 / 18, (float) 1 / 24, ImplementationGroups.IG1, Categories.PR_IP, "CSC-11.1", "Establish and maintain a data recovery process ", "Establish and maintain a data recovery process. In the process, address the scope of data recovery activities, recovery prioritization, and the security of backup data. Review and update documentation annually, or when significant enterprise changes occur that could impact this Safeguard. ", "CIS Critical Security Controls v8", FunctionalAreas.FA10),
-    PR_IP_CSC_16_1((float) 0.0f, (float) 1 / 18, (float) 1 / 24, ImplementationGroups.IG2, Categories.PR_IP, "CSC-16.1", "Establish and maintain a secure application development process", "Establish and maintain a secure application development process. In the process, address such items as: secure application design standards, secure coding practices, developer training, vulnerability management, security of third-party code, and application security testing procedures. Review and update documentation annually, or when significant enterprise changes occur that could impact this Safeguard.", "CIS Critical Security Controls v8", FunctionalAreas.FA8),
-    PR_IP_CSC_16_14((float) 0.0f, (float) 0.0f, (float) 1 / 24, ImplementationGroups.IG3, Categories.PR_IP, "CSC-16.14", "Conduct threat modeling", "Conduct threat modeling. Threat modeling is the process of identifying and addressing application security design flaws within a design, before code is created. It is conducted through specially trained individuals who evaluate the application design and gauge security risks for each entry point and access level. The goal is to map out the application, architecture, and infrastructure in a structured way to understand its weaknesses.", "CIS Critical Security Controls v8", FunctionalAreas.FA4),
-    PR_IP_CSC_18_4((float) 0.0f, (float) 0.0f, (float) 1 / 24, ImplementationGroups.IG3, Categories.PR_IP, "CSC-18.4", "Validate security measures", "Validate security measures after each penetration test. If deemed necessary, modify rulesets and capabilities to detect the techniques used during testing.", "CIS Critical Security Controls v8", FunctionalAreas.FA7),
-    PR_IP_CSC_2_5((float) 0.0f, (float) 1 / 18, (float) 1 / 24, ImplementationGroups.IG2, Categories.PR_IP, "CSC-2.5", "Allowlist authorized software", "Use technical controls, such as application allowlisting, to ensure that only authorized software can execute or be accessed. Reassess bi-annually, or more frequently.", "CIS Critical Security Controls v8", FunctionalAreas.FA5),
-    PR_IP_CSC_2_6((float) 0.0f, (float) 1 / 18, (float) 1 / 24, ImplementationGroups.IG2, Categories.PR_IP, "CSC-2.6", "Allowlist authorized libraries", "Use technical controls to ensure that only authorized software libraries, such as specific .dll, .ocx, .so, etc., files, are allowed to load into a system process. Block unauthorized libraries from loading into a system process. Reassess bi-annually, or more frequently.", "CIS Critical Security Controls v8", FunctionalAreas.FA5),
-    PR_IP_CSC_2_7((float) 0.0f, (float) 0.0f, (float) 1 / 24, ImplementationGroups.IG3, Categories.PR_IP, "CSC-2.7", "Allowlist authorized scripts", "Use technical controls, such as digital signatures and version control, to ensure that only authorized scripts, such as specific .ps1, .py, etc., files, are allowed to execute. Block unauthorized scripts from executing. Reassess bi-annually, or more frequently.", "CIS Critical Security Controls v8", FunctionalAreas.FA5),
-    PR_IP_CSC_4_3((float) 1 / 8, (float) 1 / 18, (float) 1 / 24, ImplementationGroups.IG1, Categories.PR_IP, "CSC-4.3", "Configure automatic session locking on enterprise assets", "Configure automatic session locking on enterprise assets after a defined period of inactivity. For general purpose operating systems, the period must not exceed 15 minutes. For mobile end-user devices, the period must not exceed 2 minutes.", "CIS Critical Security Controls v8", FunctionalAreas.FA10),
-    PR_IP_PR_IP_1((float) 1 / 8, (float) 1 / 18, (float) 1 / 24, ImplementationGroups.IG1, Categories.PR_IP, "PR.IP-1", "A baseline configuration of information technology/industrial control systems is created and maintained incorporating security principles", "Develop and share configuration management policies with specific personnel, maintain and update the system's baseline configuration under control, review and approve change proposals, analyze change impacts, enforce access restrictions, establish secure settings, and monitor deviations, while also implementing a configuration management plan covering roles, procedures, and processes, and enforcing developer compliance with configuration management for system elements.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA5),
-    PR_IP_PR_IP_10((float) 0.0f, (float) 1 / 18, (float) 1 / 24, ImplementationGroups.IG2, Categories.PR_IP, "PR.IP-10", "Response and recovery plans are tested", "Regularly test the system's contingency plan using defined tests, review and act on the test results. Also, assess the effectiveness of the incident response capability through organization-defined tests. Establish a process for continuous development, maintenance, and execution of security testing, training, and monitoring plans, ensuring alignment with the risk management strategy and priorities.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA5),
-    PR_IP_PR_IP_11((float) 1 / 8, (float) 1 / 18, (float) 1 / 24, ImplementationGroups.IG1, Categories.PR_IP, "PR.IP-11", "Cybersecurity is included in human resources practices", "Develop and communicate personnel security policies and procedures, including risk designation for positions and screening criteria. Screen individuals before granting system access, rescreen as needed, and manage access during transfers or terminations. Implement measures for personnel termination, exit interviews, and property retrieval. Maintain access agreements, enforce security roles for external providers, and handle sanctions for policy violations. Integrate security responsibilities into position descriptions and enforce screening criteria for developers based on assigned duties.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA11),
-    PR_IP_PR_IP_12((float) 0.0f, (float) 1 / 18, (float) 1 / 24, ImplementationGroups.IG2, Categories.PR_IP, "PR.IP-12", "A vulnerability management plan is developed and implemented", "Establish and communicate risk assessment policies, perform comprehensive risk assessments including threat identification, vulnerability analysis, potential harm, and adverse impact on individuals. Regularly monitor and scan for system vulnerabilities using automated tools. Address and rectify system flaws, rigorously test software updates for effectiveness and side effects, promptly apply security-related updates, and seamlessly integrate flaw remediation into configuration management processes.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA7),
-    PR_IP_PR_IP_2((float) 0.0f, (float) 1 / 18, (float) 1 / 24, ImplementationGroups.IG2, Categories.PR_IP, "PR.IP-2", "A System Development Life Cycle to manage systems is implemented", "Implement an organization-defined system development life cycle with integrated security and privacy considerations, defining roles and responsibilities. Embed security and privacy requirements, strength of mechanism, and controls into acquisition contracts. Apply designated engineering principles in system design and development. Enforce rigorous configuration management by developers, ensuring integrity of changes, and requiring only approved changes. Mandate ongoing security and privacy assessments through comprehensive testing and evaluation, generating compliance evidence and mitigating risks.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA10),
-    PR_IP_PR_IP_3((float) 0.0f, (float) 0.0f, (float) 1 / 24, ImplementationGroups.IG3, Categories.PR_IP, "PR.IP-3", "Configuration change control processes are in place", "Establish a process for managing system changes, including defining and documenting the types of changes to be controlled, reviewing and approving proposed changes with security and privacy considerations, and documenting decisions. Conduct impact analyses on changes before implementation to assess potential security and privacy impacts. Enforce thorough configuration management for developers, requiring them to manage change integrity, document changes, and implement only organization-approved changes.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA5),
-    PR_IP_PR_IP_4((float) 1 / 8, (float) 1 / 18, (float) 1 / 24, ImplementationGroups.IG1, Categories.PR_IP, "PR.IP-4", "Backups of information are conducted, maintained, and tested ", "Test the contingency plan at specified intervals using defined tests, review results, and take corrective actions as needed. Set up an alternate storage site with equivalent controls to the primary site, including backup agreements. Perform backups of user and system information, following recovery objectives and document security-related details.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA10),
-    PR_IP_PR_IP_5((float) 0.0f, (float) 0.0f, (float) 1 / 24, ImplementationGroups.IG3, Categories.PR_IP, "PR.IP-5", "Policy and regulations regarding the physical operating environment for organizational assets are met", "Create, document, and distribute a physical and environmental protection policy to specified personnel or roles at various levels within the organization. The policy should address scope, responsibilities, management commitment, coordination, and compliance, in alignment with relevant laws and standards. Develop procedures to support the implementation of this policy.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA5),
-    PR_IP_PR_IP_6((float) 1 / 8, (float) 1 / 18, (float) 1 / 24, ImplementationGroups.IG1, Categories.PR_IP, "PR.IP-6", "Data is destroyed according to policy", "Safely sanitize organization-defined system media prior to disposal, release, or reuse using appropriate organization-defined sanitization techniques based on information security level. Dispose of organization-defined data, documentation, tools, or system components using organization-defined methods to ensure secure and proper disposal.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA10),
-    PR_IP_PR_IP_7((float) 0.0f, (float) 1 / 18, (float) 1 / 24, ImplementationGroups.IG2, Categories.PR_IP, "PR.IP-7", "Protection processes are improved", "Plan and conduct control assessments with chosen assessors, detailing scope and procedures, and ensure continuous monitoring using defined metrics and frequencies. Conduct penetration testing on specified systems or components, and develop an incident response plan outlining structure, organization, and unique requirements. Create security and privacy plans aligned with enterprise architecture, defining system components, roles, and information types. Develop a contingency plan, test its effectiveness, review results, and take corrective actions as required. Test incident response capabilities periodically and establish performance measures for information security and privacy, reporting on outcomes.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA5),
-    PR_IP_PR_IP_8((float) 0.0f, (float) 0.0f, (float) 1 / 24, ImplementationGroups.IG3, Categories.PR_IP, "PR.IP-8", "Effectiveness of protection technologies is shared ", "Establish a comprehensive assessment approach by selecting assessors and devising a detailed plan covering scope, controls, procedures, and roles. Develop a system-wide monitoring strategy aligning with organization-wide metrics and frequencies. Conduct regular penetration testing. Create a comprehensive contingency plan, test it periodically, and implement corrective measures. Test incident response capabilities and create a detailed incident response plan. Develop security and privacy plans aligning with architecture and report on performance measures.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA2),
-    PR_IP_PR_IP_9((float) 1 / 8, (float) 1 / 18, (float) 1 / 24, ImplementationGroups.IG1, Categories.PR_IP, "PR.IP-9", "Response plans (Incident Response and Business Continuity) and recovery plans (Incident Recovery and Disaster Recovery) are in place and managed", "Develop, document, and share contingency planning policy with specified personnel, ensuring alignment with regulations. Formulate a comprehensive system contingency plan, defining critical functions, recovery goals, and roles for disruptions. Set up an alternate processing site for seamless transfer during primary capability downtime. Plan for system recovery within a defined timeframe post-disruption. Create and distribute incident response policy, outlining roles and responsibilities. Provide user support for incident handling and reporting. Develop a streamlined incident response plan, addressing structure, integration, and unique organizational needs. Handle information spills by assigning roles, identifying contamination, alerting personnel, and isolating affected systems.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA5),
-    PR_MA_9D_5((float) 0.0f, (float) 1 / 15, (float) 1 / 17, ImplementationGroups.IG2, Categories.PR_MA, "9D-5", "Dig beneath the threat", "An attack at a layer that is lower than a particular protection may be able to defeat that protection, even if that protection is perfectly implemented. It follows then, that a protection at a lower layer than an expected attack may be able to defeat the attack, even if that attack is expertly conducted.", "https://ieeexplore.ieee.org/document/6737236", FunctionalAreas.FA2),
-    PR_MA_9D_9((float) 0.0f, (float) 1 / 15, (float) 1 / 17, ImplementationGroups.IG2, Categories.PR_MA, "9D-9", "Depth of defense", "The defense in depth strategy involves layered protection against advanced attackers. An example is a secure launcher for an encrypted binary program. It decrypts the binary in a safe environment, countering both static and dynamic attacks. Obfuscation protection surfaces after encryption is breached, and self-healing defenses activate once obfuscation is compromised. This prevents attackers from preemptively disabling protections.", "https://ieeexplore.ieee.org/document/6737236", FunctionalAreas.FA2),
-    PR_MA_CSC_12_1((float) 1 / 6, (float) 1 / 15, (float) 1 / 17, ImplementationGroups.IG1, Categories.PR_MA, "CSC-12.1", "Ensure network infrastructure is up-to-date", "Ensure network infrastructure is kept up-to-date. Example implementations include running the latest stable release of software and/or using currently supported network-as-a-service (NaaS) offerings. Review software versions monthly, or more frequently, to verify software support.", "CIS Critical Security Controls v8", FunctionalAreas.FA10),
-    PR_MA_CSC_12_3((float) 0.0f, (float) 1 / 15, (float) 1 / 17, ImplementationGroups.IG2, Categories.PR_MA, "CSC-12.3", "Securely manage network infrastructure", "Securely manage network infrastructure. Example implementations include version-controlled-infrastructure-as-code, and the use of secure network protocols, such as SSH and HTTPS. ", "CIS Critical Security Controls v8", FunctionalAreas.FA10),
-    PR_MA_CSC_13_5((float) 0.0f, (float) 1 / 15, (float) 1 / 17, ImplementationGroups.IG2, Categories.PR_MA, "CSC-13.5", "Manage access control for remote assets", "Manage access control for assets remotely connecting to enterprise resources. Determine amount of access to enterprise resources based on: up-to-date anti-malware software installed, configuration compliance with the enterprise’s secure configuration process, and ensuring the operating system and applications are up-to-date. ", "CIS Critical Security Controls v8", FunctionalAreas.FA10),
-    PR_MA_CSC_16_13((float) 0.0f, (float) 0.0f, (float) 1 / 17, ImplementationGroups.IG3, Categories.PR_MA, "CSC-16.13", "Conduct application penetration testing", "Conduct application penetration testing. For critical applications, authenticated penetration testing is better suited to finding business logic vulnerabilities than code scanning and automated security testing. Penetration testing relies on the skill of the tester to manually manipulate an application as an authenticated and unauthenticated user. ", "CIS Critical Security Controls v8", FunctionalAreas.FA2),
-    PR_MA_CSC_18_3((float) 0.0f, (float) 1 / 15, (float) 1 / 17, ImplementationGroups.IG2, Categories.PR_MA, "CSC-18.3", "Remediate penetration test findings", "Remediate penetration test findings based on the enterprise’s policy for remediation scope and prioritization.", "CIS Critical Security Controls v8", FunctionalAreas.FA10),
-    PR_MA_CSC_4_2((float) 1 / 6, (float) 1 / 15, (float) 1 / 17, ImplementationGroups.IG1, Categories.PR_MA, "CSC-4.2", "Establish and maintain a secure configuration process for network infrastructure", "Establish and maintain a secure configuration process for network devices. Review and update documentation annually, or when significant enterprise changes occur that could impact this Safeguard.", "CIS Critical Security Controls v8", FunctionalAreas.FA5),
-    PR_MA_CSC_4_6((float) 1 / 6, (float) 1 / 15, (float) 1 / 17, ImplementationGroups.IG1, Categories.PR_MA, "CSC-4.6", "Securely manage enterprise assets and software", "Securely manage enterprise assets and software. Example implementations include managing configuration through version-controlled-infrastructure-as-code and accessing administrative interfaces over secure network protocols, such as Secure Shell (SSH) and Hypertext Transfer Protocol Secure (HTTPS). Do not use insecure management protocols, such as Telnet (Teletype Network) and HTTP, unless operationally essential.", "CIS Critical Security Controls v8", FunctionalAreas.FA10),
-    PR_MA_CSC_4_8((float) 0.0f, (float) 1 / 15, (float) 1 / 17, ImplementationGroups.IG2, Categories.PR_MA, "CSC-4.8", "Uninstall or disable unnecessary services on enterprise assets and software", "Uninstall or disable unnecessary services on enterprise assets and software, such as an unused file sharing service, web application module, or service function.", "CIS Critical Security Controls v8", FunctionalAreas.FA10),
-    PR_MA_CSC_4_9((float) 0.0f, (float) 1 / 15, (float) 1 / 17, ImplementationGroups.IG2, Categories.PR_MA, "CSC-4.9", "Configure trusted dns servers on enterprise assets", "Configure trusted DNS servers on enterprise assets. Example implementations include: configuring assets to use enterprise-controlled DNS servers and/or reputable externally accessible DNS servers. ", "CIS Critical Security Controls v8", FunctionalAreas.FA10),
-    PR_MA_CSC_7_3((float) 1 / 6, (float) 1 / 15, (float) 1 / 17, ImplementationGroups.IG1, Categories.PR_MA, "CSC-7.3", "Perform automated operating system patch management", "Perform operating system updates on enterprise assets through automated patch management on a monthly, or more frequent, basis.", "CIS Critical Security Controls v8", FunctionalAreas.FA10),
-    PR_MA_CSC_8_1((float) 1 / 6, (float) 1 / 15, (float) 1 / 17, ImplementationGroups.IG1, Categories.PR_MA, "CSC-8.1", "Establish and maintain an audit log management process", "Establish and maintain an audit log management process that defines the enterprise’s logging requirements. At a minimum, address the collection, review, and retention of audit logs for enterprise assets. Review and update documentation annually, or when significant enterprise changes occur that could impact this Safeguard.", "CIS Critical Security Controls v8", FunctionalAreas.FA5),
-    PR_MA_CSC_8_10((float) 0.0f, (float) 1 / 15, (float) 1 / 17, ImplementationGroups.IG2, Categories.PR_MA, "CSC-8.10", "Retain audit logs", "Retain audit logs across enterprise assets for a minimum of 90 days.", "CIS Critical Security Controls v8", FunctionalAreas.FA10),
-    PR_MA_CSC_8_3((float) 1 / 6, (float) 1 / 15, (float) 1 / 17, ImplementationGroups.IG1, Categories.PR_MA, "CSC-8.3", "Ensure adequate audit log storage", "Ensure that logging destinations maintain adequate storage to comply with the enterprise’s audit log management process.", "CIS Critical Security Controls v8", FunctionalAreas.FA10),
-    PR_MA_CSC_8_9((float) 0.0f, (float) 1 / 15, (float) 1 / 17, ImplementationGroups.IG2, Categories.PR_MA, "CSC-8.9", "Centralize audit logs", "Centralize, to the extent possible, audit log collection and retention across enterprise assets.", "CIS Critical Security Controls v8", FunctionalAreas.FA10),
-    PR_MA_PR_MA_1((float) 0.0f, (float) 0.0f, (float) 1 / 17, ImplementationGroups.IG3, Categories.PR_MA, "PR.MA-1", "Maintenance and repair of organizational assets are performed and logged, with approved and controlled tools", "Develop and communicate maintenance policies to designated personnel or roles, ensure controlled maintenance through scheduled, documented, and reviewed activities based on specifications and requirements, approve and monitor maintenance tools usage, authorize and verify maintenance personnel with appropriate access, and ensure timely maintenance support and spare parts procurement within specified timeframes.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA10),
-    PR_PT_9D_4((float) 0.0f, (float) 1 / 7, (float) 1 / 11, ImplementationGroups.IG2, Categories.PR_PT, "9D-4", "Differentiate protections", "Protection systems should be focused on one or more specific threats that had already been identified. This requires (1) ascertaining each proposed system's likely performance against the identified threats, (2) ensuring that interactions among various proposed contemporaneous systems do not hinder performance goals, and (3) ensuring that there is an acceptable level of expected resilience against each threat.", "https://ieeexplore.ieee.org/document/6737236", FunctionalAreas.FA2),
-    PR_PT_9D_7((float) 0.0f, (float) 0.0f, (float) 1 / 11, ImplementationGroups.IG3, Categories.PR_PT, "9D-7", "Distract with decoys", "Attackers will stop either when they become frustrated or when they believe that they have succeeded. Encouraging a false belief in success is a valid protection option.", "https://ieeexplore.ieee.org/document/6737236", FunctionalAreas.FA2),
-    PR_PT_CSC_4_12((float) 0.0f, (float) 0.0f, (float) 1 / 11, ImplementationGroups.IG3, Categories.PR_PT, "CSC-4.12", "Separate enterprise workspaces on mobile end-user devices", "Ensure separate enterprise workspaces are used on mobile end-user devices, where supported. Example implementations include using an Apple Configuration Profile or Android Work Profile to separate enterprise applications and data from personal applications and data.", "CIS Critical Security Controls v8", FunctionalAreas.FA10),
-    PR_PT_CSC_4_4((float) 1 / 5, (float) 1 / 7, (float) 1 / 11, ImplementationGroups.IG1, Categories.PR_PT, "CSC-4.4", "Implement and manage a firewall on servers", "Implement and manage a firewall on servers, where supported. Example implementations include a virtual firewall, operating system firewall, or a third-party firewall agent.", "CIS Critical Security Controls v8", FunctionalAreas.FA10),
-    PR_PT_CSC_4_5((float) 1 / 5, (float) 1 / 7, (float) 1 / 11, ImplementationGroups.IG1, Categories.PR_PT, "CSC-4.5", "Implement and manage a firewall on end-user devices", "Implement and manage a host-based firewall or port-filtering tool on end-user devices, with a default-deny rule that drops all traffic except those services and ports that are explicitly allowed.", "CIS Critical Security Controls v8", FunctionalAreas.FA10),
-    PR_PT_CSC_9_5((float) 0.0f, (float) 1 / 7, (float) 1 / 11, ImplementationGroups.IG2, Categories.PR_PT, "CSC-9.5", "Implement dmarc", "To lower the chance of spoofed or modified emails from valid domains, implement DMARC policy and verification, starting with implementing the Sender Policy Framework (SPF) and the DomainKeys Identified Mail (DKIM) standards.", "CIS Critical Security Controls v8", FunctionalAreas.FA10),
-    PR_PT_PR_PT_1((float) 1 / 5, (float) 1 / 7, (float) 1 / 11, ImplementationGroups.IG1, Categories.PR_PT, "PR.PT-1", "Audit/log records are determined, documented, implemented, and reviewed in accordance with policy", "Develop and share audit policy, identify loggable event types, ensure comprehensive audit records, review records for anomalies, implement reduction and reporting, enable session auditing, and coordinate cross-organizational audit data transmission as needed.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA10),
-    PR_PT_PR_PT_2((float) 1 / 5, (float) 1 / 7, (float) 1 / 11, ImplementationGroups.IG1, Categories.PR_PT, "PR.PT-2", "Removable media is protected and its use restricted according to policy", "Develop, document, and disseminate media protection policies addressing access, marking, storage, transport, use, and downgrading. Restrict access to specific media types, mark media for distribution and security, securely store media within controlled areas, protect and control media during transport, limit media use on designated systems, and establish a downgrading process matching security levels.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA10),
-    PR_PT_PR_PT_3((float) 0.0f, (float) 0.0f, (float) 1 / 11, ImplementationGroups.IG3, Categories.PR_PT, "PR.PT-3", "The principle of least functionality is incorporated by configuring systems to provide only essential capabilities", "Enforce authorized logical access to information and system resources as per access control policies. Configure the system to offer solely mission-critical capabilities and prevent or limit the use of specified functions, ports, protocols, software, and services according to organization-defined restrictions.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA10),
-    PR_PT_PR_PT_4((float) 0.0f, (float) 0.0f, (float) 1 / 11, ImplementationGroups.IG3, Categories.PR_PT, "PR.PT-4", "Communications and control networks are protected", "Automatically end user sessions based on defined conditions. Establish and authorize remote and wireless access types, setting configuration and connection requirements. Create alternate telecommunications services for essential operations during primary telecommunication unavailability. Safeguard against denial-of-service events, monitor and control communication interfaces, and terminate network connections when inactive. Provide a trusted communications path, secure name/address resolution service, and fault-tolerant name resolution systems. Protect session authenticity, analyze covert channels, and utilize out-of-band channels for data transmission. Apply operations security controls, ensure alternate communication paths, and protect key information throughout the system development life cycle.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA10),
-    PR_PT_PR_PT_5((float) 1 / 5, (float) 1 / 7, (float) 1 / 11, ImplementationGroups.IG1, Categories.PR_PT, "PR.PT-5", "Mechanisms are implemented to achieve resilience requirements in normal and adverse situations", "Create alternate processing and telecommunications sites with agreements for system resumption during unavailability, ensure capability for alternate communication protocols and safe mode operation, use alternative security mechanisms when primary ones are unavailable, provide emergency power supply, develop security and privacy architectures, and safeguard resource availability by allocating resources based on priorities and controls.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA10),
-    DE_AE_CSC_8_12((float) 0.0f, (float) 0.0f, (float) 1 / 6, ImplementationGroups.IG3, Categories.DE_AE, "CSC-8.12", "Collect service provider logs", "Collect service provider logs, where supported. Example implementations include collecting authentication and authorization events, data creation and disposal events, and user management events.", "CIS Critical Security Controls v8", FunctionalAreas.FA10),
-    DE_AE_DE_AE_1((float) 0.0f, (float) 1 / 3, (float) 1 / 6, ImplementationGroups.IG2, Categories.DE_AE, "DE.AE-1", "A baseline of network operations and expected data flows for users and systems is established and managed", "Enforce authorized information flow controls within the system and connected systems. Manage and approve information exchanges with other systems using appropriate agreements, documenting security attributes. Maintain a current system baseline configuration under control, updating as needed. Associate security attributes with exchanged information and strategically monitor the system for attacks and unauthorized activities.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA10),
-    DE_AE_DE_AE_2((float) 0.0f, (float) 1 / 3, (float) 1 / 6, ImplementationGroups.IG2, Categories.DE_AE, "DE.AE-2", "Detected events are analyzed to understand attack targets and methods", "Review audit records periodically for unusual activity, adjusting the analysis level as needed. Develop and apply continuous monitoring with defined metrics and frequencies. Implement incident handling aligned with the response plan, incorporating lessons and coordinating with contingency plans. Regularly scan for vulnerabilities, utilizing automated tools. Monitor system strategically and ad hoc to detect attacks and unauthorized actions.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA2),
-    DE_AE_DE_AE_3((float) 1 / 1, (float) 1 / 3, (float) 1 / 6, ImplementationGroups.IG1, Categories.DE_AE, "DE.AE-3", "Event data are collected and correlated from multiple sources and sensors", "Periodically review audit records for unusual activity, adjust analysis as needed. Establish comprehensive continuous monitoring strategy with defined metrics, conduct control assessments. Create contingency plan for essential functions, recovery, roles. Implement coordinated incident handling aligned with response plan. Monitor, document incidents, develop high-level response plan integrating into organization's structure. Strategically monitor system for attacks, capturing essential information.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA2),
-    DE_AE_DE_AE_4((float) 0.0f, (float) 0.0f, (float) 1 / 6, ImplementationGroups.IG3, Categories.DE_AE, "DE.AE-4", "Impact of events is determined", "Develop a comprehensive contingency plan, implement incident handling, and conduct risk assessments. Monitor strategically and ad hoc to detect potential threats and unauthorized activities.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA2),
-    DE_AE_DE_AE_5((float) 0.0f, (float) 0.0f, (float) 1 / 6, ImplementationGroups.IG3, Categories.DE_AE, "DE.AE-5", "Incident alert thresholds are established", "Establish a robust incident handling capability in line with the response plan, covering all stages from preparation to recovery. Coordinate incident handling with contingency planning and incorporate lessons learned into procedures, training, and testing. Track and document incidents. Develop a comprehensive incident response plan that outlines implementation, structure, and organization, considering unique organizational requirements.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA2),
-    DE_CM_CSC_13_1((float) 0.0f, (float) 1 / 6, (float) 1 / 11, ImplementationGroups.IG2, Categories.DE_CM, "CSC-13.1", "Centralize security event alerting", "Centralize security event alerting across enterprise assets for log correlation and analysis. Best practice implementation requires the use of a SIEM, which includes vendor-defined event correlation alerts. A log analytics platform configured with security-relevant correlation alerts also satisfies this Safeguard.", "CIS Critical Security Controls v8", FunctionalAreas.FA2),
-    DE_CM_CSC_13_5((float) 0.0f, (float) 1 / 6, (float) 1 / 11, ImplementationGroups.IG2, Categories.DE_CM, "CSC-13.5", "Manage access control for remote assets", "Manage access control for assets remotely connecting to enterprise resources. Determine amount of access to enterprise resources based on: up-to-date anti-malware software installed, configuration compliance with the enterprise’s secure configuration process, and ensuring the operating system and applications are up-to-date. ", "CIS Critical Security Controls v8", FunctionalAreas.FA10),
-    DE_CM_CSC_3_14((float) 0.0f, (float) 0.0f, (float) 1 / 11, ImplementationGroups.IG3, Categories.DE_CM, "CSC-3.14", "Log sensitive data access", "Log sensitive data access, including modification and disposal. ", "CIS Critical Security Controls v8", FunctionalAreas.FA10),
-    DE_CM_DE_CM_1((float) 0.0f, (float) 1 / 6, (float) 1 / 11, ImplementationGroups.IG2, Categories.DE_CM, "DE.CM-1", "The network is monitored to detect potential cybersecurity events", "Enable audit record generation for specific system events on designated components, allowing personnel to select and create corresponding audit records. Develop and implement a comprehensive system-level continuous monitoring strategy, defining metrics and frequencies, conducting control assessments, and ensuring compliance. Review and approve configuration changes with security and privacy impact in mind. Protect against defined denial-of-service events using specified controls. Manage communications at system interfaces, establish separated subnetworks, and connect to external networks through boundary protection devices. Collect essential information and track transactions for monitoring, detecting attacks as per objectives.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA2),
-    DE_CM_DE_CM_2((float) 0.0f, (float) 0.0f, (float) 1 / 11, ImplementationGroups.IG3, Categories.DE_CM, "DE.CM-2", "The physical environment is monitored to detect potential cybersecurity events", "Develop and implement a comprehensive continuous monitoring strategy at the system level, aligned with the organization's overall plan. Define system-level metrics and monitoring frequencies, conduct ongoing control assessments per the strategy. Continuously monitor physical facility access, review access logs regularly, and coordinate with incident response. Use defined asset location tech for tracking and monitoring asset movement within controlled areas.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA1),
-    DE_CM_DE_CM_3((float) 0.0f, (float) 0.0f, (float) 1 / 11, ImplementationGroups.IG3, Categories.DE_CM, "DE.CM-3", "Personnel activity is monitored to detect potential cybersecurity events", "Manage accounts by defining allowed and prohibited types, assigning managers, setting prerequisites for group/role membership, and specifying authorized users and access attributes. Enable audit record generation for specified system events, allow designated personnel to select and log event types, and monitor for unauthorized information disclosure. Develop and implement a comprehensive continuous monitoring strategy using defined metrics, frequencies, and control assessments. Adhere to software agreements, track usage, control file sharing, and enforce user-installed software policies.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA10),
-    DE_CM_DE_CM_4((float) 1 / 2, (float) 1 / 6, (float) 1 / 11, ImplementationGroups.IG1, Categories.DE_CM, "DE.CM-4", "Malicious code is detected", "Set up detonation chambers for security, utilize malicious code protection at entry and exit points with automatic updates, strategically monitor for attacks, and employ spam protection mechanisms to detect unsolicited messages with regular updates.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA2),
-    DE_CM_DE_CM_5((float) 0.0f, (float) 0.0f, (float) 1 / 11, ImplementationGroups.IG3, Categories.DE_CM, "DE.CM-5", "Unauthorized mobile code is detected", "Define acceptable and unacceptable mobile code and technologies, authorize, monitor, and control their use within the system. Implement detonation chambers where specified, strategically monitor the system for attacks, and utilize system monitoring techniques at essential points to detect potential threats and unauthorized activities.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA2),
-    DE_CM_DE_CM_6((float) 0.0f, (float) 0.0f, (float) 1 / 11, ImplementationGroups.IG3, Categories.DE_CM, "DE.CM-6", "External service provider activity is monitored to detect potential cybersecurity events", "Establish and execute a system-level continuous monitoring strategy, define external personnel security requirements for providers, include security and privacy terms in acquisition contracts, ensure compliance of external system services, and strategically monitor the system to detect attacks and potential indicators.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA2),
-    DE_CM_DE_CM_7((float) 1 / 2, (float) 1 / 6, (float) 1 / 11, ImplementationGroups.IG1, Categories.DE_CM, "DE.CM-7", "Monitoring for unauthorized personnel, connections, devices, and software is performed", "Enable audit record generation, implement continuous monitoring with defined metrics, control configuration changes, develop accurate system component inventory, monitor physical access and review logs, use asset location technologies for tracking, and strategically monitor the system for attacks.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA2),
-    DE_CM_DE_CM_8((float) 0.0f, (float) 1 / 6, (float) 1 / 11, ImplementationGroups.IG2, Categories.DE_CM, "DE.CM-8", "Vulnerability scans are performed", "Monitor and scan for vulnerabilities in the system and hosted applications based on defined frequency or process, also when new vulnerabilities arise; use interoperable tools and automation techniques following standards for effective vulnerability management.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA7),
-    DE_DP_CSC_17_1((float) 1 / 1, (float) 1 / 3, (float) 1 / 6, ImplementationGroups.IG1, Categories.DE_DP, "CSC-17.1", "Designate personnel to manage incident handling", "Designate one key person, and at least one backup, who will manage the enterprise’s incident handling process. Management personnel are responsible for the coordination and documentation of incident response and recovery efforts and can consist of employees internal to the enterprise, third-party vendors, or a hybrid approach. If using a third-party vendor, designate at least one person internal to the enterprise to oversee any third-party work. Review annually, or when significant enterprise changes occur that could impact this Safeguard.", "CIS Critical Security Controls v8", FunctionalAreas.FA5),
-    DE_DP_CSC_17_4((float) 0.0f, (float) 1 / 3, (float) 1 / 6, ImplementationGroups.IG2, Categories.DE_DP, "CSC-17.4", "Establish and maintain an incident response process", "Establish and maintain an incident response process that addresses roles and responsibilities, compliance requirements, and a communication plan. Review annually, or when significant enterprise changes occur that could impact this Safeguard.", "CIS Critical Security Controls v8", FunctionalAreas.FA5),
-    DE_DP_CSC_17_5((float) 0.0f, (float) 1 / 3, (float) 1 / 6, ImplementationGroups.IG2, Categories.DE_DP, "CSC-17.5", "Assign key roles and responsibilities", "Assign key roles and responsibilities for incident response, including staff from legal, IT, information security, facilities, public relations, human resources, incident responders, and analysts, as applicable. Review annually, or when significant enterprise changes occur that could impact this Safeguard.", "CIS Critical Security Controls v8", FunctionalAreas.FA5),
-    DE_DP_DE_DP_2((float) 0.0f, (float) 0.0f, (float) 1 / 6, ImplementationGroups.IG3, Categories.DE_DP, "DE.DP-2", "Detection activities comply with all applicable requirements", "Develop, document, and disseminate access control, awareness and training, audit and accountability, assessment, authorization, configuration management, contingency planning, identification and authentication, incident response, maintenance, media protection, physical and environmental protection, planning, supply chain risk management, system and communications protection, system and information integrity, and supply chain risk management policies to assigned personnel or roles at various levels; ensure consistency with relevant laws, directives, and standards; and establish procedures for effective implementation. Additionally, implement tamper protection, inspection, and vulnerability monitoring for the system or system components as needed.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA2),
-    DE_DP_DE_DP_3((float) 0.0f, (float) 0.0f, (float) 1 / 6, ImplementationGroups.IG3, Categories.DE_DP, "DE.DP-3", "Detection processes are tested", "Choose assessors and plan assessments. Establish system-level continuous monitoring with metrics and control assessments. Implement testing, training, and monitoring plans aligned with risk strategy. Use code protection mechanisms, update and configure. Monitor strategically and ad hoc, track transactions, detect attacks.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA10),
-    DE_DP_DE_DP_5((float) 0.0f, (float) 0.0f, (float) 1 / 6, ImplementationGroups.IG3, Categories.DE_DP, "DE.DP-5", "Detection processes are continuously improved", "Select assessors, plan assessments. Develop continuous monitoring with metrics and controls. Create system security and privacy plans. Establish testing, training, and monitoring process. Monitor vulnerabilities, automate with interoperable tools. Strategically and ad hoc monitor for attacks.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA5),
-    RS_AN_CSC_17_9((float) 0.0f, (float) 0.0f, (float) 1 / 5, ImplementationGroups.IG3, Categories.RS_AN, "CSC-17.9", "Establish and maintain security incident thresholds", "Establish and maintain security incident thresholds, including, at a minimum, differentiating between an incident and an event. Examples can include: abnormal activity, security vulnerability, security weakness, data breach, privacy incident, etc. Review annually, or when significant enterprise changes occur that could impact this Safeguard.", "CIS Critical Security Controls v8", FunctionalAreas.FA5),
-    RS_AN_RS_AN_1((float) 0.0f, (float) 1 / 2, (float) 1 / 5, ImplementationGroups.IG2, Categories.RS_AN, "RS.AN-1", "Notifications from detection systems are investigated ", "Review and analyze audit records, report findings. Develop and implement continuous monitoring strategy with metrics and control assessments. Set up incident handling capability, coordinate with contingency planning, incorporate lessons learned. Track and document incidents. Monitor physical access, review access logs, coordinate with incident response. Monitor and scan for vulnerabilities, use interoperable tools and standards. Strategically and ad hoc monitor system for attacks and indicators.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA2),
-    RS_AN_RS_AN_2((float) 0.0f, (float) 0.0f, (float) 1 / 5, ImplementationGroups.IG3, Categories.RS_AN, "RS.AN-2", "The impact of the incident is understood", "Develop a contingency plan specifying essential functions, recovery objectives, roles, responsibilities, and contact information; address maintaining functions during disruptions and full system restoration. Set up incident handling with preparation, detection, containment, eradication, and recovery; coordinate with contingency planning, incorporate lessons learned, and update procedures. Conduct risk assessment, identify threats, vulnerabilities, likelihood, magnitude of harm, and adverse effects on individuals.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA2),
-    RS_AN_RS_AN_3((float) 0.0f, (float) 0.0f, (float) 1 / 5, ImplementationGroups.IG3, Categories.RS_AN, "RS.AN-3", "Forensics are performed", "Create audit record reduction and report generation tool for on-demand analysis and post-incident investigations, preserving original content and order. Implement comprehensive incident handling capability aligned with response plan, covering all stages and integrating lessons learned for continuous improvement.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA2),
-    RS_AN_RS_AN_5((float) 0.0f, (float) 1 / 2, (float) 1 / 5, ImplementationGroups.IG2, Categories.RS_AN, "RS.AN-5", "Incidents are categorized consistent with response plans", "Develop, document, and disseminate assessment, authorization, and monitoring policy consistent with laws. Select assessors, create assessment plans, and ensure control effectiveness. Establish process for maintaining action plans for security and privacy programs. Connect with security groups for education and information sharing. Develop and disseminate risk assessment policy aligned with laws. Respond to assessment findings based on risk tolerance. Receive, generate, and share security alerts, advisories, and directives. Regularly assess supply chain-related risks with suppliers or contractors.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA5),
-    RS_CO_CSC_17_4((float) 1 / 1, (float) 1 / 2, (float) 1 / 3, ImplementationGroups.IG1, Categories.RS_CO, "CSC-17.4", "Establish and maintain an incident response process", "Establish and maintain an incident response process that addresses roles and responsibilities, compliance requirements, and a communication plan. Review annually, or when significant enterprise changes occur that could impact this Safeguard.", "CIS Critical Security Controls v8", FunctionalAreas.FA5),
-    RS_CO_CSC_17_5((float) 0.0f, (float) 1 / 2, (float) 1 / 3, ImplementationGroups.IG2, Categories.RS_CO, "CSC-17.5", "Assign key roles and responsibilities", "Assign key roles and responsibilities for incident response, including staff from legal, IT, information security, facilities, public relations, human resources, incident responders, and analysts, as applicable. Review annually, or when significant enterprise changes occur that could impact this Safeguard.", "CIS Critical Security Controls v8", FunctionalAreas.FA5),
-    RS_CO_RS_CO_5((float) 0.0f, (float) 0.0f, (float) 1 / 3, ImplementationGroups.IG3, Categories.RS_CO, "RS.CO-5", "Voluntary information sharing occurs with external stakeholders to achieve broader cybersecurity situational awareness ", "Connect with security and privacy groups for education, maintain knowledge, and share current information. Regularly receive and generate security alerts, advisories, and directives, and distribute them to defined personnel, roles, elements, and external organizations.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA4),
-    RS_IM_RS_IM_1((float) 0.0f, (float) 1 / 2, (float) 1 / 2, ImplementationGroups.IG2, Categories.RS_IM, "RS.IM-1", "Response plans incorporate lessons learned", "Develop a detailed contingency plan identifying essential functions, recovery goals, roles, and restoration strategies during disruptions; Establish a unified incident response capability covering preparation, detection, analysis, containment, eradication, and recovery; Coordinate with contingency efforts and integrate lessons into procedures, training, and testing; Create an incident response plan to guide the organizational structure, align with needs, and meet specific mission requirements.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA5),
-    RS_IM_RS_IM_2((float) 0.0f, (float) 1 / 2, (float) 1 / 2, ImplementationGroups.IG2, Categories.RS_IM, "RS.IM-2", "Response strategies are updated", "Develop a comprehensive contingency plan for the system with essential function identification, recovery goals, roles, contacts, and strategies for sustained operations during disruptions; Implement incident handling capability in line with response plan, covering preparation, detection, analysis, containment, eradication, recovery; Coordinate with contingency planning, incorporate incident lessons into procedures, training; Create incident response plan as roadmap for incident capability, detailing structure, alignment, approach, and organization-specific needs based on mission and size.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA5),
-    RS_MI_CSC_1_2((float) 1 / 1, (float) 1 / 3, (float) 1 / 6, ImplementationGroups.IG1, Categories.RS_MI, "CSC-1.2", "Address unauthorized assets", "Ensure that a process exists to address unauthorized assets on a weekly basis. The enterprise may choose to remove the asset from the network, deny the asset from connecting remotely to the network, or quarantine the asset.", "CIS Critical Security Controls v8", FunctionalAreas.FA10),
-    RS_MI_CSC_4_10((float) 0.0f, (float) 1 / 3, (float) 1 / 6, ImplementationGroups.IG2, Categories.RS_MI, "CSC-4.10", "Enforce automatic device lockout on portable end-user devices", "Enforce automatic device lockout following a predetermined threshold of local failed authentication attempts on portable end-user devices, where supported. For laptops, do not allow more than 20 failed authentication attempts; for tablets and smartphones, no more than 10 failed authentication attempts. Example implementations include Microsoft InTune Device Lock and Apple Configuration Profile maxFailedAttempts.", "CIS Critical Security Controls v8", FunctionalAreas.FA10),
-    RS_MI_CSC_7_7((float) 0.0f, (float) 1 / 3, (float) 1 / 6, ImplementationGroups.IG2, Categories.RS_MI, "CSC-7.7", "Remediate detected vulnerabilities", "Remediate detected vulnerabilities in software through processes and tooling on a monthly, or more frequent, basis, based on the remediation process.", "CIS Critical Security Controls v8", FunctionalAreas.FA10),
-    RS_MI_RS_MI_1((float) 0.0f, (float) 0.0f, (float) 1 / 6, ImplementationGroups.IG3, Categories.RS_MI, "RS.MI-1", "Incidents are contained", "Establish an incident handling capability aligned with the incident response plan, covering preparation, detection, analysis, containment, eradication, and recovery; Ensure coordination between incident handling and contingency planning; Integrate insights from current incident handling into response procedures, training, and tests, and apply resultant improvements as needed.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA2),
-    RS_MI_RS_MI_2((float) 0.0f, (float) 0.0f, (float) 1 / 6, ImplementationGroups.IG3, Categories.RS_MI, "RS.MI-2", "Incidents are mitigated", "Implement consistent incident handling following the incident response plan, covering preparation, detection, analysis, containment, eradication, and recovery phases; Coordinate with contingency planning efforts; Integrate lessons from ongoing incidents into procedures, training, and testing, implementing resulting changes.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA2),
-    RS_MI_RS_MI_3((float) 0.0f, (float) 0.0f, (float) 1 / 6, ImplementationGroups.IG3, Categories.RS_MI, "RS.MI-3", "Newly identified vulnerabilities are mitigated or documented as accepted risks", "Assign appropriate assessors, create comprehensive assessment plans aligned with organizational strategy. Develop system-wide continuous monitoring with metrics and assessments per strategy. Identify threats, vulnerabilities, assess harm, and adverse effects in risk assessment. Scan for vulnerabilities, utilize compatible tools and automation. Address assessment findings considering risk tolerance.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA2),
-    RS_RP_CSC_17_6((float) 0.0f, (float) 1 / 1, (float) 1 / 2, ImplementationGroups.IG2, Categories.RS_RP, "CSC-17.6", "Define mechanisms for communicating during incident response", "Determine which primary and secondary mechanisms will be used to communicate and report during a security incident. Mechanisms can include phone calls, emails, or letters. Keep in mind that certain mechanisms, such as emails, can be affected during a security incident. Review annually, or when significant enterprise changes occur that could impact this Safeguard.", "CIS Critical Security Controls v8", FunctionalAreas.FA5),
-    RS_RP_RS_RP_1((float) 0.0f, (float) 0.0f, (float) 1 / 2, ImplementationGroups.IG3, Categories.RS_RP, "RS.RP-1", "Response plan is executed during or after an incident", "Develop a comprehensive contingency plan for system disruptions, ensuring essential functions, recovery goals, roles, and restoration are addressed. Implement incident handling aligned with the response plan, covering preparation, detection, analysis, containment, eradication, and recovery. Create an incident response plan outlining structure and unique organization needs for effective incident management.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA2),
-    RC_CO_RC_CO_1((float) 0.0f, (float) 0.0f, (float) 1 / 3, ImplementationGroups.IG3, Categories.RC_CO, "RC.CO-1", "Public relations are managed", "Create a consistent incident handling system that encompasses preparation, detection, analysis, containment, eradication, and recovery, following the incident response plan. Coordinate incident handling with contingency planning, integrate lessons learned into procedures, training, and testing, and apply resulting improvements.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA12),
-    RC_CO_RC_CO_2((float) 0.0f, (float) 0.0f, (float) 1 / 3, ImplementationGroups.IG3, Categories.RC_CO, "RC.CO-2", "Reputation is repaired after an incident ", "Create a consistent incident handling system that encompasses preparation, detection, analysis, containment, eradication, and recovery, following the incident response plan. Coordinate incident handling with contingency planning, integrate lessons learned into procedures, training, and testing, and apply resulting improvements.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA12),
-    RC_CO_RC_CO_3((float) 0.0f, (float) 0.0f, (float) 1 / 3, ImplementationGroups.IG3, Categories.RC_CO, "RC.CO-3", "Recovery activities are communicated to internal and external stakeholders as well as executive and management teams", "Create a detailed system contingency plan encompassing vital functions, recovery targets, responsibilities, and approaches for uninterrupted operation during disruptions and complete system restoration. Implement an incident handling system aligned with the response plan, covering preparation, detection, analysis, containment, eradication, and recovery. Coordinate incident handling with contingency planning, incorporating lessons from ongoing incidents to refine response processes, training, and testing for ongoing enhancement.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA12),
-    RC_IM_RC_IM_1((float) 0.0f, (float) 0.0f, (float) 1 / 2, ImplementationGroups.IG3, Categories.RC_IM, "RC.IM-1", "Recovery plans incorporate lessons learned", "Develop a thorough contingency plan for the system, identifying vital functions, recovery targets, responsibilities, and strategies to ensure continuous operations during disruptions and to restore the system fully. Implement an incident handling capability in line with the response plan, encompassing preparation, detection, analysis, containment, eradication, and recovery. Coordinate incident response and contingency planning, integrating lessons from ongoing incidents into response procedures, training, and tests. Create an incident response plan that serves as a roadmap for implementing the capability, detailing its structure, organization, and alignment with the organization's objectives and characteristics.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA5),
-    RC_IM_RC_IM_2((float) 0.0f, (float) 0.0f, (float) 1 / 2, ImplementationGroups.IG3, Categories.RC_IM, "RC.IM-2", "Recovery strategies are updated", "Create a contingency plan for the system, outlining essential functions, recovery goals, and roles for disruptions and restoration. Implement incident handling following the response plan, covering detection, analysis, containment, and recovery; align with contingency planning and incorporate lessons. Develop an incident response plan guiding implementation, structure, and organization while meeting unique organizational needs.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA5),
-    RC_RP_RC_RP_1((float) 0.0f, (float) 0.0f, (float) 1 / 1, ImplementationGroups.IG3, Categories.RC_RP, "RC.RP-1", "Recovery plan is executed during or after a cybersecurity incident ", "Develop a robust contingency plan outlining essential functions, recovery goals, and roles for disruptions. Implement incident handling following response plans, coordinating with contingency efforts, and adapting based on lessons learned. Create an incident response plan detailing the roadmap, structure, and tailored adjustments. Ensure timely system recovery according to organization-defined objectives.", "NIST Cybersecurity Framework 1.1 & NIST SP 800-53 rev. 5", FunctionalAreas.FA2);
+    ID_AM_CSC_1_1((float) 1 / 8, (float) 1 / 11, (float) 1 / 11, ImplementationGroups.IG1, Categories.ID_AM, "CSC-1.1", FunctionalAreas.FA7),
+    ID_AM_CSC_12_4((float) 0.0f, (float) 1 / 11, (float) 1 / 11, ImplementationGroups.IG2, Categories.ID_AM, "CSC-12.4", FunctionalAreas.FA10),
+    ID_AM_CSC_14_1((float) 1 / 8, (float) 1 / 11, (float) 1 / 11, ImplementationGroups.IG1, Categories.ID_AM, "CSC-14.1", FunctionalAreas.FA3),
+    ID_AM_CSC_2_2((float) 1 / 8, (float) 1 / 11, (float) 1 / 11, ImplementationGroups.IG1, Categories.ID_AM, "CSC-2.2", FunctionalAreas.FA8),
+    ID_AM_CSC_3_1((float) 1 / 8, (float) 1 / 11, (float) 1 / 11, ImplementationGroups.IG1, Categories.ID_AM, "CSC-3.1", FunctionalAreas.FA5),
+    ID_AM_CSC_3_2((float) 1 / 8, (float) 1 / 11, (float) 1 / 11, ImplementationGroups.IG1, Categories.ID_AM, "CSC-3.2", FunctionalAreas.FA10),
+    ID_AM_CSC_3_6((float) 1 / 8, (float) 1 / 11, (float) 1 / 11, ImplementationGroups.IG1, Categories.ID_AM, "CSC-3.6", FunctionalAreas.FA10),
+    ID_AM_CSC_3_7((float) 0.0f, (float) 1 / 11, (float) 1 / 11, ImplementationGroups.IG2, Categories.ID_AM, "CSC-3.7", FunctionalAreas.FA9),
+    ID_AM_ID_AM_1((float) 1 / 8, (float) 1 / 11, (float) 1 / 11, ImplementationGroups.IG1, Categories.ID_AM, "ID.AM-1", FunctionalAreas.FA7),
+    ID_AM_ID_AM_2((float) 1 / 8, (float) 1 / 11, (float) 1 / 11, ImplementationGroups.IG1, Categories.ID_AM, "ID.AM-2", FunctionalAreas.FA8),
+    ID_AM_ID_AM_3((float) 0.0f, (float) 1 / 11, (float) 1 / 11, ImplementationGroups.IG2, Categories.ID_AM, "ID.AM-3", FunctionalAreas.FA8),
+    ID_BE_9D_1((float) 0.0f, (float) 1 / 1, (float) 1 / 6, ImplementationGroups.IG2, Categories.ID_BE, "9D-1", FunctionalAreas.FA7),
+    ID_BE_ID_BE_1((float) 0.0f, (float) 0.0f, (float) 1 / 6, ImplementationGroups.IG3, Categories.ID_BE, "ID.BE-1", FunctionalAreas.FA6),
+    ID_BE_ID_BE_2((float) 0.0f, (float) 0.0f, (float) 1 / 6, ImplementationGroups.IG3, Categories.ID_BE, "ID.BE-2", FunctionalAreas.FA6),
+    ID_BE_ID_BE_3((float) 0.0f, (float) 0.0f, (float) 1 / 6, ImplementationGroups.IG3, Categories.ID_BE, "ID.BE-3", FunctionalAreas.FA5),
+    ID_BE_ID_BE_4((float) 0.0f, (float) 0.0f, (float) 1 / 6, ImplementationGroups.IG3, Categories.ID_BE, "ID.BE-4", FunctionalAreas.FA5),
+    ID_BE_ID_BE_5((float) 0.0f, (float) 0.0f, (float) 1 / 6, ImplementationGroups.IG3, Categories.ID_BE, "ID.BE-5", FunctionalAreas.FA5),
+    ID_GV_CSC_17_4((float) 0.0f, (float) 1 / 3, (float) 1 / 5, ImplementationGroups.IG2, Categories.ID_GV, "CSC-17.4", FunctionalAreas.FA5),
+    ID_GV_ID_GV_1((float) 1 / 1, (float) 1 / 3, (float) 1 / 5, ImplementationGroups.IG1, Categories.ID_GV, "ID.GV-1", FunctionalAreas.FA5),
+    ID_GV_ID_GV_2((float) 0.0f, (float) 1 / 3, (float) 1 / 5, ImplementationGroups.IG2, Categories.ID_GV, "ID.GV-2", FunctionalAreas.FA9),
+    ID_GV_ID_GV_3((float) 0.0f, (float) 0.0f, (float) 1 / 5, ImplementationGroups.IG3, Categories.ID_GV, "ID.GV-3", FunctionalAreas.FA5),
+    ID_GV_ID_GV_4((float) 0.0f, (float) 0.0f, (float) 1 / 5, ImplementationGroups.IG3, Categories.ID_GV, "ID.GV-4", FunctionalAreas.FA5),
+    ID_RA_9D_1((float) 0.0f, (float) 1 / 4, (float) 1 / 9, ImplementationGroups.IG2, Categories.ID_RA, "9D-1", FunctionalAreas.FA7),
+    ID_RA_CSC_18_2((float) 0.0f, (float) 1 / 4, (float) 1 / 9, ImplementationGroups.IG2, Categories.ID_RA, "CSC-18.2", FunctionalAreas.FA7),
+    ID_RA_CSC_18_5((float) 0.0f, (float) 0.0f, (float) 1 / 9, ImplementationGroups.IG3, Categories.ID_RA, "CSC-18.5", FunctionalAreas.FA7),
+    ID_RA_CSC_3_7((float) 0.0f, (float) 1 / 4, (float) 1 / 9, ImplementationGroups.IG2, Categories.ID_RA, "CSC-3.7", FunctionalAreas.FA9),
+    ID_RA_ID_RA_1((float) 1 / 1, (float) 1 / 4, (float) 1 / 9, ImplementationGroups.IG1, Categories.ID_RA, "ID.RA-1", FunctionalAreas.FA7),
+    ID_RA_ID_RA_2((float) 0.0f, (float) 0.0f, (float) 1 / 9, ImplementationGroups.IG3, Categories.ID_RA, "ID.RA-2", FunctionalAreas.FA4),
+    ID_RA_ID_RA_3((float) 0.0f, (float) 0.0f, (float) 1 / 9, ImplementationGroups.IG3, Categories.ID_RA, "ID.RA-3", FunctionalAreas.FA4),
+    ID_RA_ID_RA_4((float) 0.0f, (float) 0.0f, (float) 1 / 9, ImplementationGroups.IG3, Categories.ID_RA, "ID.RA-4", FunctionalAreas.FA6),
+    ID_RA_ID_RA_6((float) 0.0f, (float) 0.0f, (float) 1 / 9, ImplementationGroups.IG3, Categories.ID_RA, "ID.RA-6", FunctionalAreas.FA6),
+    ID_RM_9D_8((float) 0.0f, (float) 1 / 1, (float) 1 / 4, ImplementationGroups.IG2, Categories.ID_RM, "9D-8", FunctionalAreas.FA2),
+    ID_RM_ID_RM_1((float) 0.0f, (float) 0.0f, (float) 1 / 4, ImplementationGroups.IG3, Categories.ID_RM, "ID.RM-1", FunctionalAreas.FA6),
+    ID_RM_ID_RM_2((float) 0.0f, (float) 0.0f, (float) 1 / 4, ImplementationGroups.IG3, Categories.ID_RM, "ID.RM-2", FunctionalAreas.FA6),
+    ID_RM_ID_RM_3((float) 0.0f, (float) 0.0f, (float) 1 / 4, ImplementationGroups.IG3, Categories.ID_RM, "ID.RM-3", FunctionalAreas.FA6),
+    ID_SC_ID_SC_1((float) 0.0f, (float) 1 / 4, (float) 1 / 5, ImplementationGroups.IG2, Categories.ID_SC, "ID.SC-1", FunctionalAreas.FA5),
+    ID_SC_ID_SC_2((float) 1 / 2, (float) 1 / 4, (float) 1 / 5, ImplementationGroups.IG1, Categories.ID_SC, "ID.SC-2", FunctionalAreas.FA5),
+    ID_SC_ID_SC_3((float) 0.0f, (float) 1 / 4, (float) 1 / 5, ImplementationGroups.IG2, Categories.ID_SC, "ID.SC-3", FunctionalAreas.FA9),
+    ID_SC_ID_SC_4((float) 0.0f, (float) 0.0f, (float) 1 / 5, ImplementationGroups.IG3, Categories.ID_SC, "ID.SC-4", FunctionalAreas.FA6),
+    ID_SC_ID_SC_5((float) 1 / 2, (float) 1 / 4, (float) 1 / 5, ImplementationGroups.IG1, Categories.ID_SC, "ID.SC-5", FunctionalAreas.FA9),
+    PR_AC_CSC_12_5((float) 0.0f, (float) 1 / 11, (float) 1 / 14, ImplementationGroups.IG2, Categories.PR_AC, "CSC-12.5", FunctionalAreas.FA10),
+    PR_AC_CSC_12_6((float) 0.0f, (float) 1 / 11, (float) 1 / 14, ImplementationGroups.IG2, Categories.PR_AC, "CSC-12.6", FunctionalAreas.FA10),
+    PR_AC_CSC_13_4((float) 0.0f, (float) 1 / 11, (float) 1 / 14, ImplementationGroups.IG2, Categories.PR_AC, "CSC-13.4", FunctionalAreas.FA10),
+    PR_AC_CSC_4_7((float) 1 / 7, (float) 1 / 11, (float) 1 / 14, ImplementationGroups.IG1, Categories.PR_AC, "CSC-4.7", FunctionalAreas.FA10),
+    PR_AC_CSC_5_2((float) 1 / 7, (float) 1 / 11, (float) 1 / 14, ImplementationGroups.IG1, Categories.PR_AC, "CSC-5.2", FunctionalAreas.FA10),
+    PR_AC_CSC_5_6((float) 0.0f, (float) 1 / 11, (float) 1 / 14, ImplementationGroups.IG2, Categories.PR_AC, "CSC-5.6", FunctionalAreas.FA10),
+    PR_AC_CSC_6_8((float) 0.0f, (float) 0.0f, (float) 1 / 14, ImplementationGroups.IG3, Categories.PR_AC, "CSC-6.8", FunctionalAreas.FA10),
+    PR_AC_PR_AC_1((float) 1 / 7, (float) 1 / 11, (float) 1 / 14, ImplementationGroups.IG1, Categories.PR_AC, "PR.AC-1", FunctionalAreas.FA10),
+    PR_AC_PR_AC_2((float) 0.0f, (float) 0.0f, (float) 1 / 14, ImplementationGroups.IG3, Categories.PR_AC, "PR.AC-2", FunctionalAreas.FA7),
+    PR_AC_PR_AC_3((float) 1 / 7, (float) 1 / 11, (float) 1 / 14, ImplementationGroups.IG1, Categories.PR_AC, "PR.AC-3", FunctionalAreas.FA10),
+    PR_AC_PR_AC_4((float) 1 / 7, (float) 1 / 11, (float) 1 / 14, ImplementationGroups.IG1, Categories.PR_AC, "PR.AC-4", FunctionalAreas.FA10),
+    PR_AC_PR_AC_5((float) 1 / 7, (float) 1 / 11, (float) 1 / 14, ImplementationGroups.IG1, Categories.PR_AC, "PR.AC-5", FunctionalAreas.FA10),
+    PR_AC_PR_AC_6((float) 0.0f, (float) 0.0f, (float) 1 / 14, ImplementationGroups.IG3, Categories.PR_AC, "PR.AC-6", FunctionalAreas.FA10),
+    PR_AC_PR_AC_7((float) 1 / 7, (float) 1 / 11, (float) 1 / 14, ImplementationGroups.IG1, Categories.PR_AC, "PR.AC-7", FunctionalAreas.FA10),
+    PR_AT_CSC_14_9((float) 0.0f, (float) 1 / 4, (float) 1 / 4, ImplementationGroups.IG2, Categories.PR_AT, "CSC-14.9", FunctionalAreas.FA3),
+    PR_AT_CSC_15_4((float) 0.0f, (float) 1 / 4, (float) 1 / 4, ImplementationGroups.IG2, Categories.PR_AT, "CSC-15.4", FunctionalAreas.FA5),
+    PR_AT_PR_AT_1((float) 1 / 1, (float) 1 / 4, (float) 1 / 4, ImplementationGroups.IG1, Categories.PR_AT, "PR.AT-1", FunctionalAreas.FA3),
+    PR_AT_PR_AT_2((float) 0.0f, (float) 1 / 4, (float) 1 / 4, ImplementationGroups.IG2, Categories.PR_AT, "PR.AT-2", FunctionalAreas.FA3),
+    PR_DS_9D_6((float) 0.0f, (float) 0.0f, (float) 1 / 10, ImplementationGroups.IG3, Categories.PR_DS, "9D-6", FunctionalAreas.FA8),
+    PR_DS_CSC_3_4((float) 1 / 2, (float) 1 / 6, (float) 1 / 10, ImplementationGroups.IG1, Categories.PR_DS, "CSC-3.4", FunctionalAreas.FA10),
+    PR_DS_PR_DS_1((float) 0.0f, (float) 1 / 6, (float) 1 / 10, ImplementationGroups.IG2, Categories.PR_DS, "PR.DS-1", FunctionalAreas.FA10),
+    PR_DS_PR_DS_2((float) 0.0f, (float) 1 / 6, (float) 1 / 10, ImplementationGroups.IG2, Categories.PR_DS, "PR.DS-2", FunctionalAreas.FA10),
+    PR_DS_PR_DS_3((float) 1 / 2, (float) 1 / 6, (float) 1 / 10, ImplementationGroups.IG1, Categories.PR_DS, "PR.DS-3", FunctionalAreas.FA10),
+    PR_DS_PR_DS_4((float) 0.0f, (float) 0.0f, (float) 1 / 10, ImplementationGroups.IG3, Categories.PR_DS, "PR.DS-4", FunctionalAreas.FA10),
+    PR_DS_PR_DS_5((float) 0.0f, (float) 0.0f, (float) 1 / 10, ImplementationGroups.IG3, Categories.PR_DS, "PR.DS-5", FunctionalAreas.FA10),
+    PR_DS_PR_DS_6((float) 0.0f, (float) 1 / 6, (float) 1 / 10, ImplementationGroups.IG2, Categories.PR_DS, "PR.DS-6", FunctionalAreas.FA10),
+    PR_DS_PR_DS_7((float) 0.0f, (float) 1 / 6, (float) 1 / 10, ImplementationGroups.IG2, Categories.PR_DS, "PR.DS-7", FunctionalAreas.FA10),
+    PR_DS_PR_DS_8((float) 0.0f, (float) 0.0f, (float) 1 / 10, ImplementationGroups.IG3, Categories.PR_DS, "PR.DS-8", FunctionalAreas.FA10),
+    PR_IP_9D_3((float) 0.0f, (float) 1 / 18, (float) 1 / 24, ImplementationGroups.IG2, Categories.PR_IP, "9D-3", FunctionalAreas.FA2),
+    PR_IP_9D_5((float) 0.0f, (float) 1 / 18, (float) 1 / 24, ImplementationGroups.IG2, Categories.PR_IP, "9D-5", FunctionalAreas.FA2),
+    PR_IP_9D_8((float) 0.0f, (float) 1 / 18, (float) 1 / 24, ImplementationGroups.IG2, Categories.PR_IP, "9D-8", FunctionalAreas.FA2),
+    PR_IP_9D_9((float) 1 / 8, (float) 1 / 18, (float) 1 / 24, ImplementationGroups.IG1, Categories.PR_IP, "9D-9", FunctionalAreas.FA2),
+    PR_IP_CSC_11_1((float) 1 / 8, (float) 1 / 18, (float) 1 / 24, ImplementationGroups.IG1, Categories.PR_IP, "CSC-11.1", FunctionalAreas.FA10),
+    PR_IP_CSC_16_1((float) 0.0f, (float) 1 / 18, (float) 1 / 24, ImplementationGroups.IG2, Categories.PR_IP, "CSC-16.1", FunctionalAreas.FA8),
+    PR_IP_CSC_16_14((float) 0.0f, (float) 0.0f, (float) 1 / 24, ImplementationGroups.IG3, Categories.PR_IP, "CSC-16.14", FunctionalAreas.FA4),
+    PR_IP_CSC_18_4((float) 0.0f, (float) 0.0f, (float) 1 / 24, ImplementationGroups.IG3, Categories.PR_IP, "CSC-18.4", FunctionalAreas.FA7),
+    PR_IP_CSC_2_5((float) 0.0f, (float) 1 / 18, (float) 1 / 24, ImplementationGroups.IG2, Categories.PR_IP, "CSC-2.5", FunctionalAreas.FA5),
+    PR_IP_CSC_2_6((float) 0.0f, (float) 1 / 18, (float) 1 / 24, ImplementationGroups.IG2, Categories.PR_IP, "CSC-2.6", FunctionalAreas.FA5),
+    PR_IP_CSC_2_7((float) 0.0f, (float) 0.0f, (float) 1 / 24, ImplementationGroups.IG3, Categories.PR_IP, "CSC-2.7", FunctionalAreas.FA5),
+    PR_IP_CSC_4_3((float) 1 / 8, (float) 1 / 18, (float) 1 / 24, ImplementationGroups.IG1, Categories.PR_IP, "CSC-4.3", FunctionalAreas.FA10),
+    PR_IP_PR_IP_1((float) 1 / 8, (float) 1 / 18, (float) 1 / 24, ImplementationGroups.IG1, Categories.PR_IP, "PR.IP-1", FunctionalAreas.FA5),
+    PR_IP_PR_IP_10((float) 0.0f, (float) 1 / 18, (float) 1 / 24, ImplementationGroups.IG2, Categories.PR_IP, "PR.IP-10", FunctionalAreas.FA5),
+    PR_IP_PR_IP_11((float) 1 / 8, (float) 1 / 18, (float) 1 / 24, ImplementationGroups.IG1, Categories.PR_IP, "PR.IP-11", FunctionalAreas.FA11),
+    PR_IP_PR_IP_12((float) 0.0f, (float) 1 / 18, (float) 1 / 24, ImplementationGroups.IG2, Categories.PR_IP, "PR.IP-12", FunctionalAreas.FA7),
+    PR_IP_PR_IP_2((float) 0.0f, (float) 1 / 18, (float) 1 / 24, ImplementationGroups.IG2, Categories.PR_IP, "PR.IP-2", FunctionalAreas.FA10),
+    PR_IP_PR_IP_3((float) 0.0f, (float) 0.0f, (float) 1 / 24, ImplementationGroups.IG3, Categories.PR_IP, "PR.IP-3", FunctionalAreas.FA5),
+    PR_IP_PR_IP_4((float) 1 / 8, (float) 1 / 18, (float) 1 / 24, ImplementationGroups.IG1, Categories.PR_IP, "PR.IP-4", FunctionalAreas.FA10),
+    PR_IP_PR_IP_5((float) 0.0f, (float) 0.0f, (float) 1 / 24, ImplementationGroups.IG3, Categories.PR_IP, "PR.IP-5", FunctionalAreas.FA5),
+    PR_IP_PR_IP_6((float) 1 / 8, (float) 1 / 18, (float) 1 / 24, ImplementationGroups.IG1, Categories.PR_IP, "PR.IP-6", FunctionalAreas.FA10),
+    PR_IP_PR_IP_7((float) 0.0f, (float) 1 / 18, (float) 1 / 24, ImplementationGroups.IG2, Categories.PR_IP, "PR.IP-7", FunctionalAreas.FA5),
+    PR_IP_PR_IP_8((float) 0.0f, (float) 0.0f, (float) 1 / 24, ImplementationGroups.IG3, Categories.PR_IP, "PR.IP-8", FunctionalAreas.FA2),
+    PR_IP_PR_IP_9((float) 1 / 8, (float) 1 / 18, (float) 1 / 24, ImplementationGroups.IG1, Categories.PR_IP, "PR.IP-9", FunctionalAreas.FA5),
+    PR_MA_9D_5((float) 0.0f, (float) 1 / 15, (float) 1 / 17, ImplementationGroups.IG2, Categories.PR_MA, "9D-5", FunctionalAreas.FA2),
+    PR_MA_9D_9((float) 0.0f, (float) 1 / 15, (float) 1 / 17, ImplementationGroups.IG2, Categories.PR_MA, "9D-9", FunctionalAreas.FA2),
+    PR_MA_CSC_12_1((float) 1 / 6, (float) 1 / 15, (float) 1 / 17, ImplementationGroups.IG1, Categories.PR_MA, "CSC-12.1", FunctionalAreas.FA10),
+    PR_MA_CSC_12_3((float) 0.0f, (float) 1 / 15, (float) 1 / 17, ImplementationGroups.IG2, Categories.PR_MA, "CSC-12.3", FunctionalAreas.FA10),
+    PR_MA_CSC_13_5((float) 0.0f, (float) 1 / 15, (float) 1 / 17, ImplementationGroups.IG2, Categories.PR_MA, "CSC-13.5", FunctionalAreas.FA10),
+    PR_MA_CSC_16_13((float) 0.0f, (float) 0.0f, (float) 1 / 17, ImplementationGroups.IG3, Categories.PR_MA, "CSC-16.13", FunctionalAreas.FA2),
+    PR_MA_CSC_18_3((float) 0.0f, (float) 1 / 15, (float) 1 / 17, ImplementationGroups.IG2, Categories.PR_MA, "CSC-18.3", FunctionalAreas.FA10),
+    PR_MA_CSC_4_2((float) 1 / 6, (float) 1 / 15, (float) 1 / 17, ImplementationGroups.IG1, Categories.PR_MA, "CSC-4.2", FunctionalAreas.FA5),
+    PR_MA_CSC_4_6((float) 1 / 6, (float) 1 / 15, (float) 1 / 17, ImplementationGroups.IG1, Categories.PR_MA, "CSC-4.6", FunctionalAreas.FA10),
+    PR_MA_CSC_4_8((float) 0.0f, (float) 1 / 15, (float) 1 / 17, ImplementationGroups.IG2, Categories.PR_MA, "CSC-4.8", FunctionalAreas.FA10),
+    PR_MA_CSC_4_9((float) 0.0f, (float) 1 / 15, (float) 1 / 17, ImplementationGroups.IG2, Categories.PR_MA, "CSC-4.9", FunctionalAreas.FA10),
+    PR_MA_CSC_7_3((float) 1 / 6, (float) 1 / 15, (float) 1 / 17, ImplementationGroups.IG1, Categories.PR_MA, "CSC-7.3", FunctionalAreas.FA10),
+    PR_MA_CSC_8_1((float) 1 / 6, (float) 1 / 15, (float) 1 / 17, ImplementationGroups.IG1, Categories.PR_MA, "CSC-8.1", FunctionalAreas.FA5),
+    PR_MA_CSC_8_10((float) 0.0f, (float) 1 / 15, (float) 1 / 17, ImplementationGroups.IG2, Categories.PR_MA, "CSC-8.10", FunctionalAreas.FA10),
+    PR_MA_CSC_8_3((float) 1 / 6, (float) 1 / 15, (float) 1 / 17, ImplementationGroups.IG1, Categories.PR_MA, "CSC-8.3", FunctionalAreas.FA10),
+    PR_MA_CSC_8_9((float) 0.0f, (float) 1 / 15, (float) 1 / 17, ImplementationGroups.IG2, Categories.PR_MA, "CSC-8.9", FunctionalAreas.FA10),
+    PR_MA_PR_MA_1((float) 0.0f, (float) 0.0f, (float) 1 / 17, ImplementationGroups.IG3, Categories.PR_MA, "PR.MA-1", FunctionalAreas.FA10),
+    PR_PT_9D_4((float) 0.0f, (float) 1 / 7, (float) 1 / 11, ImplementationGroups.IG2, Categories.PR_PT, "9D-4", FunctionalAreas.FA2),
+    PR_PT_9D_7((float) 0.0f, (float) 0.0f, (float) 1 / 11, ImplementationGroups.IG3, Categories.PR_PT, "9D-7", FunctionalAreas.FA2),
+    PR_PT_CSC_4_12((float) 0.0f, (float) 0.0f, (float) 1 / 11, ImplementationGroups.IG3, Categories.PR_PT, "CSC-4.12", FunctionalAreas.FA10),
+    PR_PT_CSC_4_4((float) 1 / 5, (float) 1 / 7, (float) 1 / 11, ImplementationGroups.IG1, Categories.PR_PT, "CSC-4.4", FunctionalAreas.FA10),
+    PR_PT_CSC_4_5((float) 1 / 5, (float) 1 / 7, (float) 1 / 11, ImplementationGroups.IG1, Categories.PR_PT, "CSC-4.5", FunctionalAreas.FA10),
+    PR_PT_CSC_9_5((float) 0.0f, (float) 1 / 7, (float) 1 / 11, ImplementationGroups.IG2, Categories.PR_PT, "CSC-9.5", FunctionalAreas.FA10),
+    PR_PT_PR_PT_1((float) 1 / 5, (float) 1 / 7, (float) 1 / 11, ImplementationGroups.IG1, Categories.PR_PT, "PR.PT-1", FunctionalAreas.FA10),
+    PR_PT_PR_PT_2((float) 1 / 5, (float) 1 / 7, (float) 1 / 11, ImplementationGroups.IG1, Categories.PR_PT, "PR.PT-2", FunctionalAreas.FA10),
+    PR_PT_PR_PT_3((float) 0.0f, (float) 0.0f, (float) 1 / 11, ImplementationGroups.IG3, Categories.PR_PT, "PR.PT-3", FunctionalAreas.FA10),
+    PR_PT_PR_PT_4((float) 0.0f, (float) 0.0f, (float) 1 / 11, ImplementationGroups.IG3, Categories.PR_PT, "PR.PT-4", FunctionalAreas.FA10),
+    PR_PT_PR_PT_5((float) 1 / 5, (float) 1 / 7, (float) 1 / 11, ImplementationGroups.IG1, Categories.PR_PT, "PR.PT-5", FunctionalAreas.FA10),
+    DE_AE_CSC_8_12((float) 0.0f, (float) 0.0f, (float) 1 / 6, ImplementationGroups.IG3, Categories.DE_AE, "CSC-8.12", FunctionalAreas.FA10),
+    DE_AE_DE_AE_1((float) 0.0f, (float) 1 / 3, (float) 1 / 6, ImplementationGroups.IG2, Categories.DE_AE, "DE.AE-1", FunctionalAreas.FA10),
+    DE_AE_DE_AE_2((float) 0.0f, (float) 1 / 3, (float) 1 / 6, ImplementationGroups.IG2, Categories.DE_AE, "DE.AE-2", FunctionalAreas.FA2),
+    DE_AE_DE_AE_3((float) 1 / 1, (float) 1 / 3, (float) 1 / 6, ImplementationGroups.IG1, Categories.DE_AE, "DE.AE-3", FunctionalAreas.FA2),
+    DE_AE_DE_AE_4((float) 0.0f, (float) 0.0f, (float) 1 / 6, ImplementationGroups.IG3, Categories.DE_AE, "DE.AE-4", FunctionalAreas.FA2),
+    DE_AE_DE_AE_5((float) 0.0f, (float) 0.0f, (float) 1 / 6, ImplementationGroups.IG3, Categories.DE_AE, "DE.AE-5", FunctionalAreas.FA2),
+    DE_CM_CSC_13_1((float) 0.0f, (float) 1 / 6, (float) 1 / 11, ImplementationGroups.IG2, Categories.DE_CM, "CSC-13.1", FunctionalAreas.FA2),
+    DE_CM_CSC_13_5((float) 0.0f, (float) 1 / 6, (float) 1 / 11, ImplementationGroups.IG2, Categories.DE_CM, "CSC-13.5", FunctionalAreas.FA10),
+    DE_CM_CSC_3_14((float) 0.0f, (float) 0.0f, (float) 1 / 11, ImplementationGroups.IG3, Categories.DE_CM, "CSC-3.14", FunctionalAreas.FA10),
+    DE_CM_DE_CM_1((float) 0.0f, (float) 1 / 6, (float) 1 / 11, ImplementationGroups.IG2, Categories.DE_CM, "DE.CM-1", FunctionalAreas.FA2),
+    DE_CM_DE_CM_2((float) 0.0f, (float) 0.0f, (float) 1 / 11, ImplementationGroups.IG3, Categories.DE_CM, "DE.CM-2", FunctionalAreas.FA1),
+    DE_CM_DE_CM_3((float) 0.0f, (float) 0.0f, (float) 1 / 11, ImplementationGroups.IG3, Categories.DE_CM, "DE.CM-3", FunctionalAreas.FA10),
+    DE_CM_DE_CM_4((float) 1 / 2, (float) 1 / 6, (float) 1 / 11, ImplementationGroups.IG1, Categories.DE_CM, "DE.CM-4", FunctionalAreas.FA2),
+    DE_CM_DE_CM_5((float) 0.0f, (float) 0.0f, (float) 1 / 11, ImplementationGroups.IG3, Categories.DE_CM, "DE.CM-5", FunctionalAreas.FA2),
+    DE_CM_DE_CM_6((float) 0.0f, (float) 0.0f, (float) 1 / 11, ImplementationGroups.IG3, Categories.DE_CM, "DE.CM-6", FunctionalAreas.FA2),
+    DE_CM_DE_CM_7((float) 1 / 2, (float) 1 / 6, (float) 1 / 11, ImplementationGroups.IG1, Categories.DE_CM, "DE.CM-7", FunctionalAreas.FA2),
+    DE_CM_DE_CM_8((float) 0.0f, (float) 1 / 6, (float) 1 / 11, ImplementationGroups.IG2, Categories.DE_CM, "DE.CM-8", FunctionalAreas.FA7),
+    DE_DP_CSC_17_1((float) 1 / 1, (float) 1 / 3, (float) 1 / 6, ImplementationGroups.IG1, Categories.DE_DP, "CSC-17.1", FunctionalAreas.FA5),
+    DE_DP_CSC_17_4((float) 0.0f, (float) 1 / 3, (float) 1 / 6, ImplementationGroups.IG2, Categories.DE_DP, "CSC-17.4", FunctionalAreas.FA5),
+    DE_DP_CSC_17_5((float) 0.0f, (float) 1 / 3, (float) 1 / 6, ImplementationGroups.IG2, Categories.DE_DP, "CSC-17.5", FunctionalAreas.FA5),
+    DE_DP_DE_DP_2((float) 0.0f, (float) 0.0f, (float) 1 / 6, ImplementationGroups.IG3, Categories.DE_DP, "DE.DP-2", FunctionalAreas.FA2),
+    DE_DP_DE_DP_3((float) 0.0f, (float) 0.0f, (float) 1 / 6, ImplementationGroups.IG3, Categories.DE_DP, "DE.DP-3", FunctionalAreas.FA10),
+    DE_DP_DE_DP_5((float) 0.0f, (float) 0.0f, (float) 1 / 6, ImplementationGroups.IG3, Categories.DE_DP, "DE.DP-5", FunctionalAreas.FA5),
+    RS_AN_CSC_17_9((float) 0.0f, (float) 0.0f, (float) 1 / 5, ImplementationGroups.IG3, Categories.RS_AN, "CSC-17.9", FunctionalAreas.FA5),
+    RS_AN_RS_AN_1((float) 0.0f, (float) 1 / 2, (float) 1 / 5, ImplementationGroups.IG2, Categories.RS_AN, "RS.AN-1", FunctionalAreas.FA2),
+    RS_AN_RS_AN_2((float) 0.0f, (float) 0.0f, (float) 1 / 5, ImplementationGroups.IG3, Categories.RS_AN, "RS.AN-2", FunctionalAreas.FA2),
+    RS_AN_RS_AN_3((float) 0.0f, (float) 0.0f, (float) 1 / 5, ImplementationGroups.IG3, Categories.RS_AN, "RS.AN-3", FunctionalAreas.FA2),
+    RS_AN_RS_AN_5((float) 0.0f, (float) 1 / 2, (float) 1 / 5, ImplementationGroups.IG2, Categories.RS_AN, "RS.AN-5", FunctionalAreas.FA5),
+    RS_CO_CSC_17_4((float) 1 / 1, (float) 1 / 2, (float) 1 / 3, ImplementationGroups.IG1, Categories.RS_CO, "CSC-17.4", FunctionalAreas.FA5),
+    RS_CO_CSC_17_5((float) 0.0f, (float) 1 / 2, (float) 1 / 3, ImplementationGroups.IG2, Categories.RS_CO, "CSC-17.5", FunctionalAreas.FA5),
+    RS_CO_RS_CO_5((float) 0.0f, (float) 0.0f, (float) 1 / 3, ImplementationGroups.IG3, Categories.RS_CO, "RS.CO-5", FunctionalAreas.FA4),
+    RS_IM_RS_IM_1((float) 0.0f, (float) 1 / 2, (float) 1 / 2, ImplementationGroups.IG2, Categories.RS_IM, "RS.IM-1", FunctionalAreas.FA5),
+    RS_IM_RS_IM_2((float) 0.0f, (float) 1 / 2, (float) 1 / 2, ImplementationGroups.IG2, Categories.RS_IM, "RS.IM-2", FunctionalAreas.FA5),
+    RS_MI_CSC_1_2((float) 1 / 1, (float) 1 / 3, (float) 1 / 6, ImplementationGroups.IG1, Categories.RS_MI, "CSC-1.2", FunctionalAreas.FA10),
+    RS_MI_CSC_4_10((float) 0.0f, (float) 1 / 3, (float) 1 / 6, ImplementationGroups.IG2, Categories.RS_MI, "CSC-4.10", FunctionalAreas.FA10),
+    RS_MI_CSC_7_7((float) 0.0f, (float) 1 / 3, (float) 1 / 6, ImplementationGroups.IG2, Categories.RS_MI, "CSC-7.7", FunctionalAreas.FA10),
+    RS_MI_RS_MI_1((float) 0.0f, (float) 0.0f, (float) 1 / 6, ImplementationGroups.IG3, Categories.RS_MI, "RS.MI-1", FunctionalAreas.FA2),
+    RS_MI_RS_MI_2((float) 0.0f, (float) 0.0f, (float) 1 / 6, ImplementationGroups.IG3, Categories.RS_MI, "RS.MI-2", FunctionalAreas.FA2),
+    RS_MI_RS_MI_3((float) 0.0f, (float) 0.0f, (float) 1 / 6, ImplementationGroups.IG3, Categories.RS_MI, "RS.MI-3", FunctionalAreas.FA2),
+    RS_RP_CSC_17_6((float) 0.0f, (float) 1 / 1, (float) 1 / 2, ImplementationGroups.IG2, Categories.RS_RP, "CSC-17.6", FunctionalAreas.FA5),
+    RS_RP_RS_RP_1((float) 0.0f, (float) 0.0f, (float) 1 / 2, ImplementationGroups.IG3, Categories.RS_RP, "RS.RP-1", FunctionalAreas.FA2),
+    RC_CO_RC_CO_1((float) 0.0f, (float) 0.0f, (float) 1 / 3, ImplementationGroups.IG3, Categories.RC_CO, "RC.CO-1", FunctionalAreas.FA12),
+    RC_CO_RC_CO_2((float) 0.0f, (float) 0.0f, (float) 1 / 3, ImplementationGroups.IG3, Categories.RC_CO, "RC.CO-2", FunctionalAreas.FA12),
+    RC_CO_RC_CO_3((float) 0.0f, (float) 0.0f, (float) 1 / 3, ImplementationGroups.IG3, Categories.RC_CO, "RC.CO-3", FunctionalAreas.FA12),
+    RC_IM_RC_IM_1((float) 0.0f, (float) 0.0f, (float) 1 / 2, ImplementationGroups.IG3, Categories.RC_IM, "RC.IM-1", FunctionalAreas.FA5),
+    RC_IM_RC_IM_2((float) 0.0f, (float) 0.0f, (float) 1 / 2, ImplementationGroups.IG3, Categories.RC_IM, "RC.IM-2", FunctionalAreas.FA5),
+    RC_RP_RC_RP_1((float) 0.0f, (float) 0.0f, (float) 1 / 1, ImplementationGroups.IG3, Categories.RC_RP, "RC.RP-1", FunctionalAreas.FA2);
 
     private final float weights[] = new float[3];
     private Categories category = Categories.DE_AE;
     private ImplementationGroups minImplementationGroup = ImplementationGroups.IG3;
     private String acronym = "";
-    private String purpose = "";
-    private String implementationTips = "";
-    private String references = "";
     private FunctionalAreas leadingFunctionalArea = FunctionalAreas.FA1;
 
     private static final Logger logger = LoggerFactory.getLogger(Genes.class);
@@ -250,25 +249,17 @@ public enum Genes {
      * @param category The cybersecurity category the gene/expected outcome
      * belongs to.
      * @param acronym the very short name of this gene/expected outcome.
-     * @param purpose the main purpose of this of this gene/expected outcome.
-     * @param implementationTips some guidance on which kind of task should be
-     * done to achieve the gene/expected outcome.
-     * @param references references to models, framework or papers the
-     * information of this gene/expected outcome is based on.
      * @param leadingFunctionalArea the funcional area, from the ones defined in
      * CyberTOMP proposal, that should lead the implementation of the
      * cybersecurity actions to achieve this gene/expected outcome.
      */
-    private Genes(float weightIG1, float weightIG2, float weightIG3, ImplementationGroups minImplementationGroup, Categories category, String acronym, String purpose, String implementationTips, String references, FunctionalAreas leadingFunctionalArea) {
+    private Genes(float weightIG1, float weightIG2, float weightIG3, ImplementationGroups minImplementationGroup, Categories category, String acronym, FunctionalAreas leadingFunctionalArea) {
         this.weights[ImplementationGroups.IG1.getImplementationGroupIndex()] = weightIG1;
         this.weights[ImplementationGroups.IG2.getImplementationGroupIndex()] = weightIG2;
         this.weights[ImplementationGroups.IG3.getImplementationGroupIndex()] = weightIG3;
         this.minImplementationGroup = minImplementationGroup;
         this.category = category;
         this.acronym = acronym;
-        this.purpose = purpose;
-        this.implementationTips = implementationTips;
-        this.references = references;
         this.leadingFunctionalArea = leadingFunctionalArea;
     }
 
@@ -327,7 +318,7 @@ public enum Genes {
      * @return the main purpose of this of this gene/expected outcome.
      */
     public String getPurpose() {
-        return this.purpose;
+        return GenesDescriptions.getPurpose(this);
     }
 
     /**
@@ -339,7 +330,7 @@ public enum Genes {
      * to achieve the gene/expected outcome.
      */
     public String getImplementationTips() {
-        return this.implementationTips;
+        return GenesDescriptions.getImplementationTips(this);
     }
 
     /**
@@ -351,7 +342,7 @@ public enum Genes {
      * gene/expected outcome is based on.
      */
     public String getReferences() {
-        return this.references;
+        return GenesDescriptions.getReferences(this);
     }
 
     /**
@@ -381,13 +372,7 @@ public enum Genes {
      * and are applicable for a given implementation group.
      */
     public static CopyOnWriteArrayList<Genes> getGenesFor(Categories category, ImplementationGroups implementationGroup) {
-        CopyOnWriteArrayList<Genes> genesList = new CopyOnWriteArrayList<>();
-        for (Genes gene : Genes.values()) {
-            if (gene.appliesToIG(implementationGroup) && (gene.getCategory() == category)) {
-                genesList.add(gene);
-            }
-        }
-        return genesList;
+        return new CopyOnWriteArrayList<>(Topology.getTopology(implementationGroup).getGenes(category));
     }
 
     /**
@@ -400,13 +385,7 @@ public enum Genes {
      * group.
      */
     public static CopyOnWriteArrayList<Genes> getGenesFor(ImplementationGroups implementationGroup) {
-        CopyOnWriteArrayList<Genes> genesList = new CopyOnWriteArrayList<>();
-        for (Genes gene : Genes.values()) {
-            if (gene.appliesToIG(implementationGroup)) {
-                genesList.add(gene);
-            }
-        }
-        return genesList;
+        return new CopyOnWriteArrayList<>(Topology.getTopology(implementationGroup).getGenes());
     }
 
     public static void print() {
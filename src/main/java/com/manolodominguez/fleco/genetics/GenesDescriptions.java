@@ -0,0 +1,144 @@
+/* 
+ *******************************************************************************
+ * FLECO (Fast, Lightweight, and Efficient Cybersecurity Optimization) (1) 
+ * Adaptive, Constrained, and Multi-objective Genetic Algorithm is a genetic 
+ * algorithm designed to assist the Asset's Cybersecurity Committee (ACC) in 
+ * making decisions during the application of CyberTOMP (2), aimed at managing 
+ * comprehensive cybersecurity at both tactical and operational levels.
+ *
+ * (1) Domínguez-Dorado, M.; Cortés-Polo, D.; Carmona-Murillo, J.; 
+ * Rodríguez-Pérez, F.J.; Galeano-Brajones, J. Fast, Lightweight, and Efficient 
+ * Cybersecurity Optimization for Tactical–Operational Management. Appl. Sci. 
+ * 2023, 13, 6327. https://doi.org/10.3390/app13106327
+ *
+ * (2) Dominguez-Dorado, M., Carmona-Murillo, J., Cortés-Polo, D., and
+ * Rodríguez-Pérez, F. J. (2022). CyberTOMP: A novel systematic framework to
+ * manage asset-focused cybersecurity from tactical and operational levels. IEEE
+ * Access, 10, 122454-122485. https://doi.org/10.1109/ACCESS.2022.3223440
+ *******************************************************************************
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ *******************************************************************************
+ */
+package com.manolodominguez.fleco.genetics;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class gives access to the descriptive texts of genes/expected outcomes
+ * (purpose, implementation tips and references). They are only needed by the
+ * GUI, so they are kept in a UTF-8 properties resource that is read the first
+ * time any of them is requested instead of living in the Genes enum.
+ *
+ * @author Manuel Domínguez-Dorado
+ */
+final class GenesDescriptions {
+
+    private static final String RESOURCE = "/com/manolodominguez/fleco/genetics/Genes.properties";
+
+    private static final Logger logger = LoggerFactory.getLogger(GenesDescriptions.class);
+
+    private final String[] purposes;
+    private final String[] implementationTips;
+    private final String[] references;
+
+    /**
+     * This is the constructor of the class. It reads the resource and keeps,
+     * indexed by gene ordinal, the texts of every gene/expected outcome. Texts
+     * that cannot be read are left empty.
+     *
+     * @author Manuel Domínguez-Dorado
+     */
+    private GenesDescriptions() {
+        Genes[] genes = Genes.values();
+        purposes = new String[genes.length];
+        implementationTips = new String[genes.length];
+        references = new String[genes.length];
+        Properties properties = new Properties();
+        try (InputStream inputStream = GenesDescriptions.class.getResourceAsStream(RESOURCE)) {
+            if (inputStream == null) {
+                logger.error("Resource " + RESOURCE + " not found");
+            } else {
+                try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+                    properties.load(reader);
+                }
+            }
+        }
+        catch (Exception e) {
+            logger.error("Error loading genes descriptions");
+        }
+        for (Genes gene : genes) {
+            purposes[gene.ordinal()] = properties.getProperty(gene.name() + ".purpose", "");
+            implementationTips[gene.ordinal()] = properties.getProperty(gene.name() + ".implementationTips", "");
+            references[gene.ordinal()] = properties.getProperty(gene.name() + ".references", "");
+        }
+    }
+
+    /**
+     * This method returns the main purpose of the specified gene/expected
+     * outcome.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param gene The gene/expected outcome.
+     * @return the main purpose of the specified gene/expected outcome.
+     */
+    static String getPurpose(Genes gene) {
+        return Holder.INSTANCE.purposes[gene.ordinal()];
+    }
+
+    /**
+     * This method returns implementation tips/guidance for the specified
+     * gene/expected outcome.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param gene The gene/expected outcome.
+     * @return implementation tips/guidance for the specified gene/expected
+     * outcome.
+     */
+    static String getImplementationTips(Genes gene) {
+        return Holder.INSTANCE.implementationTips[gene.ordinal()];
+    }
+
+    /**
+     * This method returns references to models, framework or papers the
+     * information of the specified gene/expected outcome is based on.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param gene The gene/expected outcome.
+     * @return references the information of the specified gene/expected
+     * outcome is based on.
+     */
+    static String getReferences(Genes gene) {
+        return Holder.INSTANCE.references[gene.ordinal()];
+    }
+
+    /**
+     * The JVM initializes this class, and therefore reads the resource, only
+     * when INSTANCE is first accessed.
+     *
+     * @author Manuel Domínguez-Dorado
+     */
+    private static final class Holder {
+
+        private static final GenesDescriptions INSTANCE = new GenesDescriptions();
+    }
+}
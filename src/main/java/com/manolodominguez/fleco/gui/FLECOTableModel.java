@@ -45,6 +45,7 @@ import com.manolodominguez.fleco.uleo.Categories;
 import com.manolodominguez.fleco.uleo.FunctionalAreas;
 import com.manolodominguez.fleco.uleo.Functions;
 import com.manolodominguez.fleco.uleo.ImplementationGroups;
+import com.manolodominguez.fleco.uleo.Topology;
 import java.util.EnumMap;
 import javax.swing.table.AbstractTableModel;
 import org.slf4j.Logger;
@@ -107,13 +108,14 @@ public class FLECOTableModel extends AbstractTableModel {
         this.implementationGroup = initialStatus.getImplementationGroup();
         this.targetStatus = null;
         this.changeEventListener = null;
+        Topology topology = Topology.getTopology(implementationGroup);
         int rowCount = 0;
         rowCount++; // +1 For the "Asset" row
-        for (Functions function : Functions.getFunctionsFor(implementationGroup)) {
+        for (Functions function : topology.getFunctions()) {
             rowCount++; //+1 for each applicable Function
-            for (Categories category : Categories.getCategoriesFor(function, implementationGroup)) {
+            for (Categories category : topology.getCategories(function)) {
                 rowCount++; //+1 for each applicable Category
-                for (Genes gene : Genes.getGenesFor(category, implementationGroup)) {
+                for (Genes gene : topology.getGenes(category)) {
                     rowCount++; //+1 for each applicable gene/expected outcome
                 }
             }
@@ -122,13 +124,13 @@ public class FLECOTableModel extends AbstractTableModel {
         int count = 0;
         metricsKeys[count] = "Asset";
         count++;
-        for (Functions function : Functions.getFunctionsFor(implementationGroup)) {
+        for (Functions function : topology.getFunctions()) {
             metricsKeys[count] = function.name();
             count++;
-            for (Categories category : Categories.getCategoriesFor(function, implementationGroup)) {
+            for (Categories category : topology.getCategories(function)) {
                 metricsKeys[count] = category.name();
                 count++;
-                for (Genes gene : Genes.getGenesFor(category, implementationGroup)) {
+                for (Genes gene : topology.getGenes(category)) {
                     metricsKeys[count] = gene.name();
                     count++;
                 }
@@ -208,13 +210,14 @@ public class FLECOTableModel extends AbstractTableModel {
      */
     public void setInitialStatus(Chromosome initialStatus) {
         this.initialStatus = initialStatus;
+        Topology topology = Topology.getTopology(implementationGroup);
         int rowCount = 0;
         rowCount++; // +1 For the "Asset" row
-        for (Functions function : Functions.getFunctionsFor(implementationGroup)) {
+        for (Functions function : topology.getFunctions()) {
             rowCount++; //+1 for each applicable Function
-            for (Categories category : Categories.getCategoriesFor(function, implementationGroup)) {
+            for (Categories category : topology.getCategories(function)) {
                 rowCount++; //+1 for each applicable Category
-                for (Genes gene : Genes.getGenesFor(category, implementationGroup)) {
+                for (Genes gene : topology.getGenes(category)) {
                     rowCount++; //+1 for each applicable gene/expected outcome
                 }
             }
@@ -223,13 +226,13 @@ public class FLECOTableModel extends AbstractTableModel {
         int count = 0;
         metricsKeys[count] = "Asset";
         count++;
-        for (Functions function : Functions.getFunctionsFor(implementationGroup)) {
+        for (Functions function : topology.getFunctions()) {
             metricsKeys[count] = function.name();
             count++;
-            for (Categories category : Categories.getCategoriesFor(function, implementationGroup)) {
+            for (Categories category : topology.getCategories(function)) {
                 metricsKeys[count] = category.name();
                 count++;
-                for (Genes gene : Genes.getGenesFor(category, implementationGroup)) {
+                for (Genes gene : topology.getGenes(category)) {
                     metricsKeys[count] = gene.name();
                     count++;
                 }
@@ -416,7 +419,7 @@ public class FLECOTableModel extends AbstractTableModel {
                 return false;
             }
             if (column == CURRENT_STATUS) {
-                for (Genes gene : Genes.getGenesFor(implementationGroup)) {
+                for (Genes gene : Topology.getTopology(implementationGroup).getGenes()) {
                     if (gene.name().equals(metricsKeys[row])) {
                         return true;
                     }
@@ -1206,45 +1209,44 @@ public class FLECOTableModel extends AbstractTableModel {
             float auxFunctionFitness = 0.0f;
             float auxCategoryFitness = 0.0f;
             int num = 0;
-            for (Functions f : Functions.values()) {
-                if (f.appliesToIG(implementationGroup)) {
-                    auxFunctionFitness = 0.0f;
+            Topology topology = Topology.getTopology(implementationGroup);
+            for (Functions f : topology.getFunctions()) {
+                auxFunctionFitness = 0.0f;
 
-                    for (Categories c : f.getCategories(implementationGroup)) {
-                        auxCategoryFitness = 0.0f;
-                        for (Genes g : c.getGenes(implementationGroup)) {
-                            // Gene raw value
-                            genesValuesInitialStatus.put(g, initialStatus.getAllele(g).getDLI());
-                            // To compute category fitness
-                            num++;
-                            auxCategoryFitness += initialStatus.getAllele(g).getDLI() * g.getWeight(implementationGroup);
-                        }
-                        // Category raw value
-                        if (auxCategoryFitness >= 1.00f) {
-                            auxCategoryFitness = 1.00f;
-                        }
-                        categoriesValuesInitialStatus.put(c, auxCategoryFitness);
-                        // To compute Function fitness
-                        auxCategoryFitness *= c.getWeight(implementationGroup);
-                        if (auxCategoryFitness > c.getWeight(implementationGroup)) {
-                            auxCategoryFitness = c.getWeight(implementationGroup);
-                        }
-                        auxFunctionFitness += auxCategoryFitness;
-                    }
-                    // Function raw value
-                    if (auxFunctionFitness >= 1.00f) {
-                        auxFunctionFitness = 1.00f;
+                for (Categories c : topology.getCategories(f)) {
+                    auxCategoryFitness = 0.0f;
+                    for (Genes g : topology.getGenes(c)) {
+                        // Gene raw value
+                        genesValuesInitialStatus.put(g, initialStatus.getAllele(g).getDLI());
+                        // To compute category fitness
+                        num++;
+                        auxCategoryFitness += initialStatus.getAllele(g).getDLI() * g.getWeight(implementationGroup);
                     }
-                    functionsValuesInitialStatus.put(f, auxFunctionFitness);
-                    // To compute asset fitness
-                    auxFunctionFitness *= f.getWeight(implementationGroup);
-                    if (auxFunctionFitness > f.getWeight(implementationGroup)) {
-                        auxFunctionFitness = f.getWeight(implementationGroup);
+                    // Category raw value
+                    if (auxCategoryFitness >= 1.00f) {
+                        auxCategoryFitness = 1.00f;
                     }
-                    assetValueInitialStatus += auxFunctionFitness;
-                    if (assetValueInitialStatus >= 1.00f) {
-                        assetValueInitialStatus = 1.00f;
+                    categoriesValuesInitialStatus.put(c, auxCategoryFitness);
+                    // To compute Function fitness
+                    auxCategoryFitness *= c.getWeight(implementationGroup);
+                    if (auxCategoryFitness > c.getWeight(implementationGroup)) {
+                        auxCategoryFitness = c.getWeight(implementationGroup);
                     }
+                    auxFunctionFitness += auxCategoryFitness;
+                }
+                // Function raw value
+                if (auxFunctionFitness >= 1.00f) {
+                    auxFunctionFitness = 1.00f;
+                }
+                functionsValuesInitialStatus.put(f, auxFunctionFitness);
+                // To compute asset fitness
+                auxFunctionFitness *= f.getWeight(implementationGroup);
+                if (auxFunctionFitness > f.getWeight(implementationGroup)) {
+                    auxFunctionFitness = f.getWeight(implementationGroup);
+                }
+                assetValueInitialStatus += auxFunctionFitness;
+                if (assetValueInitialStatus >= 1.00f) {
+                    assetValueInitialStatus = 1.00f;
                 }
             }
         }
@@ -1265,45 +1267,44 @@ public class FLECOTableModel extends AbstractTableModel {
             float auxFunctionFitness = 0.0f;
             float auxCategoryFitness = 0.0f;
             int num = 0;
-            for (Functions f : Functions.values()) {
-                if (f.appliesToIG(implementationGroup)) {
-                    auxFunctionFitness = 0.0f;
+            Topology topology = Topology.getTopology(implementationGroup);
+            for (Functions f : topology.getFunctions()) {
+                auxFunctionFitness = 0.0f;
 
-                    for (Categories c : f.getCategories(implementationGroup)) {
-                        auxCategoryFitness = 0.0f;
-                        for (Genes g : c.getGenes(implementationGroup)) {
-                            // Gene raw value
-                            genesValuesTargetStatus.put(g, targetStatus.getAllele(g).getDLI());
-                            // To compute category fitness
-                            num++;
-                            auxCategoryFitness += targetStatus.getAllele(g).getDLI() * g.getWeight(implementationGroup);
-                        }
-                        // Category raw value
-                        if (auxCategoryFitness >= 1.00f) {
-                            auxCategoryFitness = 1.00f;
-                        }
-                        categoriesValuesTargetStatus.put(c, auxCategoryFitness);
-                        // To compute Function fitness
-                        auxCategoryFitness *= c.getWeight(implementationGroup);
-                        if (auxCategoryFitness > c.getWeight(implementationGroup)) {
-                            auxCategoryFitness = c.getWeight(implementationGroup);
-                        }
-                        auxFunctionFitness += auxCategoryFitness;
-                    }
-                    // Function raw value
-                    if (auxFunctionFitness >= 1.00f) {
-                        auxFunctionFitness = 1.00f;
+                for (Categories c : topology.getCategories(f)) {
+                    auxCategoryFitness = 0.0f;
+                    for (Genes g : topology.getGenes(c)) {
+                        // Gene raw value
+                        genesValuesTargetStatus.put(g, targetStatus.getAllele(g).getDLI());
+                        // To compute category fitness
+                        num++;
+                        auxCategoryFitness += targetStatus.getAllele(g).getDLI() * g.getWeight(implementationGroup);
                     }
-                    functionsValuesTargetStatus.put(f, auxFunctionFitness);
-                    // To compute asset fitness
-                    auxFunctionFitness *= f.getWeight(implementationGroup);
-                    if (auxFunctionFitness > f.getWeight(implementationGroup)) {
-                        auxFunctionFitness = f.getWeight(implementationGroup);
+                    // Category raw value
+                    if (auxCategoryFitness >= 1.00f) {
+                        auxCategoryFitness = 1.00f;
                     }
-                    assetValueTargetStatus += auxFunctionFitness;
-                    if (assetValueTargetStatus >= 1.00f) {
-                        assetValueTargetStatus = 1.00f;
+                    categoriesValuesTargetStatus.put(c, auxCategoryFitness);
+                    // To compute Function fitness
+                    auxCategoryFitness *= c.getWeight(implementationGroup);
+                    if (auxCategoryFitness > c.getWeight(implementationGroup)) {
+                        auxCategoryFitness = c.getWeight(implementationGroup);
                     }
+                    auxFunctionFitness += auxCategoryFitness;
+                }
+                // Function raw value
+                if (auxFunctionFitness >= 1.00f) {
+                    auxFunctionFitness = 1.00f;
+                }
+                functionsValuesTargetStatus.put(f, auxFunctionFitness);
+                // To compute asset fitness
+                auxFunctionFitness *= f.getWeight(implementationGroup);
+                if (auxFunctionFitness > f.getWeight(implementationGroup)) {
+                    auxFunctionFitness = f.getWeight(implementationGroup);
+                }
+                assetValueTargetStatus += auxFunctionFitness;
+                if (assetValueTargetStatus >= 1.00f) {
+                    assetValueTargetStatus = 1.00f;
                 }
             }
         }
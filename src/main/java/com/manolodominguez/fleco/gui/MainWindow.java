@@ -43,6 +43,7 @@ import com.manolodominguez.fleco.gui.flecoio.FLECOLoader;
 import com.manolodominguez.fleco.gui.flecoio.FLECOSaver;
 import com.manolodominguez.fleco.strategicconstraints.ComparisonOperators;
 import com.manolodominguez.fleco.strategicconstraints.Constraint;
+import com.manolodominguez.fleco.strategicconstraints.FeasibilityReport;
 import com.manolodominguez.fleco.strategicconstraints.StrategicConstraints;
 import com.manolodominguez.fleco.uleo.Categories;
 import com.manolodominguez.fleco.uleo.Functions;
@@ -1127,6 +1128,7 @@ public class MainWindow extends JFrame implements IFLECOGUI, IFLECOTableModelCha
             int maxSeconds = 30;
             float crossoverProbability = 0.90f;
             caseConfig.setFleco(new FLECO(initialPopulation, maxSeconds, crossoverProbability, tableModel.getImplementationGroup(), tableModel.getInitialStatus(), tableModel.getStrategicConstraints()));
+            caseConfig.getFleco().setFeasibilityAnalysis(true);
             caseConfig.getFleco().setProgressEventListener(progressBar);
             FLECOSwingWorker flecoSwingWorker = new FLECOSwingWorker(caseConfig.getFleco(), gui);
             flecoSwingWorker.execute();
@@ -1174,7 +1176,12 @@ public class MainWindow extends JFrame implements IFLECOGUI, IFLECOTableModelCha
         if (caseConfig.getFleco().hasConverged()) {
             messageSpace.setText("FLECO execution has finished. A compliant combination was found!");
         } else {
-            messageSpace.setText("FLECO execution has finished. No compliant combination was found! Could be the constraints too restrictive?");
+            FeasibilityReport feasibilityReport = caseConfig.getFleco().getFeasibilityReport();
+            if ((feasibilityReport != null) && feasibilityReport.isProvenInfeasible()) {
+                messageSpace.setText("FLECO execution has finished. No compliant combination exists! These constraints cannot be satisfied together: " + feasibilityReport.getConflictingConstraintsAsString());
+            } else {
+                messageSpace.setText("FLECO execution has finished. No compliant combination was found! Could be the constraints too restrictive?");
+            }
         }
         caseConfig.setTargetStatus(caseConfig.getFleco().getBestChromosome());
         tableModel.setTargetStatus(caseConfig.getTargetStatus());
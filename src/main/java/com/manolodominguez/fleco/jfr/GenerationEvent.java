@@ -0,0 +1,92 @@
+/* 
+ *******************************************************************************
+ * FLECO (Fast, Lightweight, and Efficient Cybersecurity Optimization) (1) 
+ * Adaptive, Constrained, and Multi-objective Genetic Algorithm is a genetic 
+ * algorithm designed to assist the Asset's Cybersecurity Committee (ACC) in 
+ * making decisions during the application of CyberTOMP (2), aimed at managing 
+ * comprehensive cybersecurity at both tactical and operational levels.
+ *
+ * (1) Domínguez-Dorado, M.; Cortés-Polo, D.; Carmona-Murillo, J.; 
+ * Rodríguez-Pérez, F.J.; Galeano-Brajones, J. Fast, Lightweight, and Efficient 
+ * Cybersecurity Optimization for Tactical–Operational Management. Appl. Sci. 
+ * 2023, 13, 6327. https://doi.org/10.3390/app13106327
+ *
+ * (2) Dominguez-Dorado, M., Carmona-Murillo, J., Cortés-Polo, D., and
+ * Rodríguez-Pérez, F. J. (2022). CyberTOMP: A novel systematic framework to
+ * manage asset-focused cybersecurity from tactical and operational levels. IEEE
+ * Access, 10, 122454-122485. https://doi.org/10.1109/ACCESS.2022.3223440
+ *******************************************************************************
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ *******************************************************************************
+ */
+package com.manolodominguez.fleco.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements a JDK Flight Recorder event that spans a generation
+ * of one of the islands FLECO evolves. It is disabled by default, as there can
+ * be thousands of generations per second.
+ *
+ * @author Manuel Domínguez-Dorado
+ */
+@Name("com.manolodominguez.fleco.Generation")
+@Label("FLECO Generation")
+@Category("FLECO")
+@Description("A generation of an island evolved by FLECO")
+@Enabled(false)
+@StackTrace(false)
+public final class GenerationEvent extends Event {
+
+    @Label("Island Index")
+    public int islandIndex;
+
+    @Label("Generation")
+    public int generation;
+
+    @Label("Best Fitness")
+    public float bestFitness;
+
+    @Label("Average Fitness")
+    public float averageFitness;
+
+    @Label("Population Size")
+    public int populationSize;
+
+    @Label("Evaluations")
+    @Description("Fitness evaluations done by the island so far")
+    public long evaluations;
+
+    @Label("Selection Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    public long selectionDuration;
+
+    @Label("Reproduction Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    public long reproductionDuration;
+
+    private static final Logger logger = LoggerFactory.getLogger(GenerationEvent.class);
+}
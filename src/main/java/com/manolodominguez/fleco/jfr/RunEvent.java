@@ -0,0 +1,89 @@
+/* 
+ *******************************************************************************
+ * FLECO (Fast, Lightweight, and Efficient Cybersecurity Optimization) (1) 
+ * Adaptive, Constrained, and Multi-objective Genetic Algorithm is a genetic 
+ * algorithm designed to assist the Asset's Cybersecurity Committee (ACC) in 
+ * making decisions during the application of CyberTOMP (2), aimed at managing 
+ * comprehensive cybersecurity at both tactical and operational levels.
+ *
+ * (1) Domínguez-Dorado, M.; Cortés-Polo, D.; Carmona-Murillo, J.; 
+ * Rodríguez-Pérez, F.J.; Galeano-Brajones, J. Fast, Lightweight, and Efficient 
+ * Cybersecurity Optimization for Tactical–Operational Management. Appl. Sci. 
+ * 2023, 13, 6327. https://doi.org/10.3390/app13106327
+ *
+ * (2) Dominguez-Dorado, M., Carmona-Murillo, J., Cortés-Polo, D., and
+ * Rodríguez-Pérez, F. J. (2022). CyberTOMP: A novel systematic framework to
+ * manage asset-focused cybersecurity from tactical and operational levels. IEEE
+ * Access, 10, 122454-122485. https://doi.org/10.1109/ACCESS.2022.3223440
+ *******************************************************************************
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ *******************************************************************************
+ */
+package com.manolodominguez.fleco.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements a JDK Flight Recorder event that spans a whole call
+ * to FLECO.evolve(), describing the problem being solved and the outcome.
+ *
+ * @author Manuel Domínguez-Dorado
+ */
+@Name("com.manolodominguez.fleco.Run")
+@Label("FLECO Run")
+@Category("FLECO")
+@Description("A whole execution of the FLECO genetic algorithm")
+public final class RunEvent extends Event {
+
+    @Label("Implementation Group")
+    public String implementationGroup;
+
+    @Label("Number Of Constraints")
+    public int numberOfConstraints;
+
+    @Label("Initial Population")
+    public int initialPopulation;
+
+    @Label("Number Of Islands")
+    public int numberOfIslands;
+
+    @Label("Steady State")
+    public boolean steadyState;
+
+    @Label("Generations")
+    @Description("Generations evolved; in island mode, all islands evolve the same ones")
+    public int generations;
+
+    @Label("Evaluations")
+    @Description("Fitness evaluations done; in island mode, those of all islands added up")
+    public long evaluations;
+
+    @Label("Best Fitness")
+    public float bestFitness;
+
+    @Label("Outcome")
+    @Description("CONVERGED, CANCELLED, NOT_CONVERGED or INFEASIBLE")
+    public String outcome;
+
+    private static final Logger logger = LoggerFactory.getLogger(RunEvent.class);
+}
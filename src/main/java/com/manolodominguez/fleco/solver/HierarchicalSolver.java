@@ -0,0 +1,556 @@
+/* 
+ *******************************************************************************
+ * FLECO (Fast, Lightweight, and Efficient Cybersecurity Optimization) (1) 
+ * Adaptive, Constrained, and Multi-objective Genetic Algorithm is a genetic 
+ * algorithm designed to assist the Asset's Cybersecurity Committee (ACC) in 
+ * making decisions during the application of CyberTOMP (2), aimed at managing 
+ * comprehensive cybersecurity at both tactical and operational levels.
+ *
+ * (1) Domínguez-Dorado, M.; Cortés-Polo, D.; Carmona-Murillo, J.; 
+ * Rodríguez-Pérez, F.J.; Galeano-Brajones, J. Fast, Lightweight, and Efficient 
+ * Cybersecurity Optimization for Tactical–Operational Management. Appl. Sci. 
+ * 2023, 13, 6327. https://doi.org/10.3390/app13106327
+ *
+ * (2) Dominguez-Dorado, M., Carmona-Murillo, J., Cortés-Polo, D., and
+ * Rodríguez-Pérez, F. J. (2022). CyberTOMP: A novel systematic framework to
+ * manage asset-focused cybersecurity from tactical and operational levels. IEEE
+ * Access, 10, 122454-122485. https://doi.org/10.1109/ACCESS.2022.3223440
+ *******************************************************************************
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ *******************************************************************************
+ */
+package com.manolodominguez.fleco.solver;
+
+import com.manolodominguez.fleco.genetics.Alleles;
+import com.manolodominguez.fleco.genetics.Chromosome;
+import com.manolodominguez.fleco.genetics.Genes;
+import com.manolodominguez.fleco.strategicconstraints.Constraint;
+import com.manolodominguez.fleco.strategicconstraints.StrategicConstraints;
+import com.manolodominguez.fleco.uleo.Categories;
+import com.manolodominguez.fleco.uleo.Functions;
+import com.manolodominguez.fleco.uleo.ImplementationGroups;
+import com.manolodominguez.fleco.uleo.Topology;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements an exact solver that looks for a chromosome satisfying
+ * every strategic constraint. It takes advantage of the hierarchical structure
+ * of the problem: the value of a category is the weighted sum of the values of
+ * its genes, the value of a function is the weighted and capped sum of the
+ * values of its categories, and so on. For each node of the tree (asset,
+ * functions, categories and genes) it computes, by dynamic programming, the
+ * values the node can reach while satisfying the strategic constraints defined
+ * for it and for its descendants, using exactly the same float operations
+ * than the fitness computation.
+ *
+ * As values are monotone with respect to the values of the children, a node
+ * whose ancestors only need its maximum (or minimum) value only asks its
+ * children for their maximum (or minimum) value; the whole set of reachable
+ * values is only enumerated when it is actually needed (for instance, for
+ * EQUAL constraints). The number of explored states is limited by a budget;
+ * when it is exceeded the solver gives up and the outcome is UNDECIDED.
+ *
+ * A constraint is considered to be satisfied when the comparison between the
+ * value and the thresshold is true; values that are so close to the
+ * thresshold that the fitness rounds them to a full compliance are not taken
+ * into account.
+ *
+ * @author Manuel Domínguez-Dorado
+ */
+public class HierarchicalSolver {
+
+    private static final int DEFAULT_MAX_STATES = 1000000;
+    private static final Alleles[] ALLELES = Alleles.values();
+
+    private final ImplementationGroups implementationGroup;
+    private final Chromosome initialStatus;
+    private final StrategicConstraints strategicConstraints;
+    private int maxStates;
+    private long exploredStates;
+    private boolean budgetExceeded;
+
+    private final Logger logger = LoggerFactory.getLogger(HierarchicalSolver.class);
+
+    /**
+     * This enum define what a node of the tree has to return to its parent:
+     * any reachable value, the maximum or the minimum one, or all of them.
+     *
+     * @author Manuel Domínguez-Dorado
+     */
+    private enum Requirements {
+        ANY,
+        MAX,
+        MIN,
+        ALL
+    }
+
+    /**
+     * This is the constructor of the class. It creates a new instance of the
+     * solver for the specified problem.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param implementationGroup The implementation group that applies to the
+     * asset being considered.
+     * @param initialStatus A chromosome representing the initial cybersecurity
+     * status of the asset. Genes whose value is not determined by the
+     * strategic constraints keep their initial allele whenever possible.
+     * @param strategicConstraints A set of strategic constraints.
+     */
+    public HierarchicalSolver(ImplementationGroups implementationGroup, Chromosome initialStatus, StrategicConstraints strategicConstraints) {
+        if (implementationGroup == null) {
+            logger.error("implementationGroup cannot be null");
+            throw new IllegalArgumentException("implementationGroup cannot be null");
+        }
+        if (initialStatus == null) {
+            logger.error("initialStatus cannot be null");
+            throw new IllegalArgumentException("initialStatus cannot be null");
+        }
+        if (strategicConstraints == null) {
+            logger.error("strategicConstraints cannot be null");
+            throw new IllegalArgumentException("strategicConstraints cannot be null");
+        }
+        this.implementationGroup = implementationGroup;
+        this.initialStatus = initialStatus;
+        this.strategicConstraints = strategicConstraints;
+        maxStates = DEFAULT_MAX_STATES;
+        exploredStates = 0;
+        budgetExceeded = false;
+    }
+
+    /**
+     * This method sets the maximum number of states the solver can explore
+     * before giving up.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param maxStates The maximum number of states the solver can explore.
+     */
+    public void setMaxStates(int maxStates) {
+        if (maxStates < 1) {
+            logger.error("maxStates must be greater than 0");
+            throw new IllegalArgumentException("maxStates must be greater than 0");
+        }
+        this.maxStates = maxStates;
+    }
+
+    /**
+     * This method looks for a chromosome satisfying every strategic
+     * constraint.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the result of the search. If a solution is found, its fitness
+     * has already been computed.
+     */
+    public SolverResult solve() {
+        exploredStates = 0;
+        budgetExceeded = false;
+        Node asset = solveAsset();
+        if (budgetExceeded) {
+            return new SolverResult(SolverOutcomes.UNDECIDED, null, exploredStates);
+        }
+        if (asset.size() == 0) {
+            return new SolverResult(SolverOutcomes.INFEASIBLE, null, exploredStates);
+        }
+        Chromosome solution = new Chromosome(implementationGroup);
+        solution.setGenes(initialStatus);
+        asset.assign(0, solution);
+        solution.computeFitness(initialStatus, strategicConstraints);
+        if (solution.getFitnessConstraintsCoverage() < 1.0f) {
+            logger.warn("The solution found does not reach the maximum fitness");
+            return new SolverResult(SolverOutcomes.UNDECIDED, null, exploredStates);
+        }
+        return new SolverResult(SolverOutcomes.FEASIBLE, solution, exploredStates);
+    }
+
+    /**
+     * This method computes the values the asset can reach.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the values the asset can reach, or null if the budget has been
+     * exceeded.
+     */
+    private Node solveAsset() {
+        Constraint constraint = null;
+        if (strategicConstraints.hasDefinedConstraint()) {
+            constraint = strategicConstraints.getConstraint();
+        }
+        Requirements childrenRequirement = getChildrenRequirement(constraint, Requirements.ANY);
+        List<Node> children = new ArrayList<>();
+        List<Float> weights = new ArrayList<>();
+        for (Functions function : Functions.values()) {
+            if (function.appliesToIG(implementationGroup)) {
+                Node child = solveFunction(function, childrenRequirement);
+                if (child == null) {
+                    return null;
+                }
+                children.add(child);
+                weights.add(function.getWeight(implementationGroup));
+            }
+        }
+        return combine(children, weights, true, constraint, Requirements.ANY);
+    }
+
+    /**
+     * This method computes the values a function can reach.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param function The function.
+     * @param requirement What the function has to return to its parent.
+     * @return the values the function can reach, or null if the budget has
+     * been exceeded.
+     */
+    private Node solveFunction(Functions function, Requirements requirement) {
+        Constraint constraint = null;
+        if (strategicConstraints.hasDefinedConstraint(function)) {
+            constraint = strategicConstraints.getConstraint(function);
+        }
+        Requirements childrenRequirement = getChildrenRequirement(constraint, requirement);
+        List<Node> children = new ArrayList<>();
+        List<Float> weights = new ArrayList<>();
+        for (Categories category : Topology.getTopology(implementationGroup).getCategories(function)) {
+            Node child = solveCategory(category, childrenRequirement);
+            if (child == null) {
+                return null;
+            }
+            children.add(child);
+            weights.add(category.getWeight(implementationGroup));
+        }
+        return combine(children, weights, true, constraint, requirement);
+    }
+
+    /**
+     * This method computes the values a category can reach.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param category The category.
+     * @param requirement What the category has to return to its parent.
+     * @return the values the category can reach, or null if the budget has
+     * been exceeded.
+     */
+    private Node solveCategory(Categories category, Requirements requirement) {
+        Constraint constraint = null;
+        if (strategicConstraints.hasDefinedConstraint(category)) {
+            constraint = strategicConstraints.getConstraint(category);
+        }
+        Requirements childrenRequirement = getChildrenRequirement(constraint, requirement);
+        List<Node> children = new ArrayList<>();
+        List<Float> weights = new ArrayList<>();
+        for (Genes gene : Topology.getTopology(implementationGroup).getGenes(category)) {
+            children.add(solveGene(gene, childrenRequirement));
+            weights.add(gene.getWeight(implementationGroup));
+        }
+        return combine(children, weights, false, constraint, requirement);
+    }
+
+    /**
+     * This method computes the values a gene can take. The initial allele of
+     * the gene, if allowed, is always the first one.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param gene The gene.
+     * @param requirement What the gene has to return to its parent.
+     * @return the values the gene can take.
+     */
+    private Node solveGene(Genes gene, Requirements requirement) {
+        Constraint constraint = null;
+        if (strategicConstraints.hasDefinedConstraint(gene)) {
+            constraint = strategicConstraints.getConstraint(gene);
+        }
+        int initialAllele = initialStatus.getAllele(gene).ordinal();
+        List<Integer> alleles = new ArrayList<>(ALLELES.length);
+        alleles.add(initialAllele);
+        for (int allele = 0; allele < ALLELES.length; allele++) {
+            if (allele != initialAllele) {
+                alleles.add(allele);
+            }
+        }
+        List<Integer> allowedAlleles = new ArrayList<>(ALLELES.length);
+        for (int allele : alleles) {
+            if ((constraint == null) || constraint.isSatisfiedBy(ALLELES[allele].getDLI())) {
+                allowedAlleles.add(allele);
+            }
+        }
+        exploredStates += allowedAlleles.size();
+        float[] values = new float[allowedAlleles.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = ALLELES[allowedAlleles.get(i)].getDLI();
+        }
+        int[] selected = select(values, requirement);
+        float[] selectedValues = new float[selected.length];
+        int[][] selectedAlleles = new int[selected.length][1];
+        for (int i = 0; i < selected.length; i++) {
+            selectedValues[i] = values[selected[i]];
+            selectedAlleles[i][0] = allowedAlleles.get(selected[i]);
+        }
+        return new Node(gene, selectedValues, selectedAlleles, null);
+    }
+
+    /**
+     * This method computes the values a node can reach from the values its
+     * children can reach. Children values are weighted (and capped, if
+     * needed) and then added in order, exactly as the fitness computation
+     * does. Every distinct partial sum is a state; states are explored by
+     * dynamic programming, keeping for each one the option of the child that
+     * led to it.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param children The reachable values of the children of the node.
+     * @param weights The weight of each child.
+     * @param capped Whether the weighted value of each child is capped to its
+     * weight.
+     * @param constraint The strategic constraint defined for the node, or null
+     * if there is none.
+     * @param requirement What the node has to return to its parent.
+     * @return the values the node can reach, or null if the budget has been
+     * exceeded.
+     */
+    private Node combine(List<Node> children, List<Float> weights, boolean capped, Constraint constraint, Requirements requirement) {
+        Node[] childrenNodes = children.toArray(new Node[0]);
+        for (Node child : childrenNodes) {
+            if (child.size() == 0) {
+                return new Node(null, new float[0], new int[0][], childrenNodes);
+            }
+        }
+        List<float[]> layerValues = new ArrayList<>(childrenNodes.length);
+        List<int[]> layerPrevious = new ArrayList<>(childrenNodes.length);
+        List<int[]> layerOptions = new ArrayList<>(childrenNodes.length);
+        float[] previousValues = {0.0f};
+        for (int k = 0; k < childrenNodes.length; k++) {
+            float weight = weights.get(k);
+            Node child = childrenNodes[k];
+            HashMap<Float, Integer> states = new HashMap<>();
+            List<Float> values = new ArrayList<>();
+            List<Integer> previous = new ArrayList<>();
+            List<Integer> options = new ArrayList<>();
+            for (int s = 0; s < previousValues.length; s++) {
+                for (int option = 0; option < child.size(); option++) {
+                    float contribution = child.values[option] * weight;
+                    if (capped && (contribution > weight)) {
+                        contribution = weight;
+                    }
+                    float value = previousValues[s] + contribution;
+                    if (!states.containsKey(value)) {
+                        states.put(value, values.size());
+                        values.add(value);
+                        previous.add(s);
+                        options.add(option);
+                        exploredStates++;
+                        if (exploredStates > maxStates) {
+                            budgetExceeded = true;
+                            return null;
+                        }
+                    }
+                }
+            }
+            previousValues = toFloatArray(values);
+            layerValues.add(previousValues);
+            layerPrevious.add(toIntArray(previous));
+            layerOptions.add(toIntArray(options));
+        }
+        // Only the values satisfying the constraint of the node are valid.
+        List<Integer> validStates = new ArrayList<>();
+        for (int s = 0; s < previousValues.length; s++) {
+            if ((constraint == null) || constraint.isSatisfiedBy(previousValues[s])) {
+                validStates.add(s);
+            }
+        }
+        float[] validValues = new float[validStates.size()];
+        for (int i = 0; i < validValues.length; i++) {
+            validValues[i] = previousValues[validStates.get(i)];
+        }
+        int[] selected = select(validValues, requirement);
+        float[] selectedValues = new float[selected.length];
+        int[][] selectedOptions = new int[selected.length][childrenNodes.length];
+        for (int i = 0; i < selected.length; i++) {
+            selectedValues[i] = validValues[selected[i]];
+            int state = validStates.get(selected[i]);
+            for (int k = childrenNodes.length - 1; k >= 0; k--) {
+                selectedOptions[i][k] = layerOptions.get(k)[state];
+                state = layerPrevious.get(k)[state];
+            }
+        }
+        return new Node(null, selectedValues, selectedOptions, childrenNodes);
+    }
+
+    /**
+     * This method returns what the children of a node have to return to it,
+     * depending on the strategic constraint defined for the node and on what
+     * the node has to return to its parent.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param constraint The strategic constraint defined for the node, or null
+     * if there is none.
+     * @param requirement What the node has to return to its parent.
+     * @return what the children of the node have to return to it.
+     */
+    private Requirements getChildrenRequirement(Constraint constraint, Requirements requirement) {
+        if (constraint == null) {
+            return requirement;
+        }
+        switch (constraint.getComparisonOperator()) {
+            case GREATER:
+            case GREATER_OR_EQUAL:
+                if ((requirement == Requirements.ANY) || (requirement == Requirements.MAX)) {
+                    return Requirements.MAX;
+                }
+                return Requirements.ALL;
+            case LESS:
+            case LESS_OR_EQUAL:
+                if ((requirement == Requirements.ANY) || (requirement == Requirements.MIN)) {
+                    return Requirements.MIN;
+                }
+                return Requirements.ALL;
+            default:
+                return Requirements.ALL;
+        }
+    }
+
+    /**
+     * This method selects, among the specified values, those required by a
+     * requirement.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param values The values.
+     * @param requirement The requirement.
+     * @return the indexes of the selected values.
+     */
+    private int[] select(float[] values, Requirements requirement) {
+        if (values.length == 0) {
+            return new int[0];
+        }
+        int selected = 0;
+        switch (requirement) {
+            case ALL:
+                int[] all = new int[values.length];
+                for (int i = 0; i < values.length; i++) {
+                    all[i] = i;
+                }
+                return all;
+            case MAX:
+                for (int i = 1; i < values.length; i++) {
+                    if (values[i] > values[selected]) {
+                        selected = i;
+                    }
+                }
+                return new int[]{selected};
+            case MIN:
+                for (int i = 1; i < values.length; i++) {
+                    if (values[i] < values[selected]) {
+                        selected = i;
+                    }
+                }
+                return new int[]{selected};
+            default:
+                return new int[]{selected};
+        }
+    }
+
+    /**
+     * This method converts a list of floats into an array.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param list The list.
+     * @return an array with the same values than the list.
+     */
+    private static float[] toFloatArray(List<Float> list) {
+        float[] array = new float[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = list.get(i);
+        }
+        return array;
+    }
+
+    /**
+     * This method converts a list of integers into an array.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param list The list.
+     * @return an array with the same values than the list.
+     */
+    private static int[] toIntArray(List<Integer> list) {
+        int[] array = new int[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = list.get(i);
+        }
+        return array;
+    }
+
+    /**
+     * This class implements a node of the tree together with the values it
+     * can reach. For each value, it keeps the option chosen for each child to
+     * reach it (or the allele, for genes), so that the assignment of alleles
+     * leading to any value can be rebuilt.
+     *
+     * @author Manuel Domínguez-Dorado
+     */
+    private static final class Node {
+
+        private final Genes gene;
+        private final float[] values;
+        private final int[][] options;
+        private final Node[] children;
+
+        /**
+         * This is the constructor of the class.
+         *
+         * @author Manuel Domínguez-Dorado
+         * @param gene The gene, if the node is a gene. Otherwise, null.
+         * @param values The values the node can reach.
+         * @param options For each value, the option chosen for each child, or
+         * the allele ordinal if the node is a gene.
+         * @param children The children of the node, or null if the node is a
+         * gene.
+         */
+        private Node(Genes gene, float[] values, int[][] options, Node[] children) {
+            this.gene = gene;
+            this.values = values;
+            this.options = options;
+            this.children = children;
+        }
+
+        /**
+         * This method returns the number of values the node can reach.
+         *
+         * @author Manuel Domínguez-Dorado
+         * @return the number of values the node can reach.
+         */
+        private int size() {
+            return values.length;
+        }
+
+        /**
+         * This method sets, in the specified chromosome, the alleles that make
+         * this node reach one of its values.
+         *
+         * @author Manuel Domínguez-Dorado
+         * @param option The index of the value.
+         * @param chromosome The chromosome to be modified.
+         */
+        private void assign(int option, Chromosome chromosome) {
+            if (gene != null) {
+                chromosome.updateAllele(gene, ALLELES[options[option][0]]);
+            } else {
+                for (int k = 0; k < children.length; k++) {
+                    children[k].assign(options[option][k], chromosome);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/* 
+ *******************************************************************************
+ * FLECO (Fast, Lightweight, and Efficient Cybersecurity Optimization) (1) 
+ * Adaptive, Constrained, and Multi-objective Genetic Algorithm is a genetic 
+ * algorithm designed to assist the Asset's Cybersecurity Committee (ACC) in 
+ * making decisions during the application of CyberTOMP (2), aimed at managing 
+ * comprehensive cybersecurity at both tactical and operational levels.
+ *
+ * (1) Domínguez-Dorado, M.; Cortés-Polo, D.; Carmona-Murillo, J.; 
+ * Rodríguez-Pérez, F.J.; Galeano-Brajones, J. Fast, Lightweight, and Efficient 
+ * Cybersecurity Optimization for Tactical–Operational Management. Appl. Sci. 
+ * 2023, 13, 6327. https://doi.org/10.3390/app13106327
+ *
+ * (2) Dominguez-Dorado, M., Carmona-Murillo, J., Cortés-Polo, D., and
+ * Rodríguez-Pérez, F. J. (2022). CyberTOMP: A novel systematic framework to
+ * manage asset-focused cybersecurity from tactical and operational levels. IEEE
+ * Access, 10, 122454-122485. https://doi.org/10.1109/ACCESS.2022.3223440
+ *******************************************************************************
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ *******************************************************************************
+ */
+package com.manolodominguez.fleco.solver;
+
+import com.manolodominguez.fleco.genetics.Chromosome;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements the result of an execution of the exact hierarchical
+ * solver: its outcome, the solution found (if any) and the number of states
+ * that have been explored to reach it.
+ *
+ * @author Manuel Domínguez-Dorado
+ */
+public class SolverResult {
+
+    private final SolverOutcomes outcome;
+    private final Chromosome solution;
+    private final long exploredStates;
+
+    private final Logger logger = LoggerFactory.getLogger(SolverResult.class);
+
+    /**
+     * This is the constructor of the class. It creates a new instance of
+     * SolverResult.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param outcome The outcome of the solver.
+     * @param solution The chromosome satisfying every strategic constraint, if
+     * the outcome is FEASIBLE. Otherwise, null.
+     * @param exploredStates The number of states explored by the solver.
+     */
+    public SolverResult(SolverOutcomes outcome, Chromosome solution, long exploredStates) {
+        if (outcome == null) {
+            logger.error("outcome cannot be null");
+            throw new IllegalArgumentException("outcome cannot be null");
+        }
+        if ((outcome == SolverOutcomes.FEASIBLE) != (solution != null)) {
+            logger.error("solution has to be specified if, and only if, the outcome is FEASIBLE");
+            throw new IllegalArgumentException("solution has to be specified if, and only if, the outcome is FEASIBLE");
+        }
+        this.outcome = outcome;
+        this.solution = solution;
+        this.exploredStates = exploredStates;
+    }
+
+    /**
+     * This method returns the outcome of the solver.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the outcome of the solver.
+     */
+    public SolverOutcomes getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * This method returns the chromosome satisfying every strategic
+     * constraint found by the solver.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the chromosome satisfying every strategic constraint, if the
+     * outcome is FEASIBLE. Otherwise, null.
+     */
+    public Chromosome getSolution() {
+        return solution;
+    }
+
+    /**
+     * This method returns the number of states explored by the solver.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the number of states explored by the solver.
+     */
+    public long getExploredStates() {
+        return exploredStates;
+    }
+}
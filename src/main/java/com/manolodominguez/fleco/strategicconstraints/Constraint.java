@@ -85,4 +85,32 @@ public class Constraint {
     public ComparisonOperators getComparisonOperator() {
         return comparisonOperator;
     }
+
+    /**
+     * This method returns whether the specified value satisfies this strategic
+     * constraint, that is, whether the comparison between the value and the
+     * thresshold, using the comparison operator, is true.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param value The value of the gene, category, function or asset the
+     * strategic constraint is defined for.
+     * @return true, if the value satisfies the strategic constraint.
+     * Otherwise, false.
+     */
+    public boolean isSatisfiedBy(float value) {
+        switch (comparisonOperator) {
+            case LESS:
+                return value < thresshold;
+            case LESS_OR_EQUAL:
+                return value <= thresshold;
+            case EQUAL:
+                return value == thresshold;
+            case GREATER:
+                return value > thresshold;
+            case GREATER_OR_EQUAL:
+                return value >= thresshold;
+            default:
+                return false;
+        }
+    }
 }
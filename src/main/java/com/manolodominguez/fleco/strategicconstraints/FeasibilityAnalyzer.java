@@ -0,0 +1,430 @@
+/* 
+ *******************************************************************************
+ * FLECO (Fast, Lightweight, and Efficient Cybersecurity Optimization) (1) 
+ * Adaptive, Constrained, and Multi-objective Genetic Algorithm is a genetic 
+ * algorithm designed to assist the Asset's Cybersecurity Committee (ACC) in 
+ * making decisions during the application of CyberTOMP (2), aimed at managing 
+ * comprehensive cybersecurity at both tactical and operational levels.
+ *
+ * (1) Domínguez-Dorado, M.; Cortés-Polo, D.; Carmona-Murillo, J.; 
+ * Rodríguez-Pérez, F.J.; Galeano-Brajones, J. Fast, Lightweight, and Efficient 
+ * Cybersecurity Optimization for Tactical–Operational Management. Appl. Sci. 
+ * 2023, 13, 6327. https://doi.org/10.3390/app13106327
+ *
+ * (2) Dominguez-Dorado, M., Carmona-Murillo, J., Cortés-Polo, D., and
+ * Rodríguez-Pérez, F. J. (2022). CyberTOMP: A novel systematic framework to
+ * manage asset-focused cybersecurity from tactical and operational levels. IEEE
+ * Access, 10, 122454-122485. https://doi.org/10.1109/ACCESS.2022.3223440
+ *******************************************************************************
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ *******************************************************************************
+ */
+package com.manolodominguez.fleco.strategicconstraints;
+
+import com.manolodominguez.fleco.genetics.Alleles;
+import com.manolodominguez.fleco.genetics.Genes;
+import com.manolodominguez.fleco.uleo.Categories;
+import com.manolodominguez.fleco.uleo.Functions;
+import com.manolodominguez.fleco.uleo.ImplementationGroups;
+import com.manolodominguez.fleco.uleo.Topology;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements a fast analysis that looks for strategic constraints
+ * that cannot be satisfied at the same time, before FLECO starts evolving any
+ * population. For every gene it keeps the alleles that are still possible and,
+ * for every category, function and the asset, an interval containing all the
+ * values they can reach. Intervals are computed from the genes upwards and
+ * then narrowed by the constraints from the asset downwards, until no allele
+ * can be discarded. If any interval or set of alleles becomes empty, the
+ * strategic constraints are proven to be infeasible.
+ *
+ * The analysis is conservative: intervals are always widened by a small
+ * tolerance, so that constraints are never reported as infeasible because of
+ * rounding errors. As a consequence, some infeasible sets of strategic
+ * constraints are not detected.
+ *
+ * @author Manuel Domínguez-Dorado
+ */
+class FeasibilityAnalyzer {
+
+    private static final double TOLERANCE = 1.0e-4;
+    private static final Alleles[] ALLELES = Alleles.values();
+    private static final Genes[] GENES = Genes.values();
+    private static final Categories[] CATEGORIES = Categories.values();
+    private static final Functions[] FUNCTIONS = Functions.values();
+
+    private final StrategicConstraints strategicConstraints;
+    private final ImplementationGroups implementationGroup;
+    private final Functions[] functions;
+    private final Categories[][] functionCategories;
+    private final Genes[][] categoryGenes;
+
+    private final Logger logger = LoggerFactory.getLogger(FeasibilityAnalyzer.class);
+
+    /**
+     * This is the constructor of the class. It creates a new analyzer for the
+     * specified strategic constraints.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param strategicConstraints The strategic constraints to be analyzed.
+     * @param implementationGroup The implementation group that applies to the
+     * asset being considered.
+     */
+    FeasibilityAnalyzer(StrategicConstraints strategicConstraints, ImplementationGroups implementationGroup) {
+        this.strategicConstraints = strategicConstraints;
+        this.implementationGroup = implementationGroup;
+        List<Functions> applicableFunctions = new ArrayList<>();
+        for (Functions function : FUNCTIONS) {
+            if (function.appliesToIG(implementationGroup)) {
+                applicableFunctions.add(function);
+            }
+        }
+        functions = applicableFunctions.toArray(new Functions[0]);
+        functionCategories = new Categories[FUNCTIONS.length][];
+        categoryGenes = new Genes[CATEGORIES.length][];
+        for (Functions function : functions) {
+            functionCategories[function.ordinal()] = Topology.getTopology(implementationGroup).getCategories(function).toArray(new Categories[0]);
+            for (Categories category : functionCategories[function.ordinal()]) {
+                categoryGenes[category.ordinal()] = Topology.getTopology(implementationGroup).getGenes(category).toArray(new Genes[0]);
+            }
+        }
+    }
+
+    /**
+     * This method analyzes the strategic constraints. If they are proven to be
+     * infeasible, it also looks for the constraints that cannot be satisfied
+     * on their own and for a minimal set of constraints that cannot be
+     * satisfied together, removing one by one the constraints that are not
+     * needed to prove the infeasibility.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the result of the analysis.
+     */
+    FeasibilityReport analyze() {
+        EnumSet<Genes> genes = EnumSet.noneOf(Genes.class);
+        EnumSet<Categories> categories = EnumSet.noneOf(Categories.class);
+        EnumSet<Functions> functionsSet = EnumSet.noneOf(Functions.class);
+        for (Functions function : functions) {
+            if (strategicConstraints.hasDefinedConstraint(function)) {
+                functionsSet.add(function);
+            }
+            for (Categories category : functionCategories[function.ordinal()]) {
+                if (strategicConstraints.hasDefinedConstraint(category)) {
+                    categories.add(category);
+                }
+                for (Genes gene : categoryGenes[category.ordinal()]) {
+                    if (strategicConstraints.hasDefinedConstraint(gene)) {
+                        genes.add(gene);
+                    }
+                }
+            }
+        }
+        boolean asset = strategicConstraints.hasDefinedConstraint();
+        if (isPossiblyFeasible(genes, categories, functionsSet, asset)) {
+            return new FeasibilityReport();
+        }
+        // Constraints that cannot be satisfied on their own.
+        EnumSet<Genes> unsatisfiableGenes = EnumSet.noneOf(Genes.class);
+        EnumSet<Categories> unsatisfiableCategories = EnumSet.noneOf(Categories.class);
+        EnumSet<Functions> unsatisfiableFunctions = EnumSet.noneOf(Functions.class);
+        for (Genes gene : genes) {
+            if (!isPossiblyFeasible(EnumSet.of(gene), EnumSet.noneOf(Categories.class), EnumSet.noneOf(Functions.class), false)) {
+                unsatisfiableGenes.add(gene);
+            }
+        }
+        for (Categories category : categories) {
+            if (!isPossiblyFeasible(EnumSet.noneOf(Genes.class), EnumSet.of(category), EnumSet.noneOf(Functions.class), false)) {
+                unsatisfiableCategories.add(category);
+            }
+        }
+        for (Functions function : functionsSet) {
+            if (!isPossiblyFeasible(EnumSet.noneOf(Genes.class), EnumSet.noneOf(Categories.class), EnumSet.of(function), false)) {
+                unsatisfiableFunctions.add(function);
+            }
+        }
+        boolean unsatisfiableAsset = asset && !isPossiblyFeasible(EnumSet.noneOf(Genes.class), EnumSet.noneOf(Categories.class), EnumSet.noneOf(Functions.class), true);
+        // Minimal conflicting set, by removing every constraint that is not
+        // needed to keep the set infeasible.
+        EnumSet<Genes> conflictingGenes = EnumSet.copyOf(genes);
+        EnumSet<Categories> conflictingCategories = EnumSet.copyOf(categories);
+        EnumSet<Functions> conflictingFunctions = EnumSet.copyOf(functionsSet);
+        boolean conflictingAsset = asset;
+        for (Genes gene : genes) {
+            conflictingGenes.remove(gene);
+            if (isPossiblyFeasible(conflictingGenes, conflictingCategories, conflictingFunctions, conflictingAsset)) {
+                conflictingGenes.add(gene);
+            }
+        }
+        for (Categories category : categories) {
+            conflictingCategories.remove(category);
+            if (isPossiblyFeasible(conflictingGenes, conflictingCategories, conflictingFunctions, conflictingAsset)) {
+                conflictingCategories.add(category);
+            }
+        }
+        for (Functions function : functionsSet) {
+            conflictingFunctions.remove(function);
+            if (isPossiblyFeasible(conflictingGenes, conflictingCategories, conflictingFunctions, conflictingAsset)) {
+                conflictingFunctions.add(function);
+            }
+        }
+        if (conflictingAsset && !isPossiblyFeasible(conflictingGenes, conflictingCategories, conflictingFunctions, false)) {
+            conflictingAsset = false;
+        }
+        return new FeasibilityReport(true, unsatisfiableGenes, unsatisfiableCategories, unsatisfiableFunctions, unsatisfiableAsset, conflictingGenes, conflictingCategories, conflictingFunctions, conflictingAsset);
+    }
+
+    /**
+     * This method propagates the intervals of values of the whole hierarchy,
+     * taking into account only the specified constraints, until no allele can
+     * be discarded.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param genes The genes whose constraint has to be taken into account.
+     * @param categories The categories whose constraint has to be taken into
+     * account.
+     * @param functionsSet The functions whose constraint has to be taken into
+     * account.
+     * @param asset Whether the asset constraint has to be taken into account.
+     * @return false, if the specified constraints are proven to be infeasible.
+     * Otherwise, true.
+     */
+    private boolean isPossiblyFeasible(EnumSet<Genes> genes, EnumSet<Categories> categories, EnumSet<Functions> functionsSet, boolean asset) {
+        int[] allowedAlleles = new int[GENES.length];
+        double[] geneMin = new double[GENES.length];
+        double[] geneMax = new double[GENES.length];
+        double[] categoryMin = new double[CATEGORIES.length];
+        double[] categoryMax = new double[CATEGORIES.length];
+        double[] functionMin = new double[FUNCTIONS.length];
+        double[] functionMax = new double[FUNCTIONS.length];
+        double[] assetMin = new double[1];
+        double[] assetMax = new double[1];
+        for (Genes gene : GENES) {
+            if (gene.appliesToIG(implementationGroup)) {
+                for (Alleles allele : ALLELES) {
+                    if (!genes.contains(gene) || strategicConstraints.getConstraint(gene).isSatisfiedBy(allele.getDLI())) {
+                        allowedAlleles[gene.ordinal()] |= 1 << allele.ordinal();
+                    }
+                }
+                if (allowedAlleles[gene.ordinal()] == 0) {
+                    return false;
+                }
+            }
+        }
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            // Upwards: intervals reachable from the alleles that are still
+            // possible, narrowed by the constraints.
+            assetMin[0] = 0.0;
+            assetMax[0] = 0.0;
+            for (Functions function : functions) {
+                int f = function.ordinal();
+                functionMin[f] = 0.0;
+                functionMax[f] = 0.0;
+                for (Categories category : functionCategories[f]) {
+                    int c = category.ordinal();
+                    categoryMin[c] = 0.0;
+                    categoryMax[c] = 0.0;
+                    for (Genes gene : categoryGenes[c]) {
+                        int g = gene.ordinal();
+                        geneMin[g] = Double.MAX_VALUE;
+                        geneMax[g] = -Double.MAX_VALUE;
+                        for (Alleles allele : ALLELES) {
+                            if ((allowedAlleles[g] & (1 << allele.ordinal())) != 0) {
+                                geneMin[g] = Math.min(geneMin[g], allele.getDLI());
+                                geneMax[g] = Math.max(geneMax[g], allele.getDLI());
+                            }
+                        }
+                        categoryMin[c] += geneMin[g] * gene.getWeight(implementationGroup);
+                        categoryMax[c] += geneMax[g] * gene.getWeight(implementationGroup);
+                    }
+                    if (categories.contains(category) && !narrow(strategicConstraints.getConstraint(category), categoryMin, categoryMax, c)) {
+                        return false;
+                    }
+                    functionMin[f] += getContribution(categoryMin[c], category.getWeight(implementationGroup), true);
+                    functionMax[f] += getContribution(categoryMax[c], category.getWeight(implementationGroup), true);
+                }
+                if (functionsSet.contains(function) && !narrow(strategicConstraints.getConstraint(function), functionMin, functionMax, f)) {
+                    return false;
+                }
+                assetMin[0] += getContribution(functionMin[f], function.getWeight(implementationGroup), true);
+                assetMax[0] += getContribution(functionMax[f], function.getWeight(implementationGroup), true);
+            }
+            if (asset && !narrow(strategicConstraints.getConstraint(), assetMin, assetMax, 0)) {
+                return false;
+            }
+            // Downwards: what every child must reach so that its parent can
+            // still reach its interval.
+            int[] functionIndexes = getOrdinals(functions);
+            double[] functionWeights = new double[functions.length];
+            for (int i = 0; i < functions.length; i++) {
+                functionWeights[i] = functions[i].getWeight(implementationGroup);
+            }
+            if (!narrowChildren(assetMin[0], assetMax[0], functionIndexes, functionWeights, true, functionMin, functionMax)) {
+                return false;
+            }
+            for (Functions function : functions) {
+                Categories[] functionCategoriesArray = functionCategories[function.ordinal()];
+                double[] categoryWeights = new double[functionCategoriesArray.length];
+                for (int i = 0; i < functionCategoriesArray.length; i++) {
+                    categoryWeights[i] = functionCategoriesArray[i].getWeight(implementationGroup);
+                }
+                if (!narrowChildren(functionMin[function.ordinal()], functionMax[function.ordinal()], getOrdinals(functionCategoriesArray), categoryWeights, true, categoryMin, categoryMax)) {
+                    return false;
+                }
+                for (Categories category : functionCategoriesArray) {
+                    Genes[] categoryGenesArray = categoryGenes[category.ordinal()];
+                    double[] geneWeights = new double[categoryGenesArray.length];
+                    for (int i = 0; i < categoryGenesArray.length; i++) {
+                        geneWeights[i] = categoryGenesArray[i].getWeight(implementationGroup);
+                    }
+                    if (!narrowChildren(categoryMin[category.ordinal()], categoryMax[category.ordinal()], getOrdinals(categoryGenesArray), geneWeights, false, geneMin, geneMax)) {
+                        return false;
+                    }
+                    // Alleles outside the interval of the gene are discarded.
+                    for (Genes gene : categoryGenesArray) {
+                        int g = gene.ordinal();
+                        int stillAllowedAlleles = 0;
+                        for (Alleles allele : ALLELES) {
+                            if (((allowedAlleles[g] & (1 << allele.ordinal())) != 0) && (allele.getDLI() >= (geneMin[g] - TOLERANCE)) && (allele.getDLI() <= (geneMax[g] + TOLERANCE))) {
+                                stillAllowedAlleles |= 1 << allele.ordinal();
+                            }
+                        }
+                        if (stillAllowedAlleles == 0) {
+                            return false;
+                        }
+                        if (stillAllowedAlleles != allowedAlleles[g]) {
+                            allowedAlleles[g] = stillAllowedAlleles;
+                            changed = true;
+                        }
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * This method narrows the interval of values of a node so that it only
+     * contains values satisfying the specified constraint.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param constraint The constraint defined for the node.
+     * @param min The lower bounds of the intervals.
+     * @param max The upper bounds of the intervals.
+     * @param index The position of the node in the arrays of bounds.
+     * @return false, if the interval becomes empty. Otherwise, true.
+     */
+    private boolean narrow(Constraint constraint, double[] min, double[] max, int index) {
+        double thresshold = constraint.getThreshold();
+        switch (constraint.getComparisonOperator()) {
+            case LESS:
+            case LESS_OR_EQUAL:
+                max[index] = Math.min(max[index], thresshold);
+                break;
+            case GREATER:
+            case GREATER_OR_EQUAL:
+                min[index] = Math.max(min[index], thresshold);
+                break;
+            default:
+                min[index] = Math.max(min[index], thresshold);
+                max[index] = Math.min(max[index], thresshold);
+                break;
+        }
+        return min[index] <= (max[index] + TOLERANCE);
+    }
+
+    /**
+     * This method narrows the intervals of the children of a node so that,
+     * given the intervals of the rest of children, the node can still reach a
+     * value within its interval.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param parentMin The lower bound of the interval of the node.
+     * @param parentMax The upper bound of the interval of the node.
+     * @param children The positions of the children in the arrays of bounds.
+     * @param weights The weight of each child.
+     * @param capped Whether the weighted value of each child is capped to its
+     * weight.
+     * @param min The lower bounds of the intervals of the children.
+     * @param max The upper bounds of the intervals of the children.
+     * @return false, if the interval of any child becomes empty. Otherwise,
+     * true.
+     */
+    private boolean narrowChildren(double parentMin, double parentMax, int[] children, double[] weights, boolean capped, double[] min, double[] max) {
+        double sumMin = 0.0;
+        double sumMax = 0.0;
+        for (int i = 0; i < children.length; i++) {
+            sumMin += getContribution(min[children[i]], weights[i], capped);
+            sumMax += getContribution(max[children[i]], weights[i], capped);
+        }
+        for (int i = 0; i < children.length; i++) {
+            int child = children[i];
+            if (weights[i] <= 0.0) {
+                continue;
+            }
+            double contributionMin = parentMin - (sumMax - getContribution(max[child], weights[i], capped));
+            double contributionMax = parentMax - (sumMin - getContribution(min[child], weights[i], capped));
+            min[child] = Math.max(min[child], contributionMin / weights[i]);
+            if (!capped || (contributionMax < weights[i])) {
+                max[child] = Math.min(max[child], contributionMax / weights[i]);
+            }
+            if (min[child] > (max[child] + TOLERANCE)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * This method computes the contribution of a child to the value of its
+     * parent.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param value The value of the child.
+     * @param weight The weight of the child.
+     * @param capped Whether the weighted value is capped to the weight.
+     * @return the contribution of the child to the value of its parent.
+     */
+    private static double getContribution(double value, double weight, boolean capped) {
+        double contribution = value * weight;
+        if (capped && (contribution > weight)) {
+            return weight;
+        }
+        return contribution;
+    }
+
+    /**
+     * This method returns the ordinals of the specified enum constants.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param values The enum constants.
+     * @return the ordinals of the enum constants, in the same order.
+     */
+    private static int[] getOrdinals(Enum<?>[] values) {
+        int[] ordinals = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            ordinals[i] = values[i].ordinal();
+        }
+        return ordinals;
+    }
+}
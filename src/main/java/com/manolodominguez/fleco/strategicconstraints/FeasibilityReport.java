@@ -0,0 +1,249 @@
+/* 
+ *******************************************************************************
+ * FLECO (Fast, Lightweight, and Efficient Cybersecurity Optimization) (1) 
+ * Adaptive, Constrained, and Multi-objective Genetic Algorithm is a genetic 
+ * algorithm designed to assist the Asset's Cybersecurity Committee (ACC) in 
+ * making decisions during the application of CyberTOMP (2), aimed at managing 
+ * comprehensive cybersecurity at both tactical and operational levels.
+ *
+ * (1) Domínguez-Dorado, M.; Cortés-Polo, D.; Carmona-Murillo, J.; 
+ * Rodríguez-Pérez, F.J.; Galeano-Brajones, J. Fast, Lightweight, and Efficient 
+ * Cybersecurity Optimization for Tactical–Operational Management. Appl. Sci. 
+ * 2023, 13, 6327. https://doi.org/10.3390/app13106327
+ *
+ * (2) Dominguez-Dorado, M., Carmona-Murillo, J., Cortés-Polo, D., and
+ * Rodríguez-Pérez, F. J. (2022). CyberTOMP: A novel systematic framework to
+ * manage asset-focused cybersecurity from tactical and operational levels. IEEE
+ * Access, 10, 122454-122485. https://doi.org/10.1109/ACCESS.2022.3223440
+ *******************************************************************************
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ *******************************************************************************
+ */
+package com.manolodominguez.fleco.strategicconstraints;
+
+import com.manolodominguez.fleco.genetics.Genes;
+import com.manolodominguez.fleco.uleo.Categories;
+import com.manolodominguez.fleco.uleo.Functions;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements the result of the feasibility analysis of a set of
+ * strategic constraints. It tells whether the strategic constraints have been
+ * proven to be impossible to satisfy at the same time and, in that case, which
+ * constraints cannot be satisfied even on their own and a minimal set of
+ * constraints that cannot be satisfied together.
+ *
+ * @author Manuel Domínguez-Dorado
+ */
+public class FeasibilityReport {
+
+    private final boolean provenInfeasible;
+    private final EnumSet<Genes> unsatisfiableGenes;
+    private final EnumSet<Categories> unsatisfiableCategories;
+    private final EnumSet<Functions> unsatisfiableFunctions;
+    private final boolean unsatisfiableAsset;
+    private final EnumSet<Genes> conflictingGenes;
+    private final EnumSet<Categories> conflictingCategories;
+    private final EnumSet<Functions> conflictingFunctions;
+    private final boolean conflictingAsset;
+
+    private final Logger logger = LoggerFactory.getLogger(FeasibilityReport.class);
+
+    /**
+     * This is the constructor of the class. It creates a new report for a set
+     * of strategic constraints that has not been proven to be infeasible.
+     *
+     * @author Manuel Domínguez-Dorado
+     */
+    FeasibilityReport() {
+        this(false, EnumSet.noneOf(Genes.class), EnumSet.noneOf(Categories.class), EnumSet.noneOf(Functions.class), false, EnumSet.noneOf(Genes.class), EnumSet.noneOf(Categories.class), EnumSet.noneOf(Functions.class), false);
+    }
+
+    /**
+     * This is the constructor of the class. It creates a new report with the
+     * specified values.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param provenInfeasible Whether the strategic constraints have been
+     * proven to be impossible to satisfy at the same time.
+     * @param unsatisfiableGenes Genes whose constraint cannot be satisfied on
+     * its own.
+     * @param unsatisfiableCategories Categories whose constraint cannot be
+     * satisfied on its own.
+     * @param unsatisfiableFunctions Functions whose constraint cannot be
+     * satisfied on its own.
+     * @param unsatisfiableAsset Whether the asset constraint cannot be
+     * satisfied on its own.
+     * @param conflictingGenes Genes whose constraint belongs to the minimal
+     * conflicting set.
+     * @param conflictingCategories Categories whose constraint belongs to the
+     * minimal conflicting set.
+     * @param conflictingFunctions Functions whose constraint belongs to the
+     * minimal conflicting set.
+     * @param conflictingAsset Whether the asset constraint belongs to the
+     * minimal conflicting set.
+     */
+    FeasibilityReport(boolean provenInfeasible, EnumSet<Genes> unsatisfiableGenes, EnumSet<Categories> unsatisfiableCategories, EnumSet<Functions> unsatisfiableFunctions, boolean unsatisfiableAsset, EnumSet<Genes> conflictingGenes, EnumSet<Categories> conflictingCategories, EnumSet<Functions> conflictingFunctions, boolean conflictingAsset) {
+        this.provenInfeasible = provenInfeasible;
+        this.unsatisfiableGenes = unsatisfiableGenes;
+        this.unsatisfiableCategories = unsatisfiableCategories;
+        this.unsatisfiableFunctions = unsatisfiableFunctions;
+        this.unsatisfiableAsset = unsatisfiableAsset;
+        this.conflictingGenes = conflictingGenes;
+        this.conflictingCategories = conflictingCategories;
+        this.conflictingFunctions = conflictingFunctions;
+        this.conflictingAsset = conflictingAsset;
+    }
+
+    /**
+     * This method returns whether the strategic constraints have been proven
+     * to be impossible to satisfy at the same time. If it returns false, the
+     * strategic constraints could still be infeasible, but the analysis has
+     * not been able to prove it.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return true, if the strategic constraints cannot be satisfied at the
+     * same time. Otherwise, false.
+     */
+    public boolean isProvenInfeasible() {
+        return provenInfeasible;
+    }
+
+    /**
+     * This method returns the genes whose constraint cannot be satisfied on
+     * its own.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the genes whose constraint cannot be satisfied on its own.
+     */
+    public EnumSet<Genes> getUnsatisfiableGenes() {
+        return EnumSet.copyOf(unsatisfiableGenes);
+    }
+
+    /**
+     * This method returns the categories whose constraint cannot be satisfied
+     * on its own.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the categories whose constraint cannot be satisfied on its own.
+     */
+    public EnumSet<Categories> getUnsatisfiableCategories() {
+        return EnumSet.copyOf(unsatisfiableCategories);
+    }
+
+    /**
+     * This method returns the functions whose constraint cannot be satisfied
+     * on its own.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the functions whose constraint cannot be satisfied on its own.
+     */
+    public EnumSet<Functions> getUnsatisfiableFunctions() {
+        return EnumSet.copyOf(unsatisfiableFunctions);
+    }
+
+    /**
+     * This method returns whether the asset constraint cannot be satisfied on
+     * its own.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return true, if the asset constraint cannot be satisfied on its own.
+     * Otherwise, false.
+     */
+    public boolean isAssetUnsatisfiable() {
+        return unsatisfiableAsset;
+    }
+
+    /**
+     * This method returns the genes whose constraint belongs to the minimal
+     * conflicting set. Removing any constraint of that set makes the rest of
+     * the set not provably infeasible.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the genes whose constraint belongs to the minimal conflicting
+     * set.
+     */
+    public EnumSet<Genes> getConflictingGenes() {
+        return EnumSet.copyOf(conflictingGenes);
+    }
+
+    /**
+     * This method returns the categories whose constraint belongs to the
+     * minimal conflicting set.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the categories whose constraint belongs to the minimal
+     * conflicting set.
+     */
+    public EnumSet<Categories> getConflictingCategories() {
+        return EnumSet.copyOf(conflictingCategories);
+    }
+
+    /**
+     * This method returns the functions whose constraint belongs to the
+     * minimal conflicting set.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the functions whose constraint belongs to the minimal
+     * conflicting set.
+     */
+    public EnumSet<Functions> getConflictingFunctions() {
+        return EnumSet.copyOf(conflictingFunctions);
+    }
+
+    /**
+     * This method returns whether the asset constraint belongs to the minimal
+     * conflicting set.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return true, if the asset constraint belongs to the minimal conflicting
+     * set. Otherwise, false.
+     */
+    public boolean isAssetConflicting() {
+        return conflictingAsset;
+    }
+
+    /**
+     * This method returns a human readable list of the constraints that
+     * belong to the minimal conflicting set.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return a comma separated list of the constraints that belong to the
+     * minimal conflicting set. It is empty if the strategic constraints have
+     * not been proven to be infeasible.
+     */
+    public String getConflictingConstraintsAsString() {
+        List<String> constraints = new ArrayList<>();
+        if (conflictingAsset) {
+            constraints.add("asset");
+        }
+        for (Functions function : conflictingFunctions) {
+            constraints.add(function.getAcronym());
+        }
+        for (Categories category : conflictingCategories) {
+            constraints.add(category.getAcronym());
+        }
+        for (Genes gene : conflictingGenes) {
+            constraints.add(gene.getCategory().getAcronym() + " " + gene.getAcronym());
+        }
+        return String.join(", ", constraints);
+    }
+}
@@ -36,13 +36,17 @@
 package com.manolodominguez.fleco.strategicconstraints;
 
 import com.manolodominguez.fleco.genetics.Chromosome;
+import com.manolodominguez.fleco.genetics.FitnessModel;
 import com.manolodominguez.fleco.genetics.Genes;
 import com.manolodominguez.fleco.genetics.Alleles;
 import com.manolodominguez.fleco.main.FLECOStudio;
 import com.manolodominguez.fleco.uleo.Categories;
 import com.manolodominguez.fleco.uleo.Functions;
 import com.manolodominguez.fleco.uleo.ImplementationGroups;
+import com.manolodominguez.fleco.uleo.Topology;
 import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -62,6 +66,7 @@ public class StrategicConstraints {
     private EnumMap<Functions, Constraint> functionConstraints;
     private Constraint assetConstraint;
     private ImplementationGroups implementationGroup;
+    private FitnessModel fitnessModel;
 
     private final Logger logger = LoggerFactory.getLogger(StrategicConstraints.class);
     
@@ -79,6 +84,7 @@ public class StrategicConstraints {
         functionConstraints = new EnumMap<>(Functions.class);
         this.implementationGroup = implementationGroup;
         this.assetConstraint = null;
+        this.fitnessModel = null;
     }
 
     /**
@@ -92,6 +98,7 @@ public class StrategicConstraints {
         categoryConstraints = new EnumMap<>(Categories.class);
         functionConstraints = new EnumMap<>(Functions.class);
         this.assetConstraint = null;
+        this.fitnessModel = null;
     }
 
     /**
@@ -105,6 +112,7 @@ public class StrategicConstraints {
     public void addConstraint(Genes gene, Constraint constraint) {
         if (gene.appliesToIG(implementationGroup)) {
             geneConstraints.put(gene, constraint);
+            fitnessModel = null;
         }
     }
 
@@ -119,6 +127,7 @@ public class StrategicConstraints {
     public void addConstraint(Categories category, Constraint constraint) {
         if (category.appliesToIG(implementationGroup)) {
             categoryConstraints.put(category, constraint);
+            fitnessModel = null;
         }
     }
 
@@ -133,6 +142,7 @@ public class StrategicConstraints {
     public void addConstraint(Functions function, Constraint constraint) {
         if (function.appliesToIG(implementationGroup)) {
             functionConstraints.put(function, constraint);
+            fitnessModel = null;
         }
     }
 
@@ -145,6 +155,7 @@ public class StrategicConstraints {
      */
     public void addConstraint(Constraint constraint) {
         this.assetConstraint = constraint;
+        fitnessModel = null;
     }
 
     /**
@@ -258,6 +269,7 @@ public class StrategicConstraints {
      */
     public void removeConstraint() {
         assetConstraint = null;
+        fitnessModel = null;
     }
 
     /**
@@ -269,6 +281,7 @@ public class StrategicConstraints {
      */
     public void removeConstraint(Functions function) {
         functionConstraints.remove(function);
+        fitnessModel = null;
     }
 
     /**
@@ -280,6 +293,7 @@ public class StrategicConstraints {
      */
     public void removeConstraint(Categories category) {
         categoryConstraints.remove(category);
+        fitnessModel = null;
     }
 
     /**
@@ -291,6 +305,65 @@ public class StrategicConstraints {
      */
     public void removeConstraint(Genes gene) {
         geneConstraints.remove(gene);
+        fitnessModel = null;
+    }
+
+    /**
+     * This method returns the compiled fitness model of this set of strategic
+     * constraints for the specified implementation group. The model is
+     * compiled the first time it is requested and reused afterwards, until any
+     * constraint is added or removed.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param implementationGroup The implementation group of the chromosomes
+     * that will be evaluated using the model.
+     * @return the compiled fitness model of this set of strategic constraints.
+     */
+    public FitnessModel getFitnessModel(ImplementationGroups implementationGroup) {
+        FitnessModel model = fitnessModel;
+        if ((model == null) || (model.getImplementationGroup() != implementationGroup)) {
+            model = new FitnessModel(this, implementationGroup);
+            fitnessModel = model;
+        }
+        return model;
+    }
+
+    /**
+     * This method returns the genes that are bound by the strategic
+     * constraints, that is, the applicable genes that have a constraint
+     * defined for themselves, for their category, for their function or for
+     * the asset. As the fitness only depends on the strategic constraints, the
+     * allele of the rest of genes, which are free, does not change the fitness
+     * of a chromosome.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the genes that are bound by the strategic constraints.
+     */
+    public EnumSet<Genes> getBoundGenes() {
+        EnumSet<Genes> boundGenes = EnumSet.noneOf(Genes.class);
+        for (Genes gene : Genes.values()) {
+            if (gene.appliesToIG(implementationGroup)) {
+                if ((assetConstraint != null) || functionConstraints.containsKey(gene.getCategory().getFunction()) || categoryConstraints.containsKey(gene.getCategory()) || geneConstraints.containsKey(gene)) {
+                    boundGenes.add(gene);
+                }
+            }
+        }
+        return boundGenes;
+    }
+
+    /**
+     * This method analyzes whether the strategic constraints can be satisfied
+     * at the same time, without evolving any population. The analysis is fast
+     * and conservative: when it proves the strategic constraints to be
+     * infeasible, they certainly are, but some infeasible sets of strategic
+     * constraints are not detected.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the result of the feasibility analysis, including a minimal set
+     * of conflicting constraints if they are proven to be infeasible.
+     */
+    public FeasibilityReport analyzeFeasibility() {
+        return new FeasibilityAnalyzer(this, implementationGroup).analyze();
     }
 
     /**
@@ -311,7 +384,7 @@ public class StrategicConstraints {
         candidateChromosomes.add(initialStatus);
         if (!geneConstraints.isEmpty()) {
             candidate = new Chromosome(implementationGroup);
-            candidate.setGenes(initialStatus.getGenes());
+            candidate.setGenes(initialStatus);
             for (Genes gene : geneConstraints.keySet()) {
                 switch (geneConstraints.get(gene).getComparisonOperator()) {
                     case LESS:
@@ -348,19 +421,19 @@ public class StrategicConstraints {
         if (!categoryConstraints.isEmpty()) {
             boolean created = false;
             candidate = new Chromosome(implementationGroup);
-            candidate.setGenes(initialStatus.getGenes());
+            candidate.setGenes(initialStatus);
             for (Categories category : categoryConstraints.keySet()) {
                 if (category.appliesToIG(implementationGroup)) {
                     if ((categoryConstraints.get(category).getComparisonOperator() == ComparisonOperators.EQUAL) || (categoryConstraints.get(category).getComparisonOperator() == ComparisonOperators.GREATER_OR_EQUAL) || (categoryConstraints.get(category).getComparisonOperator() == ComparisonOperators.LESS_OR_EQUAL)) {
-                        CopyOnWriteArrayList<Genes> applicableGenes;
+                        List<Genes> applicableGenes;
                         if (categoryConstraints.get(category).getThreshold() == Alleles.DLI_0.getDLI()) {
-                            applicableGenes = Genes.getGenesFor(category, implementationGroup);
+                            applicableGenes = Topology.getTopology(implementationGroup).getGenes(category);
                             for (Genes gene : applicableGenes) {
                                 candidate.updateAllele(gene, Alleles.DLI_0);
                                 created = true;
                             }
                         } else if (categoryConstraints.get(category).getThreshold() == Alleles.DLI_100.getDLI()) {
-                            applicableGenes = Genes.getGenesFor(category, implementationGroup);
+                            applicableGenes = Topology.getTopology(implementationGroup).getGenes(category);
                             for (Genes gene : applicableGenes) {
                                 candidate.updateAllele(gene, Alleles.DLI_100);
                                 created = true;
@@ -376,19 +449,19 @@ public class StrategicConstraints {
         if (!functionConstraints.isEmpty()) {
             boolean created = false;
             candidate = new Chromosome(implementationGroup);
-            candidate.setGenes(initialStatus.getGenes());
+            candidate.setGenes(initialStatus);
             for (Functions function : functionConstraints.keySet()) {
                 if (function.appliesToIG(implementationGroup)) {
                     if ((functionConstraints.get(function).getComparisonOperator() == ComparisonOperators.EQUAL) || (functionConstraints.get(function).getComparisonOperator() == ComparisonOperators.GREATER_OR_EQUAL) || (functionConstraints.get(function).getComparisonOperator() == ComparisonOperators.LESS_OR_EQUAL)) {
-                        CopyOnWriteArrayList<Genes> applicableGenes;
+                        List<Genes> applicableGenes;
                         if (functionConstraints.get(function).getThreshold() == Alleles.DLI_0.getDLI()) {
-                            applicableGenes = Categories.getGenesFor(function, implementationGroup);
+                            applicableGenes = Topology.getTopology(implementationGroup).getGenes(function);
                             for (Genes gene : applicableGenes) {
                                 candidate.updateAllele(gene, Alleles.DLI_0);
                                 created = true;
                             }
                         } else if (functionConstraints.get(function).getThreshold() == Alleles.DLI_100.getDLI()) {
-                            applicableGenes = Categories.getGenesFor(function, implementationGroup);
+                            applicableGenes = Topology.getTopology(implementationGroup).getGenes(function);
                             for (Genes gene : applicableGenes) {
                                 candidate.updateAllele(gene, Alleles.DLI_100);
                                 created = true;
@@ -405,7 +478,7 @@ public class StrategicConstraints {
         if (assetConstraint != null) {
             boolean created = false;
             candidate = new Chromosome(implementationGroup);
-            candidate.setGenes(initialStatus.getGenes());
+            candidate.setGenes(initialStatus);
             if ((assetConstraint.getComparisonOperator() == ComparisonOperators.EQUAL) || (assetConstraint.getComparisonOperator() == ComparisonOperators.GREATER_OR_EQUAL) || (assetConstraint.getComparisonOperator() == ComparisonOperators.LESS_OR_EQUAL)) {
                 if (assetConstraint.getThreshold() == Alleles.DLI_0.getDLI()) {
                     for (Genes gene : Genes.values()) {
@@ -175,13 +175,7 @@ public enum Categories {
      * implementation group and belongs to the cybersecurity category.
      */
     public LinkedList<Genes> getGenes(ImplementationGroups implementationGroup) {
-        LinkedList<Genes> genes = new LinkedList<>();
-        for (Genes g : Genes.values()) {
-            if ((g.getCategory() == this) && (g.getWeight(implementationGroup) > 0.0f)) {
-                genes.add(g);
-            }
-        }
-        return genes;
+        return new LinkedList<>(Topology.getTopology(implementationGroup).getGenes(this));
     }
 
     /**
@@ -198,13 +192,7 @@ public enum Categories {
      * group.
      */
     public static CopyOnWriteArrayList<Categories> getCategoriesFor(Functions function, ImplementationGroups implementationGroup) {
-        CopyOnWriteArrayList<Categories> categoriesList = new CopyOnWriteArrayList<>();
-        for (Categories category : Categories.values()) {
-            if (category.appliesToIG(implementationGroup) && (category.getFunction() == function)) {
-                categoriesList.add(category);
-            }
-        }
-        return categoriesList;
+        return new CopyOnWriteArrayList<>(Topology.getTopology(implementationGroup).getCategories(function));
     }
 
     /**
@@ -221,11 +209,7 @@ public enum Categories {
      * group.
      */
     public static CopyOnWriteArrayList<Genes> getGenesFor(Functions function, ImplementationGroups implementationGroup) {
-        CopyOnWriteArrayList<Genes> genesList = new CopyOnWriteArrayList<>();
-        for (Categories category : Categories.getCategoriesFor(function, implementationGroup)) {
-            genesList.addAll(Genes.getGenesFor(category, implementationGroup));
-        }
-        return genesList;
+        return new CopyOnWriteArrayList<>(Topology.getTopology(implementationGroup).getGenes(function));
     }
 
 }
@@ -146,13 +146,7 @@ public enum Functions {
      * implementation group and belongs to the cybersecurity function.
      */
     public CopyOnWriteArrayList<Categories> getCategories(ImplementationGroups implementationGroup) {
-        CopyOnWriteArrayList<Categories> categories = new CopyOnWriteArrayList<>();
-        for (Categories category : Categories.values()) {
-            if ((category.getFunction() == this) && (category.getWeight(implementationGroup) > 0.0f)) {
-                categories.add(category);
-            }
-        }
-        return categories;
+        return new CopyOnWriteArrayList<>(Topology.getTopology(implementationGroup).getCategories(this));
     }
 
     /**
@@ -165,12 +159,6 @@ public enum Functions {
      * given implementation group
      */
     public static CopyOnWriteArrayList<Functions> getFunctionsFor(ImplementationGroups implementationGroup) {
-        CopyOnWriteArrayList<Functions> functionsList = new CopyOnWriteArrayList<>();
-        for (Functions function : Functions.values()) {
-            if (function.appliesToIG(implementationGroup)) {
-                functionsList.add(function);
-            }
-        }
-        return functionsList;
+        return new CopyOnWriteArrayList<>(Topology.getTopology(implementationGroup).getFunctions());
     }
 }
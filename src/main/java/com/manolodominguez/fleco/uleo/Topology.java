@@ -0,0 +1,475 @@
+/* 
+ *******************************************************************************
+ * FLECO (Fast, Lightweight, and Efficient Cybersecurity Optimization) (1) 
+ * Adaptive, Constrained, and Multi-objective Genetic Algorithm is a genetic 
+ * algorithm designed to assist the Asset's Cybersecurity Committee (ACC) in 
+ * making decisions during the application of CyberTOMP (2), aimed at managing 
+ * comprehensive cybersecurity at both tactical and operational levels.
+ *
+ * (1) Domínguez-Dorado, M.; Cortés-Polo, D.; Carmona-Murillo, J.; 
+ * Rodríguez-Pérez, F.J.; Galeano-Brajones, J. Fast, Lightweight, and Efficient 
+ * Cybersecurity Optimization for Tactical–Operational Management. Appl. Sci. 
+ * 2023, 13, 6327. https://doi.org/10.3390/app13106327
+ *
+ * (2) Dominguez-Dorado, M., Carmona-Murillo, J., Cortés-Polo, D., and
+ * Rodríguez-Pérez, F. J. (2022). CyberTOMP: A novel systematic framework to
+ * manage asset-focused cybersecurity from tactical and operational levels. IEEE
+ * Access, 10, 122454-122485. https://doi.org/10.1109/ACCESS.2022.3223440
+ *******************************************************************************
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ *******************************************************************************
+ */
+package com.manolodominguez.fleco.uleo;
+
+import com.manolodominguez.fleco.genetics.Genes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements the CyberTOMP hierarchy (functions, categories and
+ * genes/expected outcomes) that applies to an implementation group. There is
+ * only one immutable instance for each implementation group, built when the
+ * class is initialized, so the hierarchy never has to be scanned again.
+ *
+ * The hierarchy can be read as unmodifiable lists of functions, categories and
+ * genes, that are shared by every caller, or as a flattened structure where
+ * functions, categories and genes are identified by their position: the
+ * categories of a function, and the genes of a category, are stored
+ * consecutively, and each one knows the position of its parent. The latter can
+ * be iterated without allocating any object. The methods of Genes, Categories
+ * and Functions that return lists of them copy the ones held by this class.
+ *
+ * @author Manuel Domínguez-Dorado
+ */
+public final class Topology {
+
+    private static final Topology[] TOPOLOGIES = new Topology[ImplementationGroups.values().length];
+
+    static {
+        for (ImplementationGroups implementationGroup : ImplementationGroups.values()) {
+            TOPOLOGIES[implementationGroup.getImplementationGroupIndex()] = new Topology(implementationGroup);
+        }
+    }
+
+    private final List<Functions> functions;
+    private final List<Categories> categories;
+    private final List<Genes> genes;
+    private final List<List<Categories>> categoriesByFunction;
+    private final List<List<Genes>> genesByFunction;
+    private final List<List<Genes>> genesByCategory;
+    private final int[] functionOrdinals;
+    private final float[] functionWeights;
+    private final int[] functionCategoriesStart;
+    private final int[] categoryOrdinals;
+    private final float[] categoryWeights;
+    private final int[] categoryGenesStart;
+    private final int[] categoryFunctions;
+    private final int[] geneOrdinals;
+    private final float[] geneWeights;
+    private final int[] geneCategories;
+    private final int[] functionPositions;
+    private final int[] categoryPositions;
+    private final int[] genePositions;
+
+    private final Logger logger = LoggerFactory.getLogger(Topology.class);
+
+    /**
+     * This is the constructor of the class. It builds the hierarchy that
+     * applies to the specified implementation group.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param implementationGroup The implementation group whose hierarchy is
+     * going to be built.
+     */
+    private Topology(ImplementationGroups implementationGroup) {
+        List<Functions> applicableFunctions = new ArrayList<>();
+        List<Categories> applicableCategories = new ArrayList<>();
+        List<Genes> applicableGenes = new ArrayList<>();
+        List<List<Categories>> auxCategoriesByFunction = new ArrayList<>();
+        List<List<Genes>> auxGenesByFunction = new ArrayList<>();
+        List<List<Genes>> auxGenesByCategory = new ArrayList<>();
+        for (Genes gene : Genes.values()) {
+            if (gene.appliesToIG(implementationGroup)) {
+                applicableGenes.add(gene);
+            }
+        }
+        for (Categories category : Categories.values()) {
+            List<Genes> categoryGenes = new ArrayList<>();
+            for (Genes gene : Genes.values()) {
+                if ((gene.getCategory() == category) && (gene.getWeight(implementationGroup) > 0.0f)) {
+                    categoryGenes.add(gene);
+                }
+            }
+            auxGenesByCategory.add(Collections.unmodifiableList(categoryGenes));
+        }
+        for (Functions function : Functions.values()) {
+            if (function.appliesToIG(implementationGroup)) {
+                applicableFunctions.add(function);
+            }
+            List<Categories> functionCategories = new ArrayList<>();
+            List<Genes> functionGenes = new ArrayList<>();
+            for (Categories category : Categories.values()) {
+                if ((category.getFunction() == function) && (category.getWeight(implementationGroup) > 0.0f)) {
+                    functionCategories.add(category);
+                    functionGenes.addAll(auxGenesByCategory.get(category.ordinal()));
+                }
+            }
+            if (function.appliesToIG(implementationGroup)) {
+                applicableCategories.addAll(functionCategories);
+            }
+            auxCategoriesByFunction.add(Collections.unmodifiableList(functionCategories));
+            auxGenesByFunction.add(Collections.unmodifiableList(functionGenes));
+        }
+        functions = Collections.unmodifiableList(applicableFunctions);
+        categories = Collections.unmodifiableList(applicableCategories);
+        genes = Collections.unmodifiableList(applicableGenes);
+        categoriesByFunction = Collections.unmodifiableList(auxCategoriesByFunction);
+        genesByFunction = Collections.unmodifiableList(auxGenesByFunction);
+        genesByCategory = Collections.unmodifiableList(auxGenesByCategory);
+        // The flattened hierarchy.
+        int numberOfGenes = 0;
+        for (Categories category : categories) {
+            numberOfGenes += genesByCategory.get(category.ordinal()).size();
+        }
+        functionOrdinals = new int[functions.size()];
+        functionWeights = new float[functions.size()];
+        functionCategoriesStart = new int[functions.size() + 1];
+        categoryOrdinals = new int[categories.size()];
+        categoryWeights = new float[categories.size()];
+        categoryGenesStart = new int[categories.size() + 1];
+        categoryFunctions = new int[categories.size()];
+        geneOrdinals = new int[numberOfGenes];
+        geneWeights = new float[numberOfGenes];
+        geneCategories = new int[numberOfGenes];
+        functionPositions = new int[Functions.values().length];
+        categoryPositions = new int[Categories.values().length];
+        genePositions = new int[Genes.values().length];
+        Arrays.fill(functionPositions, -1);
+        Arrays.fill(categoryPositions, -1);
+        Arrays.fill(genePositions, -1);
+        int f = 0;
+        int c = 0;
+        int g = 0;
+        for (Functions function : functions) {
+            functionOrdinals[f] = function.ordinal();
+            functionWeights[f] = function.getWeight(implementationGroup);
+            functionCategoriesStart[f] = c;
+            functionPositions[function.ordinal()] = f;
+            for (Categories category : categoriesByFunction.get(function.ordinal())) {
+                categoryOrdinals[c] = category.ordinal();
+                categoryWeights[c] = category.getWeight(implementationGroup);
+                categoryGenesStart[c] = g;
+                categoryFunctions[c] = f;
+                categoryPositions[category.ordinal()] = c;
+                for (Genes gene : genesByCategory.get(category.ordinal())) {
+                    geneOrdinals[g] = gene.ordinal();
+                    geneWeights[g] = gene.getWeight(implementationGroup);
+                    geneCategories[g] = c;
+                    genePositions[gene.ordinal()] = g;
+                    g++;
+                }
+                c++;
+            }
+            f++;
+        }
+        functionCategoriesStart[f] = c;
+        categoryGenesStart[c] = g;
+    }
+
+    /**
+     * This method returns the hierarchy that applies to the specified
+     * implementation group.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param implementationGroup The applicable implementation group.
+     * @return the hierarchy that applies to the implementation group.
+     */
+    public static Topology getTopology(ImplementationGroups implementationGroup) {
+        return TOPOLOGIES[implementationGroup.getImplementationGroupIndex()];
+    }
+
+    /**
+     * This method returns the cybersecurity functions that apply to the
+     * implementation group.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return an unmodifiable list of the applicable cybersecurity functions.
+     */
+    public List<Functions> getFunctions() {
+        return functions;
+    }
+
+    /**
+     * This method returns the cybersecurity categories that apply to the
+     * implementation group, sorted by function.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return an unmodifiable list of the applicable cybersecurity
+     * categories.
+     */
+    public List<Categories> getCategories() {
+        return categories;
+    }
+
+    /**
+     * This method returns the cybersecurity categories that belong to the
+     * specified function and apply to the implementation group.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param function The cybersecurity function.
+     * @return an unmodifiable list of the applicable cybersecurity categories
+     * of the function.
+     */
+    public List<Categories> getCategories(Functions function) {
+        return categoriesByFunction.get(function.ordinal());
+    }
+
+    /**
+     * This method returns the genes/expected outcomes that apply to the
+     * implementation group, sorted by ordinal.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return an unmodifiable list of the applicable genes/expected outcomes.
+     */
+    public List<Genes> getGenes() {
+        return genes;
+    }
+
+    /**
+     * This method returns the genes/expected outcomes that belong to the
+     * specified cybersecurity function and apply to the implementation group.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param function The cybersecurity function.
+     * @return an unmodifiable list of the applicable genes/expected outcomes
+     * of the function.
+     */
+    public List<Genes> getGenes(Functions function) {
+        return genesByFunction.get(function.ordinal());
+    }
+
+    /**
+     * This method returns the genes/expected outcomes that belong to the
+     * specified cybersecurity category and apply to the implementation group.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param category The cybersecurity category.
+     * @return an unmodifiable list of the applicable genes/expected outcomes
+     * of the category.
+     */
+    public List<Genes> getGenes(Categories category) {
+        return genesByCategory.get(category.ordinal());
+    }
+
+    /**
+     * This method returns the number of functions of the flattened hierarchy.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the number of applicable functions.
+     */
+    public int getNumberOfFunctions() {
+        return functionOrdinals.length;
+    }
+
+    /**
+     * This method returns the number of categories of the flattened
+     * hierarchy.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the number of applicable categories.
+     */
+    public int getNumberOfCategories() {
+        return categoryOrdinals.length;
+    }
+
+    /**
+     * This method returns the number of genes of the flattened hierarchy.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @return the number of applicable genes.
+     */
+    public int getNumberOfGenes() {
+        return geneOrdinals.length;
+    }
+
+    /**
+     * This method returns the ordinal of the function at the specified
+     * position of the flattened hierarchy.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param functionPosition The position of the function.
+     * @return the ordinal of the function.
+     */
+    public int getFunctionOrdinal(int functionPosition) {
+        return functionOrdinals[functionPosition];
+    }
+
+    /**
+     * This method returns the weight, for the implementation group, of the
+     * function at the specified position of the flattened hierarchy.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param functionPosition The position of the function.
+     * @return the weight of the function.
+     */
+    public float getFunctionWeight(int functionPosition) {
+        return functionWeights[functionPosition];
+    }
+
+    /**
+     * This method returns the position of the first category of the function
+     * at the specified position. The categories of a function end where the
+     * ones of the next function start, so functionPosition can also be the
+     * number of functions.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param functionPosition The position of the function.
+     * @return the position of the first category of the function.
+     */
+    public int getFunctionCategoriesStart(int functionPosition) {
+        return functionCategoriesStart[functionPosition];
+    }
+
+    /**
+     * This method returns the ordinal of the category at the specified
+     * position of the flattened hierarchy.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param categoryPosition The position of the category.
+     * @return the ordinal of the category.
+     */
+    public int getCategoryOrdinal(int categoryPosition) {
+        return categoryOrdinals[categoryPosition];
+    }
+
+    /**
+     * This method returns the weight, for the implementation group, of the
+     * category at the specified position of the flattened hierarchy.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param categoryPosition The position of the category.
+     * @return the weight of the category.
+     */
+    public float getCategoryWeight(int categoryPosition) {
+        return categoryWeights[categoryPosition];
+    }
+
+    /**
+     * This method returns the position of the first gene of the category at
+     * the specified position. The genes of a category end where the ones of
+     * the next category start, so categoryPosition can also be the number of
+     * categories.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param categoryPosition The position of the category.
+     * @return the position of the first gene of the category.
+     */
+    public int getCategoryGenesStart(int categoryPosition) {
+        return categoryGenesStart[categoryPosition];
+    }
+
+    /**
+     * This method returns the position of the function the category at the
+     * specified position belongs to.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param categoryPosition The position of the category.
+     * @return the position of the function of the category.
+     */
+    public int getCategoryFunction(int categoryPosition) {
+        return categoryFunctions[categoryPosition];
+    }
+
+    /**
+     * This method returns the ordinal of the gene at the specified position
+     * of the flattened hierarchy.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param genePosition The position of the gene.
+     * @return the ordinal of the gene.
+     */
+    public int getGeneOrdinal(int genePosition) {
+        return geneOrdinals[genePosition];
+    }
+
+    /**
+     * This method returns the weight, for the implementation group, of the
+     * gene at the specified position of the flattened hierarchy.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param genePosition The position of the gene.
+     * @return the weight of the gene.
+     */
+    public float getGeneWeight(int genePosition) {
+        return geneWeights[genePosition];
+    }
+
+    /**
+     * This method returns the position of the category the gene at the
+     * specified position belongs to.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param genePosition The position of the gene.
+     * @return the position of the category of the gene.
+     */
+    public int getGeneCategory(int genePosition) {
+        return geneCategories[genePosition];
+    }
+
+    /**
+     * This method returns the position, in the flattened hierarchy, of the
+     * function having the specified ordinal.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param functionOrdinal The ordinal of the function.
+     * @return the position of the function, or -1 if it does not apply to the
+     * implementation group.
+     */
+    public int getFunctionPosition(int functionOrdinal) {
+        return functionPositions[functionOrdinal];
+    }
+
+    /**
+     * This method returns the position, in the flattened hierarchy, of the
+     * category having the specified ordinal.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param categoryOrdinal The ordinal of the category.
+     * @return the position of the category, or -1 if it does not apply to the
+     * implementation group.
+     */
+    public int getCategoryPosition(int categoryOrdinal) {
+        return categoryPositions[categoryOrdinal];
+    }
+
+    /**
+     * This method returns the position, in the flattened hierarchy, of the
+     * gene having the specified ordinal.
+     *
+     * @author Manuel Domínguez-Dorado
+     * @param geneOrdinal The ordinal of the gene.
+     * @return the position of the gene, or -1 if it does not apply to the
+     * implementation group.
+     */
+    public int getGenePosition(int geneOrdinal) {
+        return genePositions[geneOrdinal];
+    }
+}